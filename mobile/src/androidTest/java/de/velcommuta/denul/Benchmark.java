@@ -1,32 +1,121 @@
 package de.velcommuta.denul;
 
+import android.content.Context;
+import android.content.Intent;
+import android.content.SharedPreferences;
+import android.location.Location;
+import android.test.RenamingDelegatingContext;
+import android.test.ServiceTestCase;
 import android.util.Log;
 
-import junit.framework.TestCase;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import net.sqlcipher.Cursor;
+import net.sqlcipher.database.SQLiteDatabase;
+import net.sqlcipher.database.SQLiteStatement;
 
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import de.velcommuta.denul.crypto.AESSharingEncryption;
+import de.velcommuta.denul.crypto.DatabaseKey;
+import de.velcommuta.denul.crypto.EncryptedJournal;
 import de.velcommuta.denul.crypto.HKDFKeyExpansion;
+import de.velcommuta.denul.crypto.Hybrid;
 import de.velcommuta.denul.crypto.IdentifierDerivation;
 import de.velcommuta.denul.crypto.KeyExpansion;
+import de.velcommuta.denul.crypto.KeySlot;
+import de.velcommuta.denul.crypto.RSA;
 import de.velcommuta.denul.crypto.SHA256IdentifierDerivation;
 import de.velcommuta.denul.crypto.SharingEncryption;
 import de.velcommuta.denul.data.DataBlock;
+import de.velcommuta.denul.data.GPSTrack;
 import de.velcommuta.denul.data.KeySet;
 import de.velcommuta.denul.data.Shareable;
 import de.velcommuta.denul.data.TokenPair;
+import de.velcommuta.denul.data.TrackEncoding;
+import de.velcommuta.denul.data.TrackFactory;
+import de.velcommuta.denul.data.TrackPoints;
+import de.velcommuta.denul.data.proto.DataContainer;
+import de.velcommuta.denul.db.SecureDbHelper;
+import de.velcommuta.denul.db.UnlockPolicy;
+import de.velcommuta.denul.networking.Connection;
+import de.velcommuta.denul.networking.FrameCodec;
+import de.velcommuta.denul.networking.LoopbackStubServer;
+import de.velcommuta.denul.networking.ProtobufProtocol;
+import de.velcommuta.denul.networking.Protocol;
+import de.velcommuta.denul.networking.SocketConnection;
+import de.velcommuta.denul.networking.protobuf.c2s.C2S;
+import de.velcommuta.denul.networking.protobuf.meta.MetaMessage;
+import de.velcommuta.denul.service.DatabaseService;
+import de.velcommuta.denul.service.DatabaseServiceBinder;
+import de.velcommuta.denul.util.HourEpoch;
+import de.velcommuta.denul.util.HourlyStepCounts;
+import de.velcommuta.denul.util.StepCountCodec;
+import de.velcommuta.denul.util.StepRingBuffer;
+import de.velcommuta.denul.util.Tracer;
 import de.velcommuta.libvicbf.VICBF;
 
 /**
  * Benchmarks.
  * This class will produce AssertionErrors to display the results of the benchmark - make sure
- * to exclude it from any serious test suites.
+ * to exclude it from any serious test suites. Most benchmarks write their results to the log
+ * instead. Benchmarks using the database use a separate database file, so the database of the
+ * app is not touched.
  */
-public class Benchmark extends TestCase {
+public class Benchmark extends ServiceTestCase<DatabaseService> {
+    private static final String TAG = "Benchmark";
+    private static final String PASSWORD = "test";
+
+    private SecureDbHelper mHelper;
+    private SQLiteDatabase mDb;
+
+    /**
+     * Constructor
+     */
+    public Benchmark() {
+        super(DatabaseService.class);
+    }
+
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        setContext(new RenamingDelegatingContext(getContext(), "test_"));
+        getContext().deleteDatabase(SecureDbHelper.DATABASE_NAME);
+    }
+
+
+    @Override
+    protected void tearDown() throws Exception {
+        if (mHelper != null) mHelper.close();
+        shutdownService();
+        getContext().deleteDatabase(SecureDbHelper.DATABASE_NAME);
+        super.tearDown();
+    }
+
 
     /**
      * Benchmark random identifier generation
@@ -223,6 +312,693 @@ public class Benchmark extends TestCase {
         }
     }
 
+
+    /**
+     * Compare the wall-clock time of individual and pipelined operations of the ProtobufProtocol
+     * at different simulated latencies. The timings are written to the log.
+     */
+    public void testPipelinedWallClock() throws IOException {
+        int batch = 40;
+        for (long latency : new long[] {0, 5, 20, 50}) {
+            LoopbackStubServer server = new LoopbackStubServer(latency);
+            try {
+                Protocol p = new ProtobufProtocol();
+                assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+                List<DataBlock> serialBlocks = new LinkedList<>();
+                List<TokenPair> serialTokens = new LinkedList<>();
+                prepareKeys(batch, serialBlocks, serialTokens);
+                List<DataBlock> batchBlocks = new LinkedList<>();
+                List<TokenPair> batchTokens = new LinkedList<>();
+                prepareKeys(batch, batchBlocks, batchTokens);
+
+                // One round trip per key
+                long start = System.nanoTime();
+                for (DataBlock block : serialBlocks) {
+                    assertEquals(Protocol.PUT_OK, p.put(block));
+                }
+                for (TokenPair token : serialTokens) {
+                    assertNotNull(p.get(token));
+                }
+                long serial = System.nanoTime() - start;
+
+                // Pipelined
+                start = System.nanoTime();
+                Map<DataBlock, Integer> put = p.putMany(batchBlocks);
+                Map<TokenPair, byte[]> get = p.getMany(batchTokens);
+                long pipelined = System.nanoTime() - start;
+                for (int i = 0; i < batch; i++) {
+                    assertEquals(Protocol.PUT_OK, (int) put.get(batchBlocks.get(i)));
+                    assertTrue(Arrays.equals(batchBlocks.get(i).getCiphertext(), get.get(batchTokens.get(i))));
+                }
+
+                Log.d(TAG, "PipelinedWallClock: latency=" + latency + "ms keys=" + batch + " serial=" + serial / 1000000
+                        + "ms pipelined=" + pipelined / 1000000 + "ms");
+                if (latency >= 20) {
+                    // With any noticeable latency, the pipelined variant must win by a wide margin
+                    assertTrue("Pipelining did not pay off: " + serial + " <= " + 4 * pipelined,
+                            serial > 4 * pipelined);
+                }
+                p.disconnect();
+            } finally {
+                server.shutdown();
+            }
+        }
+    }
+
+
+    /**
+     * Measure the throughput of pipelined messages of different sizes over a loopback socket
+     * pair. The results are written to the log.
+     */
+    public void testFrameThroughput() throws IOException, InterruptedException {
+        final ServerSocket server = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"));
+        Thread echo = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Socket client = server.accept();
+                    client.setTcpNoDelay(true);
+                    FrameCodec codec = new FrameCodec(client.getInputStream(), client.getOutputStream());
+                    try {
+                        while (true) {
+                            codec.writeFrame(codec.readFrame(MetaMessage.Wrapper.PARSER));
+                            codec.flush();
+                        }
+                    } catch (EOFException e) {
+                        // Client went away
+                    }
+                    client.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        });
+        echo.start();
+        Socket socket = new Socket(InetAddress.getByName("127.0.0.1"), server.getLocalPort());
+        socket.setTcpNoDelay(true);
+        Connection conn = new SocketConnection(socket);
+        try {
+            Random rnd = new Random();
+            for (int size : new int[] {64, 1024, 16 * 1024, 256 * 1024}) {
+                // Send 8 MB per message size
+                int count = 8 * 1024 * 1024 / size;
+                byte[] payload = new byte[size];
+                rnd.nextBytes(payload);
+                MetaMessage.Wrapper message = MetaMessage.Wrapper.newBuilder()
+                        .setStore(C2S.Store.newBuilder()
+                                .setKey(ByteString.copyFrom(new byte[32]))
+                                .setValue(ByteString.copyFrom(payload)))
+                        .build();
+                List<MetaMessage.Wrapper> messages = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    messages.add(message);
+                }
+                long start = System.nanoTime();
+                List<MetaMessage.Wrapper> replies = conn.transceiveMany(messages, MetaMessage.Wrapper.PARSER);
+                long time = System.nanoTime() - start;
+                assertEquals(count, replies.size());
+                assertEquals(messages.get(count - 1), replies.get(count - 1));
+                Log.d(TAG, "FrameThroughput: size=" + size + " messages=" + count + " time=" + time / 1000000
+                        + "ms throughput=" + (2 * 8 * 1000000000L / Math.max(time, 1)) + "MB/s");
+            }
+        } finally {
+            conn.close();
+            server.close();
+            echo.join();
+        }
+    }
+
+
+    /**
+     * Measure the size of the ciphertext and the time taken to encrypt with and without
+     * compression, for a short and a multi-hour track. The results are written to the log.
+     */
+    public void testCompression() {
+        IdentifierDerivation d = new SHA256IdentifierDerivation();
+        TokenPair tokens = d.generateRandomIdentifier();
+        for (int points : new int[] {5 * 60, 3 * 60 * 60}) {
+            GPSTrack track = TrackFactory.getTrack(points);
+            for (boolean compress : new boolean[] {false, true}) {
+                AESSharingEncryption enc = new AESSharingEncryption(compress);
+                // Warm up
+                enc.encryptShareable(track, Shareable.GRANULARITY_FINE, tokens);
+                int runs = 10;
+                DataBlock block = null;
+                long start = System.nanoTime();
+                for (int i = 0; i < runs; i++) {
+                    block = enc.encryptShareable(track, Shareable.GRANULARITY_FINE, tokens);
+                }
+                long time = (System.nanoTime() - start) / runs;
+                assertNotNull(block);
+                Log.d(TAG, "Compression: points=" + points + " compress=" + compress + " bytes=" + block.getCiphertext().length
+                        + " encrypt=" + time / 1000 + "us");
+            }
+        }
+    }
+
+
+    /**
+     * Measure the size and the encoding and decoding time of the compact track encoding compared
+     * to Entry messages, for tracks of different lengths. The results are written to the log.
+     */
+    public void testPackedTrack() throws InvalidProtocolBufferException {
+        for (int points : new int[] {1000, 10000, 100000}) {
+            List<Location> loclist = TrackFactory.getLocations(points);
+            // Entry messages
+            long start = System.nanoTime();
+            DataContainer.Track.Builder entries = DataContainer.Track.newBuilder();
+            for (Location loc : loclist) {
+                entries.addTrack(DataContainer.Track.Entry.newBuilder()
+                        .setTimestamp(loc.getTime())
+                        .setLat(loc.getLatitude())
+                        .setLng(loc.getLongitude()));
+            }
+            byte[] entryBytes = entries.buildPartial().toByteArray();
+            long entryEncode = System.nanoTime() - start;
+            start = System.nanoTime();
+            DataContainer.Track parsed = DataContainer.Track.PARSER.parsePartialFrom(entryBytes);
+            assertEquals(points, parsed.getTrackCount());
+            long entryDecode = System.nanoTime() - start;
+            // Compact encoding
+            start = System.nanoTime();
+            ByteString packed = TrackEncoding.encode(TrackPoints.fromLocations(loclist));
+            long packedEncode = System.nanoTime() - start;
+            start = System.nanoTime();
+            assertEquals(points, TrackEncoding.decode(packed).size());
+            long packedDecode = System.nanoTime() - start;
+            Log.d(TAG, "PackedTrack: points=" + points
+                    + " entries: bytes=" + entryBytes.length + " encode=" + entryEncode / 1000 + "us decode=" + entryDecode / 1000 + "us"
+                    + " packed: bytes=" + packed.size() + " encode=" + packedEncode / 1000 + "us decode=" + packedDecode / 1000 + "us");
+        }
+    }
+
+
+    /**
+     * Measure the time it takes to calculate the distance of a long track. The time is written
+     * to the log.
+     */
+    public void testTrackDistance() {
+        List<Location> loclist = TrackFactory.getLocations(100000);
+        // The points are accessed by index, so this takes linear time
+        GPSTrack track = new GPSTrack(loclist, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        long start = System.nanoTime();
+        float distance = track.getDistance();
+        Log.d(TAG, "TrackDistance: points=100000 distance=" + distance + "m time=" + (System.nanoTime() - start) / 1000 + "us");
+    }
+
+
+    /**
+     * Measure the time it takes to compare two long tracks with separately computed hash codes.
+     * The time is written to the log.
+     */
+    public void testTrackEquals() {
+        List<Location> loclist = TrackFactory.getLocations(100000);
+        GPSTrack track = new GPSTrack(loclist, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        GPSTrack track2 = new GPSTrack(loclist, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        long start = System.nanoTime();
+        assertEquals(track, track2);
+        Log.d(TAG, "TrackEquals: points=100000 equals=" + (System.nanoTime() - start) / 1000 + "us");
+    }
+
+
+    /**
+     * Measure the time it takes to insert long tracks. The times are written to the log.
+     */
+    public void testAddGPSTrack() {
+        DatabaseServiceBinder binder = bindDatabaseService();
+        for (int points : new int[] {10000, 50000, 100000}) {
+            GPSTrack track = TrackFactory.getTrack(points);
+            long start = System.nanoTime();
+            binder.addGPSTrack(track);
+            Log.d(TAG, "AddGPSTrack: points=" + points + " insert=" + (System.nanoTime() - start) / 1000000 + "ms");
+        }
+        assertEquals(3, binder.getOwnerGPSTracks().size());
+    }
+
+
+    /**
+     * Measure the latency of the hot lookups on a database containing a year of data, with and
+     * without the secondary indexes. The times are written to the log.
+     */
+    public void testIndexes() {
+        openDatabase();
+        seedYear();
+        // Drop the secondary indexes, remembering how to create them again
+        List<String> names = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        Cursor c = mDb.rawQuery("SELECT name, sql FROM sqlite_master WHERE type = 'index' AND sql IS NOT NULL", null);
+        while (c.moveToNext()) {
+            names.add(c.getString(0));
+            indexes.add(c.getString(1));
+        }
+        c.close();
+        assertFalse(indexes.isEmpty());
+        for (String name : names) {
+            mDb.execSQL("DROP INDEX " + name + ";");
+        }
+        long unindexed = timeLookups();
+        for (String index : indexes) {
+            mDb.execSQL(index);
+        }
+        long indexed = timeLookups();
+        Log.d(TAG, "Indexes: lookups=100 unindexed=" + unindexed / 1000 + "us indexed=" + indexed / 1000 + "us");
+    }
+
+
+    /**
+     * Measure the time it takes to integrate pedometer caches covering several days, both into an
+     * empty table and over existing hours. The times are written to the log.
+     */
+    public void testIntegratePedometerCache() {
+        DatabaseServiceBinder binder = bindDatabaseService();
+        DateTime start = new DateTime(2016, 1, 4, 0, 0);
+        for (int days : new int[] {1, 7, 30}) {
+            Hashtable<DateTime, Long> cache = new Hashtable<>();
+            for (int hour = 0; hour < days * 24; hour++) {
+                cache.put(start.plusHours(hour), (long) hour);
+            }
+            long begin = System.nanoTime();
+            binder.integratePedometerCache(cache);
+            long insert = System.nanoTime() - begin;
+            begin = System.nanoTime();
+            binder.integratePedometerCache(cache);
+            long merge = System.nanoTime() - begin;
+            Log.d(TAG, "IntegratePedometerCache: days=" + days + " insert=" + insert / 1000000 + "ms merge=" + merge / 1000000 + "ms");
+        }
+        assertEquals(30 * 24, binder.getStepCounts(start, start.plusDays(30)).size());
+    }
+
+
+    /**
+     * Measure the time it takes to unlock the database with different numbers of iterations, and
+     * with a cached key. The times are written to the log.
+     */
+    public void testUnlock() {
+        openDatabase();
+        SharedPreferences prefs = getContext().getSharedPreferences(TAG, Context.MODE_PRIVATE);
+        prefs.edit().clear().commit();
+        UnlockPolicy policy = new UnlockPolicy(getContext(), prefs);
+        KeySlot slot = new KeySlot();
+        for (int iterations : new int[] {4000, 16000, 64000, 256000}) {
+            policy.setKdfIterations(iterations);
+            mHelper.close();
+            // Rekey to the new iterations
+            mHelper.unlock(PASSWORD, policy, slot).close();
+            slot.clear();
+            long start = System.nanoTime();
+            mHelper.unlock(PASSWORD, policy, slot);
+            long derived = System.nanoTime() - start;
+            mHelper.close();
+            start = System.nanoTime();
+            mDb = mHelper.unlock(PASSWORD, policy, slot);
+            long cached = System.nanoTime() - start;
+            Log.d(TAG, "Unlock: iterations=" + iterations + " unlock=" + derived / 1000000 + "ms cached=" + cached / 1000000 + "ms");
+        }
+        slot.clear();
+    }
+
+
+    /**
+     * Measure the time the key derivation of the database takes for different numbers of
+     * iterations. The times are written to the log.
+     */
+    public void testDeriveKey() {
+        byte[] salt = DatabaseKey.generateSalt();
+        for (int iterations : new int[] {4000, 16000, 64000, 256000}) {
+            long start = System.nanoTime();
+            DatabaseKey.derive("VerySecureHardcodedPasswordOlolol123", salt, iterations);
+            Log.d(TAG, "DeriveKey: iterations=" + iterations + " derive=" + (System.nanoTime() - start) / 1000000 + "ms");
+        }
+    }
+
+
+    /**
+     * Measure the cost of a disabled trace call and span. The times are written to the log.
+     */
+    public void testDisabledTracer() {
+        boolean enabled = Tracer.isEnabled();
+        Tracer.setEnabled(false);
+        try {
+            long start = System.nanoTime();
+            long sum = 0;
+            for (int i = 0; i < 1000000; i++) {
+                long span = Tracer.begin();
+                Tracer.trace(TAG, "testDisabledTracer: Running");
+                Tracer.end(TAG, "testDisabledTracer", span);
+                sum += span;
+            }
+            assertEquals(0, sum);
+            Log.d(TAG, "DisabledTracer: calls=1000000 time=" + (System.nanoTime() - start) / 1000000 + "ms");
+        } finally {
+            Tracer.setEnabled(enabled);
+        }
+    }
+
+
+    /**
+     * Compare the cost of appending a record to the encrypted journal to the cost of a hybrid
+     * encryption of the same data, as done for every save before the journal. The times are
+     * written to the log.
+     */
+    public void testJournalAppend() throws Exception {
+        KeyPair keyPair = RSA.generateRSAKeypair(1024);
+        File file = File.createTempFile("journal", ".journal");
+        try {
+            byte[] record = new byte[4 + 16 * 2];
+            int rounds = 200;
+            EncryptedJournal journal = EncryptedJournal.create(file, keyPair.getPublic(), 0);
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                journal.append(record);
+            }
+            long append = System.nanoTime() - start;
+            journal.close();
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                assertNotNull(Hybrid.encryptHybrid(record, keyPair.getPublic(), i));
+            }
+            long hybrid = System.nanoTime() - start;
+            Log.d(TAG, "JournalAppend: rounds=" + rounds + " append=" + append / 1000 / rounds + "us hybrid=" + hybrid / 1000 / rounds + "us");
+            assertEquals(rounds, EncryptedJournal.replay(file, keyPair.getPrivate(), 0).size());
+        } finally {
+            file.delete();
+        }
+    }
+
+
+    /**
+     * Compare size and encoding and decoding times of the step count encoding and Java
+     * serialization for caches of a day, a week and a month. The results are written to the log.
+     */
+    public void testStepCountCodec() throws Exception {
+        int rounds = 200;
+        for (int hours : new int[] {24, 24 * 7, 24 * 30}) {
+            Hashtable<DateTime, Long> steps = getSteps(hours);
+            byte[] encoded = null;
+            byte[] serialized = null;
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                encoded = StepCountCodec.encode(steps);
+            }
+            long encode = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                StepCountCodec.decode(encoded);
+            }
+            long decode = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                serialized = serialize(steps);
+            }
+            long serialize = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                StepCountCodec.decode(serialized);
+            }
+            long deserialize = System.nanoTime() - start;
+            Log.d(TAG, "StepCountCodec: hours=" + hours
+                    + " size=" + encoded.length + "B/" + serialized.length + "B"
+                    + " encode=" + encode / 1000 / rounds + "us/" + serialize / 1000 / rounds + "us"
+                    + " decode=" + decode / 1000 / rounds + "us/" + deserialize / 1000 / rounds + "us");
+            assertTrue(encoded.length < serialized.length);
+        }
+    }
+
+
+    /**
+     * Measure the cost of counting a step and reading the sum of the day in the ring buffer,
+     * compared to the Hashtables used before. The times are written to the log.
+     */
+    public void testStepRingBuffer() {
+        int steps = 1000000;
+        StepRingBuffer buffer = new StepRingBuffer(31 * 24, DateTimeZone.getDefault());
+        long sum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            long hour = HourEpoch.fromMillis(System.currentTimeMillis(), DateTimeZone.getDefault());
+            buffer.increment(hour);
+            sum += buffer.getSumToday(hour);
+        }
+        long ring = System.nanoTime() - start;
+        assertTrue(sum > 0);
+
+        Hashtable<DateTime, Long> cache = new Hashtable<>();
+        Hashtable<DateTime, Long> today = new Hashtable<>();
+        sum = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < steps; i++) {
+            DateTime timestamp = DateTime.now(DateTimeZone.getDefault()).withMillisOfSecond(0).withSecondOfMinute(0).withMinuteOfHour(0);
+            Long value = cache.get(timestamp);
+            cache.put(timestamp, value == null ? 1L : value + 1);
+            today.put(timestamp, value == null ? 1L : value + 1);
+            // The sum was kept in a field, and recomputed over the whole day on database loads
+            sum += 1;
+        }
+        long tables = System.nanoTime() - start;
+        assertTrue(sum > 0);
+        Log.d(TAG, "StepRingBuffer: steps=" + steps + " ring=" + ring / steps + "ns/step hashtables=" + tables / steps + "ns/step");
+    }
+
+
+    /**
+     * Compare summing up the caches of a week of locked database operation with the k-way merge
+     * and with pairwise merges of Hashtables, as done before. The times are written to the log.
+     */
+    public void testHourlyStepCountsSum() {
+        Random rnd = new Random(7);
+        List<HourlyStepCounts> lists = new ArrayList<>();
+        List<Hashtable<DateTime, Long>> tables = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // Up to 48 random hours within a week
+            Hashtable<DateTime, Long> table = new Hashtable<>();
+            for (int j = 0; j < 48; j++) {
+                table.put(HourEpoch.toDateTime(400000 + rnd.nextInt(24 * 7)), (long) rnd.nextInt(2000));
+            }
+            lists.add(HourlyStepCounts.fromMap(table));
+            tables.add(table);
+        }
+        long start = System.nanoTime();
+        HourlyStepCounts sum = HourlyStepCounts.sum(lists);
+        long merge = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Hashtable<DateTime, Long> result = new Hashtable<>();
+        for (Hashtable<DateTime, Long> table : tables) {
+            Hashtable<DateTime, Long> merged = new Hashtable<>(result);
+            for (DateTime t : table.keySet()) {
+                Long value = result.get(t);
+                merged.put(t, value == null ? table.get(t) : value + table.get(t));
+            }
+            result = merged;
+        }
+        long pairwise = System.nanoTime() - start;
+        assertEquals(result.size(), sum.size());
+        Log.d(TAG, "HourlyStepCountsSum: files=" + lists.size() + " hours=" + sum.size() + " kway=" + merge / 1000 + "us pairwise=" + pairwise / 1000 + "us");
+    }
+
+
+    /**
+     * Prepare a batch of random keys with matching authenticators and values
+     * @param batch The number of keys
+     * @param blocks List to put the DataBlocks into
+     * @param tokens List to put the matching TokenPairs into
+     */
+    private void prepareKeys(int batch, List<DataBlock> blocks, List<TokenPair> tokens) {
+        Random rnd = new Random();
+        for (int i = 0; i < batch; i++) {
+            byte[] auth = new byte[32];
+            rnd.nextBytes(auth);
+            byte[] key = authToKey(auth);
+            byte[] value = new byte[256];
+            rnd.nextBytes(value);
+            blocks.add(new DataBlock(key, value, key));
+            tokens.add(new TokenPair(key, auth));
+        }
+    }
+
+
+    /**
+     * Helper function to derive a key that can be authenticated using the provided auth string
+     * @param auth Authenticator
+     * @return A key that is authenticated by that authenticator
+     */
+    private byte[] authToKey(byte[] auth) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            fail("SHA256 not supported");
+            return null;
+        }
+        md.update(auth);
+        return md.digest();
+    }
+
+
+    /**
+     * Bind to the DatabaseService and open its database
+     * @return The binder of the service
+     */
+    private DatabaseServiceBinder bindDatabaseService() {
+        SQLiteDatabase.loadLibs(getContext());
+        DatabaseServiceBinder binder = (DatabaseServiceBinder) bindService(new Intent(getContext(), DatabaseService.class));
+        binder.openDatabase(PASSWORD);
+        return binder;
+    }
+
+
+    /**
+     * Open the database directly with a SecureDbHelper
+     */
+    private void openDatabase() {
+        SQLiteDatabase.loadLibs(getContext());
+        mHelper = new SecureDbHelper(getContext());
+        mDb = mHelper.getWritableDatabase(PASSWORD);
+    }
+
+
+    /**
+     * Fill the database with a year of data: one track with 1000 points per day, hourly step
+     * counts and one shared data item per day, shared with one of ten friends
+     */
+    private void seedYear() {
+        Random rnd = new Random(0);
+        mDb.beginTransaction();
+        SQLiteStatement friend = mDb.compileStatement("INSERT INTO friend_list (name) VALUES (?)");
+        for (int i = 0; i < 10; i++) {
+            friend.bindString(1, "Friend " + i);
+            friend.executeInsert();
+        }
+        friend.close();
+        SQLiteStatement session = mDb.compileStatement("INSERT INTO location_session (name, session_start, session_end, timezone, distance) VALUES (?, ?, ?, 'Europe/Berlin', 1000)");
+        SQLiteStatement point = mDb.compileStatement("INSERT INTO location_log (session, timestamp, latitude, longitude) VALUES (?, ?, ?, ?)");
+        SQLiteStatement steps = mDb.compileStatement("INSERT INTO step_count (hour_epoch, recording_steps) VALUES (?, ?)");
+        SQLiteStatement data = mDb.compileStatement("INSERT INTO data_share_log (identifier, revocation_token, encryption_key) VALUES (?, ?, ?)");
+        SQLiteStatement share = mDb.compileStatement("INSERT INTO friend_share_log (datashare_id, friend_id, identifier, revocation_token) VALUES (?, ?, ?, ?)");
+        long start = 1451606400000L;
+        for (int day = 0; day < 365; day++) {
+            long time = start + day * 86400000L;
+            session.bindString(1, "Track " + day);
+            session.bindLong(2, time);
+            session.bindLong(3, time + 3600000L);
+            long sessionId = session.executeInsert();
+            for (int i = 0; i < 1000; i++) {
+                point.bindLong(1, sessionId);
+                point.bindLong(2, time + i * 1000);
+                point.bindDouble(3, 53.55 + rnd.nextDouble() * 0.01);
+                point.bindDouble(4, 9.99 + rnd.nextDouble() * 0.01);
+                point.executeInsert();
+            }
+            for (int hour = 0; hour < 24; hour++) {
+                steps.bindLong(1, getHour(day) + hour);
+                steps.bindLong(2, rnd.nextInt(1000));
+                steps.executeInsert();
+            }
+            data.bindBlob(1, getBlob(rnd));
+            data.bindBlob(2, getBlob(rnd));
+            data.bindBlob(3, getBlob(rnd));
+            long dataId = data.executeInsert();
+            share.bindLong(1, dataId);
+            share.bindLong(2, 1 + rnd.nextInt(10));
+            share.bindBlob(3, getBlob(rnd));
+            share.bindBlob(4, getBlob(rnd));
+            share.executeInsert();
+        }
+        session.close();
+        point.close();
+        steps.close();
+        data.close();
+        share.close();
+        mDb.setTransactionSuccessful();
+        mDb.endTransaction();
+    }
+
+
+    /**
+     * Run 100 lookups on the seeded database: the points of a track, a page of tracks, the step
+     * count of a week and the recipients of a shared item
+     * @return The time taken, in nanoseconds
+     */
+    private long timeLookups() {
+        Random rnd = new Random(1);
+        long start = System.nanoTime();
+        for (int i = 0; i < 25; i++) {
+            int day = rnd.nextInt(365);
+            count("SELECT latitude, longitude FROM location_log WHERE session = ? ORDER BY session, _id", "" + (day + 1));
+            count("SELECT _id FROM location_session WHERE owner = ? ORDER BY session_start DESC, _id DESC LIMIT 20", "-1");
+            count("SELECT SUM(recording_steps) FROM step_count WHERE hour_epoch >= ?1 AND hour_epoch < ?1 + 168", "" + getHour(day));
+            count("SELECT friend_id FROM friend_share_log WHERE datashare_id = ?", "" + (day + 1));
+        }
+        return System.nanoTime() - start;
+    }
+
+
+    /**
+     * Run a query and read all rows of the result
+     * @param sql The query
+     * @param arg The argument of the query
+     * @return The number of rows
+     */
+    private int count(String sql, String arg) {
+        Cursor c = mDb.rawQuery(sql, new String[] {arg});
+        int rv = 0;
+        while (c.moveToNext()) rv++;
+        c.close();
+        return rv;
+    }
+
+
+    /**
+     * Get the epoch-hour key of the first hour of a day of the seeded year
+     * @param day The day, starting at 0
+     * @return The epoch-hour key
+     */
+    private long getHour(int day) {
+        return 403224 + day * 24;
+    }
+
+
+    /**
+     * Generate a random 32 byte blob
+     * @param rnd The source of randomness
+     * @return The blob
+     */
+    private byte[] getBlob(Random rnd) {
+        byte[] rv = new byte[32];
+        rnd.nextBytes(rv);
+        return rv;
+    }
+
+
+    /**
+     * Create step counts for consecutive hours, as cached by the pedometer
+     * @param hours The number of hours
+     * @return The step counts
+     */
+    private Hashtable<DateTime, Long> getSteps(int hours) {
+        Random rnd = new Random(hours);
+        Hashtable<DateTime, Long> rv = new Hashtable<>();
+        DateTime hour = new DateTime(2016, 1, 4, 0, 0);
+        for (int i = 0; i < hours; i++) {
+            rv.put(hour.plusHours(i), (long) rnd.nextInt(2000));
+        }
+        return rv;
+    }
+
+
+    /**
+     * Java-serialize an object, as older versions stored the pedometer cache
+     * @param o The object
+     * @return The serialized object
+     */
+    private byte[] serialize(Object o) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bos);
+        out.writeObject(o);
+        out.close();
+        return bos.toByteArray();
+    }
+
     private class ShareableStub implements Shareable {
         private byte[] ser;
 
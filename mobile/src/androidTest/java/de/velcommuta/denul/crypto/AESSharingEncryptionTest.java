@@ -15,6 +15,7 @@ import de.velcommuta.denul.data.GPSTrack;
 import de.velcommuta.denul.data.KeySet;
 import de.velcommuta.denul.data.Shareable;
 import de.velcommuta.denul.data.TokenPair;
+import de.velcommuta.denul.data.TrackFactory;
 
 /**
  * SHA256SharingEncryption test cases
@@ -98,4 +99,43 @@ public class AESSharingEncryptionTest extends TestCase {
         // Compare with original
         assertTrue(track.equals(testtrack));
     }
+
+
+    /**
+     * Test that large Shareables are compressed only if compression is enabled, and that both
+     * compressed and uncompressed blocks are decrypted correctly
+     */
+    public void testCompression() {
+        GPSTrack track = TrackFactory.getTrack(1000);
+        IdentifierDerivation d = new SHA256IdentifierDerivation();
+        AESSharingEncryption enc = new AESSharingEncryption(true);
+        AESSharingEncryption encUncompressed = new AESSharingEncryption(false);
+        DataBlock compressed = enc.encryptShareable(track, Shareable.GRANULARITY_FINE, d.generateRandomIdentifier());
+        DataBlock uncompressed = encUncompressed.encryptShareable(track, Shareable.GRANULARITY_FINE, d.generateRandomIdentifier());
+        assertTrue(compressed.getCiphertext().length < uncompressed.getCiphertext().length);
+        assertSameTrack(track, enc.decryptShareable(compressed));
+        assertSameTrack(track, enc.decryptShareable(uncompressed));
+        assertSameTrack(track, encUncompressed.decryptShareable(compressed));
+        // Compression is off by default
+        DataBlock byDefault = new AESSharingEncryption().encryptShareable(track, Shareable.GRANULARITY_FINE, d.generateRandomIdentifier());
+        assertEquals(uncompressed.getCiphertext().length, byDefault.getCiphertext().length);
+        // Small Shareables are not compressed. The ciphertext consists of the IV, the plaintext
+        // and the authentication tag, 16 bytes each.
+        GPSTrack small = TrackFactory.getTrack(0);
+        DataBlock smallBlock = enc.encryptShareable(small, Shareable.GRANULARITY_FINE, d.generateRandomIdentifier());
+        assertEquals(small.getByteRepresentation(Shareable.GRANULARITY_FINE).length + 32, smallBlock.getCiphertext().length);
+        assertSameTrack(small, enc.decryptShareable(smallBlock));
+    }
+
+
+    /**
+     * Assert that a decrypted Shareable is a GPSTrack with the same contents as the original one
+     * @param expected The original GPSTrack
+     * @param actual The decrypted Shareable
+     */
+    private void assertSameTrack(GPSTrack expected, Shareable actual) {
+        assertTrue(actual instanceof GPSTrack);
+        assertTrue(Arrays.equals(expected.getByteRepresentation(Shareable.GRANULARITY_FINE),
+                actual.getByteRepresentation(Shareable.GRANULARITY_FINE)));
+    }
 }
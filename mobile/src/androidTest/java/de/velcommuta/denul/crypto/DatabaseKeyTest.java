@@ -0,0 +1,52 @@
+package de.velcommuta.denul.crypto;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+/**
+ * Test cases for the key derivation of the database
+ */
+public class DatabaseKeyTest extends TestCase {
+    /**
+     * Test the key derivation against the PBKDF2-HMAC-SHA1 test vectors of RFC 6070. The first 20
+     * bytes of the key are the first block of the PBKDF2 output, independent of the key length.
+     */
+    public void testDerive() {
+        byte[] key = DatabaseKey.derive("password", "salt".getBytes(), 4096);
+        assertEquals(DatabaseKey.KEY_LENGTH, key.length);
+        assertEquals("4B007901B765489ABEAD49D926F721D065A429C1", hex(Arrays.copyOf(key, 20)));
+        key = DatabaseKey.derive("passwordPASSWORDpassword", "saltSALTsaltSALTsaltSALTsaltSALTsalt".getBytes(), 4096);
+        assertEquals("3D2EEC4FE41C849B80C8D83662C0E44A8B291A96", hex(Arrays.copyOf(key, 20)));
+    }
+
+
+    /**
+     * Test the encoding of raw keys
+     */
+    public void testToRawKey() {
+        byte[] key = new byte[DatabaseKey.KEY_LENGTH];
+        byte[] salt = new byte[DatabaseKey.SALT_LENGTH];
+        key[0] = (byte) 0xAB;
+        salt[15] = 0x01;
+        String raw = new String(DatabaseKey.toRawKey(key, salt));
+        assertEquals(3 + 2 * (DatabaseKey.KEY_LENGTH + DatabaseKey.SALT_LENGTH), raw.length());
+        assertTrue(raw.startsWith("x'AB00"));
+        assertTrue(raw.endsWith("0001'"));
+        assertEquals("x'" + hex(key) + "'", new String(DatabaseKey.toRawKey(key, new byte[0])));
+    }
+
+
+    /**
+     * Encode bytes as upper case hex
+     * @param bytes The bytes
+     * @return The hex string
+     */
+    private String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02X", b));
+        }
+        return sb.toString();
+    }
+}
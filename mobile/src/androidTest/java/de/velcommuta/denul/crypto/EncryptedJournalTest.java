@@ -0,0 +1,154 @@
+package de.velcommuta.denul.crypto;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.security.KeyPair;
+import java.util.List;
+
+import javax.crypto.BadPaddingException;
+
+/**
+ * Test cases for the append-only encrypted journal
+ */
+public class EncryptedJournalTest extends TestCase {
+    private KeyPair mKeyPair;
+    private File mFile;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mKeyPair = RSA.generateRSAKeypair(1024);
+        mFile = File.createTempFile("journal", ".journal");
+    }
+
+
+    @Override
+    protected void tearDown() throws Exception {
+        mFile.delete();
+        new File(mFile.getPath() + ".tmp").delete();
+        super.tearDown();
+    }
+
+
+    /**
+     * Test that records are replayed in order, and that the sequence number is verified
+     */
+    public void testAppendReplay() throws Exception {
+        EncryptedJournal journal = EncryptedJournal.create(mFile, mKeyPair.getPublic(), 7);
+        for (int i = 0; i < 10; i++) {
+            journal.append(new byte[] {(byte) i, 1, 2});
+        }
+        assertEquals(10, journal.getRecordCount());
+        journal.close();
+        List<byte[]> records = EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 7);
+        assertEquals(10, records.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, records.get(i)[0]);
+        }
+        assertEquals(10, EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), -1).size());
+        try {
+            EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 8);
+            fail("Replayed journal with wrong sequence number");
+        } catch (BadPaddingException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * Test that a record cut short ends the replay, and that a tampered record ends it before
+     * the following records
+     */
+    public void testTruncatedAndTampered() throws Exception {
+        EncryptedJournal journal = EncryptedJournal.create(mFile, mKeyPair.getPublic(), 0);
+        for (int i = 0; i < 5; i++) {
+            journal.append(new byte[32]);
+        }
+        journal.close();
+        RandomAccessFile raf = new RandomAccessFile(mFile, "rw");
+        raf.setLength(raf.length() - 3);
+        raf.close();
+        assertEquals(4, EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 0).size());
+        // Flip a bit in the last byte of the fourth record
+        raf = new RandomAccessFile(mFile, "rw");
+        long recordLength = 4 + 16 + 32 + 16;
+        long offset = raf.length() - (5 * recordLength - 3) + 4 * recordLength - 1;
+        raf.seek(offset);
+        int b = raf.read();
+        raf.seek(offset);
+        raf.write(b ^ 1);
+        raf.close();
+        assertEquals(3, EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 0).size());
+    }
+
+
+    /**
+     * Test that a garbled length field in the tail ends the replay without losing the records
+     * before it
+     */
+    public void testGarbledLength() throws Exception {
+        EncryptedJournal journal = EncryptedJournal.create(mFile, mKeyPair.getPublic(), 0);
+        for (int i = 0; i < 3; i++) {
+            journal.append(new byte[] {(byte) i});
+        }
+        journal.close();
+        RandomAccessFile raf = new RandomAccessFile(mFile, "rw");
+        raf.seek(raf.length());
+        raf.writeInt(-1);
+        raf.write(new byte[8]);
+        raf.close();
+        List<byte[]> records = EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 0);
+        assertEquals(3, records.size());
+        assertEquals(2, records.get(2)[0]);
+        raf = new RandomAccessFile(mFile, "rw");
+        raf.setLength(raf.length() - 12);
+        raf.seek(raf.length());
+        raf.writeInt(Integer.MAX_VALUE);
+        raf.close();
+        assertEquals(3, EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 0).size());
+    }
+
+
+    /**
+     * Test that compaction replaces the journal by a single record and keeps it appendable
+     */
+    public void testCompact() throws Exception {
+        EncryptedJournal journal = EncryptedJournal.create(mFile, mKeyPair.getPublic(), 0);
+        for (int i = 0; i < 5; i++) {
+            journal.append(new byte[] {(byte) i});
+        }
+        journal.compact(new byte[] {42});
+        journal.append(new byte[] {43});
+        assertEquals(2, journal.getRecordCount());
+        journal.close();
+        List<byte[]> records = EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 0);
+        assertEquals(2, records.size());
+        assertEquals(42, records.get(0)[0]);
+        assertEquals(43, records.get(1)[0]);
+        assertFalse(new File(mFile.getPath() + ".tmp").exists());
+    }
+
+
+    /**
+     * Test that an interrupted compaction is finished or discarded
+     */
+    public void testRecover() throws Exception {
+        File tmp = new File(mFile.getPath() + ".tmp");
+        EncryptedJournal.create(tmp, mKeyPair.getPublic(), 0).close();
+        // The old journal is complete, the compacted one is discarded
+        EncryptedJournal.create(mFile, mKeyPair.getPublic(), 0).close();
+        EncryptedJournal.recover(mFile);
+        assertTrue(mFile.exists());
+        assertFalse(tmp.exists());
+        // The old journal was already deleted, the compacted one is used
+        EncryptedJournal journal = EncryptedJournal.create(tmp, mKeyPair.getPublic(), 0);
+        journal.append(new byte[] {1});
+        journal.close();
+        assertTrue(mFile.delete());
+        EncryptedJournal.recover(mFile);
+        assertFalse(tmp.exists());
+        assertEquals(1, EncryptedJournal.replay(mFile, mKeyPair.getPrivate(), 0).size());
+    }
+}
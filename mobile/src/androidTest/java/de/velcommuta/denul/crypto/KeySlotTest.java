@@ -0,0 +1,63 @@
+package de.velcommuta.denul.crypto;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+/**
+ * Test cases for the in-memory key slot
+ */
+public class KeySlotTest extends TestCase {
+    private static final String PASSPHRASE = "passphrase";
+
+    /**
+     * Test that the slot returns copies of the stored key until it is cleared
+     */
+    public void testPutGetClear() {
+        KeySlot slot = new KeySlot();
+        assertNull(slot.get(PASSPHRASE));
+        byte[] key = {1, 2, 3};
+        slot.put(key, PASSPHRASE, 60000);
+        Arrays.fill(key, (byte) 0);
+        byte[] stored = slot.get(PASSPHRASE);
+        assertTrue(Arrays.equals(new byte[] {1, 2, 3}, stored));
+        stored[0] = 9;
+        assertTrue(Arrays.equals(new byte[] {1, 2, 3}, slot.get(PASSPHRASE)));
+        slot.clear();
+        assertNull(slot.get(PASSPHRASE));
+        slot.put(new byte[] {1}, PASSPHRASE, 0);
+        assertNull(slot.get(PASSPHRASE));
+    }
+
+
+    /**
+     * Test that the key is only handed out for the passphrase it was stored with, and that a
+     * wrong passphrase clears the slot
+     */
+    public void testWrongPassphrase() {
+        KeySlot slot = new KeySlot();
+        slot.put(new byte[] {1, 2, 3}, PASSPHRASE, 60000);
+        assertNull(slot.get("wrong"));
+        assertNull(slot.get(PASSPHRASE));
+        slot.put(new byte[] {1, 2, 3}, PASSPHRASE, 60000);
+        assertNull(slot.get(""));
+        assertNull(slot.get(PASSPHRASE));
+    }
+
+
+    /**
+     * Test that the key expires after its timeout
+     */
+    public void testExpiry() throws Exception {
+        KeySlot slot = new KeySlot();
+        slot.put(new byte[] {1, 2, 3}, PASSPHRASE, 50);
+        assertNotNull(slot.get(PASSPHRASE));
+        Thread.sleep(200);
+        assertNull(slot.get(PASSPHRASE));
+        // Replacing a key cancels the expiry of the previous one
+        slot.put(new byte[] {1}, PASSPHRASE, 50);
+        slot.put(new byte[] {2}, PASSPHRASE, 60000);
+        Thread.sleep(200);
+        assertTrue(Arrays.equals(new byte[] {2}, slot.get(PASSPHRASE)));
+    }
+}
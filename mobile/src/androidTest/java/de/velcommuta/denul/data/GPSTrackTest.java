@@ -2,14 +2,18 @@ package de.velcommuta.denul.data;
 
 import android.location.Location;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import junit.framework.TestCase;
 
 import org.joda.time.Instant;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import de.velcommuta.denul.data.proto.DataContainer;
 
@@ -37,7 +41,7 @@ public class GPSTrackTest extends TestCase {
         // test values
         assertEquals(testtrack.getSessionName(), name);
         assertEquals(testtrack.getModeOfTransportation(), mode);
-        assertEquals(testtrack.getPosition(), loclist);
+        assertEquals(loclist.size(), testtrack.getPoints().size());
         assertEquals(testtrack.getDescription(), "This is a description. Fancy.");
         // Test serialization
         byte[] serialized = testtrack.getByteRepresentation(Shareable.GRANULARITY_FINE);
@@ -60,18 +64,14 @@ public class GPSTrackTest extends TestCase {
         assertEquals(testtrack.getTimezone(), testtrack2.getTimezone());
         assertEquals(testtrack.getDistance(), testtrack2.getDistance());
         assertEquals(testtrack.getDescription(), testtrack2.getDescription());
-        // Locations do not specify a non-stupid .equals(), so this is the only way to check :/
-        for (Location cmploc : testtrack.getPosition()) {
-            boolean rv = false;
-            for (Location myLoc : testtrack2.getPosition()) {
-                if (cmploc.getLatitude() == myLoc.getLatitude() &&
-                        cmploc.getLatitude() == myLoc.getLongitude() &&
-                        cmploc.getTime() == myLoc.getTime()) {
-                    rv = true;
-                    break;
-                }
-            }
-            if (!rv) fail();
+        // Compare the points. Coordinates are serialized with a resolution of 1e-7 degrees
+        TrackPoints points = testtrack.getPoints();
+        TrackPoints points2 = testtrack2.getPoints();
+        assertEquals(points.size(), points2.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(points.getLatitude(i), points2.getLatitude(i), 1e-7);
+            assertEquals(points.getLongitude(i), points2.getLongitude(i), 1e-7);
+            assertEquals(points.getTime(i), points2.getTime(i));
         }
         // Check if the equals operator comes to the same conclusion.
         assertTrue(testtrack.equals(testtrack2));
@@ -98,7 +98,7 @@ public class GPSTrackTest extends TestCase {
         // test values
         assertEquals(testtrack.getSessionName(), name);
         assertEquals(testtrack.getModeOfTransportation(), mode);
-        assertEquals(testtrack.getPosition(), loclist);
+        assertEquals(loclist.size(), testtrack.getPoints().size());
         assertEquals(testtrack.getDescription(), "This is a description. Fancy.");
         // Test serialization
         byte[] serialized = testtrack.getByteRepresentation(Shareable.GRANULARITY_COARSE);
@@ -122,6 +122,101 @@ public class GPSTrackTest extends TestCase {
         assertEquals(testtrack.getDistance(), testtrack2.getDistance());
         assertEquals(testtrack.getDescription(), testtrack2.getDescription());
         // As locations have not been serialized, we should only check if the List is empty
-        assertTrue(testtrack2.getPosition().size() == 0);
+        assertTrue(testtrack2.getPoints().size() == 0);
+    }
+
+
+    /**
+     * Test that the compact track encoding preserves the locations at its resolution, and that
+     * tracks serialized using Entry messages can still be deserialized
+     */
+    public void testPackedTrack() throws InvalidProtocolBufferException {
+        List<Location> loclist = TrackFactory.getLocations(1000);
+        GPSTrack track = new GPSTrack(loclist, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        DataContainer.Wrapper wrapper = DataContainer.Wrapper.parseFrom(track.getByteRepresentation(Shareable.GRANULARITY_FINE));
+        assertTrue(wrapper.getTrack().hasPackedTrack());
+        assertEquals(0, wrapper.getTrack().getTrackCount());
+        assertSameLocations(loclist, GPSTrack.fromProtobuf(wrapper.getTrack()).getPoints());
+
+        // Old layout
+        DataContainer.Track.Builder legacy = wrapper.getTrack().toBuilder().clearPackedTrack();
+        for (Location loc : loclist) {
+            legacy.addTrack(DataContainer.Track.Entry.newBuilder()
+                    .setTimestamp(loc.getTime())
+                    .setLat(loc.getLatitude())
+                    .setLng(loc.getLongitude()));
+        }
+        assertSameLocations(loclist, GPSTrack.fromProtobuf(legacy.build()).getPoints());
+
+        // Truncated data is rejected
+        ByteString packed = wrapper.getTrack().getPackedTrack();
+        DataContainer.Track truncated = wrapper.getTrack().toBuilder()
+                .setPackedTrack(packed.substring(0, packed.size() - 1))
+                .build();
+        assertNull(GPSTrack.fromProtobuf(truncated));
+    }
+
+
+    /**
+     * Test that the distance of a track is the sum of the distances between its points
+     */
+    public void testDistance() {
+        List<Location> loclist = TrackFactory.getLocations(1000);
+        float expected = 0.0f;
+        for (int i = 1; i < 1000; i++) {
+            expected += loclist.get(i).distanceTo(loclist.get(i - 1));
+        }
+        GPSTrack track = new GPSTrack(loclist.subList(0, 1000), "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        assertEquals(expected, track.getDistance(), 0.01);
+    }
+
+
+    /**
+     * Test that equals and hashCode compare the points of the tracks, including tracks that only
+     * differ in the longitude of one point
+     */
+    public void testEqualsHashCode() throws InvalidProtocolBufferException {
+        List<Location> loclist = TrackFactory.getLocations(100000);
+        GPSTrack track = new GPSTrack(loclist, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        GPSTrack track2 = new GPSTrack(loclist, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        assertEquals(track, track2);
+        assertEquals(track.hashCode(), track2.hashCode());
+        GPSTrack described = new GPSTrack(loclist, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        described.setDescription("description");
+        assertFalse(track.equals(described));
+        assertFalse(described.equals(track));
+        // Change the longitude of the last point only
+        Location last = new Location(loclist.get(loclist.size() - 1));
+        last.setLongitude(last.getLongitude() + 0.001);
+        List<Location> modified = new ArrayList<>(loclist);
+        modified.set(modified.size() - 1, last);
+        GPSTrack track3 = new GPSTrack(modified, "test", GPSTrack.VALUE_CYCLING, 1, 2, "Europe/Berlin");
+        assertFalse(track.equals(track3));
+        // Tracks can be used as hash keys
+        Set<Shareable> set = new HashSet<>();
+        set.add(track);
+        assertTrue(set.contains(track2));
+        assertFalse(set.contains(track3));
+        // Tracks that were serialized and deserialized are still equal
+        GPSTrack deserialized = GPSTrack.fromProtobuf(DataContainer.Wrapper.parseFrom(
+                track.getByteRepresentation(Shareable.GRANULARITY_FINE)).getTrack());
+        assertEquals(track, deserialized);
+        assertEquals(track.hashCode(), deserialized.hashCode());
+    }
+
+
+    /**
+     * Assert that the points of a track match a list of locations, at the resolution of the
+     * compact encoding
+     * @param expected The expected Locations
+     * @param actual The actual points
+     */
+    private void assertSameLocations(List<Location> expected, TrackPoints actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getTime(), actual.getTime(i));
+            assertEquals(expected.get(i).getLatitude(), actual.getLatitude(i), 1e-7);
+            assertEquals(expected.get(i).getLongitude(), actual.getLongitude(i), 1e-7);
+        }
     }
 }
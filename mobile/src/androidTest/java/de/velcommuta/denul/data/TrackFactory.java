@@ -0,0 +1,55 @@
+package de.velcommuta.denul.data;
+
+import android.location.Location;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Factory for tracks resembling a recorded ride, shared by the tests and benchmarks. The points
+ * are a random walk heading north-east from Hamburg, with roughly one point per second. The walk
+ * is seeded with the number of points, so tracks of the same length are identical and tracks of
+ * different lengths differ.
+ */
+public class TrackFactory {
+    // Start of every track, 13 December 2015
+    public static final long START = 1450000000000L;
+
+    /**
+     * Create a list of Locations along the random walk
+     * @param points The number of points
+     * @return The Locations
+     */
+    public static List<Location> getLocations(int points) {
+        Random rnd = new Random(points);
+        List<Location> loclist = new ArrayList<>(points);
+        double lat = 53.55;
+        double lng = 9.99;
+        long time = START;
+        for (int i = 0; i < points; i++) {
+            Location loc = new Location("");
+            lat += (rnd.nextDouble() - 0.3) * 0.00005;
+            lng += (rnd.nextDouble() - 0.3) * 0.00005;
+            loc.setLatitude(lat);
+            loc.setLongitude(lng);
+            // Samples arrive roughly every second
+            time += 900 + rnd.nextInt(200);
+            loc.setTime(time);
+            loclist.add(loc);
+        }
+        return loclist;
+    }
+
+
+    /**
+     * Create a GPSTrack along the random walk, named after its number of points
+     * @param points The number of points
+     * @return The GPSTrack
+     */
+    public static GPSTrack getTrack(int points) {
+        TrackPoints rv = TrackPoints.fromLocations(getLocations(points));
+        long end = points == 0 ? START : rv.getTime(points - 1);
+        return new GPSTrack(rv, "Track " + points, GPSTrack.VALUE_CYCLING, START, end, "Europe/Berlin", -1, rv.getDistance());
+    }
+}
@@ -0,0 +1,254 @@
+package de.velcommuta.denul.db;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.test.AndroidTestCase;
+import android.test.RenamingDelegatingContext;
+
+import net.sqlcipher.Cursor;
+import net.sqlcipher.database.SQLiteDatabase;
+import net.sqlcipher.database.SQLiteException;
+
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.util.Arrays;
+
+import de.velcommuta.denul.crypto.DatabaseKey;
+import de.velcommuta.denul.crypto.KeySlot;
+import de.velcommuta.denul.util.HourEpoch;
+
+/**
+ * Test suite for the SecureDbHelper. The tests use a separate database file, so the database of
+ * the app is not touched.
+ */
+public class SecureDbHelperTest extends AndroidTestCase {
+    private static final String TAG = "SecureDbHelperTest";
+    private static final String PASSWORD = "test";
+
+    private Context mContext;
+    private SecureDbHelper mHelper;
+    private SQLiteDatabase mDb;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mContext = new RenamingDelegatingContext(getContext(), "test_");
+        mContext.deleteDatabase(SecureDbHelper.DATABASE_NAME);
+        SQLiteDatabase.loadLibs(mContext);
+        mHelper = new SecureDbHelper(mContext);
+        mDb = mHelper.getWritableDatabase(PASSWORD);
+    }
+
+
+    @Override
+    protected void tearDown() throws Exception {
+        mHelper.close();
+        mContext.deleteDatabase(SecureDbHelper.DATABASE_NAME);
+        super.tearDown();
+    }
+
+
+    /**
+     * Test that the hot lookups use the secondary indexes
+     */
+    public void testQueryPlans() {
+        assertUsesIndex("SELECT latitude FROM location_log WHERE session = 1 ORDER BY session, _id",
+                SecureDbHelper.INDEX_LOCATIONLOG_SESSION);
+        assertUsesIndex("SELECT _id FROM location_session WHERE owner = -1 ORDER BY session_start DESC, _id DESC LIMIT 20",
+                SecureDbHelper.INDEX_LOCATIONSESSIONS_OWNER);
+        assertUsesIndex("SELECT _id FROM location_session ORDER BY session_start DESC, _id DESC LIMIT 20",
+                SecureDbHelper.INDEX_LOCATIONSESSIONS_START);
+        assertUsesIndex("SELECT recording_steps FROM step_count WHERE hour_epoch = 403236 AND recording_owner = -1",
+                SecureDbHelper.INDEX_STEPCOUNTER_HOUR);
+        assertUsesIndex("SELECT SUM(recording_steps) FROM step_count WHERE hour_epoch >= 403224 AND hour_epoch < 403392 AND recording_owner = -1",
+                SecureDbHelper.INDEX_STEPCOUNTER_HOUR);
+        assertUsesIndex("SELECT _id FROM friend_share_log WHERE datashare_id = 1",
+                SecureDbHelper.INDEX_FRIENDSHARELOG_DATASHARE);
+        assertUsesIndex("SELECT _id FROM friend_share_log WHERE friend_id = 1",
+                SecureDbHelper.INDEX_FRIENDSHARELOG_FRIEND);
+        assertUsesIndex("SELECT _id FROM friend_share_log WHERE identifier = x'00'",
+                SecureDbHelper.INDEX_FRIENDSHARELOG_IDENTIFIER);
+        assertUsesIndex("SELECT _id FROM data_share_log WHERE identifier = x'00'",
+                SecureDbHelper.INDEX_DATASHARELOG_IDENTIFIER);
+        assertUsesIndex("SELECT _id FROM DataRequests WHERE study = 1",
+                SecureDbHelper.INDEX_DATAREQUESTS_STUDY);
+        assertUsesIndex("SELECT _id FROM friend_keys WHERE friend_id = 1",
+                SecureDbHelper.INDEX_FRIENDKEYS_FRIEND);
+    }
+
+
+    /**
+     * Test that upgrading a database from version 20 creates the indexes and converts the step
+     * counts to epoch-hour keys, keeping the larger count of duplicate hours
+     */
+    public void testUpgrade() {
+        dropIndexes();
+        mDb.execSQL("DROP TABLE step_count;");
+        mDb.execSQL("CREATE TABLE step_count(_id INTEGER PRIMARY KEY, recording_owner INTEGER NOT NULL DEFAULT -1, recording_date DATETIME NOT NULL, recording_time DATETIME NOT NULL, recording_steps INTEGER NOT NULL, share_id INTEGER DEFAULT NULL);");
+        mDb.execSQL("INSERT INTO step_count (recording_date, recording_time, recording_steps) VALUES ('31/12/2015', '23:00', 10);");
+        mDb.execSQL("INSERT INTO step_count (recording_date, recording_time, recording_steps) VALUES ('01/01/2016', '00:00', 30);");
+        mDb.execSQL("INSERT INTO step_count (recording_date, recording_time, recording_steps) VALUES ('01/01/2016', '00:00', 20);");
+        mDb.setVersion(20);
+        mHelper.close();
+        mHelper = new SecureDbHelper(mContext);
+        mDb = mHelper.getWritableDatabase(PASSWORD);
+        Cursor c = mDb.rawQuery("SELECT COUNT(*) FROM sqlite_master WHERE type = 'index' AND name LIKE '%_idx'", null);
+        c.moveToFirst();
+        // The secondary indexes and the unique index of the step counts
+        assertEquals(SecureDbHelper.SQL_CREATE_INDEXES.length + 1, c.getInt(0));
+        c.close();
+        DateTimeFormatter format = DateTimeFormat.forPattern("dd/MM/yyyy HH:mm");
+        c = mDb.rawQuery("SELECT hour_epoch, recording_steps FROM step_count ORDER BY hour_epoch", null);
+        assertEquals(2, c.getCount());
+        c.moveToFirst();
+        assertEquals(HourEpoch.fromDateTime(DateTime.parse("31/12/2015 23:00", format)), c.getLong(0));
+        assertEquals(10, c.getLong(1));
+        c.moveToNext();
+        assertEquals(HourEpoch.fromDateTime(DateTime.parse("01/01/2016 00:00", format)), c.getLong(0));
+        assertEquals(30, c.getLong(1));
+        c.close();
+    }
+
+
+    /**
+     * Test that the database can be unlocked with a cached key, that a cached key that does not
+     * fit the database is replaced, and that changing the number of iterations rekeys the database
+     */
+    public void testUnlock() {
+        UnlockPolicy policy = getPolicy();
+        KeySlot slot = new KeySlot();
+        mHelper.close();
+        mContext.deleteDatabase(SecureDbHelper.DATABASE_NAME);
+        mDb = mHelper.unlock(PASSWORD, policy, slot);
+        mDb.execSQL("INSERT INTO friend_list (name) VALUES ('Friend')");
+        assertNotNull(slot.get(PASSWORD));
+        // The cached key is used with the right passphrase
+        reopen(policy, slot, PASSWORD);
+        // A wrong passphrase is rejected even while a key is cached, and clears the slot
+        mHelper.close();
+        try {
+            mHelper.unlock("wrong", policy, slot);
+            fail("Unlocked the database with a wrong passphrase");
+        } catch (SQLiteException e) {
+            // Expected
+        }
+        assertNull(slot.get(PASSWORD));
+        reopen(policy, slot, PASSWORD);
+        // Rekey, after which the old cached key is rejected and replaced
+        byte[] oldKey = DatabaseKey.derive(PASSWORD, DatabaseKey.readSalt(mContext.getDatabasePath(SecureDbHelper.DATABASE_NAME)), policy.getActiveKdfIterations());
+        policy.setKdfIterations(4000);
+        reopen(policy, slot, PASSWORD);
+        assertEquals(4000, policy.getActiveKdfIterations());
+        slot.put(oldKey, PASSWORD, 60000);
+        reopen(policy, slot, PASSWORD);
+        assertFalse(Arrays.equals(oldKey, slot.get(PASSWORD)));
+        slot.clear();
+        reopen(policy, slot, PASSWORD);
+    }
+
+
+    /**
+     * Close the database, unlock it again and check that the data is still there
+     * @param policy The unlock policy
+     * @param slot The key slot
+     * @param password The passphrase
+     */
+    private void reopen(UnlockPolicy policy, KeySlot slot, String password) {
+        mHelper.close();
+        mDb = mHelper.unlock(password, policy, slot);
+        assertEquals(1, count("SELECT _id FROM friend_list WHERE name = ?", "Friend"));
+    }
+
+
+    /**
+     * Test that the database uses write-ahead logging, and that the read-only connections see
+     * committed writes and can read while the main connection is in a transaction
+     */
+    public void testReadPool() {
+        mHelper.close();
+        mDb = mHelper.unlock(PASSWORD, getPolicy(), new KeySlot());
+        Cursor c = mDb.rawQuery("PRAGMA journal_mode", null);
+        assertTrue(c.moveToFirst());
+        assertEquals("wal", c.getString(0));
+        c.close();
+        ReadConnectionPool pool = mHelper.getReadPool();
+        assertEquals(SecureDbHelper.READ_CONNECTIONS, pool.size());
+        mDb.execSQL("INSERT INTO friend_list (name) VALUES ('Friend')");
+        mDb.beginTransaction();
+        mDb.execSQL("INSERT INTO friend_list (name) VALUES ('Uncommitted')");
+        for (int i = 0; i < pool.size(); i++) {
+            SQLiteDatabase reader = pool.get();
+            assertTrue(reader.isReadOnly());
+            c = reader.rawQuery("SELECT name FROM friend_list", null);
+            assertEquals(1, c.getCount());
+            c.close();
+        }
+        mDb.endTransaction();
+        mHelper.close();
+        assertNull(mHelper.getReadPool());
+    }
+
+
+    /**
+     * Get an unlock policy whose settings do not touch the settings of the app
+     * @return The policy
+     */
+    private UnlockPolicy getPolicy() {
+        SharedPreferences prefs = mContext.getSharedPreferences(TAG, Context.MODE_PRIVATE);
+        prefs.edit().clear().commit();
+        return new UnlockPolicy(mContext, prefs);
+    }
+
+
+    /**
+     * Assert that the query plan of a query uses an index
+     * @param sql The query
+     * @param index The name of the index
+     */
+    private void assertUsesIndex(String sql, String index) {
+        Cursor c = mDb.rawQuery("EXPLAIN QUERY PLAN " + sql, null);
+        StringBuilder plan = new StringBuilder();
+        while (c.moveToNext()) {
+            plan.append(c.getString(3)).append('\n');
+        }
+        c.close();
+        assertTrue(sql + " does not use " + index + ": " + plan, plan.toString().contains(index));
+    }
+
+
+    /**
+     * Drop all secondary indexes
+     */
+    private void dropIndexes() {
+        String[] indexes = {SecureDbHelper.INDEX_LOCATIONLOG_SESSION,
+                SecureDbHelper.INDEX_LOCATIONSESSIONS_OWNER,
+                SecureDbHelper.INDEX_LOCATIONSESSIONS_START,
+                SecureDbHelper.INDEX_FRIENDSHARELOG_DATASHARE,
+                SecureDbHelper.INDEX_FRIENDSHARELOG_FRIEND,
+                SecureDbHelper.INDEX_FRIENDSHARELOG_IDENTIFIER,
+                SecureDbHelper.INDEX_DATASHARELOG_IDENTIFIER,
+                SecureDbHelper.INDEX_DATAREQUESTS_STUDY,
+                SecureDbHelper.INDEX_FRIENDKEYS_FRIEND};
+        assertEquals(SecureDbHelper.SQL_CREATE_INDEXES.length, indexes.length);
+        for (String index : indexes) {
+            mDb.execSQL("DROP INDEX " + index + ";");
+        }
+    }
+
+
+    /**
+     * Run a query and read all rows of the result
+     * @param sql The query
+     * @param arg The argument of the query
+     * @return The number of rows
+     */
+    private int count(String sql, String arg) {
+        Cursor c = mDb.rawQuery(sql, new String[] {arg});
+        int rv = 0;
+        while (c.moveToNext()) rv++;
+        c.close();
+        return rv;
+    }
+}
@@ -0,0 +1,164 @@
+package de.velcommuta.denul.networking;
+
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+
+import de.velcommuta.denul.data.DataBlock;
+import de.velcommuta.denul.data.TokenPair;
+
+/**
+ * Test suite for the ConnectionManager, run against a {@link LoopbackStubServer}
+ */
+public class ConnectionManagerTest extends TestCase {
+    private LoopbackStubServer mServer;
+
+    @Override
+    protected void setUp() throws IOException {
+        mServer = new LoopbackStubServer(0);
+    }
+
+    @Override
+    protected void tearDown() {
+        mServer.shutdown();
+    }
+
+
+    /**
+     * Test that consecutive operations share a single connection
+     */
+    public void testConnectionReuse() throws IOException {
+        ConnectionManager manager = getManager(60 * 1000);
+        for (int i = 0; i < 5; i++) {
+            Protocol p = manager.acquire();
+            try {
+                putAndGet(p);
+            } finally {
+                manager.release();
+            }
+        }
+        assertEquals(1, mServer.getConnectionCount());
+        manager.close();
+    }
+
+
+    /**
+     * Test that an unused connection is closed after the idle timeout, and a new one is opened
+     * on the next use
+     */
+    public void testIdleTimeout() throws IOException, InterruptedException {
+        ConnectionManager manager = getManager(100);
+        Protocol p = manager.acquire();
+        manager.release();
+        Thread.sleep(500);
+        Protocol p2 = manager.acquire();
+        try {
+            assertNotSame(p, p2);
+            putAndGet(p2);
+        } finally {
+            manager.release();
+        }
+        assertEquals(2, mServer.getConnectionCount());
+        manager.close();
+    }
+
+
+    /**
+     * Test that the manager reconnects after the server has closed the connection
+     */
+    public void testReconnectAfterServerClose() throws IOException, InterruptedException {
+        ConnectionManager manager = getManager(60 * 1000);
+        Protocol p = manager.acquire();
+        try {
+            putAndGet(p);
+        } finally {
+            manager.release();
+        }
+        mServer.dropConnections();
+        Thread.sleep(100);
+        // The first operation after the server closed the connection may fail, but the manager
+        // must not hand out the broken connection again
+        p = manager.acquire();
+        try {
+            p.put(randomBlock(new Random()));
+        } finally {
+            manager.release();
+        }
+        p = manager.acquire();
+        try {
+            putAndGet(p);
+        } finally {
+            manager.release();
+        }
+        assertEquals(2, mServer.getConnectionCount());
+        manager.close();
+    }
+
+
+    /**
+     * Get a ConnectionManager connecting to the stub server
+     * @param idleTimeout The idle timeout, in milliseconds
+     * @return The ConnectionManager
+     */
+    private ConnectionManager getManager(long idleTimeout) {
+        return new ConnectionManager(new ConnectionManager.ConnectionFactory() {
+            @Override
+            public Connection open() throws IOException {
+                return mServer.connect();
+            }
+        }, idleTimeout, new VICBFCache());
+    }
+
+
+    /**
+     * Store a random value and retrieve it again
+     * @param p A connected {@link Protocol}
+     */
+    private void putAndGet(Protocol p) {
+        Random rnd = new Random();
+        byte[] auth = new byte[32];
+        rnd.nextBytes(auth);
+        byte[] key = authToKey(auth);
+        byte[] value = new byte[64];
+        rnd.nextBytes(value);
+        assertEquals(Protocol.PUT_OK, p.put(new DataBlock(key, value, key)));
+        assertTrue(Arrays.equals(value, p.get(new TokenPair(key, auth))));
+    }
+
+
+    /**
+     * Create a DataBlock with a random key and value
+     * @param rnd The Random instance to use
+     * @return The DataBlock
+     */
+    private DataBlock randomBlock(Random rnd) {
+        byte[] auth = new byte[32];
+        rnd.nextBytes(auth);
+        byte[] key = authToKey(auth);
+        byte[] value = new byte[64];
+        rnd.nextBytes(value);
+        return new DataBlock(key, value, key);
+    }
+
+
+    /**
+     * Helper function to derive a key that can be authenticated using the provided auth string
+     * @param auth Authenticator
+     * @return A key that is authenticated by that authenticator
+     */
+    private byte[] authToKey(byte[] auth) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            fail("SHA256 not supported");
+            return null;
+        }
+        md.update(auth);
+        return md.digest();
+    }
+}
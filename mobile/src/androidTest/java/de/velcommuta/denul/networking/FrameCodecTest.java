@@ -0,0 +1,130 @@
+package de.velcommuta.denul.networking;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.util.Arrays;
+import java.util.Random;
+
+import de.velcommuta.denul.networking.protobuf.c2s.C2S;
+import de.velcommuta.denul.networking.protobuf.meta.MetaMessage;
+
+/**
+ * Test suite for the FrameCodec and the SocketConnection using it
+ */
+public class FrameCodecTest extends TestCase {
+    /**
+     * Test that frames written by the codec are read back unchanged, both as byte[]s and as
+     * protobuf messages
+     */
+    public void testRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FrameCodec writer = new FrameCodec(new ByteArrayInputStream(new byte[0]), out);
+        byte[] small = new byte[] {1, 2, 3};
+        byte[] large = new byte[100000];
+        new Random().nextBytes(large);
+        MetaMessage.Wrapper wrapper = getMessage(large);
+        writer.writeFrame(small);
+        writer.writeFrame(new byte[0]);
+        writer.writeFrame(wrapper);
+        writer.writeFrame(large);
+        writer.flush();
+
+        FrameCodec reader = new FrameCodec(new ByteArrayInputStream(out.toByteArray()), new ByteArrayOutputStream());
+        assertTrue(Arrays.equals(small, reader.readFrame()));
+        assertEquals(0, reader.readFrame().length);
+        assertEquals(wrapper, reader.readFrame(MetaMessage.Wrapper.PARSER));
+        assertTrue(Arrays.equals(large, reader.readFrame()));
+    }
+
+
+    /**
+     * Test that a stream ending in the middle of a frame results in an EOFException
+     */
+    public void testEOF() throws IOException {
+        // Header announcing 100 bytes, followed by only 10
+        byte[] truncated = new byte[14];
+        truncated[3] = 100;
+        FrameCodec codec = new FrameCodec(new ByteArrayInputStream(truncated), new ByteArrayOutputStream());
+        try {
+            codec.readFrame();
+            fail("Truncated frame was accepted");
+        } catch (EOFException e) {
+            // Expected
+        }
+        // Stream ending in the middle of the header
+        codec = new FrameCodec(new ByteArrayInputStream(new byte[2]), new ByteArrayOutputStream());
+        try {
+            codec.readFrame(MetaMessage.Wrapper.PARSER);
+            fail("Truncated header was accepted");
+        } catch (EOFException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * Test that frames exceeding the maximum frame size are rejected in both directions
+     */
+    public void testMaxFrameSize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FrameCodec codec = new FrameCodec(new ByteArrayInputStream(new byte[] {0, 0, 4, 0}), out, 1000);
+        try {
+            codec.writeFrame(new byte[1001]);
+            fail("Oversized frame was written");
+        } catch (ProtocolException e) {
+            // Expected
+        }
+        codec.flush();
+        assertEquals(0, out.size());
+        try {
+            codec.readFrame();
+            fail("Oversized frame was read");
+        } catch (ProtocolException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * Test that a frame that cannot be parsed does not disturb the following frames
+     */
+    public void testInvalidMessage() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FrameCodec writer = new FrameCodec(new ByteArrayInputStream(new byte[0]), out);
+        MetaMessage.Wrapper wrapper = getMessage(new byte[] {42});
+        writer.writeFrame(new byte[] {(byte) 0xff, (byte) 0xff, (byte) 0xff});
+        writer.writeFrame(wrapper);
+        writer.flush();
+
+        FrameCodec reader = new FrameCodec(new ByteArrayInputStream(out.toByteArray()), new ByteArrayOutputStream());
+        try {
+            reader.readFrame(MetaMessage.Wrapper.PARSER);
+            fail("Invalid message was parsed");
+        } catch (InvalidProtocolBufferException e) {
+            // Expected
+        }
+        assertEquals(wrapper, reader.readFrame(MetaMessage.Wrapper.PARSER));
+    }
+
+
+    /**
+     * Create a wrapper message containing a Store request with a value
+     * @param value The value
+     * @return The wrapper message
+     */
+    private MetaMessage.Wrapper getMessage(byte[] value) {
+        return MetaMessage.Wrapper.newBuilder()
+                .setStore(C2S.Store.newBuilder()
+                        .setKey(ByteString.copyFrom(new byte[32]))
+                        .setValue(ByteString.copyFrom(value)))
+                .build();
+    }
+}
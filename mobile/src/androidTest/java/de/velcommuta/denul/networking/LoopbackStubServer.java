@@ -0,0 +1,475 @@
+package de.velcommuta.denul.networking;
+
+import com.google.protobuf.ByteString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+import de.velcommuta.denul.networking.protobuf.c2s.C2S;
+import de.velcommuta.denul.networking.protobuf.meta.MetaMessage;
+
+/**
+ * Minimal in-process implementation of the server side of the C2S protocol, listening on the
+ * loopback interface. Every reply is delayed by a configurable latency, measured from the moment
+ * the request was received, to simulate the round trip time of a mobile network. Requests that are
+ * received back-to-back are answered back-to-back, just like they would be by a real server on the
+ * other end of a slow link.
+ */
+public class LoopbackStubServer {
+    // Serialization of a VICBF with 1000 slots, containing the numbers 123 and 126
+    private static final String VICBF_HEX = "83000003e80000000248023b0703cd05028d0401b20502b207033b07";
+    // Epoch of the VICBF versions issued by the server
+    private static final long VICBF_EPOCH = 42;
+
+    private final ServerSocket mServerSocket;
+    private final long mLatency;
+    private final String mVersion;
+    private final Map<ByteBuffer, byte[]> mStore = new HashMap<>();
+    private final AtomicInteger mRequests = new AtomicInteger();
+    private final List<Socket> mClients = new LinkedList<>();
+    // Log of all changes to the VICBF, in the order they happened. The VICBF version is the
+    // number of changes since VICBF_HEX.
+    private final List<VICBFChange> mChanges = new ArrayList<>();
+    private final AtomicInteger mSnapshots = new AtomicInteger();
+    private Thread mAcceptThread;
+
+    /**
+     * Start a stub server speaking protocol version 1.0 on a random port on the loopback interface
+     * @param latency The simulated latency of every reply, in milliseconds
+     * @throws IOException If the server socket could not be opened
+     */
+    public LoopbackStubServer(long latency) throws IOException {
+        this(latency, "1.0");
+    }
+
+
+    /**
+     * Start a stub server on a random port on the loopback interface
+     * @param latency The simulated latency of every reply, in milliseconds
+     * @param version The protocol version announced by the server. Versions from 1.1 onwards
+     *                support the *Batch messages, versions from 1.2 onwards incremental VICBF
+     *                updates, versions from 1.3 onwards request IDs
+     * @throws IOException If the server socket could not be opened
+     */
+    public LoopbackStubServer(long latency, String version) throws IOException {
+        mLatency = latency;
+        mVersion = version;
+        mServerSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        mAcceptThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (!mServerSocket.isClosed()) {
+                    try {
+                        serve(mServerSocket.accept());
+                    } catch (IOException e) {
+                        // Server socket was closed
+                        return;
+                    }
+                }
+            }
+        });
+        mAcceptThread.start();
+    }
+
+
+    /**
+     * Getter for the port the server is listening on
+     * @return The port number
+     */
+    public int getPort() {
+        return mServerSocket.getLocalPort();
+    }
+
+
+    /**
+     * Getter for the number of requests the server has received so far, including ClientHellos
+     * @return The number of received requests
+     */
+    public int getRequestCount() {
+        return mRequests.get();
+    }
+
+
+    /**
+     * Getter for the number of full VICBFs the server has sent so far
+     * @return The number of VICBF snapshots sent
+     */
+    public int getSnapshotCount() {
+        return mSnapshots.get();
+    }
+
+
+    /**
+     * Getter for the number of client connections the server has accepted so far
+     * @return The number of accepted connections
+     */
+    public int getConnectionCount() {
+        synchronized (mClients) {
+            return mClients.size();
+        }
+    }
+
+
+    /**
+     * Close all client connections from the server side, without stopping the server
+     */
+    public void dropConnections() {
+        synchronized (mClients) {
+            for (Socket client : mClients) {
+                try {
+                    client.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Open a new {@link Connection} to this server
+     * @return A connected {@link Connection}
+     * @throws IOException If the connection could not be established
+     */
+    public Connection connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getByName("127.0.0.1"), getPort());
+        socket.setTcpNoDelay(true);
+        // Plain TCP, using the same framing as the TLSConnection
+        return new SocketConnection(socket);
+    }
+
+
+    /**
+     * Stop the server
+     */
+    public void shutdown() {
+        try {
+            mServerSocket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    /**
+     * Serve a client connection. Requests are read and answered by a reader thread, replies are
+     * written by a writer thread once their simulated latency has passed.
+     * @param client The client socket
+     * @throws IOException If the streams could not be opened
+     */
+    private void serve(final Socket client) throws IOException {
+        synchronized (mClients) {
+            mClients.add(client);
+        }
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()));
+        final BlockingQueue<PendingReply> queue = new LinkedBlockingQueue<>();
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        int len = in.readInt();
+                        byte[] request = new byte[len];
+                        in.readFully(request);
+                        mRequests.incrementAndGet();
+                        long due = System.currentTimeMillis() + mLatency;
+                        queue.put(new PendingReply(due, handle(MetaMessage.Wrapper.parseFrom(request))));
+                    }
+                } catch (IOException | InterruptedException e) {
+                    // Client went away
+                    try {
+                        queue.put(new PendingReply(-1, null));
+                    } catch (InterruptedException e1) {
+                        e1.printStackTrace();
+                    }
+                }
+            }
+        }).start();
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        PendingReply reply = queue.take();
+                        if (reply.reply == null) break;
+                        long wait = reply.due - System.currentTimeMillis();
+                        if (wait > 0) Thread.sleep(wait);
+                        byte[] bytes = reply.reply.toByteArray();
+                        out.writeInt(bytes.length);
+                        out.write(bytes);
+                        // Only flush if no further reply is ready to be sent
+                        if (queue.isEmpty()) out.flush();
+                    }
+                    client.close();
+                } catch (IOException | InterruptedException e) {
+                    e.printStackTrace();
+                }
+            }
+        }).start();
+    }
+
+
+    /**
+     * Compute the reply to a request
+     * @param request The request
+     * @return The reply
+     */
+    private MetaMessage.Wrapper handle(MetaMessage.Wrapper request) {
+        MetaMessage.Wrapper.Builder reply = MetaMessage.Wrapper.newBuilder();
+        synchronized (mStore) {
+            if (request.hasClientHello()) {
+                C2S.ClientHello hello = request.getClientHello();
+                C2S.ServerHello.Builder serverHello = C2S.ServerHello.newBuilder()
+                        .setOpcode(C2S.ServerHello.ClientHelloReplyCode.CLIENT_HELLO_OK)
+                        .setServerProto(mVersion);
+                if (!supportsDeltas()) {
+                    mSnapshots.incrementAndGet();
+                    serverHello.setData(ByteString.copyFrom(compress(hexToBytes(VICBF_HEX))));
+                } else if (hello.hasVicbfEpoch() && hello.hasVicbfVersion() && hasDelta(hello.getVicbfEpoch(), hello.getVicbfVersion())) {
+                    serverHello.setVicbfDelta(getDelta(hello.getVicbfVersion()));
+                } else {
+                    mSnapshots.incrementAndGet();
+                    serverHello.setData(ByteString.copyFrom(compress(getSnapshot())));
+                }
+                if (supportsDeltas()) {
+                    serverHello.setVicbfEpoch(VICBF_EPOCH).setVicbfVersion(mChanges.size());
+                }
+                reply.setServerHello(serverHello);
+            } else if (request.hasVICBFUpdate() && supportsDeltas()) {
+                C2S.VICBFUpdate update = request.getVICBFUpdate();
+                C2S.VICBFUpdateReply.Builder updateReply = C2S.VICBFUpdateReply.newBuilder()
+                        .setVicbfEpoch(VICBF_EPOCH)
+                        .setVicbfVersion(mChanges.size());
+                if (hasDelta(update.getVicbfEpoch(), update.getVicbfVersion())) {
+                    updateReply.setVicbfDelta(getDelta(update.getVicbfVersion()));
+                } else {
+                    mSnapshots.incrementAndGet();
+                    updateReply.setData(ByteString.copyFrom(compress(getSnapshot())));
+                }
+                reply.setVICBFUpdateReply(updateReply);
+            } else if (request.hasStore()) {
+                reply.setStoreReply(handleStore(request.getStore()));
+            } else if (request.hasGet()) {
+                reply.setGetReply(handleGet(request.getGet()));
+            } else if (request.hasDelete()) {
+                reply.setDeleteReply(handleDelete(request.getDelete()));
+            } else if (request.hasStoreBatch() && supportsBatches()) {
+                C2S.StoreBatchReply.Builder batch = C2S.StoreBatchReply.newBuilder();
+                for (C2S.Store store : request.getStoreBatch().getRequestsList()) {
+                    batch.addReplies(handleStore(store));
+                }
+                reply.setStoreBatchReply(batch);
+            } else if (request.hasGetBatch() && supportsBatches()) {
+                C2S.GetBatchReply.Builder batch = C2S.GetBatchReply.newBuilder();
+                for (C2S.Get get : request.getGetBatch().getRequestsList()) {
+                    batch.addReplies(handleGet(get));
+                }
+                reply.setGetBatchReply(batch);
+            } else if (request.hasDeleteBatch() && supportsBatches()) {
+                C2S.DeleteBatchReply.Builder batch = C2S.DeleteBatchReply.newBuilder();
+                for (C2S.Delete delete : request.getDeleteBatch().getRequestsList()) {
+                    batch.addReplies(handleDelete(delete));
+                }
+                reply.setDeleteBatchReply(batch);
+            }
+        }
+        if (request.hasRequestId() && supportsRequestIds()) {
+            reply.setRequestId(request.getRequestId());
+        }
+        return reply.build();
+    }
+
+
+    /**
+     * Check if the announced protocol version supports the *Batch messages
+     * @return true if batches are supported, false otherwise
+     */
+    private boolean supportsBatches() {
+        return ProtobufProtocol.compareProtocolVersions(mVersion, "1.1") >= 0;
+    }
+
+
+    /**
+     * Check if the announced protocol version supports incremental VICBF updates
+     * @return true if updates are supported, false otherwise
+     */
+    private boolean supportsDeltas() {
+        return ProtobufProtocol.compareProtocolVersions(mVersion, "1.2") >= 0;
+    }
+
+
+    /**
+     * Check if the announced protocol version supports request IDs
+     * @return true if request IDs are supported, false otherwise
+     */
+    private boolean supportsRequestIds() {
+        return ProtobufProtocol.compareProtocolVersions(mVersion, "1.3") >= 0;
+    }
+
+
+    /**
+     * Check if the changes since a VICBF version can be sent
+     * @param epoch The epoch of the client's VICBF
+     * @param version The version of the client's VICBF
+     * @return true if the changes can be sent, false if the full VICBF has to be sent
+     */
+    private boolean hasDelta(long epoch, long version) {
+        return epoch == VICBF_EPOCH && version >= 0 && version <= mChanges.size();
+    }
+
+
+    /**
+     * Collect the changes to the VICBF since a version
+     * @param version The version
+     * @return The changes
+     */
+    private C2S.VICBFDelta.Builder getDelta(long version) {
+        C2S.VICBFDelta.Builder delta = C2S.VICBFDelta.newBuilder();
+        for (VICBFChange change : mChanges.subList((int) version, mChanges.size())) {
+            if (change.inserted) {
+                delta.addInserted(change.key);
+            } else {
+                delta.addRemoved(change.key);
+            }
+        }
+        return delta;
+    }
+
+
+    /**
+     * Serialize the current VICBF. As the stub cannot serialize a VICBF, this is always the same
+     * VICBF, and the stub does not guarantee that it contains the stored keys.
+     * @return The serialized VICBF
+     */
+    private byte[] getSnapshot() {
+        return hexToBytes(VICBF_HEX);
+    }
+
+
+    /**
+     * Process a Store request
+     * @param request The request
+     * @return The reply
+     */
+    private C2S.StoreReply.Builder handleStore(C2S.Store request) {
+        ByteBuffer key = ByteBuffer.wrap(request.getKey().toByteArray());
+        C2S.StoreReply.Builder store = C2S.StoreReply.newBuilder().setKey(request.getKey());
+        if (mStore.containsKey(key)) {
+            store.setOpcode(C2S.StoreReply.StoreReplyCode.STORE_FAIL_KEY_TAKEN);
+        } else {
+            mStore.put(key, request.getValue().toByteArray());
+            mChanges.add(new VICBFChange(true, request.getKey()));
+            store.setOpcode(C2S.StoreReply.StoreReplyCode.STORE_OK);
+        }
+        return store;
+    }
+
+
+    /**
+     * Process a Get request
+     * @param request The request
+     * @return The reply
+     */
+    private C2S.GetReply.Builder handleGet(C2S.Get request) {
+        byte[] value = mStore.get(ByteBuffer.wrap(request.getKey().toByteArray()));
+        C2S.GetReply.Builder get = C2S.GetReply.newBuilder().setKey(request.getKey());
+        if (value == null) {
+            get.setOpcode(C2S.GetReply.GetReplyCode.GET_FAIL_UNKNOWN_KEY);
+        } else {
+            get.setOpcode(C2S.GetReply.GetReplyCode.GET_OK);
+            get.setValue(ByteString.copyFrom(value));
+        }
+        return get;
+    }
+
+
+    /**
+     * Process a Delete request
+     * @param request The request
+     * @return The reply
+     */
+    private C2S.DeleteReply.Builder handleDelete(C2S.Delete request) {
+        byte[] value = mStore.remove(ByteBuffer.wrap(request.getKey().toByteArray()));
+        if (value != null) mChanges.add(new VICBFChange(false, request.getKey()));
+        return C2S.DeleteReply.newBuilder()
+                .setKey(request.getKey())
+                .setOpcode(value == null ? C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_NOT_FOUND
+                                         : C2S.DeleteReply.DeleteReplyCode.DELETE_OK);
+    }
+
+
+    /**
+     * zlib-compress a byte[], the same way the server compresses the VICBF
+     * @param data The data
+     * @return The compressed data
+     */
+    private static byte[] compress(byte[] data) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buffer);
+            out.write(buffer, 0, n);
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+
+    /**
+     * Convert a hex string into a byte[]
+     * @param hex The hex string
+     * @return The byte[]
+     */
+    private static byte[] hexToBytes(String hex) {
+        byte[] rv = new byte[hex.length() / 2];
+        for (int i = 0; i < rv.length; i++) {
+            rv[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return rv;
+    }
+
+
+    // Data container for an entry in the VICBF change log
+    private static class VICBFChange {
+        protected boolean inserted;
+        protected ByteString key;
+
+        public VICBFChange(boolean inserted, ByteString key) {
+            this.inserted = inserted;
+            this.key = key;
+        }
+    }
+
+
+    // Data container for replies waiting for their simulated latency to pass
+    private static class PendingReply {
+        protected long due;
+        protected MetaMessage.Wrapper reply;
+
+        public PendingReply(long due, MetaMessage.Wrapper reply) {
+            this.due = due;
+            this.reply = reply;
+        }
+    }
+}
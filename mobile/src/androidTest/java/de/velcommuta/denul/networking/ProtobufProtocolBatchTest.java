@@ -0,0 +1,125 @@
+package de.velcommuta.denul.networking;
+
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import de.velcommuta.denul.data.DataBlock;
+import de.velcommuta.denul.data.TokenPair;
+
+/**
+ * Test suite for the StoreBatch / GetBatch / DeleteBatch extension of the ProtobufProtocol, run
+ * against a {@link LoopbackStubServer}
+ */
+public class ProtobufProtocolBatchTest extends TestCase {
+    // Number of keys to use per batch. Larger than the maximum batch size, to test splitting
+    private static final int BATCH = 300;
+
+    /**
+     * Test the protocol version comparison
+     */
+    public void testCompareProtocolVersions() {
+        assertEquals(0, ProtobufProtocol.compareProtocolVersions("1.0", "1.0"));
+        assertEquals(0, ProtobufProtocol.compareProtocolVersions("1", "1.0"));
+        assertTrue(ProtobufProtocol.compareProtocolVersions("1.1", "1.0") > 0);
+        assertTrue(ProtobufProtocol.compareProtocolVersions("1.0", "1.1") < 0);
+        assertTrue(ProtobufProtocol.compareProtocolVersions("1.10", "1.9") > 0);
+        assertTrue(ProtobufProtocol.compareProtocolVersions("2.0", "1.1") > 0);
+        assertTrue(ProtobufProtocol.compareProtocolVersions("garbage", "1.1") < 0);
+    }
+
+
+    /**
+     * Test that a server supporting batches receives one message per batch instead of one per key
+     */
+    public void testBatchedServer() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0, "1.1");
+        try {
+            Protocol p = new ProtobufProtocol();
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            int requests = server.getRequestCount();
+            putGetDelete(p);
+            // Two batches for each of put, get, and delete (the second one being the remainder)
+            assertEquals(6, server.getRequestCount() - requests);
+            p.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+
+
+    /**
+     * Test that the protocol falls back to individual messages if the server does not support
+     * batches
+     */
+    public void testLegacyServer() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0, "1.0");
+        try {
+            Protocol p = new ProtobufProtocol();
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            int requests = server.getRequestCount();
+            putGetDelete(p);
+            assertEquals(3 * BATCH, server.getRequestCount() - requests);
+            p.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+
+
+    /**
+     * Store, retrieve and delete a batch of random keys, checking the results
+     * @param p A connected {@link Protocol}
+     */
+    private void putGetDelete(Protocol p) {
+        Random rnd = new Random();
+        List<DataBlock> blocks = new LinkedList<>();
+        List<TokenPair> tokens = new LinkedList<>();
+        for (int i = 0; i < BATCH; i++) {
+            byte[] auth = new byte[32];
+            rnd.nextBytes(auth);
+            byte[] key = authToKey(auth);
+            byte[] value = new byte[64];
+            rnd.nextBytes(value);
+            blocks.add(new DataBlock(key, value, key));
+            tokens.add(new TokenPair(key, auth));
+        }
+        Map<DataBlock, Integer> put = p.putMany(blocks);
+        for (DataBlock block : blocks) {
+            assertEquals(Protocol.PUT_OK, (int) put.get(block));
+        }
+        Map<TokenPair, byte[]> get = p.getMany(tokens);
+        for (int i = 0; i < BATCH; i++) {
+            assertTrue(Arrays.equals(blocks.get(i).getCiphertext(), get.get(tokens.get(i))));
+        }
+        Map<TokenPair, Integer> del = p.delMany(tokens);
+        for (TokenPair token : tokens) {
+            assertEquals(Protocol.DEL_OK, (int) del.get(token));
+        }
+    }
+
+
+    /**
+     * Helper function to derive a key that can be authenticated using the provided auth string
+     * @param auth Authenticator
+     * @return A key that is authenticated by that authenticator
+     */
+    private byte[] authToKey(byte[] auth) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            fail("SHA256 not supported");
+            return null;
+        }
+        md.update(auth);
+        return md.digest();
+    }
+}
@@ -0,0 +1,130 @@
+package de.velcommuta.denul.networking;
+
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import de.velcommuta.denul.data.DataBlock;
+import de.velcommuta.denul.data.TokenPair;
+
+/**
+ * Test suite for the pipelined *Many-functions of the ProtobufProtocol, run against a
+ * {@link LoopbackStubServer} with simulated network latency
+ */
+public class ProtobufProtocolPipelineTest extends TestCase {
+    // Number of keys to use per batch
+    private static final int BATCH = 40;
+
+    /**
+     * Test that the pipelined functions return the same results as the individual functions
+     */
+    public void testPipelinedPutGetDelete() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0);
+        try {
+            Protocol p = new ProtobufProtocol();
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            List<DataBlock> blocks = new LinkedList<>();
+            List<TokenPair> tokens = new LinkedList<>();
+            prepareKeys(blocks, tokens);
+            // Insert all key-value-pairs
+            Map<DataBlock, Integer> put = p.putMany(blocks);
+            for (DataBlock block : blocks) {
+                assertEquals(Protocol.PUT_OK, (int) put.get(block));
+            }
+            // Inserting them again must fail for every key
+            put = p.putMany(blocks);
+            for (DataBlock block : blocks) {
+                assertEquals(Protocol.PUT_FAIL_KEY_TAKEN, (int) put.get(block));
+            }
+            // Retrieve all values, and compare them to the values retrieved one-by-one
+            Map<TokenPair, byte[]> get = p.getMany(tokens);
+            for (int i = 0; i < BATCH; i++) {
+                TokenPair token = tokens.get(i);
+                assertTrue(Arrays.equals(blocks.get(i).getCiphertext(), get.get(token)));
+                assertTrue(Arrays.equals(p.get(token), get.get(token)));
+            }
+            // Delete all keys
+            Map<TokenPair, Integer> del = p.delMany(tokens);
+            for (TokenPair token : tokens) {
+                assertEquals(Protocol.DEL_OK, (int) del.get(token));
+            }
+            // Make sure they are gone
+            get = p.getMany(tokens);
+            for (TokenPair token : tokens) {
+                assertNull(get.get(token));
+            }
+            p.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+
+
+    /**
+     * Test that pipelined revocations replace the values with the revocation placeholder
+     */
+    public void testPipelinedRevoke() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0);
+        try {
+            Protocol p = new ProtobufProtocol();
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            List<DataBlock> blocks = new LinkedList<>();
+            List<TokenPair> tokens = new LinkedList<>();
+            prepareKeys(blocks, tokens);
+            p.putMany(blocks);
+            Map<TokenPair, Integer> rev = p.revokeMany(tokens);
+            Map<TokenPair, byte[]> get = p.getMany(tokens);
+            for (TokenPair token : tokens) {
+                assertEquals(Protocol.REV_OK, (int) rev.get(token));
+                assertTrue(Arrays.equals(new byte[] {0x42}, get.get(token)));
+            }
+            p.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+
+
+    /**
+     * Prepare a batch of random keys with matching authenticators and values
+     * @param blocks List to put the DataBlocks into
+     * @param tokens List to put the matching TokenPairs into
+     */
+    private void prepareKeys(List<DataBlock> blocks, List<TokenPair> tokens) {
+        Random rnd = new Random();
+        for (int i = 0; i < BATCH; i++) {
+            byte[] auth = new byte[32];
+            rnd.nextBytes(auth);
+            byte[] key = authToKey(auth);
+            byte[] value = new byte[256];
+            rnd.nextBytes(value);
+            blocks.add(new DataBlock(key, value, key));
+            tokens.add(new TokenPair(key, auth));
+        }
+    }
+
+
+    /**
+     * Helper function to derive a key that can be authenticated using the provided auth string
+     * @param auth Authenticator
+     * @return A key that is authenticated by that authenticator
+     */
+    private byte[] authToKey(byte[] auth) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            fail("SHA256 not supported");
+            return null;
+        }
+        md.update(auth);
+        return md.digest();
+    }
+}
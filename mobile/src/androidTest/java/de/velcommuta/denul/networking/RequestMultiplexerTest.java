@@ -0,0 +1,309 @@
+package de.velcommuta.denul.networking;
+
+import com.google.protobuf.ByteString;
+
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import de.velcommuta.denul.data.DataBlock;
+import de.velcommuta.denul.data.TokenPair;
+import de.velcommuta.denul.networking.protobuf.c2s.C2S;
+import de.velcommuta.denul.networking.protobuf.meta.MetaMessage;
+
+/**
+ * Test suite for the RequestMultiplexer
+ */
+public class RequestMultiplexerTest extends TestCase {
+    private ServerSocket mServerSocket;
+    private Thread mServerThread;
+
+    @Override
+    protected void setUp() throws IOException {
+        mServerSocket = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"));
+    }
+
+    @Override
+    protected void tearDown() throws IOException, InterruptedException {
+        mServerSocket.close();
+        if (mServerThread != null) mServerThread.join();
+    }
+
+
+    /**
+     * Test that replies sent out of order are assigned to their requests using the request IDs
+     */
+    public void testOutOfOrderReplies() throws Exception {
+        startServer(3, true);
+        RequestMultiplexer mux = new RequestMultiplexer(connect(), true);
+        List<MetaMessage.Wrapper> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.add(getStoreMsg(i));
+        }
+        List<Future<MetaMessage.Wrapper>> replies = mux.submitAll(requests);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(requests.get(i).getStore().getKey(), replies.get(i).get(1, TimeUnit.SECONDS).getStoreReply().getKey());
+        }
+    }
+
+
+    /**
+     * Test that replies are assigned to the requests in order if request IDs are not used
+     */
+    public void testInOrderReplies() throws Exception {
+        startServer(3, false);
+        RequestMultiplexer mux = new RequestMultiplexer(connect(), false);
+        List<Future<MetaMessage.Wrapper>> replies = new LinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            replies.add(mux.submit(getStoreMsg(i)));
+        }
+        for (int i = 0; i < 3; i++) {
+            MetaMessage.Wrapper reply = replies.get(i).get(1, TimeUnit.SECONDS);
+            assertFalse(reply.hasRequestId());
+            assertEquals(getStoreMsg(i).getStore().getKey(), reply.getStoreReply().getKey());
+        }
+    }
+
+
+    /**
+     * Test that a cancelled request no longer returns its reply, while the other requests still
+     * receive theirs
+     */
+    public void testCancel() throws Exception {
+        startServer(2, false);
+        RequestMultiplexer mux = new RequestMultiplexer(connect(), false);
+        Future<MetaMessage.Wrapper> cancelled = mux.submit(getStoreMsg(0));
+        assertTrue(cancelled.cancel(false));
+        assertTrue(cancelled.isCancelled());
+        assertTrue(cancelled.isDone());
+        assertFalse(cancelled.cancel(false));
+        Future<MetaMessage.Wrapper> reply = mux.submit(getStoreMsg(1));
+        assertEquals(getStoreMsg(1).getStore().getKey(), reply.get(1, TimeUnit.SECONDS).getStoreReply().getKey());
+        assertFalse(reply.cancel(false));
+        try {
+            cancelled.get();
+            fail("Cancelled request returned a reply");
+        } catch (CancellationException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * Test that pending and later requests fail if the server closes the connection
+     */
+    public void testConnectionFailure() throws Exception {
+        // The server closes the connection after reading one request, without replying
+        startServer(1, false);
+        Connection conn = connect();
+        RequestMultiplexer mux = new RequestMultiplexer(conn, true);
+        final CountDownLatch failed = new CountDownLatch(1);
+        final AtomicReference<MetaMessage.Wrapper> received = new AtomicReference<>();
+        Future<MetaMessage.Wrapper> reply = mux.submit(getStoreMsg(0), new RequestMultiplexer.Callback() {
+            @Override
+            public void onReply(MetaMessage.Wrapper reply) {
+                received.set(reply);
+            }
+
+            @Override
+            public void onError(IOException e) {
+                failed.countDown();
+            }
+        });
+        assertTrue(failed.await(1, TimeUnit.SECONDS));
+        assertNull(received.get());
+        assertFalse(conn.isOpen());
+        try {
+            reply.get();
+            fail("Request did not fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        try {
+            mux.submit(getStoreMsg(1)).get(1, TimeUnit.SECONDS);
+            fail("Request on failed connection did not fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+
+    /**
+     * Test that a reply without request ID fails all pending requests and closes the connection
+     * if request IDs are used
+     */
+    public void testReplyWithoutRequestId() throws Exception {
+        startServer(2, false, false);
+        Connection conn = connect();
+        RequestMultiplexer mux = new RequestMultiplexer(conn, true);
+        List<Future<MetaMessage.Wrapper>> replies = mux.submitAll(Arrays.asList(getStoreMsg(0), getStoreMsg(1)));
+        for (Future<MetaMessage.Wrapper> reply : replies) {
+            try {
+                reply.get(1, TimeUnit.SECONDS);
+                fail("Reply without request ID was accepted");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ProtocolException);
+            }
+        }
+        assertFalse(conn.isOpen());
+    }
+
+
+    /**
+     * Test the ProtobufProtocol against a server supporting request IDs, including synchronous
+     * use of the connection after asynchronous requests
+     */
+    public void testProtocolWithRequestIds() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0, "1.3");
+        try {
+            ProtobufProtocol p = new ProtobufProtocol();
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            assertTrue(p.mMultiplexSupported);
+            Random rnd = new Random();
+            List<DataBlock> blocks = new LinkedList<>();
+            List<TokenPair> tokens = new LinkedList<>();
+            for (int i = 0; i < 50; i++) {
+                byte[] auth = new byte[32];
+                rnd.nextBytes(auth);
+                byte[] key = authToKey(auth);
+                byte[] value = new byte[64];
+                rnd.nextBytes(value);
+                blocks.add(new DataBlock(key, value, key));
+                tokens.add(new TokenPair(key, auth));
+            }
+            Map<DataBlock, Integer> stored = p.putMany(blocks);
+            for (DataBlock block : blocks) {
+                assertEquals(Protocol.PUT_OK, (int) stored.get(block));
+            }
+            Map<TokenPair, byte[]> values = p.getMany(tokens);
+            for (int i = 0; i < blocks.size(); i++) {
+                assertTrue(Arrays.equals(blocks.get(i).getCiphertext(), values.get(tokens.get(i))));
+            }
+            // The connection is still usable for synchronous requests
+            MetaMessage.Wrapper reply = p.mConnection.transceive(getStoreMsg(0), MetaMessage.Wrapper.PARSER);
+            assertTrue(reply.hasStoreReply());
+            p.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+
+
+    /**
+     * Start a server thread that accepts one connection, reads a number of Store requests and
+     * answers them with StoreReplies containing the keys and request IDs of the requests
+     * @param count The number of requests to read before replying and closing the connection.
+     *              If this is 1, the connection is closed without replying.
+     * @param reverse true if the replies should be sent in reverse order
+     */
+    private void startServer(int count, boolean reverse) {
+        startServer(count, reverse, true);
+    }
+
+
+    /**
+     * Start a server thread that accepts one connection, reads a number of Store requests and
+     * answers them with StoreReplies containing the keys of the requests
+     * @param count The number of requests to read before replying and closing the connection.
+     *              If this is 1, the connection is closed without replying.
+     * @param reverse true if the replies should be sent in reverse order
+     * @param copyIds true if the request IDs should be copied into the replies
+     */
+    private void startServer(final int count, final boolean reverse, final boolean copyIds) {
+        mServerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Socket client = mServerSocket.accept();
+                    FrameCodec codec = new FrameCodec(client.getInputStream(), client.getOutputStream());
+                    List<MetaMessage.Wrapper> replies = new ArrayList<>();
+                    for (int i = 0; i < count; i++) {
+                        MetaMessage.Wrapper request = codec.readFrame(MetaMessage.Wrapper.PARSER);
+                        MetaMessage.Wrapper.Builder reply = MetaMessage.Wrapper.newBuilder()
+                                .setStoreReply(C2S.StoreReply.newBuilder()
+                                        .setKey(request.getStore().getKey())
+                                        .setOpcode(C2S.StoreReply.StoreReplyCode.STORE_OK));
+                        if (copyIds && request.hasRequestId()) reply.setRequestId(request.getRequestId());
+                        replies.add(reply.build());
+                    }
+                    if (count > 1) {
+                        if (reverse) Collections.reverse(replies);
+                        for (MetaMessage.Wrapper reply : replies) {
+                            codec.writeFrame(reply);
+                        }
+                        codec.flush();
+                    }
+                    client.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        });
+        mServerThread.start();
+    }
+
+
+    /**
+     * Connect to the server started by {@link #startServer(int, boolean)}
+     * @return The Connection
+     * @throws IOException If the connection could not be established
+     */
+    private Connection connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getByName("127.0.0.1"), mServerSocket.getLocalPort());
+        socket.setTcpNoDelay(true);
+        return new SocketConnection(socket);
+    }
+
+
+    /**
+     * Create a Store message for a key derived from a number
+     * @param i The number
+     * @return The Store message
+     */
+    private MetaMessage.Wrapper getStoreMsg(int i) {
+        byte[] key = new byte[32];
+        key[0] = (byte) i;
+        return MetaMessage.Wrapper.newBuilder()
+                .setStore(C2S.Store.newBuilder()
+                        .setKey(ByteString.copyFrom(key))
+                        .setValue(ByteString.copyFrom(new byte[] {1})))
+                .build();
+    }
+
+
+    /**
+     * Helper function to derive a key that can be authenticated using the provided auth string
+     * @param auth Authenticator
+     * @return A key that is authenticated by that authenticator
+     */
+    private byte[] authToKey(byte[] auth) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            fail("SHA256 not supported");
+            return null;
+        }
+        md.update(auth);
+        return md.digest();
+    }
+}
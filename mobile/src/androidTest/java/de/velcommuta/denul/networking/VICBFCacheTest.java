@@ -0,0 +1,147 @@
+package de.velcommuta.denul.networking;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+
+import de.velcommuta.denul.data.DataBlock;
+import de.velcommuta.denul.data.TokenPair;
+
+/**
+ * Test suite for incremental VICBF updates using the {@link VICBFCache}, run against a
+ * {@link LoopbackStubServer}
+ */
+public class VICBFCacheTest extends TestCase {
+    /**
+     * Test that a reconnecting client only receives the changes since its last connection,
+     * including the keys stored by other clients in the meantime
+     */
+    public void testDeltaOnReconnect() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0, "1.2");
+        try {
+            VICBFCache cache = new VICBFCache();
+            Protocol p = new ProtobufProtocol(cache);
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            assertEquals(1, server.getSnapshotCount());
+            assertTrue(cache.isValid());
+            putAndGet(p);
+            p.disconnect();
+
+            // Another client stores a value
+            Protocol other = new ProtobufProtocol();
+            assertEquals(Protocol.CONNECT_OK, other.connect(server.connect()));
+            Random rnd = new Random();
+            byte[] auth = new byte[32];
+            rnd.nextBytes(auth);
+            byte[] key = authToKey(auth);
+            byte[] value = new byte[64];
+            rnd.nextBytes(value);
+            assertEquals(Protocol.PUT_OK, other.put(new DataBlock(key, value, key)));
+            other.disconnect();
+            assertEquals(2, server.getSnapshotCount());
+
+            // Reconnect using the cache, which must not cause a full VICBF to be sent
+            p = new ProtobufProtocol(cache);
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            assertEquals(2, server.getSnapshotCount());
+            assertEquals(2, cache.getVersion());
+            // The value stored by the other client must be visible through the updated VICBF
+            assertTrue(Arrays.equals(value, p.get(new TokenPair(key, auth))));
+            p.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+
+
+    /**
+     * Test that servers without support for incremental updates always send the full VICBF
+     */
+    public void testLegacyServer() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0, "1.1");
+        try {
+            VICBFCache cache = new VICBFCache();
+            for (int i = 1; i <= 2; i++) {
+                Protocol p = new ProtobufProtocol(cache);
+                assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+                assertEquals(i, server.getSnapshotCount());
+                assertFalse(cache.isValid());
+                putAndGet(p);
+                p.disconnect();
+            }
+        } finally {
+            server.shutdown();
+        }
+    }
+
+
+    /**
+     * Test that a cache persisted to a file can be used after loading it again
+     */
+    public void testPersistence() throws IOException {
+        LoopbackStubServer server = new LoopbackStubServer(0, "1.2");
+        File file = File.createTempFile("vicbf", null);
+        assertTrue(file.delete());
+        try {
+            Protocol p = new ProtobufProtocol(new VICBFCache(file));
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            putAndGet(p);
+            p.disconnect();
+            p = new ProtobufProtocol(new VICBFCache(file));
+            assertEquals(Protocol.CONNECT_OK, p.connect(server.connect()));
+            putAndGet(p);
+            p.disconnect();
+            // Only the first connection received the full VICBF
+            assertEquals(1, server.getSnapshotCount());
+
+            // The cache holds the version received during the second connection
+            VICBFCache cache = new VICBFCache(file);
+            assertTrue(cache.isValid());
+            assertEquals(1, cache.getVersion());
+            cache.invalidate();
+            assertFalse(file.exists());
+        } finally {
+            server.shutdown();
+            file.delete();
+        }
+    }
+
+
+    /**
+     * Store a random value and retrieve it again
+     * @param p A connected {@link Protocol}
+     */
+    private void putAndGet(Protocol p) {
+        Random rnd = new Random();
+        byte[] auth = new byte[32];
+        rnd.nextBytes(auth);
+        byte[] key = authToKey(auth);
+        byte[] value = new byte[64];
+        rnd.nextBytes(value);
+        assertEquals(Protocol.PUT_OK, p.put(new DataBlock(key, value, key)));
+        assertTrue(Arrays.equals(value, p.get(new TokenPair(key, auth))));
+    }
+
+
+    /**
+     * Helper function to derive a key that can be authenticated using the provided auth string
+     * @param auth Authenticator
+     * @return A key that is authenticated by that authenticator
+     */
+    private byte[] authToKey(byte[] auth) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            fail("SHA256 not supported");
+            return null;
+        }
+        md.update(auth);
+        return md.digest();
+    }
+}
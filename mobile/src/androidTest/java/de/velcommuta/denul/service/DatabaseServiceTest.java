@@ -0,0 +1,302 @@
+package de.velcommuta.denul.service;
+
+import android.content.Intent;
+import android.test.RenamingDelegatingContext;
+import android.test.ServiceTestCase;
+
+import net.sqlcipher.database.SQLiteDatabase;
+import net.sqlcipher.database.SQLiteException;
+
+import org.joda.time.DateTime;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import de.greenrobot.event.EventBus;
+
+import de.velcommuta.denul.data.GPSTrack;
+import de.velcommuta.denul.data.TrackFactory;
+import de.velcommuta.denul.data.TrackPoints;
+import de.velcommuta.denul.data.TrackSummary;
+import de.velcommuta.denul.db.SecureDbHelper;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
+
+/**
+ * Test suite for the DatabaseService. The tests use a separate database file, so the database of
+ * the app is not touched.
+ */
+public class DatabaseServiceTest extends ServiceTestCase<DatabaseService> {
+    private DatabaseServiceBinder mBinder;
+
+    /**
+     * Constructor
+     */
+    public DatabaseServiceTest() {
+        super(DatabaseService.class);
+    }
+
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        setContext(new RenamingDelegatingContext(getContext(), "test_"));
+        getContext().deleteDatabase(SecureDbHelper.DATABASE_NAME);
+        SQLiteDatabase.loadLibs(getContext());
+        mBinder = (DatabaseServiceBinder) bindService(new Intent(getContext(), DatabaseService.class));
+        mBinder.openDatabase("test");
+    }
+
+
+    @Override
+    protected void tearDown() throws Exception {
+        shutdownService();
+        getContext().deleteDatabase(SecureDbHelper.DATABASE_NAME);
+        super.tearDown();
+    }
+
+
+    /**
+     * Test that calls made while the database is opened in the background wait for the open to
+     * finish instead of failing
+     */
+    public void testOpenDatabaseAsync() throws Exception {
+        mBinder = reconnect();
+        assertFalse(mBinder.isDatabaseOpen());
+        Future<Void> open = mBinder.openDatabaseAsync("test");
+        assertEquals(0, mBinder.getGPSTracks().size());
+        assertTrue(open.isDone());
+        assertTrue(mBinder.isDatabaseOpen());
+        assertEquals(DatabaseAvailabilityEvent.OPENED,
+                EventBus.getDefault().getStickyEvent(DatabaseAvailabilityEvent.class).getStatus());
+        // Opening an open database does nothing
+        mBinder.openDatabaseAsync("test").get();
+        assertTrue(mBinder.isDatabaseOpen());
+    }
+
+
+    /**
+     * Test that a failed background open is reported through the Future and an event
+     */
+    public void testOpenDatabaseAsyncWrongPassword() throws Exception {
+        mBinder = reconnect();
+        try {
+            mBinder.openDatabaseAsync("wrong").get();
+            fail("Opened the database with a wrong password");
+        } catch (ExecutionException e) {
+            // Expected
+        }
+        assertFalse(mBinder.isDatabaseOpen());
+        assertEquals(DatabaseAvailabilityEvent.OPEN_FAILED,
+                EventBus.getDefault().getStickyEvent(DatabaseAvailabilityEvent.class).getStatus());
+    }
+
+
+    /**
+     * Test that all points of a track are written, including a number of points that does not
+     * fill the last chunk of the bulk insert
+     */
+    public void testAddGPSTrack() {
+        GPSTrack track = TrackFactory.getTrack(1234);
+        mBinder.addGPSTrack(track);
+        List<GPSTrack> tracks = mBinder.getOwnerGPSTracks();
+        assertEquals(1, tracks.size());
+        assertEquals(track.getSessionName(), tracks.get(0).getSessionName());
+        assertEquals(track.getPoints(), tracks.get(0).getPoints());
+    }
+
+
+    /**
+     * Test that loading several tracks at once assigns the points to the correct tracks, including
+     * a track without points, and that tracks can be loaded by ID
+     */
+    public void testGetGPSTracks() {
+        GPSTrack[] tracks = {TrackFactory.getTrack(10), TrackFactory.getTrack(0), TrackFactory.getTrack(500)};
+        for (GPSTrack track : tracks) {
+            mBinder.addGPSTrack(track);
+        }
+        List<GPSTrack> loaded = mBinder.getGPSTracks();
+        assertEquals(tracks.length, loaded.size());
+        assertEquals(tracks.length, mBinder.getOwnerGPSTracks().size());
+        for (GPSTrack track : loaded) {
+            GPSTrack expected = null;
+            for (GPSTrack candidate : tracks) {
+                if (candidate.getSessionName().equals(track.getSessionName())) expected = candidate;
+            }
+            assertNotNull(expected);
+            assertEquals(expected.getPoints(), track.getPoints());
+            GPSTrack byId = mBinder.getGPSTrackById(track.getID());
+            assertEquals(track.getSessionName(), byId.getSessionName());
+            assertEquals(track.getPoints(), byId.getPoints());
+        }
+        assertNull(mBinder.getGPSTrackById(-2));
+    }
+
+
+    /**
+     * Test that track summaries are paged in order, including tracks with the same start time,
+     * and that the points of a track can be loaded separately
+     */
+    public void testGetGPSTrackSummaries() {
+        for (int i = 0; i < 7; i++) {
+            TrackPoints points = TrackFactory.getTrack(i).getPoints();
+            // Pairs of tracks share the same start time
+            mBinder.addGPSTrack(new GPSTrack(points, "Track " + i, GPSTrack.VALUE_RUNNING, 1000 * (i / 2), 1000 * (i / 2) + 500, "Europe/Berlin", -1, points.getDistance()));
+        }
+        List<TrackSummary> summaries = new ArrayList<>();
+        List<TrackSummary> page = mBinder.getOwnerGPSTrackSummaries(null, 3);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 3);
+            summaries.addAll(page);
+            page = mBinder.getOwnerGPSTrackSummaries(page.get(page.size() - 1), 3);
+        }
+        assertEquals(7, summaries.size());
+        Set<Integer> ids = new HashSet<>();
+        for (int i = 0; i < summaries.size(); i++) {
+            TrackSummary summary = summaries.get(i);
+            assertTrue(ids.add(summary.getID()));
+            if (i > 0) assertTrue(summary.getTimestamp() <= summaries.get(i - 1).getTimestamp());
+            assertEquals(0, summary.getShareCount());
+            GPSTrack track = mBinder.getGPSTrackById(summary.getID());
+            assertEquals(track.getSessionName(), summary.getSessionName());
+            assertEquals(track.getDistance(), summary.getDistance());
+            assertEquals(track.getPoints(), mBinder.getGPSTrackPoints(summary.getID()));
+        }
+        assertEquals(7, mBinder.getGPSTrackSummaries(null, 10).size());
+    }
+
+
+    /**
+     * Test that integrating the pedometer cache only ever raises step counts, and that hourly,
+     * daily and weekly step counts are returned for a range of time
+     */
+    public void testStepCounts() {
+        // Monday, three weeks of hourly data
+        DateTime start = new DateTime(2016, 1, 4, 0, 0);
+        Hashtable<DateTime, Long> cache = new Hashtable<>();
+        for (int hour = 0; hour < 21 * 24; hour++) {
+            cache.put(start.plusHours(hour), 10L);
+        }
+        mBinder.integratePedometerCache(cache);
+        cache.clear();
+        cache.put(start, 5L);
+        cache.put(start.plusHours(1), 20L);
+        mBinder.integratePedometerCache(cache);
+        assertEquals(10, mBinder.getStepCountForTimestamp(start));
+        assertEquals(20, mBinder.getStepCountForTimestamp(start.plusHours(1)));
+        assertEquals(-1, mBinder.getStepCountForTimestamp(start.minusHours(1)));
+
+        Hashtable<DateTime, Long> day = mBinder.getStepCountForDay(start.plusHours(12));
+        assertEquals(24, day.size());
+        assertEquals(Long.valueOf(20), day.get(start.plusHours(1)));
+
+        Map<DateTime, Long> hours = mBinder.getStepCounts(start.plusHours(22), start.plusHours(26));
+        assertEquals(4, hours.size());
+        DateTime previous = null;
+        for (DateTime ts : hours.keySet()) {
+            if (previous != null) assertEquals(previous.plusHours(1), ts);
+            previous = ts;
+        }
+
+        Map<DateTime, Long> days = mBinder.getDailyStepCounts(start, start.plusWeeks(1));
+        assertEquals(7, days.size());
+        assertEquals(Long.valueOf(250), days.get(start));
+        assertEquals(Long.valueOf(240), days.get(start.plusDays(6)));
+
+        // Starting in the middle of the first week still returns its Monday as the key
+        Map<DateTime, Long> weeks = mBinder.getWeeklyStepCounts(start.plusDays(3), start.plusWeeks(3));
+        assertEquals(3, weeks.size());
+        assertEquals(Long.valueOf(4 * 240), weeks.get(start));
+        assertEquals(Long.valueOf(7 * 240), weeks.get(start.plusWeeks(1)));
+    }
+
+
+    /**
+     * Test that transactions of several threads are queued instead of failing, and that reads
+     * run while another thread writes
+     */
+    public void testConcurrentTransactions() throws Exception {
+        final List<Exception> errors = new ArrayList<>();
+        Thread[] writers = new Thread[4];
+        for (int i = 0; i < writers.length; i++) {
+            final int points = 2000 + i;
+            writers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        mBinder.addGPSTrack(TrackFactory.getTrack(points));
+                    } catch (Exception e) {
+                        synchronized (errors) {
+                            errors.add(e);
+                        }
+                    }
+                }
+            });
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            while (writer.isAlive()) {
+                // Reads see committed tracks only, and every track with all its points
+                for (TrackSummary summary : mBinder.getOwnerGPSTrackSummaries(null, 10)) {
+                    assertEquals(summary.getSessionName(), mBinder.getGPSTrackById(summary.getID()).getSessionName());
+                }
+                for (GPSTrack track : mBinder.getOwnerGPSTracks()) {
+                    assertTrue(track.getPoints().size() >= 2000);
+                }
+                writer.join(10);
+            }
+        }
+        assertEquals(errors.toString(), 0, errors.size());
+        assertEquals(writers.length, mBinder.getOwnerGPSTracks().size());
+    }
+
+
+    /**
+     * Test that a transaction failing with an exception is reverted, and that it releases the
+     * database for the transactions of other threads
+     */
+    public void testFailedTransaction() throws Exception {
+        try {
+            // The private key is inserted, the public key violates its NOT NULL constraint
+            mBinder.storePedometerKeypair(null, "private");
+            fail("Stored a keypair without public key");
+        } catch (SQLiteException e) {
+            // Expected
+        }
+        assertNull(mBinder.getPedometerPrivateKey());
+        final List<Exception> errors = new ArrayList<>();
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    mBinder.storePedometerKeypair("public", "private");
+                } catch (Exception e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            }
+        });
+        writer.start();
+        // Far less than the time a transaction waits for the transaction of another thread
+        writer.join(5000);
+        assertFalse(writer.isAlive());
+        assertEquals(errors.toString(), 0, errors.size());
+        assertEquals("private", mBinder.getPedometerPrivateKey());
+    }
+
+
+    /**
+     * Stop the service and bind to a new instance, with a closed database
+     * @return The binder of the new instance
+     */
+    private DatabaseServiceBinder reconnect() {
+        shutdownService();
+        return (DatabaseServiceBinder) bindService(new Intent(getContext(), DatabaseService.class));
+    }
+}
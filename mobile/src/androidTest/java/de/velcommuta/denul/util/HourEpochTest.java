@@ -0,0 +1,63 @@
+package de.velcommuta.denul.util;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Test cases for the conversion between local hours and epoch-hour keys
+ */
+public class HourEpochTest extends TestCase {
+    /**
+     * Test that timestamps within the same hour map to the same key, and that keys map back to
+     * the start of their hour, in time zones with whole and fractional hour offsets
+     */
+    public void testRoundTrip() {
+        String[] zones = {"UTC", "Europe/Berlin", "Asia/Kolkata", "Asia/Kathmandu", "America/St_Johns"};
+        for (String id : zones) {
+            DateTimeZone zone = DateTimeZone.forID(id);
+            DateTime hour = new DateTime(2016, 3, 1, 0, 0, zone);
+            long previous = HourEpoch.fromDateTime(hour) - 1;
+            // Four weeks, including the start of daylight saving time in some of the zones
+            for (int i = 0; i < 24 * 7 * 4; i++) {
+                long key = HourEpoch.fromDateTime(hour);
+                assertEquals(id, key, HourEpoch.fromDateTime(hour.plusMinutes(59)));
+                assertEquals(id, hour, HourEpoch.toDateTime(key, zone));
+                assertTrue(id, key > previous);
+                previous = key;
+                hour = hour.plusHours(1);
+            }
+        }
+    }
+
+
+    /**
+     * Test that converting timestamps without a DateTime gives the same keys, including the
+     * hours around changes of daylight saving time and timestamps before the epoch
+     */
+    public void testFromMillis() {
+        String[] zones = {"UTC", "Europe/Berlin", "Asia/Kolkata", "Asia/Kathmandu", "America/St_Johns"};
+        for (String id : zones) {
+            DateTimeZone zone = DateTimeZone.forID(id);
+            long[] starts = {new DateTime(2016, 3, 1, 0, 0, zone).getMillis(), -3 * DateTimeConstants.MILLIS_PER_DAY};
+            for (long start : starts) {
+                // Four weeks in steps of seven minutes
+                for (long millis = start; millis < start + 28L * DateTimeConstants.MILLIS_PER_DAY; millis += 7 * DateTimeConstants.MILLIS_PER_MINUTE) {
+                    assertEquals(id + " " + millis, HourEpoch.fromDateTime(new DateTime(millis, zone)), HourEpoch.fromMillis(millis, zone));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Test that keys of zones with whole hour offsets are the hours since the epoch
+     */
+    public void testFromDateTime() {
+        assertEquals(0, HourEpoch.fromDateTime(new DateTime(0, DateTimeZone.UTC)));
+        assertEquals(403224, HourEpoch.fromDateTime(new DateTime(2016, 1, 1, 0, 30, DateTimeZone.UTC)));
+        assertEquals(403223, HourEpoch.fromDateTime(new DateTime(2016, 1, 1, 0, 30, DateTimeZone.forOffsetHours(1))));
+    }
+}
@@ -0,0 +1,96 @@
+package de.velcommuta.denul.util;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for sorted lists of hourly step counts
+ */
+public class HourlyStepCountsTest extends TestCase {
+    /**
+     * Test that lists created from maps are sorted by hour
+     */
+    public void testFromMap() {
+        Hashtable<DateTime, Long> steps = new Hashtable<>();
+        steps.put(HourEpoch.toDateTime(400010), 3L);
+        steps.put(HourEpoch.toDateTime(400000), 1L);
+        steps.put(HourEpoch.toDateTime(400005), 2L);
+        HourlyStepCounts sorted = HourlyStepCounts.fromMap(steps);
+        assertEquals(3, sorted.size());
+        assertEquals(400000, sorted.getHour(0));
+        assertEquals(1, sorted.getSteps(0));
+        assertEquals(400005, sorted.getHour(1));
+        assertEquals(2, sorted.getSteps(1));
+        assertEquals(400010, sorted.getHour(2));
+        assertEquals(3, sorted.getSteps(2));
+        assertEquals(0, HourlyStepCounts.fromMap(new Hashtable<DateTime, Long>()).size());
+    }
+
+
+    /**
+     * Test that unsorted lists are rejected
+     */
+    public void testRejectUnsorted() {
+        try {
+            new HourlyStepCounts(new long[] {2, 1}, new long[] {1, 1});
+            fail("Accepted unsorted hours");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            new HourlyStepCounts(new long[] {1, 1}, new long[] {1, 1});
+            fail("Accepted duplicate hours");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+
+    /**
+     * Test that summing up lists gives the same result as adding them up in a map, including
+     * empty lists and lists without overlap
+     */
+    public void testSum() {
+        Random rnd = new Random(42);
+        List<HourlyStepCounts> lists = new ArrayList<>();
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            HourlyStepCounts list = getRandomList(rnd, rnd.nextInt(48));
+            lists.add(list);
+            for (int j = 0; j < list.size(); j++) {
+                Long value = expected.get(list.getHour(j));
+                expected.put(list.getHour(j), value == null ? list.getSteps(j) : value + list.getSteps(j));
+            }
+        }
+        HourlyStepCounts sum = HourlyStepCounts.sum(lists);
+        assertEquals(expected.size(), sum.size());
+        for (int i = 0; i < sum.size(); i++) {
+            assertEquals(expected.get(sum.getHour(i)), Long.valueOf(sum.getSteps(i)));
+        }
+        assertEquals(0, HourlyStepCounts.sum(Collections.<HourlyStepCounts>emptyList()).size());
+    }
+
+
+    /**
+     * Create a list of step counts for random hours within a week
+     * @param rnd The source of randomness
+     * @param hours The maximum number of hours
+     * @return The list
+     */
+    private HourlyStepCounts getRandomList(Random rnd, int hours) {
+        Hashtable<DateTime, Long> steps = new Hashtable<>();
+        for (int i = 0; i < hours; i++) {
+            steps.put(HourEpoch.toDateTime(400000 + rnd.nextInt(24 * 7)), (long) rnd.nextInt(2000));
+        }
+        return HourlyStepCounts.fromMap(steps);
+    }
+}
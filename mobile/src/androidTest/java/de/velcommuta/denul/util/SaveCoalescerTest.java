@@ -0,0 +1,337 @@
+package de.velcommuta.denul.util;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for the save coalescer
+ */
+public class SaveCoalescerTest extends TestCase {
+    private static final long INTERVAL = 1000;
+
+    private ManualScheduler mScheduler;
+    private List<Integer> mSaved;
+    private List<Long> mSaveTimes;
+    private SaveCoalescer<Integer> mCoalescer;
+
+
+    @Override
+    protected void setUp() {
+        mScheduler = new ManualScheduler();
+        mSaved = new LinkedList<>();
+        mSaveTimes = new LinkedList<>();
+        mCoalescer = new SaveCoalescer<>(mScheduler, mScheduler, INTERVAL, new SaveCoalescer.Saver<Integer>() {
+            @Override
+            public void save(Integer snapshot) {
+                mSaved.add(snapshot);
+                mSaveTimes.add(mScheduler.now());
+            }
+        });
+    }
+
+
+    /**
+     * Test that requests made before a save starts are coalesced into it, and the latest wins
+     */
+    public void testCoalesce() {
+        mCoalescer.request(1);
+        mCoalescer.request(2);
+        mCoalescer.request(3);
+        assertEquals(1, mScheduler.getQueued());
+        mScheduler.advance(0);
+        assertEquals(Collections.singletonList(3), mSaved);
+        // Nothing left to save
+        mScheduler.advance(10 * INTERVAL);
+        assertEquals(1, mSaved.size());
+    }
+
+
+    /**
+     * Test that requests made while a save is running are written by a single next save, after
+     * the save interval
+     */
+    public void testRequestDuringSave() {
+        final AtomicInteger running = new AtomicInteger();
+        final List<Integer> saved = new LinkedList<>();
+        final AtomicReference<SaveCoalescer<Integer>> coalescer = new AtomicReference<>();
+        coalescer.set(new SaveCoalescer<>(mScheduler, mScheduler, INTERVAL, new SaveCoalescer.Saver<Integer>() {
+            @Override
+            public void save(Integer snapshot) {
+                assertEquals(1, running.incrementAndGet());
+                saved.add(snapshot);
+                if (snapshot == 1) {
+                    coalescer.get().request(2);
+                    coalescer.get().request(3);
+                    // The requests only replace the snapshot of the next save
+                    assertEquals(0, mScheduler.getQueued());
+                }
+                running.decrementAndGet();
+            }
+        }));
+        coalescer.get().request(1);
+        mScheduler.advance(0);
+        assertEquals(Collections.singletonList(1), saved);
+        assertEquals(1, mScheduler.getQueued());
+        mScheduler.advance(INTERVAL - 1);
+        assertEquals(1, saved.size());
+        mScheduler.advance(1);
+        assertEquals(2, saved.size());
+        assertEquals(3, (int) saved.get(1));
+    }
+
+
+    /**
+     * Test that a burst of requests leads to saves at most once per save interval
+     */
+    public void testBurstRate() {
+        int requests = 0;
+        for (long t = 0; t < 20 * INTERVAL; t += 10) {
+            mCoalescer.request(requests++);
+            assertTrue(mScheduler.getQueued() <= 1);
+            mScheduler.advance(10);
+        }
+        mScheduler.advance(INTERVAL);
+        assertTrue(mSaved.size() <= 21);
+        for (int i = 1; i < mSaveTimes.size(); i++) {
+            assertTrue(mSaveTimes.get(i) - mSaveTimes.get(i - 1) >= INTERVAL);
+        }
+        // The last request is saved in the end
+        assertEquals(requests - 1, (int) mSaved.get(mSaved.size() - 1));
+    }
+
+
+    /**
+     * Test that a shutdown cancels the scheduled save and ignores further requests
+     */
+    public void testShutdown() {
+        mCoalescer.request(1);
+        mScheduler.advance(0);
+        mCoalescer.request(2);
+        assertEquals(2, (int) mCoalescer.shutdown());
+        mCoalescer.request(3);
+        mScheduler.advance(10 * INTERVAL);
+        assertEquals(Collections.singletonList(1), mSaved);
+        assertNull(mCoalescer.shutdown());
+    }
+
+
+    /**
+     * Test that at most one save is in flight on a multithreaded executor, with requests from
+     * several threads
+     */
+    public void testSingleSaveInFlight() throws Exception {
+        ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(4);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final AtomicInteger last = new AtomicInteger(-1);
+        final SaveCoalescer<Integer> coalescer = new SaveCoalescer<>(executor, new SaveCoalescer.Clock() {
+            @Override
+            public long now() {
+                return System.nanoTime() / 1000000;
+            }
+        }, 0, new SaveCoalescer.Saver<Integer>() {
+            @Override
+            public void save(Integer snapshot) {
+                if (running.incrementAndGet() > 1) overlaps.incrementAndGet();
+                Thread.yield();
+                last.set(snapshot);
+                running.decrementAndGet();
+            }
+        });
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 10000; j++) {
+                        coalescer.request(j);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        coalescer.request(Integer.MAX_VALUE);
+        for (int i = 0; i < 500 && last.get() != Integer.MAX_VALUE; i++) {
+            Thread.sleep(10);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        assertEquals(Integer.MAX_VALUE, last.get());
+    }
+
+
+    /**
+     * Single-threaded scheduler and clock for the tests. Time only passes in
+     * {@link #advance(long)}, which runs the tasks that become due on the calling thread.
+     */
+    private static class ManualScheduler extends AbstractExecutorService
+            implements ScheduledExecutorService, SaveCoalescer.Clock {
+        private final PriorityQueue<Task<?>> mQueue = new PriorityQueue<>();
+        private long mNow = 0;
+        private long mSequence = 0;
+        private boolean mShutdown = false;
+
+
+        @Override
+        public long now() {
+            return mNow;
+        }
+
+
+        /**
+         * Advance the clock, running all tasks that are due on the way
+         * @param millis The time to advance by, in milliseconds
+         */
+        public void advance(long millis) {
+            long target = mNow + millis;
+            while (!mQueue.isEmpty() && mQueue.peek().mTime <= target) {
+                Task<?> task = mQueue.poll();
+                mNow = Math.max(mNow, task.mTime);
+                task.run();
+            }
+            mNow = target;
+        }
+
+
+        /**
+         * Get the number of tasks waiting to be run
+         * @return The number of tasks in the queue
+         */
+        public int getQueued() {
+            return mQueue.size();
+        }
+
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return schedule(Executors.callable(command), delay, unit);
+        }
+
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            if (mShutdown) throw new RejectedExecutionException();
+            Task<V> task = new Task<>(callable, mNow + unit.toMillis(delay), mSequence++);
+            mQueue.add(task);
+            return task;
+        }
+
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+
+        @Override
+        public void execute(Runnable command) {
+            schedule(command, 0, TimeUnit.MILLISECONDS);
+        }
+
+
+        @Override
+        public void shutdown() {
+            mShutdown = true;
+        }
+
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            mShutdown = true;
+            List<Runnable> pending = new ArrayList<Runnable>(mQueue);
+            mQueue.clear();
+            return pending;
+        }
+
+
+        @Override
+        public boolean isShutdown() {
+            return mShutdown;
+        }
+
+
+        @Override
+        public boolean isTerminated() {
+            return mShutdown && mQueue.isEmpty();
+        }
+
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isTerminated();
+        }
+
+
+        /**
+         * Task of the manual scheduler, ordered by due time and then by submission
+         */
+        private class Task<V> extends FutureTask<V> implements ScheduledFuture<V> {
+            private final long mTime;
+            private final long mSeq;
+
+
+            Task(Callable<V> callable, long time, long seq) {
+                super(callable);
+                mTime = time;
+                mSeq = seq;
+            }
+
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                mQueue.remove(this);
+                return super.cancel(mayInterruptIfRunning);
+            }
+
+
+            @Override
+            public long getDelay(TimeUnit unit) {
+                return unit.convert(mTime - mNow, TimeUnit.MILLISECONDS);
+            }
+
+
+            @Override
+            public int compareTo(Delayed other) {
+                Task<?> task = (Task<?>) other;
+                if (mTime != task.mTime) return mTime < task.mTime ? -1 : 1;
+                return mSeq < task.mSeq ? -1 : (mSeq == task.mSeq ? 0 : 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package de.velcommuta.denul.util;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.Random;
+
+/**
+ * Test cases for the binary encoding of cached step counts
+ */
+public class StepCountCodecTest extends TestCase {
+    /**
+     * Test that step counts survive encoding and decoding, including empty caches and large counts
+     */
+    public void testRoundTrip() throws Exception {
+        assertEquals(0, StepCountCodec.decode(StepCountCodec.encode(new Hashtable<DateTime, Long>())).size());
+        Hashtable<DateTime, Long> steps = getSteps(24 * 7);
+        steps.put(HourEpoch.toDateTime(500000), Long.MAX_VALUE);
+        assertEquals(steps, StepCountCodec.decode(StepCountCodec.encode(steps)));
+    }
+
+
+    /**
+     * Test that Java-serialized caches of older versions are decoded, with their keys moved to the
+     * default time zone
+     */
+    public void testDecodeSerialized() throws Exception {
+        Hashtable<DateTime, Long> steps = getSteps(48);
+        Hashtable<DateTime, Long> utc = new Hashtable<>();
+        for (DateTime hour : steps.keySet()) {
+            utc.put(hour.withZone(DateTimeZone.UTC), steps.get(hour));
+        }
+        assertEquals(steps, StepCountCodec.decode(serialize(utc)));
+    }
+
+
+    /**
+     * Test that decoding into a sorted list gives the same step counts, in both formats
+     */
+    public void testDecodeSorted() throws Exception {
+        Hashtable<DateTime, Long> steps = getSteps(48);
+        for (byte[] data : new byte[][] {StepCountCodec.encode(steps), serialize(steps)}) {
+            HourlyStepCounts sorted = StepCountCodec.decodeSorted(data);
+            assertEquals(steps.size(), sorted.size());
+            for (int i = 0; i < sorted.size(); i++) {
+                if (i > 0) assertTrue(sorted.getHour(i) > sorted.getHour(i - 1));
+                assertEquals(steps.get(HourEpoch.toDateTime(sorted.getHour(i))), Long.valueOf(sorted.getSteps(i)));
+            }
+        }
+    }
+
+
+    /**
+     * Test that malformed data and serialized objects other than step counts are rejected
+     */
+    public void testReject() throws Exception {
+        byte[] encoded = StepCountCodec.encode(getSteps(24));
+        byte[][] malformed = {
+                new byte[0],
+                {0x7F},
+                Arrays.copyOf(encoded, encoded.length - 1),
+                Arrays.copyOf(encoded, encoded.length + 1),
+                serialize(new ArrayList<>(Arrays.asList("step"))),
+                serialize(new Hashtable<>(Collections.singletonMap("step", 1L))),
+        };
+        for (byte[] data : malformed) {
+            try {
+                StepCountCodec.decode(data);
+                fail("Decoded malformed data " + Arrays.toString(data));
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+    }
+
+
+    /**
+     * Create step counts for consecutive hours, as cached by the pedometer
+     * @param hours The number of hours
+     * @return The step counts
+     */
+    private Hashtable<DateTime, Long> getSteps(int hours) {
+        Random rnd = new Random(hours);
+        Hashtable<DateTime, Long> rv = new Hashtable<>();
+        DateTime hour = new DateTime(2016, 1, 4, 0, 0);
+        for (int i = 0; i < hours; i++) {
+            rv.put(hour.plusHours(i), (long) rnd.nextInt(2000));
+        }
+        return rv;
+    }
+
+
+    /**
+     * Java-serialize an object, as older versions stored the cache
+     * @param o The object
+     * @return The serialized object
+     */
+    private byte[] serialize(Object o) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bos);
+        out.writeObject(o);
+        out.close();
+        return bos.toByteArray();
+    }
+}
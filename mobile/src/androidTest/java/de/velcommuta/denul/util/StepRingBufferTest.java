@@ -0,0 +1,85 @@
+package de.velcommuta.denul.util;
+
+import junit.framework.TestCase;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.util.Hashtable;
+
+/**
+ * Test cases for the ring buffer of hourly step counts
+ */
+public class StepRingBufferTest extends TestCase {
+    private static final DateTimeZone ZONE = DateTimeZone.forID("Europe/Berlin");
+    // Monday, 4 January 2016, 00:00 in Berlin
+    private static final long MONDAY = HourEpoch.fromDateTime(new DateTime(2016, 1, 4, 0, 0, ZONE));
+
+    /**
+     * Test that the sum of the day follows added and saved steps, and starts over on a new day
+     */
+    public void testSumToday() {
+        StepRingBuffer buffer = new StepRingBuffer(48, ZONE);
+        assertEquals(0, buffer.getSumToday(MONDAY));
+        for (int i = 0; i < 10; i++) {
+            buffer.increment(MONDAY + 8);
+        }
+        buffer.add(MONDAY + 9, 5);
+        assertEquals(15, buffer.getSumToday(MONDAY + 9));
+        // The saved count only counts where it is larger than the unsaved steps
+        buffer.setSaved(MONDAY + 8, 4);
+        buffer.setSaved(MONDAY + 7, 20);
+        assertEquals(35, buffer.getSumToday(MONDAY + 9));
+        // Steps of the previous day do not count
+        buffer.add(MONDAY - 1, 100);
+        assertEquals(35, buffer.getSumToday(MONDAY + 9));
+        // A new day
+        buffer.increment(MONDAY + 24);
+        assertEquals(1, buffer.getSumToday(MONDAY + 24));
+        assertEquals(35, buffer.getSumToday(MONDAY + 9));
+        assertEquals(Long.valueOf(20), buffer.getDay(MONDAY).get(HourEpoch.toDateTime(MONDAY + 7, ZONE)));
+        assertEquals(3, buffer.getDay(MONDAY).size());
+    }
+
+
+    /**
+     * Test that saved steps are removed from the unsaved steps, except for the current hour and
+     * hours that received further steps
+     */
+    public void testMarkSaved() {
+        StepRingBuffer buffer = new StepRingBuffer(48, ZONE);
+        buffer.add(MONDAY, 10);
+        buffer.add(MONDAY + 1, 20);
+        buffer.add(MONDAY + 2, 30);
+        Hashtable<DateTime, Long> unsaved = buffer.getUnsaved();
+        assertEquals(3, unsaved.size());
+        buffer.increment(MONDAY + 1);
+        buffer.markSaved(unsaved, MONDAY + 2);
+        Hashtable<DateTime, Long> left = buffer.getUnsaved();
+        assertEquals(2, left.size());
+        assertEquals(Long.valueOf(21), left.get(HourEpoch.toDateTime(MONDAY + 1, ZONE)));
+        assertEquals(Long.valueOf(30), left.get(HourEpoch.toDateTime(MONDAY + 2, ZONE)));
+        assertEquals(10, buffer.get(MONDAY));
+        assertEquals(61, buffer.getSumToday(MONDAY + 2));
+    }
+
+
+    /**
+     * Test that unsaved steps of hours pushed out of the buffer, or older than the buffer, are kept
+     */
+    public void testOverflow() {
+        StepRingBuffer buffer = new StepRingBuffer(48, ZONE);
+        buffer.add(MONDAY, 10);
+        buffer.setSaved(MONDAY + 1, 50);
+        buffer.add(MONDAY + 100, 1);
+        buffer.add(MONDAY + 101, 2);
+        buffer.add(MONDAY + 3, 7);
+        assertEquals(0, buffer.get(MONDAY));
+        Hashtable<DateTime, Long> unsaved = buffer.getUnsaved();
+        assertEquals(4, unsaved.size());
+        assertEquals(Long.valueOf(10), unsaved.get(HourEpoch.toDateTime(MONDAY, ZONE)));
+        assertEquals(Long.valueOf(7), unsaved.get(HourEpoch.toDateTime(MONDAY + 3, ZONE)));
+        buffer.markSaved(unsaved, MONDAY + 101);
+        assertEquals(1, buffer.getUnsaved().size());
+    }
+}
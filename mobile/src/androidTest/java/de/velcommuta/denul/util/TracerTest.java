@@ -0,0 +1,62 @@
+package de.velcommuta.denul.util;
+
+import junit.framework.TestCase;
+
+/**
+ * Test cases for the gated tracing
+ */
+public class TracerTest extends TestCase {
+    private static final String TAG = "TracerTest";
+
+    private boolean mEnabled;
+    private int mSampleRate;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mEnabled = Tracer.isEnabled();
+        mSampleRate = Tracer.getSampleRate();
+    }
+
+
+    @Override
+    protected void tearDown() throws Exception {
+        Tracer.setEnabled(mEnabled);
+        Tracer.setSampleRate(mSampleRate);
+        super.tearDown();
+    }
+
+
+    /**
+     * Test that no spans are timed while tracing is disabled
+     */
+    public void testDisabled() {
+        Tracer.setEnabled(false);
+        Tracer.setSampleRate(1);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, Tracer.begin());
+        }
+    }
+
+
+    /**
+     * Test that one in every sample rate spans is timed while tracing is enabled
+     */
+    public void testSampling() {
+        Tracer.setEnabled(true);
+        Tracer.setSampleRate(4);
+        int timed = 0;
+        for (int i = 0; i < 400; i++) {
+            long span = Tracer.begin();
+            if (span != 0) timed++;
+            Tracer.end(TAG, "testSampling", span);
+        }
+        assertEquals(100, timed);
+        try {
+            Tracer.setSampleRate(0);
+            fail("Accepted a sample rate of 0");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+}
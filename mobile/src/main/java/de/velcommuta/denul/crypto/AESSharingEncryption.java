@@ -2,6 +2,7 @@ package de.velcommuta.denul.crypto;
 
 import android.util.Log;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 
 import java.util.Random;
@@ -14,19 +15,52 @@ import de.velcommuta.denul.data.Shareable;
 import de.velcommuta.denul.data.ShareableUnwrapper;
 import de.velcommuta.denul.data.TokenPair;
 import de.velcommuta.denul.data.proto.DataContainer;
+import de.velcommuta.denul.util.Compression;
 
 /**
- * {@link SharingEncryption} implementation using AES256-GCM
+ * {@link SharingEncryption} implementation using AES256-GCM. Optionally, large Shareables are
+ * compressed before they are encrypted, by wrapping the compressed serialization in another
+ * {@link DataContainer.Wrapper}. Compressed Shareables can only be decrypted by clients that
+ * support compression, so compression is off by default until the recipients are known to
+ * support it. Both kinds are always decrypted.
  */
 public class AESSharingEncryption implements SharingEncryption {
     private static final String TAG = "AES-SE";
 
     private static final int IVBYTES = 16;
+    // Serialized Shareables of at least this many bytes are compressed before encryption
+    private static final int COMPRESSION_THRESHOLD = 512;
+    // Maximum size of a decompressed Shareable, in bytes
+    private static final int MAX_PLAINTEXT_SIZE = 64 * 1024 * 1024;
+
+    private final boolean mCompress;
+
+    /**
+     * Constructor, not compressing Shareables, so that all clients can decrypt them
+     */
+    public AESSharingEncryption() {
+        this(false);
+    }
+
+
+    /**
+     * Constructor
+     * @param compress true if large Shareables should be compressed before encryption, false
+     *                 otherwise. Compressed Shareables can only be decrypted by clients that
+     *                 support compression, while all clients decrypt both kinds.
+     */
+    public AESSharingEncryption(boolean compress) {
+        mCompress = compress;
+    }
+
 
     @Override
     public DataBlock encryptShareable(Shareable shareable, int granularity, TokenPair tokens) {
         // Serialize shareable to byte[]
         byte[] plaintext = shareable.getByteRepresentation(granularity);
+        if (mCompress && plaintext.length >= COMPRESSION_THRESHOLD) {
+            plaintext = compress(plaintext);
+        }
         // Generate AES256-key
         byte[] key = AES.generateAES256Key();
         // Encrypt plaintext with the key, using the identifier as associated data
@@ -71,6 +105,15 @@ public class AESSharingEncryption implements SharingEncryption {
             // Decrypt
             byte[] decrypted = AES.decryptAES(encrypted.getCiphertext(), encrypted.getKey(), encrypted.getIdentifier());
             wrapper = DataContainer.Wrapper.parseFrom(decrypted);
+            if (wrapper.hasDeflated()) {
+                // Compressed Shareable, unpack the inner Wrapper
+                byte[] inflated = Compression.inflate(wrapper.getDeflated().toByteArray(), MAX_PLAINTEXT_SIZE);
+                if (inflated == null) {
+                    Log.e(TAG, "decryptShareable: Decompression failed");
+                    return null;
+                }
+                wrapper = DataContainer.Wrapper.parseFrom(inflated);
+            }
         } catch (BadPaddingException e) {
             // Decryption failed - probably because of authentication issues
             Log.e(TAG, "decryptShareable: BadPaddingException - Authentication failed");
@@ -85,6 +128,21 @@ public class AESSharingEncryption implements SharingEncryption {
     }
 
 
+    /**
+     * Compress a serialized Wrapper, packing the result into another Wrapper
+     * @param plaintext The serialized Wrapper
+     * @return The serialized Wrapper containing the compressed data, or the plaintext, if
+     *         compression did not make it smaller
+     */
+    private static byte[] compress(byte[] plaintext) {
+        byte[] compressed = DataContainer.Wrapper.newBuilder()
+                .setDeflated(ByteString.copyFrom(Compression.deflate(plaintext)))
+                .build()
+                .toByteArray();
+        return compressed.length < plaintext.length ? compressed : plaintext;
+    }
+
+
     @Override
     public DataBlock decryptKeysAndIdentifier(byte[] encrypted, KeySet keys) {
         byte[] decrypted;
@@ -0,0 +1,108 @@
+package de.velcommuta.denul.crypto;
+
+import android.util.Log;
+
+import org.spongycastle.crypto.PBEParametersGenerator;
+import org.spongycastle.crypto.digests.SHA1Digest;
+import org.spongycastle.crypto.generators.PKCS5S2ParametersGenerator;
+import org.spongycastle.crypto.params.KeyParameter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Key derivation for the SQLCipher database. The key is derived in the same way SQLCipher derives
+ * it from a passphrase (PBKDF2 with HMAC-SHA1 over the salt stored in the first bytes of the
+ * database file), so databases keyed with a passphrase can be opened with the derived key in
+ * SQLCipher's raw key mode, which skips the expensive key derivation.
+ */
+public class DatabaseKey {
+    // Logging Tag
+    private static final String TAG = "DatabaseKey";
+
+    // Length of the key and the salt, in bytes
+    public static final int KEY_LENGTH = 32;
+    public static final int SALT_LENGTH = 16;
+
+    // Number of PBKDF2 iterations used by SQLCipher 3 if none are configured
+    public static final int DEFAULT_KDF_ITERATIONS = 64000;
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Derive the key of a database from a passphrase
+     * @param password The passphrase
+     * @param salt The salt of the database
+     * @param iterations The number of PBKDF2 iterations
+     * @return The key, as a byte[] of length {@link #KEY_LENGTH}
+     */
+    public static byte[] derive(String password, byte[] salt, int iterations) {
+        PKCS5S2ParametersGenerator generator = new PKCS5S2ParametersGenerator(new SHA1Digest());
+        byte[] pass = PBEParametersGenerator.PKCS5PasswordToUTF8Bytes(password.toCharArray());
+        generator.init(pass, salt, iterations);
+        byte[] key = ((KeyParameter) generator.generateDerivedParameters(KEY_LENGTH * 8)).getKey();
+        Arrays.fill(pass, (byte) 0);
+        return key;
+    }
+
+
+    /**
+     * Read the salt from the header of an existing database file
+     * @param database The database file
+     * @return The salt, or null if the file does not exist or is too short
+     */
+    public static byte[] readSalt(File database) {
+        if (!database.exists()) return null;
+        byte[] salt = new byte[SALT_LENGTH];
+        try (InputStream in = new FileInputStream(database)) {
+            int read = 0;
+            while (read < SALT_LENGTH) {
+                int n = in.read(salt, read, SALT_LENGTH - read);
+                if (n < 0) return null;
+                read += n;
+            }
+            return salt;
+        } catch (IOException e) {
+            Log.e(TAG, "readSalt: Could not read salt: ", e);
+            return null;
+        }
+    }
+
+
+    /**
+     * Generate a random salt for a new database
+     * @return The salt
+     */
+    public static byte[] generateSalt() {
+        byte[] salt = new byte[SALT_LENGTH];
+        new SecureRandom().nextBytes(salt);
+        return salt;
+    }
+
+
+    /**
+     * Encode a key and a salt as a SQLCipher raw key with explicit salt (x'<key><salt>'). The
+     * result is a char[], so that the caller can overwrite it once the database is open.
+     * @param key The key
+     * @param salt The salt
+     * @return The raw key
+     */
+    public static char[] toRawKey(byte[] key, byte[] salt) {
+        char[] rv = new char[3 + 2 * (key.length + salt.length)];
+        rv[0] = 'x';
+        rv[1] = '\'';
+        int pos = 2;
+        for (byte[] part : new byte[][] {key, salt}) {
+            for (byte b : part) {
+                rv[pos++] = HEX[(b >>> 4) & 0x0F];
+                rv[pos++] = HEX[b & 0x0F];
+            }
+        }
+        rv[pos] = '\'';
+        return rv;
+    }
+}
@@ -0,0 +1,278 @@
+package de.velcommuta.denul.crypto;
+
+import android.util.Log;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.crypto.BadPaddingException;
+
+/**
+ * Append-only journal of encrypted records. Every journal has its own AES256 key, which is
+ * hybrid-encrypted with an RSA public key once, when the journal is created, and stored in the
+ * header of the file. Records are sealed with AES-GCM under that key and authenticate their
+ * position in the journal, so records cannot be reordered or dropped from the middle of the
+ * journal unnoticed. Appending a record therefore costs one AES-GCM encryption and one small
+ * write. The journal can only be read with the matching private key.
+ *
+ * File format:
+ * <pre>
+ * int magic | int length of wrapped key | wrapped key (see {@link Hybrid#encryptHybrid(byte[], PublicKey, int)})
+ * followed by any number of records:
+ * int length of sealed record | sealed record (IV + ciphertext, authenticating the record number)
+ * </pre>
+ * A record that was cut short by a crash during the write, or whose length field is garbled,
+ * ends the journal.
+ *
+ * Instances are not thread-safe.
+ */
+public class EncryptedJournal {
+    private static final String TAG = "EncryptedJournal";
+
+    // "DNJ1"
+    private static final int MAGIC = 0x444E4A31;
+    // Upper bound for the length fields, to detect garbage before allocating buffers
+    private static final int MAX_LENGTH = 16 * 1024 * 1024;
+    // Suffix of the file a journal is compacted into
+    private static final String COMPACT_SUFFIX = ".tmp";
+
+    private final File mFile;
+    private final PublicKey mPubkey;
+    private final int mSeqNr;
+    private FileOutputStream mOut;
+    private byte[] mKey;
+    private long mRecordCount;
+
+    /**
+     * Private constructor, use {@link #create(File, PublicKey, int)}
+     * @param file The journal file
+     * @param pubkey The public key the key of the journal is wrapped with
+     * @param seqnr The sequence number authenticated with the wrapped key
+     */
+    private EncryptedJournal(File file, PublicKey pubkey, int seqnr) {
+        mFile = file;
+        mPubkey = pubkey;
+        mSeqNr = seqnr;
+    }
+
+
+    /**
+     * Create a new, empty journal with a new key, replacing an existing file
+     * @param file The journal file
+     * @param pubkey The RSA public key to wrap the key of the journal with
+     * @param seqnr The sequence number to authenticate with the wrapped key, which has to be
+     *              passed to {@link #replay(File, PrivateKey, int)}
+     * @return The journal
+     * @throws IOException If the key could not be wrapped or the file could not be written
+     */
+    public static EncryptedJournal create(File file, PublicKey pubkey, int seqnr) throws IOException {
+        EncryptedJournal journal = new EncryptedJournal(file, pubkey, seqnr);
+        journal.init(file);
+        return journal;
+    }
+
+
+    /**
+     * Generate a new key and write the header of the journal into a file
+     * @param file The file
+     * @throws IOException If the key could not be wrapped or the file could not be written
+     */
+    private void init(File file) throws IOException {
+        byte[] key = AES.generateAES256Key();
+        byte[] wrapped = Hybrid.encryptHybrid(key, mPubkey, mSeqNr);
+        if (key == null || wrapped == null) {
+            throw new IOException("Could not create the key of the journal");
+        }
+        FileOutputStream out = new FileOutputStream(file, false);
+        try {
+            out.write(ByteBuffer.allocate(8 + wrapped.length)
+                    .putInt(MAGIC)
+                    .putInt(wrapped.length)
+                    .put(wrapped)
+                    .array());
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+        mOut = out;
+        mKey = key;
+        mRecordCount = 0;
+    }
+
+
+    /**
+     * Seal a record and append it to the journal
+     * @param record The record
+     * @throws IOException If the record could not be encrypted or written
+     */
+    public void append(byte[] record) throws IOException {
+        if (mOut == null) throw new IOException("Journal is closed");
+        byte[] sealed = AES.encryptAES(record, mKey, getAssociatedData(mRecordCount));
+        if (sealed == null) throw new IOException("Could not encrypt the record");
+        // Write length and record at once, so that a crash cuts off at most this record
+        mOut.write(ByteBuffer.allocate(4 + sealed.length).putInt(sealed.length).put(sealed).array());
+        mRecordCount++;
+    }
+
+
+    /**
+     * Replace the contents of the journal by a single record, usually a snapshot of the state
+     * described by the records so far. The compacted journal gets a new key and is written to a
+     * separate file first, so the old journal stays readable until the compacted one is complete.
+     * @param snapshot The record to replace the journal with
+     * @throws IOException If the compacted journal could not be written
+     */
+    public void compact(byte[] snapshot) throws IOException {
+        if (mOut == null) throw new IOException("Journal is closed");
+        File tmp = new File(mFile.getPath() + COMPACT_SUFFIX);
+        EncryptedJournal compacted = create(tmp, mPubkey, mSeqNr);
+        try {
+            compacted.append(snapshot);
+        } catch (IOException e) {
+            compacted.close();
+            FileOperation.secureDelete(tmp);
+            throw e;
+        }
+        close();
+        FileOperation.secureDelete(mFile);
+        if (!tmp.renameTo(mFile)) {
+            compacted.close();
+            throw new IOException("Could not replace the journal");
+        }
+        // The stream stays valid across the rename
+        mOut = compacted.mOut;
+        mKey = compacted.mKey;
+        mRecordCount = compacted.mRecordCount;
+    }
+
+
+    /**
+     * Getter for the number of records appended since the journal was created or compacted
+     * @return The number of records
+     */
+    public long getRecordCount() {
+        return mRecordCount;
+    }
+
+
+    /**
+     * Close the journal. The file is kept.
+     */
+    public void close() {
+        if (mKey != null) Arrays.fill(mKey, (byte) 0);
+        mKey = null;
+        if (mOut != null) {
+            try {
+                mOut.close();
+            } catch (IOException e) {
+                Log.e(TAG, "close: IOException while closing journal", e);
+            }
+        }
+        mOut = null;
+    }
+
+
+    /**
+     * Finish an interrupted compaction of a journal that is not open. If the compacted journal
+     * was not moved into place, the old journal is used if it still exists, and the compacted one
+     * otherwise.
+     * @param file The journal file
+     */
+    public static void recover(File file) {
+        File tmp = new File(file.getPath() + COMPACT_SUFFIX);
+        if (!tmp.exists()) return;
+        if (file.exists()) {
+            Log.w(TAG, "recover: Discarding interrupted compaction");
+            FileOperation.secureDelete(tmp);
+        } else if (!tmp.renameTo(file)) {
+            Log.e(TAG, "recover: Could not move compacted journal into place");
+        }
+    }
+
+
+    /**
+     * Read and decrypt all records of a journal. A record cut short by a crash or with a garbled
+     * length field is ignored, a record failing authentication ends the replay, as the following
+     * records cannot be trusted. In all these cases, the records read so far are returned.
+     * @param file The journal file
+     * @param privkey The private key matching the public key the journal was created with
+     * @param seqnr The sequence number the journal was created with, or -1 to skip its verification
+     * @return The records, in the order they were appended
+     * @throws IOException If the header could not be read
+     * @throws BadPaddingException If the key of the journal could not be decrypted
+     */
+    public static List<byte[]> replay(File file, PrivateKey privkey, int seqnr) throws IOException, BadPaddingException {
+        List<byte[]> records = new LinkedList<>();
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a journal");
+            byte[] wrapped = new byte[readLength(in)];
+            in.readFully(wrapped);
+            byte[] key = Hybrid.decryptHybrid(wrapped, privkey, seqnr);
+            if (key == null) throw new BadPaddingException("Could not decrypt the key of the journal");
+            try {
+                while (true) {
+                    byte[] sealed;
+                    try {
+                        int length = in.readInt();
+                        if (length < 0 || length > MAX_LENGTH) {
+                            // A garbled length field in the tail is treated like a truncated record
+                            Log.e(TAG, "replay: Record " + records.size() + " has a malformed length, stopping");
+                            break;
+                        }
+                        sealed = new byte[length];
+                        in.readFully(sealed);
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    byte[] record;
+                    try {
+                        record = AES.decryptAES(sealed, key, getAssociatedData(records.size()));
+                    } catch (BadPaddingException e) {
+                        record = null;
+                    }
+                    if (record == null) {
+                        Log.e(TAG, "replay: Record " + records.size() + " failed authentication, stopping");
+                        break;
+                    }
+                    records.add(record);
+                }
+            } finally {
+                Arrays.fill(key, (byte) 0);
+            }
+        }
+        return records;
+    }
+
+
+    /**
+     * Read a length field
+     * @param in The stream to read from
+     * @return The length
+     * @throws IOException If the length is out of range, or the stream ended
+     */
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) throw new IOException("Malformed length field");
+        return length;
+    }
+
+
+    /**
+     * Get the associated data authenticated with a record
+     * @param index The index of the record in the journal
+     * @return The associated data
+     */
+    private static byte[] getAssociatedData(long index) {
+        return ByteBuffer.allocate(8).putLong(index).array();
+    }
+}
@@ -0,0 +1,134 @@
+package de.velcommuta.denul.crypto;
+
+import org.spongycastle.crypto.PBEParametersGenerator;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.macs.HMac;
+import org.spongycastle.crypto.params.KeyParameter;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory slot holding a secret key for a limited time. The slot only hands out copies of the
+ * key, and overwrites its own copy with zeroes when it expires or is cleared.
+ *
+ * The key is bound to the passphrase it was derived from. The slot keeps an HMAC of the
+ * passphrase under a random secret of the slot, and only hands out the key to callers presenting
+ * the same passphrase. A wrong passphrase clears the slot.
+ */
+public class KeySlot {
+    // Logging Tag
+    private static final String TAG = "KeySlot";
+
+    private static ScheduledExecutorService sScheduler;
+
+    // Random secret keying the HMAC of the passphrase, never leaves the slot
+    private final byte[] mSecret = new byte[32];
+
+    private byte[] mKey;
+    private byte[] mVerifier;
+    private ScheduledFuture<?> mExpiry;
+
+    /**
+     * Constructor
+     */
+    public KeySlot() {
+        new SecureRandom().nextBytes(mSecret);
+    }
+
+
+    /**
+     * Store a key in the slot, replacing and overwriting the previous key
+     * @param key The key. The slot keeps a copy, so the caller may overwrite it afterwards.
+     * @param passphrase The passphrase the key belongs to
+     * @param timeout Time after which the key is overwritten, in milliseconds. If the timeout is
+     *                zero or negative, the key is not stored at all.
+     */
+    public synchronized void put(byte[] key, String passphrase, long timeout) {
+        clear();
+        if (timeout <= 0) return;
+        mKey = Arrays.copyOf(key, key.length);
+        mVerifier = getVerifier(passphrase);
+        mExpiry = getScheduler().schedule(new Runnable() {
+            @Override
+            public void run() {
+                clear();
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Retrieve the key from the slot. If the passphrase does not match the one the key was
+     * stored with, the slot is cleared.
+     * @param passphrase The passphrase the key belongs to
+     * @return A copy of the key, or null if the slot is empty or the passphrase does not match
+     */
+    public synchronized byte[] get(String passphrase) {
+        if (mKey == null) return null;
+        if (!MessageDigest.isEqual(mVerifier, getVerifier(passphrase))) {
+            clear();
+            return null;
+        }
+        return Arrays.copyOf(mKey, mKey.length);
+    }
+
+
+    /**
+     * Overwrite the key and empty the slot
+     */
+    public synchronized void clear() {
+        if (mExpiry != null) {
+            mExpiry.cancel(false);
+            mExpiry = null;
+        }
+        if (mKey != null) {
+            Arrays.fill(mKey, (byte) 0);
+            mKey = null;
+        }
+        mVerifier = null;
+    }
+
+
+    /**
+     * Compute the HMAC of a passphrase under the secret of the slot
+     * @param passphrase The passphrase
+     * @return The HMAC
+     */
+    private byte[] getVerifier(String passphrase) {
+        HMac hmac = new HMac(new SHA256Digest());
+        hmac.init(new KeyParameter(mSecret));
+        byte[] pass = PBEParametersGenerator.PKCS5PasswordToUTF8Bytes(passphrase.toCharArray());
+        hmac.update(pass, 0, pass.length);
+        Arrays.fill(pass, (byte) 0);
+        byte[] rv = new byte[hmac.getMacSize()];
+        hmac.doFinal(rv, 0);
+        return rv;
+    }
+
+
+    /**
+     * Getter for the scheduler expiring the keys, creating it if necessary
+     * @return The scheduler
+     */
+    private static synchronized ScheduledExecutorService getScheduler() {
+        if (sScheduler == null) {
+            sScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, TAG);
+                    // Do not keep the process alive just to expire keys
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        return sScheduler;
+    }
+}
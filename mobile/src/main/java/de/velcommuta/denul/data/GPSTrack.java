@@ -5,9 +5,10 @@ import android.location.Geocoder;
 import android.location.Location;
 import android.util.Log;
 
+import com.google.protobuf.InvalidProtocolBufferException;
+
 import org.joda.time.DateTimeZone;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import de.velcommuta.denul.R;
@@ -19,7 +20,7 @@ import de.velcommuta.denul.data.proto.DataContainer;
 public class GPSTrack implements Shareable {
     private static final String TAG = "GPSTrack";
 
-    private List<Location> mPosition;
+    private TrackPoints mPoints;
     private String mSessionName;
     private int mModeOfTransportation;
     private long mTimestampStart;
@@ -45,13 +46,7 @@ public class GPSTrack implements Shareable {
      * @param timezone The String representation of the timezone, as returned by {@link DateTimeZone#toString()}
      */
     public GPSTrack(List<Location> pos, String name, int mode, long timestampStart, long timestampEnd, String timezone) {
-        mPosition = pos;
-        mSessionName = name;
-        mModeOfTransportation = mode;
-        mTimestampStart = timestampStart;
-        mTimestampEnd = timestampEnd;
-        mTimezone = timezone;
-        mOwner = -1;
+        this(TrackPoints.fromLocations(pos), name, mode, timestampStart, timestampEnd, timezone, -1, 0.0f);
     }
 
 
@@ -68,14 +63,7 @@ public class GPSTrack implements Shareable {
      *                 this should be equivalent to the calculated distance between those locations.
      */
     public GPSTrack(List<Location> pos, String name, int mode, long timestampStart, long timestampEnd, String timezone, float distance) {
-        mPosition = pos;
-        mSessionName = name;
-        mModeOfTransportation = mode;
-        mTimestampStart = timestampStart;
-        mTimestampEnd = timestampEnd;
-        mTimezone = timezone;
-        mOwner = -1;
-        mDistance = distance;
+        this(TrackPoints.fromLocations(pos), name, mode, timestampStart, timestampEnd, timezone, -1, distance);
     }
 
     /**
@@ -90,13 +78,7 @@ public class GPSTrack implements Shareable {
      * @param owner The ID of the owner of this track
      */
     public GPSTrack(List<Location> pos, String name, int mode, long timestampStart, long timestampEnd, String timezone, int owner) {
-        mPosition = pos;
-        mSessionName = name;
-        mModeOfTransportation = mode;
-        mTimestampStart = timestampStart;
-        mTimestampEnd = timestampEnd;
-        mTimezone = timezone;
-        mOwner = owner;
+        this(TrackPoints.fromLocations(pos), name, mode, timestampStart, timestampEnd, timezone, owner, 0.0f);
     }
 
 
@@ -114,7 +96,24 @@ public class GPSTrack implements Shareable {
      *                 this should be equivalent to the calculated distance between those locations.
      */
     public GPSTrack(List<Location> pos, String name, int mode, long timestampStart, long timestampEnd, String timezone, int owner, float distance) {
-        mPosition = pos;
+        this(TrackPoints.fromLocations(pos), name, mode, timestampStart, timestampEnd, timezone, owner, distance);
+    }
+
+
+    /**
+     * Constructor to pass the points of a track, a name, and a mode of transportation (defined in
+     * LocationLoggingContract.LocationSessions) to the subscriber
+     * @param points The points of the track
+     * @param name Name of Session
+     * @param mode Code for mode of transportation, as defined in LocationLoggingContract.LocationSessions
+     * @param timestampStart Timestamp of the time at the beginning of the tracking
+     * @param timestampEnd Timestamp of the time at the end of the tracking
+     * @param timezone The String representation of the timezone, as returned by {@link DateTimeZone#toString()}
+     * @param owner The ID of the owner of this track, or -1 for the user's own tracks
+     * @param distance The distance that was run / cycled, or 0 to calculate it from the points
+     */
+    public GPSTrack(TrackPoints points, String name, int mode, long timestampStart, long timestampEnd, String timezone, int owner, float distance) {
+        mPoints = points;
         mSessionName = name;
         mModeOfTransportation = mode;
         mTimestampStart = timestampStart;
@@ -126,10 +125,10 @@ public class GPSTrack implements Shareable {
 
 
     /**
-     * @return Saved list of positions
+     * @return The points of the track
      */
-    public List<Location> getPosition() {
-        return mPosition;
+    public TrackPoints getPoints() {
+        return mPoints;
     }
 
     /**
@@ -188,9 +187,7 @@ public class GPSTrack implements Shareable {
         // Check if a cached value exists
         if (mDistance != 0.0f) return mDistance;
         // Calculate and return distance
-        for (int i = 1; i < mPosition.size(); i++) {
-            mDistance = mDistance + mPosition.get(i).distanceTo(mPosition.get(i-1));
-        }
+        mDistance = mPoints.getDistance();
         return mDistance;
     }
 
@@ -255,14 +252,8 @@ public class GPSTrack implements Shareable {
                 break;
         }
         if (granularity == GRANULARITY_FINE) {
-            // Add the location entries
-            for (Location cLoc : mPosition) {
-                DataContainer.Track.Entry.Builder entry = DataContainer.Track.Entry.newBuilder();
-                entry.setTimestamp(cLoc.getTime());
-                entry.setLat(cLoc.getLatitude());
-                entry.setLng(cLoc.getLongitude());
-                track.addTrack(entry);
-            }
+            // Add the locations, using the compact encoding
+            track.setPackedTrack(TrackEncoding.encode(mPoints));
         }
         // Add description
         if (getDescription() != null) {
@@ -289,19 +280,24 @@ public class GPSTrack implements Shareable {
      * Deserialization function to deserialize a {@link de.velcommuta.denul.data.proto.DataContainer.Track}
      * representing a GPSTrack into a GPSTrack
      * @param track The protobuf representation of a GPSTrack (without the Wrapper)
-     * @return The GPSTrack object represented by the passed {@link de.velcommuta.denul.data.proto.DataContainer.Track}
+     * @return The GPSTrack object represented by the passed {@link de.velcommuta.denul.data.proto.DataContainer.Track},
+     *         or null, if the track is malformed
      */
     public static GPSTrack fromProtobuf(DataContainer.Track track) {
-        List<Location> locList = new LinkedList<>();
-        for (DataContainer.Track.Entry entry : track.getTrackList()) {
-            // Create empty location object
-            Location loc = new Location("");
-            // Set Latitude, Longitude, timestamp
-            loc.setLatitude(entry.getLat());
-            loc.setLongitude(entry.getLng());
-            loc.setTime(entry.getTimestamp());
-            // Add to list
-            locList.add(loc);
+        TrackPoints points;
+        if (track.hasPackedTrack()) {
+            try {
+                points = TrackEncoding.decode(track.getPackedTrack());
+            } catch (InvalidProtocolBufferException e) {
+                Log.e(TAG, "fromProtobuf: Malformed packed track: " + e.toString());
+                return null;
+            }
+        } else {
+            // Tracks serialized by older versions use Entry messages instead of the compact encoding
+            points = new TrackPoints(track.getTrackCount());
+            for (DataContainer.Track.Entry entry : track.getTrackList()) {
+                points.add(entry.getTimestamp(), entry.getLat(), entry.getLng());
+            }
         }
         // Translate Mode of Transportation to constant used in code
         int mode;
@@ -313,7 +309,7 @@ public class GPSTrack implements Shareable {
             Log.e(TAG, "fromProtobuf: Unknown Mode of transport, defaulting to running");
             mode = VALUE_RUNNING;
         }
-        GPSTrack rv = new GPSTrack(locList, track.getName(), mode, track.getTimestampStart(), track.getTimestampEnd(), track.getTimezone(), track.getDistance());
+        GPSTrack rv = new GPSTrack(points, track.getName(), mode, track.getTimestampStart(), track.getTimestampEnd(), track.getTimezone(), -1, track.getDistance());
         if (!(track.getDescription() == null || track.getDescription().equals("")))
             rv.setDescription(track.getDescription());
         return rv;
@@ -321,13 +317,14 @@ public class GPSTrack implements Shareable {
 
 
     /**
-     * Check if two GPS-Tracks are equal. Two tracks are equal if all their fields and all Locations
-     * match,
+     * Check if two GPS-Tracks are equal. Two tracks are equal if all their fields and all points
+     * match. The points are compared in order, which takes linear time.
      * @param cmp The GPSTrack to compare to
      * @return true if the two objects are equal, false otherwise
      */
     @Override
     public boolean equals(Object cmp) {
+        if (this == cmp) return true;
         // Check if comparable object is a GPSTrack
         if (!(cmp instanceof GPSTrack)) return false;
         // Cast it to GPSTrack
@@ -341,23 +338,26 @@ public class GPSTrack implements Shareable {
         if (cmptrack.getDescription() == null) {
             if (getDescription() != null) return false;
         } else {
-            if (!(getDescription().equals(cmptrack.getDescription()))) return false;
+            if (!(cmptrack.getDescription().equals(getDescription()))) return false;
         }
-        // Check if the location lists have the same length
-        if (cmptrack.getPosition().size() != getPosition().size()) return false;
-        // Check if the locations match
-        for (Location cmploc : cmptrack.getPosition()) {
-            boolean rv = false;
-            for (Location myLoc : getPosition()) {
-                if (cmploc.getLatitude() == myLoc.getLatitude() &&
-                        cmploc.getLatitude() == myLoc.getLongitude() &&
-                        cmploc.getTime() == myLoc.getTime()) {
-                    rv = true;
-                    break;
-                }
-            }
-            if (!rv) return false;
-        }
-        return true;
+        // Check if the points match. The cached hash codes allow rejecting most mismatches
+        // without comparing the points one by one
+        return cmptrack.getPoints().hashCode() == mPoints.hashCode() && cmptrack.getPoints().equals(mPoints);
+    }
+
+
+    /**
+     * Compute a hash code consistent with {@link #equals(Object)}. The description is not included,
+     * as it may be changed after the track has been added to a hash-based collection.
+     * @return The hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = getSessionName().hashCode();
+        hash = 31 * hash + getModeOfTransportation();
+        hash = 31 * hash + (int) (getTimestamp() ^ (getTimestamp() >>> 32));
+        hash = 31 * hash + (int) (getTimestampEnd() ^ (getTimestampEnd() >>> 32));
+        hash = 31 * hash + getTimezone().hashCode();
+        return 31 * hash + mPoints.hashCode();
     }
 }
@@ -0,0 +1,118 @@
+package de.velcommuta.denul.data;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.IOException;
+
+/**
+ * Compact encoding of the points of a {@link GPSTrack}, as used in the packed_track field of
+ * {@link de.velcommuta.denul.data.proto.DataContainer.Track}. Coordinates are converted to fixed
+ * point numbers with a resolution of 1e-7 degrees (about 1 cm), and every column of timestamps,
+ * latitudes and longitudes is delta-encoded, so that the small steps between consecutive samples
+ * fit into one or two bytes each.
+ */
+public class TrackEncoding {
+    // Number of fixed point units per degree
+    private static final double UNITS_PER_DEGREE = 1e7;
+
+    /**
+     * Encode the points of a track
+     * @param points The points
+     * @return The encoded points
+     */
+    public static ByteString encode(TrackPoints points) {
+        int count = points.size();
+        // The deltas usually take two bytes each
+        ByteString.Output bytes = ByteString.newOutput(8 + 6 * count);
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            out.writeUInt32NoTag(count);
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                out.writeSInt64NoTag(points.getTime(i) - previous);
+                previous = points.getTime(i);
+            }
+            previous = 0;
+            for (int i = 0; i < count; i++) {
+                long lat = toFixed(points.getLatitude(i));
+                out.writeSInt64NoTag(lat - previous);
+                previous = lat;
+            }
+            previous = 0;
+            for (int i = 0; i < count; i++) {
+                long lng = toFixed(points.getLongitude(i));
+                out.writeSInt64NoTag(lng - previous);
+                previous = lng;
+            }
+            out.flush();
+        } catch (IOException e) {
+            // ByteString.Output does not throw
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteString();
+    }
+
+
+    /**
+     * Decode the points of a track encoded using {@link #encode(TrackPoints)}
+     * @param encoded The encoded points
+     * @return The points
+     * @throws InvalidProtocolBufferException If the encoded data is malformed
+     */
+    public static TrackPoints decode(ByteString encoded) throws InvalidProtocolBufferException {
+        try {
+            CodedInputStream in = encoded.newCodedInput();
+            int count = in.readUInt32();
+            // Every point takes at least three bytes
+            if (count < 0 || count > encoded.size() / 3) {
+                throw new InvalidProtocolBufferException("Invalid number of points: " + count);
+            }
+            long[] times = new long[count];
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                value += in.readSInt64();
+                times[i] = value;
+            }
+            long[] lats = new long[count];
+            value = 0;
+            for (int i = 0; i < count; i++) {
+                value += in.readSInt64();
+                lats[i] = value;
+            }
+            TrackPoints rv = new TrackPoints(count);
+            value = 0;
+            for (int i = 0; i < count; i++) {
+                value += in.readSInt64();
+                rv.add(times[i], fromFixed(lats[i]), fromFixed(value));
+            }
+            return rv;
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e.getMessage());
+        }
+    }
+
+
+    /**
+     * Convert a coordinate into the fixed point representation used by the encoding
+     * @param degrees The coordinate, in degrees
+     * @return The coordinate, in units of 1e-7 degrees
+     */
+    public static long toFixed(double degrees) {
+        return Math.round(degrees * UNITS_PER_DEGREE);
+    }
+
+
+    /**
+     * Convert a coordinate from the fixed point representation used by the encoding
+     * @param units The coordinate, in units of 1e-7 degrees
+     * @return The coordinate, in degrees
+     */
+    public static double fromFixed(long units) {
+        return units / UNITS_PER_DEGREE;
+    }
+}
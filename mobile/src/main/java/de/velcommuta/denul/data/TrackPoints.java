@@ -0,0 +1,222 @@
+package de.velcommuta.denul.data;
+
+import android.location.Location;
+
+import com.google.android.gms.maps.model.LatLng;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact container for the points of a {@link GPSTrack}. The timestamps and coordinates are kept
+ * in parallel primitive arrays instead of one {@link Location} object per point, and all points
+ * can be accessed by index in constant time.
+ */
+public class TrackPoints {
+    // Initial capacity if none is specified
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] mTimes;
+    private double[] mLatitudes;
+    private double[] mLongitudes;
+    private int mSize;
+    // Cached hash code of the points, 0 if it has not been computed since the last change
+    private int mHash;
+
+    /**
+     * Constructor for an empty container
+     */
+    public TrackPoints() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructor for an empty container with space for a number of points
+     * @param capacity The number of points that can be added before the arrays need to grow
+     */
+    public TrackPoints(int capacity) {
+        mTimes = new long[capacity];
+        mLatitudes = new double[capacity];
+        mLongitudes = new double[capacity];
+    }
+
+
+    /**
+     * Create a container holding the points of a list of Locations
+     * @param locations The Locations
+     * @return The TrackPoints
+     */
+    public static TrackPoints fromLocations(List<Location> locations) {
+        TrackPoints rv = new TrackPoints(locations.size());
+        for (Location loc : locations) {
+            rv.add(loc.getTime(), loc.getLatitude(), loc.getLongitude());
+        }
+        return rv;
+    }
+
+
+    /**
+     * Add a point to the end of the track
+     * @param time The UTC timestamp of the point, in milliseconds
+     * @param latitude The latitude, in degrees
+     * @param longitude The longitude, in degrees
+     */
+    public void add(long time, double latitude, double longitude) {
+        if (mSize == mTimes.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, mSize + (mSize >> 1));
+            mTimes = Arrays.copyOf(mTimes, capacity);
+            mLatitudes = Arrays.copyOf(mLatitudes, capacity);
+            mLongitudes = Arrays.copyOf(mLongitudes, capacity);
+        }
+        mTimes[mSize] = time;
+        mLatitudes[mSize] = latitude;
+        mLongitudes[mSize] = longitude;
+        mSize++;
+        mHash = 0;
+    }
+
+
+    /**
+     * Getter for the number of points
+     * @return The number of points
+     */
+    public int size() {
+        return mSize;
+    }
+
+
+    /**
+     * Getter for the timestamp of a point
+     * @param i The index of the point
+     * @return The UTC timestamp, in milliseconds
+     */
+    public long getTime(int i) {
+        checkIndex(i);
+        return mTimes[i];
+    }
+
+
+    /**
+     * Getter for the latitude of a point
+     * @param i The index of the point
+     * @return The latitude, in degrees
+     */
+    public double getLatitude(int i) {
+        checkIndex(i);
+        return mLatitudes[i];
+    }
+
+
+    /**
+     * Getter for the longitude of a point
+     * @param i The index of the point
+     * @return The longitude, in degrees
+     */
+    public double getLongitude(int i) {
+        checkIndex(i);
+        return mLongitudes[i];
+    }
+
+
+    /**
+     * Get the coordinates of a point as a LatLng, for use with the maps API
+     * @param i The index of the point
+     * @return The LatLng
+     */
+    public LatLng getLatLng(int i) {
+        checkIndex(i);
+        return new LatLng(mLatitudes[i], mLongitudes[i]);
+    }
+
+
+    /**
+     * Get a read-only view of the points as LatLngs, for use with the maps API. The LatLng objects
+     * are created on access and are not retained.
+     * @return The view
+     */
+    public List<LatLng> asLatLngs() {
+        return new AbstractList<LatLng>() {
+            @Override
+            public LatLng get(int location) {
+                return getLatLng(location);
+            }
+
+            @Override
+            public int size() {
+                return mSize;
+            }
+        };
+    }
+
+
+    /**
+     * Calculate the length of the track
+     * @return The sum of the distances between consecutive points, in meters
+     */
+    public float getDistance() {
+        float distance = 0.0f;
+        float[] result = new float[1];
+        for (int i = 1; i < mSize; i++) {
+            Location.distanceBetween(mLatitudes[i - 1], mLongitudes[i - 1], mLatitudes[i], mLongitudes[i], result);
+            distance += result[0];
+        }
+        return distance;
+    }
+
+
+    /**
+     * Check if two containers hold the same points in the same order. Coordinates are compared at
+     * the resolution they are serialized with, see {@link TrackEncoding}.
+     * @param o The object to compare to
+     * @return true if the points match, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TrackPoints)) return false;
+        TrackPoints other = (TrackPoints) o;
+        if (other.mSize != mSize) return false;
+        for (int i = 0; i < mSize; i++) {
+            if (other.mTimes[i] != mTimes[i] ||
+                    TrackEncoding.toFixed(other.mLatitudes[i]) != TrackEncoding.toFixed(mLatitudes[i]) ||
+                    TrackEncoding.toFixed(other.mLongitudes[i]) != TrackEncoding.toFixed(mLongitudes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Compute a hash code over all points, consistent with {@link #equals(Object)}. The result is
+     * cached until the next point is added.
+     * @return The hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = mHash;
+        if (hash == 0 && mSize > 0) {
+            hash = 1;
+            for (int i = 0; i < mSize; i++) {
+                hash = 31 * hash + (int) (mTimes[i] ^ (mTimes[i] >>> 32));
+                long lat = TrackEncoding.toFixed(mLatitudes[i]);
+                hash = 31 * hash + (int) (lat ^ (lat >>> 32));
+                long lng = TrackEncoding.toFixed(mLongitudes[i]);
+                hash = 31 * hash + (int) (lng ^ (lng >>> 32));
+            }
+            mHash = hash;
+        }
+        return hash;
+    }
+
+
+    /**
+     * Check that an index refers to an existing point
+     * @param i The index
+     */
+    private void checkIndex(int i) {
+        if (i < 0 || i >= mSize) throw new IndexOutOfBoundsException("Index " + i + ", size " + mSize);
+    }
+}
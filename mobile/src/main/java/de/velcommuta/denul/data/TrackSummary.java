@@ -0,0 +1,135 @@
+package de.velcommuta.denul.data;
+
+/**
+ * Metadata of a {@link GPSTrack} stored in the database, without its points. Used to display
+ * lists of tracks, as loading the points of every track in the list would take time and memory
+ * proportional to the length of the history.
+ */
+public class TrackSummary {
+    private int mId;
+    private String mSessionName;
+    private int mModeOfTransportation;
+    private long mTimestampStart;
+    private long mTimestampEnd;
+    private String mTimezone;
+    private int mOwner;
+    private float mDistance;
+    private String mDescription;
+    private int mShareCount;
+
+    /**
+     * Constructor
+     * @param id The database ID of the track
+     * @param name The name of the track
+     * @param mode The mode of transportation, as one of the GPSTrack.VALUE_* constants
+     * @param timestampStart The timestamp of the start of the track
+     * @param timestampEnd The timestamp of the end of the track
+     * @param timezone The timezone the track was recorded in
+     * @param owner The owner ID of the track, as in {@link GPSTrack#getOwner()}
+     * @param distance The length of the track, in meters
+     * @param description The description of the track, or null
+     * @param shareCount The number of friends the track has been shared with
+     */
+    public TrackSummary(int id, String name, int mode, long timestampStart, long timestampEnd, String timezone, int owner, float distance, String description, int shareCount) {
+        mId = id;
+        mSessionName = name;
+        mModeOfTransportation = mode;
+        mTimestampStart = timestampStart;
+        mTimestampEnd = timestampEnd;
+        mTimezone = timezone;
+        mOwner = owner;
+        mDistance = distance;
+        mDescription = description;
+        mShareCount = shareCount;
+    }
+
+
+    /**
+     * Getter for the database ID of the track
+     * @return The ID, as in {@link GPSTrack#getID()}
+     */
+    public int getID() {
+        return mId;
+    }
+
+
+    /**
+     * Getter for the name of the track
+     * @return The name
+     */
+    public String getSessionName() {
+        return mSessionName;
+    }
+
+
+    /**
+     * Getter for the mode of transportation
+     * @return The mode of transportation, as one of the GPSTrack.VALUE_* constants
+     */
+    public int getModeOfTransportation() {
+        return mModeOfTransportation;
+    }
+
+
+    /**
+     * Getter for the timestamp of the start of the track
+     * @return The timestamp, in milliseconds
+     */
+    public long getTimestamp() {
+        return mTimestampStart;
+    }
+
+
+    /**
+     * Getter for the timestamp of the end of the track
+     * @return The timestamp, in milliseconds
+     */
+    public long getTimestampEnd() {
+        return mTimestampEnd;
+    }
+
+
+    /**
+     * Getter for the timezone the track was recorded in
+     * @return The timezone ID
+     */
+    public String getTimezone() {
+        return mTimezone;
+    }
+
+
+    /**
+     * Getter for the owner ID of the track
+     * @return The ID of the Friend who shared the track, or -1 if the track is owned by the user
+     */
+    public int getOwner() {
+        return mOwner;
+    }
+
+
+    /**
+     * Getter for the length of the track
+     * @return The length, in meters
+     */
+    public float getDistance() {
+        return mDistance;
+    }
+
+
+    /**
+     * Getter for the description of the track
+     * @return The description, or null
+     */
+    public String getDescription() {
+        return mDescription;
+    }
+
+
+    /**
+     * Getter for the number of friends the track has been shared with
+     * @return The number of friends
+     */
+    public int getShareCount() {
+        return mShareCount;
+    }
+}
@@ -36,6 +36,25 @@ public final class DataContainer {
      * </pre>
      */
     de.velcommuta.denul.data.proto.DataContainer.TrackOrBuilder getTrackOrBuilder();
+
+    /**
+     * <code>optional bytes deflated = 16;</code>
+     *
+     * <pre>
+     * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+     * in this Wrapper.
+     * </pre>
+     */
+    boolean hasDeflated();
+    /**
+     * <code>optional bytes deflated = 16;</code>
+     *
+     * <pre>
+     * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+     * in this Wrapper.
+     * </pre>
+     */
+    com.google.protobuf.ByteString getDeflated();
   }
   /**
    * Protobuf type {@code de.velcommuta.denul.data.proto.Wrapper}
@@ -102,6 +121,11 @@ public final class DataContainer {
               shareableCase_ = 1;
               break;
             }
+            case 130: {
+              bitField0_ |= 0x00000002;
+              deflated_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -209,7 +233,33 @@ public final class DataContainer {
       return de.velcommuta.denul.data.proto.DataContainer.Track.getDefaultInstance();
     }
 
+    public static final int DEFLATED_FIELD_NUMBER = 16;
+    private com.google.protobuf.ByteString deflated_;
+    /**
+     * <code>optional bytes deflated = 16;</code>
+     *
+     * <pre>
+     * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+     * in this Wrapper.
+     * </pre>
+     */
+    public boolean hasDeflated() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes deflated = 16;</code>
+     *
+     * <pre>
+     * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+     * in this Wrapper.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getDeflated() {
+      return deflated_;
+    }
+
     private void initFields() {
+      deflated_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -233,6 +283,9 @@ public final class DataContainer {
       if (shareableCase_ == 1) {
         output.writeMessage(1, (de.velcommuta.denul.data.proto.DataContainer.Track) shareable_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(16, deflated_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -246,6 +299,10 @@ public final class DataContainer {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, (de.velcommuta.denul.data.proto.DataContainer.Track) shareable_);
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(16, deflated_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -363,6 +420,8 @@ public final class DataContainer {
 
       public Builder clear() {
         super.clear();
+        deflated_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
         shareableCase_ = 0;
         shareable_ = null;
         return this;
@@ -400,6 +459,10 @@ public final class DataContainer {
             result.shareable_ = trackBuilder_.build();
           }
         }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.deflated_ = deflated_;
         result.bitField0_ = to_bitField0_;
         result.shareableCase_ = shareableCase_;
         onBuilt();
@@ -417,6 +480,9 @@ public final class DataContainer {
 
       public Builder mergeFrom(de.velcommuta.denul.data.proto.DataContainer.Wrapper other) {
         if (other == de.velcommuta.denul.data.proto.DataContainer.Wrapper.getDefaultInstance()) return this;
+        if (other.hasDeflated()) {
+          setDeflated(other.getDeflated());
+        }
         switch (other.getShareableCase()) {
           case TRACK: {
             mergeTrack(other.getTrack());
@@ -645,6 +711,61 @@ public final class DataContainer {
         return trackBuilder_;
       }
 
+      private com.google.protobuf.ByteString deflated_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes deflated = 16;</code>
+       *
+       * <pre>
+       * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+       * in this Wrapper.
+       * </pre>
+       */
+      public boolean hasDeflated() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bytes deflated = 16;</code>
+       *
+       * <pre>
+       * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+       * in this Wrapper.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getDeflated() {
+        return deflated_;
+      }
+      /**
+       * <code>optional bytes deflated = 16;</code>
+       *
+       * <pre>
+       * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+       * in this Wrapper.
+       * </pre>
+       */
+      public Builder setDeflated(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        deflated_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes deflated = 16;</code>
+       *
+       * <pre>
+       * zlib-compressed serialization of another Wrapper. If this is set, no Shareable is set
+       * in this Wrapper.
+       * </pre>
+       */
+      public Builder clearDeflated() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        deflated_ = getDefaultInstance().getDeflated();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.data.proto.Wrapper)
     }
 
@@ -841,6 +962,29 @@ public final class DataContainer {
      */
     com.google.protobuf.ByteString
         getDescriptionBytes();
+
+    /**
+     * <code>optional bytes packed_track = 9;</code>
+     *
+     * <pre>
+     * Compact encoding of the track, used instead of the Entry list. Contains the number of
+     * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+     * column holds the differences between consecutive values (the first value is relative to
+     * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+     * </pre>
+     */
+    boolean hasPackedTrack();
+    /**
+     * <code>optional bytes packed_track = 9;</code>
+     *
+     * <pre>
+     * Compact encoding of the track, used instead of the Entry list. Contains the number of
+     * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+     * column holds the differences between consecutive values (the first value is relative to
+     * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+     * </pre>
+     */
+    com.google.protobuf.ByteString getPackedTrack();
   }
   /**
    * Protobuf type {@code de.velcommuta.denul.data.proto.Track}
@@ -950,6 +1094,11 @@ public final class DataContainer {
               description_ = bs;
               break;
             }
+            case 74: {
+              bitField0_ |= 0x00000080;
+              packedTrack_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1965,6 +2114,35 @@ public final class DataContainer {
       }
     }
 
+    public static final int PACKED_TRACK_FIELD_NUMBER = 9;
+    private com.google.protobuf.ByteString packedTrack_;
+    /**
+     * <code>optional bytes packed_track = 9;</code>
+     *
+     * <pre>
+     * Compact encoding of the track, used instead of the Entry list. Contains the number of
+     * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+     * column holds the differences between consecutive values (the first value is relative to
+     * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+     * </pre>
+     */
+    public boolean hasPackedTrack() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional bytes packed_track = 9;</code>
+     *
+     * <pre>
+     * Compact encoding of the track, used instead of the Entry list. Contains the number of
+     * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+     * column holds the differences between consecutive values (the first value is relative to
+     * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getPackedTrack() {
+      return packedTrack_;
+    }
+
     private void initFields() {
       name_ = "";
       mode_ = de.velcommuta.denul.data.proto.DataContainer.Track.ModeOfTransport.MODE_RUNNING;
@@ -1974,6 +2152,7 @@ public final class DataContainer {
       timezone_ = "";
       distance_ = 0F;
       description_ = "";
+      packedTrack_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2042,6 +2221,9 @@ public final class DataContainer {
       if (((bitField0_ & 0x00000040) == 0x00000040)) {
         output.writeBytes(8, getDescriptionBytes());
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(9, packedTrack_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2083,6 +2265,10 @@ public final class DataContainer {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(8, getDescriptionBytes());
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, packedTrack_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2225,6 +2411,8 @@ public final class DataContainer {
         bitField0_ = (bitField0_ & ~0x00000040);
         description_ = "";
         bitField0_ = (bitField0_ & ~0x00000080);
+        packedTrack_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -2290,6 +2478,10 @@ public final class DataContainer {
           to_bitField0_ |= 0x00000040;
         }
         result.description_ = description_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.packedTrack_ = packedTrack_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2359,6 +2551,9 @@ public final class DataContainer {
           description_ = other.description_;
           onChanged();
         }
+        if (other.hasPackedTrack()) {
+          setPackedTrack(other.getPackedTrack());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3207,6 +3402,69 @@ public final class DataContainer {
         return this;
       }
 
+      private com.google.protobuf.ByteString packedTrack_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes packed_track = 9;</code>
+       *
+       * <pre>
+       * Compact encoding of the track, used instead of the Entry list. Contains the number of
+       * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+       * column holds the differences between consecutive values (the first value is relative to
+       * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+       * </pre>
+       */
+      public boolean hasPackedTrack() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional bytes packed_track = 9;</code>
+       *
+       * <pre>
+       * Compact encoding of the track, used instead of the Entry list. Contains the number of
+       * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+       * column holds the differences between consecutive values (the first value is relative to
+       * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getPackedTrack() {
+        return packedTrack_;
+      }
+      /**
+       * <code>optional bytes packed_track = 9;</code>
+       *
+       * <pre>
+       * Compact encoding of the track, used instead of the Entry list. Contains the number of
+       * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+       * column holds the differences between consecutive values (the first value is relative to
+       * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+       * </pre>
+       */
+      public Builder setPackedTrack(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        packedTrack_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes packed_track = 9;</code>
+       *
+       * <pre>
+       * Compact encoding of the track, used instead of the Entry list. Contains the number of
+       * points as a varint, followed by the columns of timestamps, latitudes and longitudes. Each
+       * column holds the differences between consecutive values (the first value is relative to
+       * zero) as zigzag varints (sint64). Coordinates are stored in units of 1e-7 degrees.
+       * </pre>
+       */
+      public Builder clearPackedTrack() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        packedTrack_ = getDefaultInstance().getPackedTrack();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.data.proto.Track)
     }
 
@@ -3243,15 +3501,16 @@ public final class DataContainer {
   static {
     java.lang.String[] descriptorData = {
       "\n\023dataContainer.proto\022\036de.velcommuta.den" +
-      "ul.data.proto\"N\n\007Wrapper\0226\n\005track\030\001 \001(\0132" +
+      "ul.data.proto\"`\n\007Wrapper\0226\n\005track\030\001 \001(\0132" +
       "%.de.velcommuta.denul.data.proto.TrackH\000" +
-      "B\013\n\tshareable\"\354\002\n\005Track\022\014\n\004name\030\001 \002(\t\022C\n" +
-      "\004mode\030\002 \002(\01625.de.velcommuta.denul.data.p" +
-      "roto.Track.ModeOfTransport\022:\n\005track\030\003 \003(" +
-      "\0132+.de.velcommuta.denul.data.proto.Track" +
-      ".Entry\022\027\n\017timestamp_start\030\004 \002(\003\022\025\n\rtimes" +
-      "tamp_end\030\005 \002(\003\022\020\n\010timezone\030\006 \002(\t\022\020\n\010dist" +
-      "ance\030\007 \002(\002\022\023\n\013description\030\010 \001(\t\0324\n\005Entry",
+      "\022\020\n\010deflated\030\020 \001(\014B\013\n\tshareable\"\202\003\n\005Trac" +
+      "k\022\014\n\004name\030\001 \002(\t\022C\n\004mode\030\002 \002(\01625.de.velco" +
+      "mmuta.denul.data.proto.Track.ModeOfTrans" +
+      "port\022:\n\005track\030\003 \003(\0132+.de.velcommuta.denu" +
+      "l.data.proto.Track.Entry\022\027\n\017timestamp_st" +
+      "art\030\004 \002(\003\022\025\n\rtimestamp_end\030\005 \002(\003\022\020\n\010time" +
+      "zone\030\006 \002(\t\022\020\n\010distance\030\007 \002(\002\022\023\n\013descript",
+      "ion\030\010 \001(\t\022\024\n\014packed_track\030\t \001(\014\0324\n\005Entry" +
       "\022\021\n\ttimestamp\030\001 \002(\003\022\013\n\003lat\030\002 \002(\001\022\013\n\003lng\030" +
       "\003 \002(\001\"5\n\017ModeOfTransport\022\020\n\014MODE_RUNNING" +
       "\020\000\022\020\n\014MODE_CYCLING\020\001"
@@ -3273,13 +3532,13 @@ public final class DataContainer {
     internal_static_de_velcommuta_denul_data_proto_Wrapper_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_de_velcommuta_denul_data_proto_Wrapper_descriptor,
-        new java.lang.String[] { "Track", "Shareable", });
+        new java.lang.String[] { "Track", "Deflated", "Shareable", });
     internal_static_de_velcommuta_denul_data_proto_Track_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_de_velcommuta_denul_data_proto_Track_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_de_velcommuta_denul_data_proto_Track_descriptor,
-        new java.lang.String[] { "Name", "Mode", "Track", "TimestampStart", "TimestampEnd", "Timezone", "Distance", "Description", });
+        new java.lang.String[] { "Name", "Mode", "Track", "TimestampStart", "TimestampEnd", "Timezone", "Distance", "Description", "PackedTrack", });
     internal_static_de_velcommuta_denul_data_proto_Track_Entry_descriptor =
       internal_static_de_velcommuta_denul_data_proto_Track_descriptor.getNestedTypes().get(0);
     internal_static_de_velcommuta_denul_data_proto_Track_Entry_fieldAccessorTable = new
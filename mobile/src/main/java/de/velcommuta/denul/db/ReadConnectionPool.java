@@ -0,0 +1,58 @@
+package de.velcommuta.denul.db;
+
+import net.sqlcipher.database.SQLiteDatabase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed pool of read-only connections to the database. With write-ahead logging enabled, reads
+ * on these connections run concurrently with the writes on the main connection and see all
+ * committed data. Connections are handed out round-robin, preferring connections that no other
+ * thread is using at the moment. A connection may be used by several threads at once, as
+ * SQLiteDatabase serializes access to it internally.
+ */
+public class ReadConnectionPool {
+    private final SQLiteDatabase[] mConnections;
+    private final AtomicInteger mNext = new AtomicInteger();
+
+    /**
+     * Constructor
+     * @param connections The read-only connections, must not be empty
+     */
+    ReadConnectionPool(SQLiteDatabase[] connections) {
+        mConnections = connections;
+    }
+
+
+    /**
+     * Get a connection for a read
+     * @return The connection
+     */
+    public SQLiteDatabase get() {
+        int start = (mNext.getAndIncrement() & Integer.MAX_VALUE) % mConnections.length;
+        for (int i = 0; i < mConnections.length; i++) {
+            SQLiteDatabase db = mConnections[(start + i) % mConnections.length];
+            if (!db.isDbLockedByOtherThreads()) return db;
+        }
+        return mConnections[start];
+    }
+
+
+    /**
+     * Getter for the number of connections in the pool
+     * @return The number of connections
+     */
+    public int size() {
+        return mConnections.length;
+    }
+
+
+    /**
+     * Close all connections of the pool
+     */
+    public void close() {
+        for (SQLiteDatabase db : mConnections) {
+            db.close();
+        }
+    }
+}
@@ -3,8 +3,21 @@ package de.velcommuta.denul.db;
 import android.content.Context;
 import android.util.Log;
 
+import net.sqlcipher.Cursor;
 import net.sqlcipher.database.SQLiteDatabase;
+import net.sqlcipher.database.SQLiteException;
 import net.sqlcipher.database.SQLiteOpenHelper;
+import net.sqlcipher.database.SQLiteStatement;
+
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.util.Arrays;
+
+import de.velcommuta.denul.crypto.DatabaseKey;
+import de.velcommuta.denul.crypto.KeySlot;
+import de.velcommuta.denul.util.HourEpoch;
 
 /**
  * DB Helper for the location logging database
@@ -71,8 +84,7 @@ public class SecureDbHelper extends SQLiteOpenHelper {
             = "CREATE TABLE " + StepLoggingContract.StepCountLog.TABLE_NAME + "(" +
             StepLoggingContract.StepCountLog._ID + TYPE_INT + OPT_PRIMARY_KEY + COMMA_SEP +
             StepLoggingContract.StepCountLog.COLUMN_OWNER + TYPE_INT + OPT_NOT_NULL + OPT_DEFAULT_MINUS_ONE + COMMA_SEP +
-            StepLoggingContract.StepCountLog.COLUMN_DATE + TYPE_DATETIME + OPT_NOT_NULL + COMMA_SEP +
-            StepLoggingContract.StepCountLog.COLUMN_TIME + TYPE_DATETIME + OPT_NOT_NULL + COMMA_SEP +
+            StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH + TYPE_INT + OPT_NOT_NULL + COMMA_SEP +
             StepLoggingContract.StepCountLog.COLUMN_VALUE + TYPE_INT + OPT_NOT_NULL + COMMA_SEP +
             StepLoggingContract.StepCountLog.COLUMN_SHARE_ID + TYPE_INT + OPT_DEFAULT_NULL + COMMA_SEP +
             FKEY_DECL + StepLoggingContract.StepCountLog.COLUMN_SHARE_ID + FKEY_REFS +
@@ -80,6 +92,24 @@ public class SecureDbHelper extends SQLiteOpenHelper {
                 FKEY_ONDELETE_NULL +
             ");";
 
+    // Every hour has a single step count per owner. The index backs the upsert of step counts and
+    // the range queries over hours.
+    static final String INDEX_STEPCOUNTER_HOUR = "step_count_hour_idx";
+
+    private static final String SQL_CREATE_INDEX_STEPCOUNTER_HOUR
+            = "CREATE UNIQUE INDEX " + INDEX_STEPCOUNTER_HOUR + " ON " + StepLoggingContract.StepCountLog.TABLE_NAME + "(" +
+            StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH + COMMA_SEP +
+            StepLoggingContract.StepCountLog.COLUMN_OWNER +
+            ");";
+
+    // Columns of the step count table up to version 21, which stored the local date and time of
+    // the recording as strings
+    private static final String LEGACY_STEPCOUNTER_TABLE = "step_count_legacy";
+    private static final String LEGACY_STEPCOUNTER_DATE = "recording_date";
+    private static final String LEGACY_STEPCOUNTER_TIME = "recording_time";
+    private static final String LEGACY_STEPCOUNTER_FORMAT = "dd/MM/yyyy HH:mm";
+    private static final String LEGACY_INDEX_STEPCOUNTER_DATETIME = "step_count_datetime_idx";
+
     private static final String SQL_CREATE_ENTRIES_SEQUENCE_NUMBERS
             = "CREATE TABLE " + VaultContract.SequenceNumberStore.TABLE_NAME + "(" +
             VaultContract.SequenceNumberStore._ID + TYPE_INT + OPT_PRIMARY_KEY + COMMA_SEP +
@@ -250,9 +280,49 @@ public class SecureDbHelper extends SQLiteOpenHelper {
     private static final String SQL_DROP_STUDYKEYSHARE =
             "DROP TABLE " + StudyContract.StudyShare.TABLE_NAME + ";";
 
+    // Secondary indexes for the columns used in lookups. Without them, every lookup has to scan and
+    // decrypt the whole table.
+    static final String INDEX_LOCATIONLOG_SESSION = "location_log_session_idx";
+    static final String INDEX_LOCATIONSESSIONS_OWNER = "location_session_owner_idx";
+    static final String INDEX_LOCATIONSESSIONS_START = "location_session_start_idx";
+    static final String INDEX_FRIENDSHARELOG_DATASHARE = "friend_share_log_datashare_idx";
+    static final String INDEX_FRIENDSHARELOG_FRIEND = "friend_share_log_friend_idx";
+    static final String INDEX_FRIENDSHARELOG_IDENTIFIER = "friend_share_log_identifier_idx";
+    static final String INDEX_DATASHARELOG_IDENTIFIER = "data_share_log_identifier_idx";
+    static final String INDEX_DATAREQUESTS_STUDY = "data_requests_study_idx";
+    static final String INDEX_FRIENDKEYS_FRIEND = "friend_keys_friend_idx";
+
+    static final String[] SQL_CREATE_INDEXES = {
+            createIndex(INDEX_LOCATIONLOG_SESSION, LocationLoggingContract.LocationLog.TABLE_NAME,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION),
+            createIndex(INDEX_LOCATIONSESSIONS_OWNER, LocationLoggingContract.LocationSessions.TABLE_NAME,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER + COMMA_SEP +
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START),
+            createIndex(INDEX_LOCATIONSESSIONS_START, LocationLoggingContract.LocationSessions.TABLE_NAME,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START),
+            createIndex(INDEX_FRIENDSHARELOG_DATASHARE, SharingContract.FriendShareLog.TABLE_NAME,
+                    SharingContract.FriendShareLog.COLUMN_DATASHARE_ID),
+            createIndex(INDEX_FRIENDSHARELOG_FRIEND, SharingContract.FriendShareLog.TABLE_NAME,
+                    SharingContract.FriendShareLog.COLUMN_FRIEND_ID),
+            createIndex(INDEX_FRIENDSHARELOG_IDENTIFIER, SharingContract.FriendShareLog.TABLE_NAME,
+                    SharingContract.FriendShareLog.COLUMN_IDENTIFIER),
+            createIndex(INDEX_DATASHARELOG_IDENTIFIER, SharingContract.DataShareLog.TABLE_NAME,
+                    SharingContract.DataShareLog.COLUMN_IDENTIFIER),
+            createIndex(INDEX_DATAREQUESTS_STUDY, StudyContract.DataRequests.TABLE_NAME,
+                    StudyContract.DataRequests.COLUMN_STUDY),
+            createIndex(INDEX_FRIENDKEYS_FRIEND, FriendContract.FriendKeys.TABLE_NAME,
+                    FriendContract.FriendKeys.COLUMN_NAME_FRIEND_ID),
+    };
+
     public static final String DATABASE_NAME = "location.db"; // TODO Update
 
-    public static final int DATABASE_VERSION = 20;
+    // Number of read-only connections opened next to the main connection
+    static final int READ_CONNECTIONS = 2;
+
+    private Context mContext;
+    private ReadConnectionPool mReadPool;
+
+    public static final int DATABASE_VERSION = 22;
 
 
     /**
@@ -261,6 +331,148 @@ public class SecureDbHelper extends SQLiteOpenHelper {
      */
     public SecureDbHelper(Context ctx) {
         super(ctx, DATABASE_NAME, null, DATABASE_VERSION);
+        mContext = ctx;
+    }
+
+
+    /**
+     * Open the database in SQLCipher's raw key mode. If the key slot holds the key of the database
+     * for the given passphrase, it is used directly. Otherwise, the key is derived from the
+     * passphrase, which SQLCipher then checks. If the number of PBKDF2 iterations configured in the policy
+     * differs from the one the database is keyed with, the database is rekeyed. Afterwards, the
+     * key is stored in the slot for the key timeout of the policy.
+     * @param password The passphrase of the database
+     * @param policy The unlock policy
+     * @param slot The slot caching the key of the database
+     * @return The opened database
+     * @throws SQLiteException If the database could not be opened, e.g. due to a wrong passphrase
+     */
+    public SQLiteDatabase unlock(String password, UnlockPolicy policy, KeySlot slot) throws SQLiteException {
+        byte[] salt = DatabaseKey.readSalt(mContext.getDatabasePath(DATABASE_NAME));
+        SQLiteDatabase db = null;
+        byte[] key = slot.get(password);
+        if (key != null && salt != null) {
+            try {
+                db = open(key, salt);
+                Log.d(TAG, "unlock: Opened database with cached key");
+            } catch (SQLiteException e) {
+                Log.w(TAG, "unlock: Cached key rejected, deriving key from passphrase");
+                Arrays.fill(key, (byte) 0);
+                slot.clear();
+            }
+        }
+        if (db == null) {
+            int iterations;
+            if (salt == null) {
+                // New database, key it with the configured iterations right away
+                iterations = policy.getKdfIterations();
+                salt = DatabaseKey.generateSalt();
+                key = DatabaseKey.derive(password, salt, iterations);
+                db = open(key, salt);
+                policy.setActiveKdfIterations(iterations);
+            } else {
+                iterations = policy.getActiveKdfIterations();
+                key = DatabaseKey.derive(password, salt, iterations);
+                try {
+                    db = open(key, salt);
+                } catch (SQLiteException e) {
+                    // The process may have died after a rekey, before the iterations were saved
+                    if (iterations == policy.getKdfIterations()) throw e;
+                    Arrays.fill(key, (byte) 0);
+                    iterations = policy.getKdfIterations();
+                    key = DatabaseKey.derive(password, salt, iterations);
+                    db = open(key, salt);
+                    policy.setActiveKdfIterations(iterations);
+                }
+            }
+            if (iterations != policy.getKdfIterations()) {
+                Log.d(TAG, "unlock: Rekeying database from " + iterations + " to " + policy.getKdfIterations() + " iterations");
+                byte[] rekey = DatabaseKey.derive(password, salt, policy.getKdfIterations());
+                char[] raw = DatabaseKey.toRawKey(rekey, new byte[0]);
+                try {
+                    db.changePassword(raw);
+                } finally {
+                    Arrays.fill(raw, '\0');
+                }
+                policy.setActiveKdfIterations(policy.getKdfIterations());
+                Arrays.fill(key, (byte) 0);
+                key = rekey;
+            }
+        }
+        try {
+            openReadPool(key, salt);
+        } catch (SQLiteException e) {
+            Arrays.fill(key, (byte) 0);
+            close();
+            throw e;
+        }
+        slot.put(key, password, policy.getKeyTimeout());
+        Arrays.fill(key, (byte) 0);
+        return db;
+    }
+
+
+    /**
+     * Getter for the pool of read-only connections opened by {@link #unlock(String, UnlockPolicy, KeySlot)}
+     * @return The pool, or null if the database was not unlocked or has been closed
+     */
+    public synchronized ReadConnectionPool getReadPool() {
+        return mReadPool;
+    }
+
+
+    @Override
+    public synchronized void close() {
+        if (mReadPool != null) {
+            mReadPool.close();
+            mReadPool = null;
+        }
+        super.close();
+    }
+
+
+    /**
+     * Open the pool of read-only connections, replacing an existing pool
+     * @param key The key of the database
+     * @param salt The salt of the database
+     * @throws SQLiteException If a connection could not be opened
+     */
+    private synchronized void openReadPool(byte[] key, byte[] salt) throws SQLiteException {
+        if (mReadPool != null) mReadPool.close();
+        mReadPool = null;
+        String path = mContext.getDatabasePath(DATABASE_NAME).getPath();
+        SQLiteDatabase[] connections = new SQLiteDatabase[READ_CONNECTIONS];
+        char[] raw = DatabaseKey.toRawKey(key, salt);
+        try {
+            for (int i = 0; i < connections.length; i++) {
+                connections[i] = SQLiteDatabase.openDatabase(path, raw, null, SQLiteDatabase.OPEN_READONLY);
+            }
+        } catch (SQLiteException e) {
+            for (SQLiteDatabase db : connections) {
+                if (db != null) db.close();
+            }
+            throw e;
+        } finally {
+            Arrays.fill(raw, '\0');
+        }
+        mReadPool = new ReadConnectionPool(connections);
+    }
+
+
+    /**
+     * Open the database with a raw key
+     * @param key The key
+     * @param salt The salt of the database
+     * @return The opened database
+     * @throws SQLiteException If the key was rejected
+     */
+    private SQLiteDatabase open(byte[] key, byte[] salt) throws SQLiteException {
+        char[] raw = DatabaseKey.toRawKey(key, salt);
+        try {
+            return getWritableDatabase(raw);
+        } finally {
+            Arrays.fill(raw, '\0');
+        }
     }
 
     @Override
@@ -269,6 +481,9 @@ public class SecureDbHelper extends SQLiteOpenHelper {
         if (!db.isReadOnly()) {
             // Enable foreign key constraints
             db.execSQL("PRAGMA foreign_keys=ON;");
+            // Let the read-only connections read while this connection writes. The journal mode
+            // is stored in the database file, so it also applies to the read-only connections.
+            db.rawExecSQL("PRAGMA journal_mode=WAL;");
         }
     }
 
@@ -278,6 +493,7 @@ public class SecureDbHelper extends SQLiteOpenHelper {
         db.execSQL(SQL_CREATE_ENTRIES_LOCATIONLOG);
         db.execSQL(SQL_CREATE_ENTRIES_KEYSTORE);
         db.execSQL(SQL_CREATE_ENTRIES_STEPCOUNTER);
+        db.execSQL(SQL_CREATE_INDEX_STEPCOUNTER_HOUR);
         db.execSQL(SQL_CREATE_ENTRIES_SEQUENCE_NUMBERS);
         db.execSQL(SQL_CREATE_ENTRIES_FRIENDLIST);
         db.execSQL(SQL_CREATE_ENTRIES_FRIENDKEYS);
@@ -288,38 +504,62 @@ public class SecureDbHelper extends SQLiteOpenHelper {
         db.execSQL(SQL_CREATE_ENTRIES_DATAREQUESTS);
         db.execSQL(SQL_CREATE_ENTRIES_STUDYDATASHARE);
         db.execSQL(SQL_CREATE_ENTRIES_STUDYKEYSHARE);
+        createIndexes(db);
     }
 
+    /**
+     * Upgrade the database by applying the migration to each following version in turn. If no
+     * migration exists for one of the versions, all tables are dropped and recreated.
+     * @param db The database
+     * @param oldVersion The current version of the database
+     * @param newVersion The version to upgrade to
+     */
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
         Log.d(TAG, "onUpgrade: Old = " + oldVersion + " new = " + newVersion);
-        if (oldVersion == 16 && newVersion == 20) {
-            onUpgrade(db, 16, 17);
-            onUpgrade(db, 17, 18);
-            onUpgrade(db, 18, 19);
-            onUpgrade(db, 19, 20);
-        } else if (oldVersion == 19 && newVersion == 20) {
+        for (int version = oldVersion; version < newVersion; version++) {
+            if (!migrate(db, version)) {
+                Log.w(TAG, "onUpgrade: No migration from version " + version + ", recreating database");
+                recreate(db);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Migrate the database from one version to the next
+     * @param db The database
+     * @param version The current version of the database
+     * @return true if the database was migrated to version + 1, false if no migration exists
+     */
+    private boolean migrate(SQLiteDatabase db, int version) {
+        Log.d(TAG, "migrate: Migrating from version " + version + " to " + (version + 1));
+        if (version == 21) {
+            migrateStepCounter(db);
+        } else if (version == 20) {
+            createIndexes(db);
+        } else if (version == 19) {
             db.execSQL(SQL_CREATE_ENTRIES_STUDYDATASHARE);
             db.execSQL(SQL_CREATE_ENTRIES_STUDYKEYSHARE);
-        } else if (oldVersion == 18 && newVersion == 19) {
+        } else if (version == 18) {
             db.execSQL(SQL_DROP_STUDIES);
             db.execSQL(SQL_DROP_INVESTIGATORS);
             db.execSQL(SQL_DROP_DATAREQUESTS);
             db.execSQL(SQL_CREATE_ENTRIES_STUDIES);
             db.execSQL(SQL_CREATE_ENTRIES_INVESTIGATORS);
             db.execSQL(SQL_CREATE_ENTRIES_DATAREQUESTS);
-        } else if (oldVersion == 17 && newVersion == 18) {
+        } else if (version == 17) {
             db.execSQL(SQL_DROP_STUDIES);
             db.execSQL(SQL_DROP_INVESTIGATORS);
             db.execSQL(SQL_DROP_DATAREQUESTS);
             db.execSQL(SQL_CREATE_ENTRIES_STUDIES);
             db.execSQL(SQL_CREATE_ENTRIES_INVESTIGATORS);
             db.execSQL(SQL_CREATE_ENTRIES_DATAREQUESTS);
-        } else if (oldVersion == 16 && newVersion == 17) {
+        } else if (version == 16) {
             db.execSQL(SQL_CREATE_ENTRIES_STUDIES);
             db.execSQL(SQL_CREATE_ENTRIES_INVESTIGATORS);
             db.execSQL(SQL_CREATE_ENTRIES_DATAREQUESTS);
-        } else if (oldVersion == 15 && newVersion == 16) {
+        } else if (version == 15) {
             // Rebuild everything except KeyStore and StepCounter
             db.execSQL(SQL_DROP_LOCATIONLOG);
             db.execSQL(SQL_DROP_LOCATIONSESSIONS);
@@ -336,21 +576,103 @@ public class SecureDbHelper extends SQLiteOpenHelper {
             db.execSQL(SQL_CREATE_ENTRIES_DATASHARELOG);
             db.execSQL(SQL_CREATE_ENTRIES_FRIENDSHAREDLOG);
         } else {
-            db.execSQL(SQL_DROP_LOCATIONLOG);
-            db.execSQL(SQL_DROP_LOCATIONSESSIONS);
-            db.execSQL(SQL_DROP_KEYSTORE);
-            db.execSQL(SQL_DROP_STEPCOUNTER);
-            db.execSQL(SQL_DROP_SEQUENCE_NUMBERS);
-            db.execSQL(SQL_DROP_FRIENDLIST);
-            db.execSQL(SQL_DROP_FRIENDKEYS);
-            db.execSQL(SQL_DROP_FRIENDSHARELOG);
-            db.execSQL(SQL_DROP_DATASHARELOG);
-            db.execSQL(SQL_DROP_STUDIES);
-            db.execSQL(SQL_DROP_INVESTIGATORS);
-            db.execSQL(SQL_DROP_DATAREQUESTS);
-            db.execSQL(SQL_DROP_STUDYDATASHARE);
-            db.execSQL(SQL_DROP_STUDYKEYSHARE);
-            onCreate(db);
+            return false;
         }
+        return true;
+    }
+
+    /**
+     * Convert the step count table from the local date and time strings used up to version 21 to
+     * epoch-hour keys. The strings are interpreted in the default time zone, as they were written.
+     * If an hour was stored more than once, the largest step count is kept.
+     * @param db The database
+     */
+    private void migrateStepCounter(SQLiteDatabase db) {
+        db.execSQL("DROP INDEX IF EXISTS " + LEGACY_INDEX_STEPCOUNTER_DATETIME + ";");
+        db.execSQL("ALTER TABLE " + StepLoggingContract.StepCountLog.TABLE_NAME + " RENAME TO " + LEGACY_STEPCOUNTER_TABLE + ";");
+        db.execSQL(SQL_CREATE_ENTRIES_STEPCOUNTER);
+        db.execSQL(SQL_CREATE_INDEX_STEPCOUNTER_HOUR);
+        DateTimeFormatter format = DateTimeFormat.forPattern(LEGACY_STEPCOUNTER_FORMAT);
+        SQLiteStatement insert = db.compileStatement("INSERT OR IGNORE INTO " + StepLoggingContract.StepCountLog.TABLE_NAME + " (" +
+                StepLoggingContract.StepCountLog.COLUMN_OWNER + COMMA_SEP +
+                StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH + COMMA_SEP +
+                StepLoggingContract.StepCountLog.COLUMN_VALUE + COMMA_SEP +
+                StepLoggingContract.StepCountLog.COLUMN_SHARE_ID + ") VALUES (?, ?, ?, ?)");
+        // Larger counts first, so that duplicates of an hour are ignored in favor of them
+        Cursor c = db.query(LEGACY_STEPCOUNTER_TABLE,
+                new String[] {StepLoggingContract.StepCountLog.COLUMN_OWNER,
+                        LEGACY_STEPCOUNTER_DATE,
+                        LEGACY_STEPCOUNTER_TIME,
+                        StepLoggingContract.StepCountLog.COLUMN_VALUE,
+                        StepLoggingContract.StepCountLog.COLUMN_SHARE_ID},
+                null, null, null, null,
+                StepLoggingContract.StepCountLog.COLUMN_VALUE + " DESC");
+        try {
+            while (c.moveToNext()) {
+                DateTime ts;
+                try {
+                    ts = DateTime.parse(c.getString(1) + " " + c.getString(2), format);
+                } catch (IllegalArgumentException e) {
+                    Log.w(TAG, "migrateStepCounter: Dropping malformed timestamp " + c.getString(1) + " " + c.getString(2));
+                    continue;
+                }
+                insert.bindLong(1, c.getLong(0));
+                insert.bindLong(2, HourEpoch.fromDateTime(ts));
+                insert.bindLong(3, c.getLong(3));
+                if (c.isNull(4)) {
+                    insert.bindNull(4);
+                } else {
+                    insert.bindLong(4, c.getLong(4));
+                }
+                insert.executeInsert();
+            }
+        } finally {
+            c.close();
+            insert.close();
+        }
+        db.execSQL("DROP TABLE " + LEGACY_STEPCOUNTER_TABLE + ";");
+    }
+
+    /**
+     * Drop all tables and create them again, deleting all data
+     * @param db The database
+     */
+    private void recreate(SQLiteDatabase db) {
+        db.execSQL(SQL_DROP_LOCATIONLOG);
+        db.execSQL(SQL_DROP_LOCATIONSESSIONS);
+        db.execSQL(SQL_DROP_KEYSTORE);
+        db.execSQL(SQL_DROP_STEPCOUNTER);
+        db.execSQL(SQL_DROP_SEQUENCE_NUMBERS);
+        db.execSQL(SQL_DROP_FRIENDLIST);
+        db.execSQL(SQL_DROP_FRIENDKEYS);
+        db.execSQL(SQL_DROP_FRIENDSHARELOG);
+        db.execSQL(SQL_DROP_DATASHARELOG);
+        db.execSQL(SQL_DROP_STUDIES);
+        db.execSQL(SQL_DROP_INVESTIGATORS);
+        db.execSQL(SQL_DROP_DATAREQUESTS);
+        db.execSQL(SQL_DROP_STUDYDATASHARE);
+        db.execSQL(SQL_DROP_STUDYKEYSHARE);
+        onCreate(db);
+    }
+
+    /**
+     * Create the secondary indexes, if they do not exist yet
+     * @param db The database
+     */
+    private void createIndexes(SQLiteDatabase db) {
+        for (String index : SQL_CREATE_INDEXES) {
+            db.execSQL(index);
+        }
+    }
+
+    /**
+     * Build a statement creating a secondary index
+     * @param name The name of the index
+     * @param table The indexed table
+     * @param columns The indexed columns, separated by commas
+     * @return The statement
+     */
+    private static String createIndex(String name, String table, String columns) {
+        return "CREATE INDEX IF NOT EXISTS " + name + " ON " + table + "(" + columns + ");";
     }
 }
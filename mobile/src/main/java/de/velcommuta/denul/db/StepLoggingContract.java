@@ -16,8 +16,8 @@ public class StepLoggingContract {
         public static final String TABLE_NAME = "step_count";
 
         // Columns
-        public static final String COLUMN_DATE  = "recording_date";
-        public static final String COLUMN_TIME  = "recording_time";
+        // Hour of the recording, as the number of hours since the epoch (see DatabaseService)
+        public static final String COLUMN_HOUR_EPOCH = "hour_epoch";
         public static final String COLUMN_VALUE = "recording_steps";
         // Owner - references Friend table, or set to -1 if the user is the owner
         public static final String COLUMN_OWNER = "recording_owner";
@@ -0,0 +1,123 @@
+package de.velcommuta.denul.db;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import de.velcommuta.denul.R;
+import de.velcommuta.denul.crypto.DatabaseKey;
+
+/**
+ * Settings controlling how the database is unlocked and how long it stays unlocked, stored in the
+ * SharedPreferences:
+ * <ul>
+ *     <li>The idle timeout, after which the database service closes the database once all
+ *     clients have unbound</li>
+ *     <li>The key timeout, during which the derived database key is kept in memory, so that
+ *     reopening the database skips the key derivation</li>
+ *     <li>The number of PBKDF2 iterations of the key derivation</li>
+ * </ul>
+ */
+public class UnlockPolicy {
+    public static final long DEFAULT_IDLE_TIMEOUT = 15 * 60 * 1000;
+    public static final long DEFAULT_KEY_TIMEOUT = 60 * 60 * 1000;
+
+    private Context mContext;
+    private SharedPreferences mPrefs;
+
+    /**
+     * Constructor
+     * @param ctx Context used to access the SharedPreferences
+     */
+    public UnlockPolicy(Context ctx) {
+        this(ctx, ctx.getSharedPreferences(ctx.getString(R.string.preferences_database), Context.MODE_PRIVATE));
+    }
+
+
+    /**
+     * Constructor for tests, storing the settings in separate SharedPreferences
+     * @param ctx Context used to resolve the names of the settings
+     * @param prefs The SharedPreferences
+     */
+    public UnlockPolicy(Context ctx, SharedPreferences prefs) {
+        mContext = ctx;
+        mPrefs = prefs;
+    }
+
+
+    /**
+     * Getter for the idle timeout
+     * @return Time after which the database is closed once all clients have unbound, in
+     *         milliseconds
+     */
+    public long getIdleTimeout() {
+        return mPrefs.getLong(mContext.getString(R.string.preferences_database_idle_timeout), DEFAULT_IDLE_TIMEOUT);
+    }
+
+
+    /**
+     * Setter for the idle timeout
+     * @param timeout Time after which the database is closed once all clients have unbound, in
+     *                milliseconds
+     */
+    public void setIdleTimeout(long timeout) {
+        mPrefs.edit().putLong(mContext.getString(R.string.preferences_database_idle_timeout), timeout).apply();
+    }
+
+
+    /**
+     * Getter for the key timeout
+     * @return Time for which the derived key is kept in memory after the database was opened, in
+     *         milliseconds. Zero if the key is not kept at all.
+     */
+    public long getKeyTimeout() {
+        return mPrefs.getLong(mContext.getString(R.string.preferences_database_key_timeout), DEFAULT_KEY_TIMEOUT);
+    }
+
+
+    /**
+     * Setter for the key timeout
+     * @param timeout Time for which the derived key is kept in memory after the database was
+     *                opened, in milliseconds. Zero disables keeping the key.
+     */
+    public void setKeyTimeout(long timeout) {
+        mPrefs.edit().putLong(mContext.getString(R.string.preferences_database_key_timeout), timeout).apply();
+    }
+
+
+    /**
+     * Getter for the configured number of PBKDF2 iterations. The database is rekeyed to use them
+     * the next time it is opened with the passphrase.
+     * @return The number of iterations
+     */
+    public int getKdfIterations() {
+        return mPrefs.getInt(mContext.getString(R.string.preferences_database_kdf_iter), DatabaseKey.DEFAULT_KDF_ITERATIONS);
+    }
+
+
+    /**
+     * Setter for the number of PBKDF2 iterations
+     * @param iterations The number of iterations
+     */
+    public void setKdfIterations(int iterations) {
+        mPrefs.edit().putInt(mContext.getString(R.string.preferences_database_kdf_iter), iterations).apply();
+    }
+
+
+    /**
+     * Getter for the number of PBKDF2 iterations the current key of the database was derived with
+     * @return The number of iterations
+     */
+    public int getActiveKdfIterations() {
+        return mPrefs.getInt(mContext.getString(R.string.preferences_database_kdf_iter_active), DatabaseKey.DEFAULT_KDF_ITERATIONS);
+    }
+
+
+    /**
+     * Setter for the number of PBKDF2 iterations the current key of the database was derived with.
+     * Must only be called after the database has been (re)keyed.
+     * @param iterations The number of iterations
+     */
+    void setActiveKdfIterations(int iterations) {
+        mPrefs.edit().putInt(mContext.getString(R.string.preferences_database_kdf_iter_active), iterations).commit();
+    }
+}
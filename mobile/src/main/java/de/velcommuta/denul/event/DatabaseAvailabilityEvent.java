@@ -8,6 +8,10 @@ public class DatabaseAvailabilityEvent {
     public static final int OPENED  = 1;
     public static final int CLOSED  = 2;
     public static final int STOPPED = 3;
+    // Posted while the key derivation of an asynchronous open is running
+    public static final int OPENING = 4;
+    // Posted if an asynchronous open failed, e.g. because of a wrong password
+    public static final int OPEN_FAILED = 5;
 
     private int mStatus;
 
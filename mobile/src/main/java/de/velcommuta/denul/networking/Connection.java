@@ -1,6 +1,10 @@
 package de.velcommuta.denul.networking;
 
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Interface for network connections. Abstracted so that different underlying connection systems
@@ -15,6 +19,57 @@ public interface Connection {
      */
     byte[] transceive(byte[] message) throws IOException;
 
+    /**
+     * Send a protobuf message via the connection and parse the message that is sent in reply,
+     * without copying either of them into an intermediate byte[].
+     * @param message The message to be sent
+     * @param parser The parser for the reply
+     * @param <T> The type of the reply
+     * @return The parsed reply, or null, if the reply could not be parsed
+     * @throws IOException if the underlying socket throws it
+     */
+    <T> T transceive(MessageLite message, Parser<T> parser) throws IOException;
+
+    /**
+     * Send a number of byte[]s via the connection without waiting for the reply to each of them
+     * before sending the next one (pipelining), and return the byte[]s that were sent in reply.
+     * @param messages The List of byte[]s to be sent
+     * @return A List of the byte[]s that were returned, in the order in which they were received
+     * @throws IOException if the underlying socket throws it
+     */
+    List<byte[]> transceiveMany(List<byte[]> messages) throws IOException;
+
+    /**
+     * Send a number of protobuf messages via the connection without waiting for the reply to each
+     * of them before sending the next one, and parse the messages that were sent in reply.
+     * @param messages The List of messages to be sent
+     * @param parser The parser for the replies
+     * @param <T> The type of the replies
+     * @return A List of the parsed replies, in the order in which they were received. Replies
+     *         that could not be parsed are represented by null.
+     * @throws IOException if the underlying socket throws it
+     */
+    <T> List<T> transceiveMany(List<? extends MessageLite> messages, Parser<T> parser) throws IOException;
+
+    /**
+     * Send a number of protobuf messages via the connection without receiving any replies. Used
+     * together with {@link #receive(Parser)} to send and receive on different threads. These two
+     * functions must not be used while another thread uses one of the transceive functions.
+     * @param messages The List of messages to be sent
+     * @throws IOException if the underlying socket throws it
+     */
+    void send(List<? extends MessageLite> messages) throws IOException;
+
+    /**
+     * Receive and parse the next message sent by the other side. May be called on a different
+     * thread than {@link #send(List)}, see there.
+     * @param parser The parser for the message
+     * @param <T> The type of the message
+     * @return The parsed message, or null, if the message could not be parsed
+     * @throws IOException if the underlying socket throws it
+     */
+    <T> T receive(Parser<T> parser) throws IOException;
+
     /**
      * Close the connection.
      * @throws IOException if the underlying socket throws it
@@ -26,4 +81,12 @@ public interface Connection {
      * @return true if the connection is open, false otherwise
      */
     boolean isOpen();
+
+    /**
+     * Check if the other side still keeps the connection open. Unlike {@link #isOpen()}, this will
+     * detect connections that have been closed by the server, at the cost of briefly waiting for
+     * incoming data. The connection is closed if it turns out to be dead.
+     * @return true if the connection is alive, false otherwise
+     */
+    boolean isAlive();
 }
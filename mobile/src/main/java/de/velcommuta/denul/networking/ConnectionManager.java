@@ -0,0 +1,269 @@
+package de.velcommuta.denul.networking;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps a single connected {@link Protocol} per server alive across operations, so that
+ * back-to-back operations do not have to perform a new TCP and TLS handshake and download the
+ * VICBF again. The Protocol is handed out to one user at a time using {@link #acquire()} and must
+ * be handed back using {@link #release()}. Connections that have not been used for a while are
+ * closed in the background, and connections that have been idle are checked before they are
+ * handed out again, reconnecting if the server has closed them in the meantime. The VICBF of the
+ * server is cached across connections, so that new connections only need to retrieve the changes.
+ */
+public class ConnectionManager {
+    private static final String TAG = "ConnectionManager";
+
+    // Time (in milliseconds) after which an unused connection is closed
+    private static final long IDLE_TIMEOUT = 60 * 1000;
+    // Time (in milliseconds) after which an idle connection is checked before it is reused
+    private static final long HEALTH_CHECK_INTERVAL = 5 * 1000;
+    // Time (in milliseconds) after which a connection is no longer reused, even if it is busy, to
+    // refresh the VICBF the server sent during the handshake
+    private static final long MAX_CONNECTION_AGE = 5 * 60 * 1000;
+
+    // ConnectionManagers, keyed by "host:port"
+    private static final Map<String, ConnectionManager> sInstances = new HashMap<>();
+
+    // Thread closing idle connections, shared by all ConnectionManagers
+    private static ScheduledExecutorService sScheduler;
+    // Directory to persist VICBFCaches in, or null, if they should only be kept in memory
+    private static File sCacheDirectory;
+
+    private final ConnectionFactory mFactory;
+    private final long mIdleTimeout;
+    private final VICBFCache mVICBFCache;
+    // Lock ensuring that only one user at a time accesses the Protocol
+    private final ReentrantLock mLock = new ReentrantLock();
+
+    private Protocol mProtocol;
+    private Connection mConnection;
+    // Time at which the connection was established
+    private long mConnectedAt;
+    // Time at which the connection was last released
+    private long mLastUsed;
+    private ScheduledFuture<?> mIdleClose;
+
+    /**
+     * Factory for new connections to a server
+     */
+    public interface ConnectionFactory {
+        /**
+         * Open a new connection
+         * @return An open {@link Connection}
+         * @throws IOException If the connection could not be established
+         */
+        Connection open() throws IOException;
+    }
+
+
+    /**
+     * Set the directory the VICBFs of servers are persisted in. Only affects ConnectionManagers
+     * created by later calls to {@link #getInstance(String, int)}.
+     * @param dir The directory, usually the cache directory of the application
+     */
+    public static synchronized void setCacheDirectory(File dir) {
+        sCacheDirectory = dir;
+    }
+
+
+    /**
+     * Get the ConnectionManager for a server
+     * @param host Either the IP or the FQDN of the server
+     * @param port The port number of the server
+     * @return The ConnectionManager responsible for that server
+     */
+    public static synchronized ConnectionManager getInstance(final String host, final int port) {
+        String id = host + ":" + port;
+        ConnectionManager manager = sInstances.get(id);
+        if (manager == null) {
+            VICBFCache cache;
+            if (sCacheDirectory != null) {
+                cache = new VICBFCache(new File(sCacheDirectory, "vicbf-" + host + "-" + port));
+            } else {
+                cache = new VICBFCache();
+            }
+            manager = new ConnectionManager(new ConnectionFactory() {
+                @Override
+                public Connection open() throws IOException {
+                    return new TLSConnection(host, port);
+                }
+            }, IDLE_TIMEOUT, cache);
+            sInstances.put(id, manager);
+        }
+        return manager;
+    }
+
+
+    /**
+     * Constructor. Usually, {@link #getInstance(String, int)} should be used instead.
+     * @param factory The factory to use to open new connections
+     * @param idleTimeout Time (in milliseconds) after which an unused connection is closed
+     * @param cache The VICBFCache to use for all connections
+     */
+    public ConnectionManager(ConnectionFactory factory, long idleTimeout, VICBFCache cache) {
+        mFactory = factory;
+        mIdleTimeout = idleTimeout;
+        mVICBFCache = cache;
+    }
+
+
+    /**
+     * Get exclusive access to a connected Protocol, establishing the connection if needed. The
+     * Protocol must be handed back using {@link #release()} once the operation is finished, and
+     * must not be disconnected by the caller.
+     * @return A connected {@link Protocol}
+     * @throws IOException If no connection could be established
+     */
+    public Protocol acquire() throws IOException {
+        mLock.lock();
+        try {
+            if (mIdleClose != null) {
+                mIdleClose.cancel(false);
+                mIdleClose = null;
+            }
+            if (mProtocol != null && !isUsable()) {
+                Log.d(TAG, "acquire: Connection is dead or too old, reconnecting");
+                discard();
+            }
+            if (mProtocol == null) {
+                Log.d(TAG, "acquire: Establishing new connection");
+                Connection conn = mFactory.open();
+                Protocol proto = new ProtobufProtocol(mVICBFCache);
+                int rv = proto.connect(conn);
+                if (rv != Protocol.CONNECT_OK) {
+                    proto.disconnect();
+                    throw new IOException("Protocol handshake failed with code " + rv);
+                }
+                mConnection = conn;
+                mProtocol = proto;
+                mConnectedAt = System.currentTimeMillis();
+            } else {
+                Log.d(TAG, "acquire: Reusing existing connection");
+            }
+            return mProtocol;
+        } catch (IOException | RuntimeException e) {
+            mLock.unlock();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Hand back the Protocol obtained from {@link #acquire()}. The connection is kept open for
+     * later use, unless it failed during the operation.
+     */
+    public void release() {
+        if (!mLock.isHeldByCurrentThread()) {
+            Log.w(TAG, "release: Lock not held, ignoring");
+            return;
+        }
+        try {
+            if (mConnection != null && !mConnection.isOpen()) {
+                Log.d(TAG, "release: Connection was closed during the operation, discarding it");
+                discard();
+            } else if (mProtocol != null) {
+                mLastUsed = System.currentTimeMillis();
+                mIdleClose = getScheduler().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        closeIfIdle();
+                    }
+                }, mIdleTimeout, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+
+    /**
+     * Close the connection, if there is one. Blocks until the Protocol has been released by the
+     * current user.
+     */
+    public void close() {
+        mLock.lock();
+        try {
+            if (mIdleClose != null) {
+                mIdleClose.cancel(false);
+                mIdleClose = null;
+            }
+            discard();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+
+    /**
+     * Check if the connection can be reused. Connections that have been idle for a while are
+     * probed, to detect connections that have been closed by the server. Connections older than
+     * MAX_CONNECTION_AGE are not reused, so that the VICBF does not become too stale.
+     * Must be called with the lock held.
+     * @return true if the connection can be reused, false otherwise
+     */
+    private boolean isUsable() {
+        long now = System.currentTimeMillis();
+        if (!mConnection.isOpen() || now - mConnectedAt > MAX_CONNECTION_AGE) return false;
+        if (now - mLastUsed < HEALTH_CHECK_INTERVAL) return true;
+        return mConnection.isAlive();
+    }
+
+
+    /**
+     * Close the connection if it has not been used since the idle timeout was scheduled
+     */
+    private void closeIfIdle() {
+        // If someone is using the connection right now, it is obviously not idle
+        if (!mLock.tryLock()) return;
+        try {
+            if (mProtocol != null && System.currentTimeMillis() - mLastUsed >= mIdleTimeout) {
+                Log.d(TAG, "closeIfIdle: Closing idle connection");
+                discard();
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+
+    /**
+     * Disconnect and forget the current Protocol. Must be called with the lock held.
+     */
+    private void discard() {
+        if (mProtocol != null) mProtocol.disconnect();
+        mProtocol = null;
+        mConnection = null;
+    }
+
+
+    /**
+     * Get the scheduler used to close idle connections
+     * @return The scheduler
+     */
+    private static synchronized ScheduledExecutorService getScheduler() {
+        if (sScheduler == null) {
+            sScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, TAG);
+                    // Do not keep the process alive just to close connections
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        return sScheduler;
+    }
+}
@@ -0,0 +1,206 @@
+package de.velcommuta.denul.networking;
+
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
+
+/**
+ * Codec for the length-prefixed frames used to exchange messages with the server. Every frame
+ * consists of the length of the message as a 4-byte big-endian integer, followed by the message.
+ * The codec keeps one buffered stream pair for the lifetime of the underlying streams, writes the
+ * header and the message into the same buffer, and reuses its receive buffer for frames that are
+ * parsed directly into protobuf messages.
+ */
+public class FrameCodec {
+    // Default maximum size of a frame, in bytes
+    public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    // Size of the buffers of the buffered streams
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+    // Receive buffers up to this size are kept for the next frame, larger ones are discarded
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+    private final InputStream mIn;
+    private final OutputStream mOut;
+    private final int mMaxFrameSize;
+    // Separate header buffers, so that one thread may read while another one writes
+    private final byte[] mReadHeader = new byte[4];
+    private final byte[] mWriteHeader = new byte[4];
+    // Reusable receive buffer
+    private byte[] mBuffer = new byte[1024];
+
+    /**
+     * Constructor, using the default maximum frame size
+     * @param in The stream to read frames from
+     * @param out The stream to write frames to
+     */
+    public FrameCodec(InputStream in, OutputStream out) {
+        this(in, out, DEFAULT_MAX_FRAME_SIZE);
+    }
+
+
+    /**
+     * Constructor
+     * @param in The stream to read frames from
+     * @param out The stream to write frames to
+     * @param maxFrameSize The maximum size of a frame in bytes, in either direction
+     */
+    public FrameCodec(InputStream in, OutputStream out, int maxFrameSize) {
+        mIn = new BufferedInputStream(in, STREAM_BUFFER_SIZE);
+        mOut = new BufferedOutputStream(out, STREAM_BUFFER_SIZE);
+        mMaxFrameSize = maxFrameSize;
+    }
+
+
+    /**
+     * Write a frame into the output buffer. The frame is not sent until {@link #flush()} is called
+     * or the buffer is full.
+     * @param message The message to send
+     * @throws IOException If the underlying stream throws it
+     * @throws ProtocolException If the message is larger than the maximum frame size. Nothing is
+     *                           written in that case.
+     */
+    public void writeFrame(byte[] message) throws IOException {
+        writeHeader(message.length);
+        mOut.write(message);
+    }
+
+
+    /**
+     * Serialize a protobuf message directly into the output buffer. The frame is not sent until
+     * {@link #flush()} is called or the buffer is full.
+     * @param message The message to send
+     * @throws IOException If the underlying stream throws it
+     * @throws ProtocolException If the message is larger than the maximum frame size. Nothing is
+     *                           written in that case.
+     */
+    public void writeFrame(MessageLite message) throws IOException {
+        writeHeader(message.getSerializedSize());
+        message.writeTo(mOut);
+    }
+
+
+    /**
+     * Send all buffered frames
+     * @throws IOException If the underlying stream throws it
+     */
+    public void flush() throws IOException {
+        mOut.flush();
+    }
+
+
+    /**
+     * Read a frame
+     * @return The message contained in the frame
+     * @throws IOException If the underlying stream throws it
+     * @throws EOFException If the stream ended before the frame was complete
+     * @throws ProtocolException If the frame is larger than the maximum frame size
+     */
+    public byte[] readFrame() throws IOException {
+        int length = readHeader();
+        byte[] message = new byte[length];
+        readFully(message, length);
+        return message;
+    }
+
+
+    /**
+     * Read a frame and parse it into a protobuf message, using the reusable receive buffer. The
+     * frame is consumed even if it cannot be parsed, so the stream stays usable in that case.
+     * @param parser The parser for the message
+     * @param <T> The type of the message
+     * @return The parsed message
+     * @throws IOException If the underlying stream throws it
+     * @throws EOFException If the stream ended before the frame was complete
+     * @throws ProtocolException If the frame is larger than the maximum frame size
+     * @throws com.google.protobuf.InvalidProtocolBufferException If the message could not be
+     *                                                            parsed
+     */
+    public <T> T readFrame(Parser<T> parser) throws IOException {
+        int length = readHeader();
+        byte[] buffer = mBuffer;
+        if (length > buffer.length) {
+            buffer = new byte[length];
+            if (length <= MAX_RETAINED_BUFFER_SIZE) mBuffer = buffer;
+        }
+        readFully(buffer, length);
+        return parser.parseFrom(buffer, 0, length);
+    }
+
+
+    /**
+     * Check that the other side has neither sent data nor closed the stream. Waits for data for
+     * the read timeout of the underlying socket, which has to be set to a small, non-zero value.
+     * After this function returned false, the stream must not be used any more.
+     * @return true if the stream is idle, false if it was closed or contains unexpected data
+     * @throws IOException If the underlying stream throws it
+     */
+    public boolean isIdle() throws IOException {
+        try {
+            mIn.read();
+        } catch (SocketTimeoutException e) {
+            return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Write a frame header into the output buffer
+     * @param length The length of the message
+     * @throws IOException If the underlying stream throws it
+     * @throws ProtocolException If the length exceeds the maximum frame size
+     */
+    private void writeHeader(int length) throws IOException {
+        if (length > mMaxFrameSize) {
+            throw new ProtocolException("Message of " + length + " bytes exceeds maximum frame size of " + mMaxFrameSize);
+        }
+        mWriteHeader[0] = (byte) (length >>> 24);
+        mWriteHeader[1] = (byte) (length >>> 16);
+        mWriteHeader[2] = (byte) (length >>> 8);
+        mWriteHeader[3] = (byte) length;
+        mOut.write(mWriteHeader);
+    }
+
+
+    /**
+     * Read and check a frame header
+     * @return The length of the message
+     * @throws IOException If the underlying stream throws it
+     * @throws ProtocolException If the length is invalid or exceeds the maximum frame size
+     */
+    private int readHeader() throws IOException {
+        readFully(mReadHeader, 4);
+        int length = ((mReadHeader[0] & 0xff) << 24) | ((mReadHeader[1] & 0xff) << 16)
+                | ((mReadHeader[2] & 0xff) << 8) | (mReadHeader[3] & 0xff);
+        if (length < 0 || length > mMaxFrameSize) {
+            throw new ProtocolException("Frame of " + length + " bytes exceeds maximum frame size of " + mMaxFrameSize);
+        }
+        return length;
+    }
+
+
+    /**
+     * Read exactly length bytes from the input stream
+     * @param buffer The buffer to read into
+     * @param length The number of bytes to read
+     * @throws IOException If the underlying stream throws it
+     * @throws EOFException If the stream ended before all bytes were read
+     */
+    private void readFully(byte[] buffer, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int n = mIn.read(buffer, read, length - read);
+            if (n < 0) throw new EOFException("Stream ended after " + read + " of " + length + " bytes");
+            read += n;
+        }
+    }
+}
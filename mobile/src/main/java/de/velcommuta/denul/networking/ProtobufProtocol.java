@@ -4,19 +4,23 @@ import android.support.annotation.Nullable;
 import android.util.Log;
 
 import com.google.protobuf.ByteString;
-import com.google.protobuf.InvalidProtocolBufferException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.crypto.IllegalBlockSizeException;
 
@@ -30,7 +34,7 @@ import de.velcommuta.denul.data.proto.DataContainer;
 import de.velcommuta.denul.networking.protobuf.c2s.C2S;
 import de.velcommuta.denul.networking.protobuf.meta.MetaMessage;
 import de.velcommuta.denul.networking.protobuf.study.StudyMessage;
-import de.velcommuta.denul.util.FormatHelper;
+import de.velcommuta.denul.util.Compression;
 import de.velcommuta.libvicbf.VICBF;
 
 /**
@@ -39,21 +43,72 @@ import de.velcommuta.libvicbf.VICBF;
 public class ProtobufProtocol implements Protocol {
     private static final String TAG = "ProtobufProtocol";
 
+    // Protocol version announced in the ClientHello (the highest version supported by the client)
+    private static final String PROTO_VERSION = "1.3";
+    // Protocol version without any extensions, used if the server rejects PROTO_VERSION
+    private static final String PROTO_VERSION_BASE = "1.0";
+    // First protocol version supporting the StoreBatch, GetBatch and DeleteBatch messages
+    private static final String PROTO_VERSION_BATCH = "1.1";
+    // First protocol version supporting incremental VICBF updates
+    private static final String PROTO_VERSION_DELTA = "1.2";
+    // First protocol version supporting request IDs, allowing the server to answer out of order
+    private static final String PROTO_VERSION_MULTIPLEX = "1.3";
+
+    // Maximum number of requests packed into a single *Batch message
+    private static final int BATCH_MAX_REQUESTS = 256;
+    // Maximum number of value bytes packed into a single StoreBatch message
+    private static final int BATCH_MAX_BYTES = 1024 * 1024;
+    // Maximum size of a decompressed VICBF, in bytes
+    private static final int MAX_VICBF_SIZE = 64 * 1024 * 1024;
+    // Maximum time to wait for the reply to a request, in milliseconds
+    private static final long REPLY_TIMEOUT = 30000;
+
     // Connection object
     Connection mConnection;
+    // Multiplexer used for all requests after the handshake
+    RequestMultiplexer mMultiplexer;
 
     VICBF mVICBF;
+    // Cache holding the last VICBF received from the server, to request only changes to it
+    VICBFCache mVICBFCache;
+
+    // Indicates if the server supports the *Batch messages
+    boolean mBatchSupported;
+    // Indicates if the server supports incremental VICBF updates
+    boolean mDeltaSupported;
+    // Indicates if the server supports request IDs
+    boolean mMultiplexSupported;
+
+    /**
+     * Constructor. The VICBF is retrieved in full on every connection.
+     */
+    public ProtobufProtocol() {
+        this(new VICBFCache());
+    }
+
+
+    /**
+     * Constructor
+     * @param cache The VICBFCache to use. If the same cache is passed to every ProtobufProtocol
+     *              connecting to a server, only the changes since the last connection are
+     *              retrieved from servers that support it.
+     */
+    public ProtobufProtocol(VICBFCache cache) {
+        mVICBFCache = cache;
+    }
 
     @Override
     public int connect(Connection conn) {
-        // Store the connection object
+        // Store the connection object. The handshake is performed synchronously.
         mConnection = conn;
+        mMultiplexer = null;
         if (!mConnection.isOpen()) {
             Log.e(TAG, "connect: Connection is not connected");
             return CONNECT_FAIL_NO_CONNECTION;
         }
         // Get a clientHello message
-        MetaMessage.Wrapper ch = getClientHelloMsg();
+        boolean requestedDelta = mVICBFCache.isValid();
+        MetaMessage.Wrapper ch = getClientHelloMsg(PROTO_VERSION);
 
         // Transceive and get reply wrapper message
         Log.d(TAG, "connect: Sending ClientHello");
@@ -64,29 +119,47 @@ public class ProtobufProtocol implements Protocol {
         }
         // Extract the ServerHello from the wrapper
         C2S.ServerHello serverHello = toServerHello(reply);
+        if (serverHello != null && serverHello.getOpcode() == C2S.ServerHello.ClientHelloReplyCode.CLIENT_HELLO_PROTO_NOT_SUPPORTED) {
+            // The server does not know our protocol version. Retry with the base version.
+            Log.w(TAG, "connect: Server does not support protocol " + PROTO_VERSION + ", retrying with " + PROTO_VERSION_BASE);
+            requestedDelta = false;
+            reply = transceiveWrapper(getClientHelloMsg(PROTO_VERSION_BASE));
+            if (reply == null) {
+                Log.e(TAG, "connect: Wrapper parsing failed, aborting");
+                return CONNECT_FAIL_PROTOCOL_ERROR;
+            }
+            serverHello = toServerHello(reply);
+            if (serverHello != null && serverHello.getOpcode() == C2S.ServerHello.ClientHelloReplyCode.CLIENT_HELLO_PROTO_NOT_SUPPORTED) {
+                Log.e(TAG, "connect: Server does not support protocol " + PROTO_VERSION_BASE + ", aborting");
+                return CONNECT_FAIL_SERVER_PROTO;
+            }
+        }
         if (serverHello != null) {
-            // If there are ever more protocol versions, implement a version check here.
-            // For now, we will assume that the server is using a compatible protocol or will
-            // dial itself back to our protocol version if it also knows later protocol versions
-            if (serverHello.hasData()) {
-                try {
-                    Log.d(TAG, "connect: Compressed: " + FormatHelper.bytesToHex(serverHello.getData().toByteArray()));
-                    byte[] decompressed = decompress_data(serverHello.getData().toByteArray());
-                    Log.d(TAG, "connect: Decompressed: " + FormatHelper.bytesToHex(decompressed));
-                    mVICBF = VICBF.deserialize(decompressed);
-                    Log.d(TAG, "connect: Deserialized VICBF");
-                } catch (IOException e) {
-                    Log.e(TAG, "connect: IOException while parsing VICBF. Aborting");
-                    return CONNECT_FAIL_PROTOCOL_ERROR;
+            // We assume that the server is using a compatible protocol or will dial itself back
+            // to our protocol version if it also knows later protocol versions. Extensions are
+            // only used if the server announced a version that supports them.
+            mBatchSupported = compareProtocolVersions(serverHello.getServerProto(), PROTO_VERSION_BATCH) >= 0;
+            mDeltaSupported = compareProtocolVersions(serverHello.getServerProto(), PROTO_VERSION_DELTA) >= 0;
+            mMultiplexSupported = compareProtocolVersions(serverHello.getServerProto(), PROTO_VERSION_MULTIPLEX) >= 0;
+            Log.d(TAG, "connect: Server speaks protocol " + serverHello.getServerProto() + ", batching: " + mBatchSupported + ", VICBF updates: " + mDeltaSupported + ", request IDs: " + mMultiplexSupported);
+            boolean versioned = mDeltaSupported && serverHello.hasVicbfEpoch() && serverHello.hasVicbfVersion();
+            if (!loadVICBF(serverHello.hasData() ? serverHello.getData() : null,
+                    versioned, serverHello.getVicbfEpoch(), serverHello.getVicbfVersion(),
+                    serverHello.hasVicbfDelta() ? serverHello.getVicbfDelta() : null)) {
+                if (requestedDelta) {
+                    // The cached VICBF may be broken. Retry without it, receiving the full VICBF
+                    Log.w(TAG, "connect: Could not update cached VICBF, requesting full VICBF");
+                    mVICBFCache.invalidate();
+                    return connect(conn);
                 }
-            } else {
-                Log.e(TAG, "connect: ServerHello did not contain VICBF data");
+                Log.e(TAG, "connect: ServerHello did not contain valid VICBF data");
                 return CONNECT_FAIL_PROTOCOL_ERROR;
             }
         } else {
             Log.e(TAG, "connect: ServerHello parsing failed");
             return CONNECT_FAIL_PROTOCOL_ERROR;
         }
+        mMultiplexer = new RequestMultiplexer(mConnection, mMultiplexSupported);
         return CONNECT_OK;
     }
 
@@ -135,34 +208,8 @@ public class ProtobufProtocol implements Protocol {
                 // The Keys do not match
                 Log.w(TAG, "get: Server replied for different key, aborting");
                 return GET_FAIL_PROTOCOL_ERROR;
-            } else if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_FAIL_UNKNOWN_KEY) {
-                // The server does not know about this key
-                Log.w(TAG, "get: Get failed, server does not hold a value for the key");
-                return GET_FAIL_KEY_NOT_TAKEN;
-            } else if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_FAIL_UNKNOWN) {
-                // The server has encountered an unknown error
-                Log.e(TAG, "get: Get failed, server error");
-                return GET_FAIL_PROTOCOL_ERROR;
-            } else if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_FAIL_KEY_FMT) {
-                // The server complained about the key format
-                Log.e(TAG, "get: Get failed, bad key format");
-                return GET_FAIL_KEY_FMT;
-            } else if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_OK) {
-                // The server retrieved the value for us
-                // Check if the Value field is set
-                if (getReply.hasValue()) {
-                    // Return the value
-                    return getReply.getValue().toByteArray();
-                } else {
-                    // The server did not send the value - this should not happen :(
-                    Log.e(TAG, "get: Server reply did not contain data even though it should have");
-                    return GET_FAIL_PROTOCOL_ERROR;
-                }
-            } else {
-                // This condition should never occur if the protocol is used correctly
-                Log.e(TAG, "get: No conditional held, something is wrong");
-                return GET_FAIL_PROTOCOL_ERROR;
             }
+            return evaluateGetReply(getReply);
         } else {
             return GET_FAIL_KEY_NOT_TAKEN;
         }
@@ -172,8 +219,56 @@ public class ProtobufProtocol implements Protocol {
     @Override
     public Map<TokenPair, byte[]> getMany(List<TokenPair> keys) {
         Map<TokenPair, byte[]> rv = new HashMap<>();
-        for (TokenPair key : keys) {
-            rv.put(key, get(key));
+        // Check if the Connection is still open
+        if (!mConnection.isOpen()) {
+            Log.e(TAG, "getMany: Underlying Connection not connected");
+            for (TokenPair token : keys) {
+                rv.put(token, GET_FAIL_NO_CONNECTION);
+            }
+            return rv;
+        }
+        // Collect all keys that may be on the server
+        List<byte[]> requests = new LinkedList<>();
+        Map<ByteBuffer, LinkedList<TokenPair>> pending = new HashMap<>();
+        for (TokenPair token : keys) {
+            byte[] key = token.getIdentifier();
+            if (!checkKeyFormat(key)) {
+                Log.e(TAG, "getMany: Bad key format");
+                rv.put(token, GET_FAIL_KEY_FMT);
+            } else if (!mVICBF.query(key)) {
+                rv.put(token, GET_FAIL_KEY_NOT_TAKEN);
+            } else {
+                requests.add(key);
+                addPending(pending, key, token);
+            }
+        }
+        if (requests.size() == 0) return rv;
+        // Send all Get requests in one go and receive the replies
+        List<C2S.GetReply> replies = transceiveGets(requests);
+        if (replies == null) {
+            Log.e(TAG, "getMany: TransceiveGets failed, aborting");
+            for (List<TokenPair> tokens : pending.values()) {
+                for (TokenPair token : tokens) {
+                    rv.put(token, GET_FAIL_NO_CONNECTION);
+                }
+            }
+            return rv;
+        }
+        // Match the replies to the requested keys
+        for (C2S.GetReply getReply : replies) {
+            TokenPair token = takePending(pending, getReply.getKey().toByteArray());
+            if (token == null) {
+                Log.w(TAG, "getMany: Server replied for a key we did not request, skipping");
+                continue;
+            }
+            rv.put(token, evaluateGetReply(getReply));
+        }
+        // Any keys that are still pending did not receive a matching reply
+        for (List<TokenPair> tokens : pending.values()) {
+            for (TokenPair token : tokens) {
+                Log.e(TAG, "getMany: No reply received for key");
+                rv.put(token, GET_FAIL_PROTOCOL_ERROR);
+            }
         }
         return rv;
     }
@@ -210,27 +305,13 @@ public class ProtobufProtocol implements Protocol {
             // Server did not reply with the correct key
             Log.e(TAG, "put: Reply contained incorrect key");
             return PUT_FAIL_PROTOCOL_ERROR;
-        } else if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_FAIL_KEY_TAKEN) {
-            // Server replied that the key was already taken
-            Log.e(TAG, "put: Put failed, key was already taken");
-            return PUT_FAIL_KEY_TAKEN;
-        } else if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_FAIL_KEY_FMT) {
-            // Server complained about the key format
-            Log.e(TAG, "put: Put failed, bad key format");
-            return PUT_FAIL_KEY_FMT;
-        } else if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_FAIL_UNKNOWN) {
-            // Server experienced unknown error :(
-            Log.e(TAG, "put: Server got unknown error");
-            return PUT_FAIL_PROTOCOL_ERROR;
-        } else if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_OK) {
-            // Success
+        }
+        int rv = evaluateStoreReply(storeReply);
+        if (rv == PUT_OK) {
             // Put the key into the local VICBF
             mVICBF.insert(key);
-            // Return success
-            return PUT_OK;
         }
-        // This statement should be unreachable if nothing went completely wrong
-        return PUT_FAIL_PROTOCOL_ERROR;
+        return rv;
     }
 
 
@@ -238,9 +319,61 @@ public class ProtobufProtocol implements Protocol {
     public Map<DataBlock, Integer> putMany(List<DataBlock> records) {
         // Prepare return-hashtable
         Map<DataBlock, Integer> rv = new HashMap<>();
-        // Send inserts for all values in the input dictionary
-        for (DataBlock key : records) {
-            rv.put(key, put(key));
+        // Check if the Connection is still open
+        if (!mConnection.isOpen()) {
+            Log.e(TAG, "putMany: Underlying Connection not connected");
+            for (DataBlock record : records) {
+                rv.put(record, PUT_FAIL_NO_CONNECTION);
+            }
+            return rv;
+        }
+        // Collect all well-formed records
+        List<DataBlock> requests = new LinkedList<>();
+        Map<ByteBuffer, LinkedList<DataBlock>> pending = new HashMap<>();
+        for (DataBlock record : records) {
+            byte[] key = record.getIdentifier();
+            byte[] value = record.getCiphertext();
+            if (!checkKeyFormat(key) || value == null) {
+                Log.e(TAG, "putMany: Bad key or value format");
+                rv.put(record, PUT_FAIL_KEY_FMT);
+            } else {
+                requests.add(record);
+                addPending(pending, key, record);
+            }
+        }
+        if (requests.size() == 0) return rv;
+        // Send all Store requests in one go and receive the replies
+        List<C2S.StoreReply> replies = transceiveStores(requests);
+        if (replies == null) {
+            Log.e(TAG, "putMany: TransceiveStores failed, aborting");
+            for (List<DataBlock> blocks : pending.values()) {
+                for (DataBlock record : blocks) {
+                    rv.put(record, PUT_FAIL_NO_CONNECTION);
+                }
+            }
+            return rv;
+        }
+        // Match the replies to the stored records
+        for (C2S.StoreReply storeReply : replies) {
+            byte[] key = storeReply.getKey().toByteArray();
+            DataBlock record = takePending(pending, key);
+            if (record == null) {
+                Log.w(TAG, "putMany: Server replied for a key we did not store, skipping");
+                continue;
+            }
+            int result = evaluateStoreReply(storeReply);
+            if (result == PUT_OK) {
+                // Put the key into the local VICBF
+                mVICBF.insert(key);
+            }
+            rv.put(record, result);
+        }
+        // Any records that are still pending did not receive a matching reply
+        for (List<DataBlock> blocks : pending.values()) {
+            for (DataBlock record : blocks) {
+                Log.e(TAG, "putMany: No reply received for key");
+                rv.put(record, PUT_FAIL_PROTOCOL_ERROR);
+            }
         }
         return rv;
     }
@@ -282,36 +415,18 @@ public class ProtobufProtocol implements Protocol {
             // Server did not reply with the correct key
             Log.e(TAG, "del: Reply contained incorrect key");
             return DEL_FAIL_PROTOCOL_ERROR;
-        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_OK) {
-            // Success
+        }
+        int rv = evaluateDeleteReply(deleteReply);
+        if (rv == DEL_OK) {
             // Remove the key from the VICBF
             try {
                 mVICBF.remove(key);
             } catch (Exception e) {
                 Log.e(TAG, "del: Exception while trying to delete key from VICBF: " + e);
-                // TODO Update if the VICBF retrieval code moves
-                connect(mConnection);
+                refreshVICBF();
             }
-            return DEL_OK;
-        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_NOT_FOUND) {
-            // Server replied that no such key is stored on it
-            Log.w(TAG, "del: Deletion failed, no such key");
-            return DEL_FAIL_KEY_NOT_TAKEN;
-        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_KEY_FMT) {
-            // Server complained about the key format
-            Log.e(TAG, "del: Deletion failed, bad key format");
-            return DEL_FAIL_KEY_FMT;
-        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_UNKNOWN) {
-            // Server experienced unknown error :(
-            Log.e(TAG, "del: Server got unknown error");
-            return DEL_FAIL_PROTOCOL_ERROR;
-        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_AUTH) {
-            // Authentication token was not accepted by the server
-            Log.e(TAG, "del: Authentication failed");
-            return DEL_FAIL_AUTH_INCORRECT;
         }
-        // This statement should be unreachable if nothing went completely wrong
-        return PUT_FAIL_PROTOCOL_ERROR;
+        return rv;
     }
 
 
@@ -319,9 +434,74 @@ public class ProtobufProtocol implements Protocol {
     public Map<TokenPair, Integer> delMany(List<TokenPair> records) {
         // Prepare return-hashtable
         Map<TokenPair, Integer> rv = new HashMap<>();
-        // Send deletes for all key-authenticator-pairs in the input dictionary
-        for (TokenPair key : records) {
-            rv.put(key, del(key));
+        // Check if the Connection is still open
+        if (!mConnection.isOpen()) {
+            Log.e(TAG, "delMany: Underlying Connection not connected");
+            for (TokenPair token : records) {
+                rv.put(token, DEL_FAIL_NO_CONNECTION);
+            }
+            return rv;
+        }
+        // Collect all keys that may be on the server
+        List<TokenPair> requests = new LinkedList<>();
+        Map<ByteBuffer, LinkedList<TokenPair>> pending = new HashMap<>();
+        for (TokenPair token : records) {
+            byte[] key = token.getIdentifier();
+            byte[] auth = token.getRevocation();
+            if (!checkKeyFormat(key) || auth == null || !checkAuthenticator(key, auth)) {
+                Log.e(TAG, "delMany: Bad key or authenticator format");
+                rv.put(token, DEL_FAIL_KEY_FMT);
+            } else if (!mVICBF.query(key)) {
+                Log.i(TAG, "delMany: Deletion failed, key not on the server");
+                rv.put(token, DEL_FAIL_KEY_NOT_TAKEN);
+            } else {
+                requests.add(token);
+                addPending(pending, key, token);
+            }
+        }
+        if (requests.size() == 0) return rv;
+        // Send all Delete requests in one go and receive the replies
+        List<C2S.DeleteReply> replies = transceiveDeletes(requests);
+        if (replies == null) {
+            Log.e(TAG, "delMany: TransceiveDeletes failed, aborting");
+            for (List<TokenPair> tokens : pending.values()) {
+                for (TokenPair token : tokens) {
+                    rv.put(token, DEL_FAIL_NO_CONNECTION);
+                }
+            }
+            return rv;
+        }
+        // Match the replies to the deleted keys
+        boolean refetch = false;
+        for (C2S.DeleteReply deleteReply : replies) {
+            byte[] key = deleteReply.getKey().toByteArray();
+            TokenPair token = takePending(pending, key);
+            if (token == null) {
+                Log.w(TAG, "delMany: Server replied for a key we did not delete, skipping");
+                continue;
+            }
+            int result = evaluateDeleteReply(deleteReply);
+            if (result == DEL_OK) {
+                // Remove the key from the VICBF
+                try {
+                    mVICBF.remove(key);
+                } catch (Exception e) {
+                    Log.e(TAG, "delMany: Exception while trying to delete key from VICBF: " + e);
+                    refetch = true;
+                }
+            }
+            rv.put(token, result);
+        }
+        // Any keys that are still pending did not receive a matching reply
+        for (List<TokenPair> tokens : pending.values()) {
+            for (TokenPair token : tokens) {
+                Log.e(TAG, "delMany: No reply received for key");
+                rv.put(token, DEL_FAIL_PROTOCOL_ERROR);
+            }
+        }
+        if (refetch) {
+            // The local VICBF is inconsistent, get a fresh copy once all replies have been read
+            refreshVICBF();
         }
         return rv;
     }
@@ -331,7 +511,7 @@ public class ProtobufProtocol implements Protocol {
     public int revoke(TokenPair pair) {
         int rv = del(pair);
         if (rv == DEL_OK) {
-            put(new DataBlock(new byte[] {0x42}, new byte[] {0x42}, pair.getIdentifier()));
+            put(getRevocationPlaceholder(pair));
             return REV_OK;
         } else {
             return rv;  // The values of the DEL_* constants semantically match the REV_* constants
@@ -344,9 +524,20 @@ public class ProtobufProtocol implements Protocol {
         // Prepare return-hashtable
         Map<TokenPair, Integer> rv = new HashMap<>();
         // Send deletes for all key-authenticator-pairs in the input dictionary
-        for (TokenPair key : pairs) {
-            rv.put(key, revoke(key));
+        Map<TokenPair, Integer> deleted = delMany(pairs);
+        // Prepare placeholders for all successfully deleted keys
+        List<DataBlock> placeholders = new LinkedList<>();
+        for (TokenPair pair : pairs) {
+            int result = deleted.get(pair);
+            if (result == DEL_OK) {
+                placeholders.add(getRevocationPlaceholder(pair));
+                rv.put(pair, REV_OK);
+            } else {
+                rv.put(pair, result);  // The values of the DEL_* constants semantically match the REV_* constants
+            }
         }
+        // Store all placeholders in one go
+        if (placeholders.size() > 0) putMany(placeholders);
         return rv;
     }
 
@@ -446,30 +637,392 @@ public class ProtobufProtocol implements Protocol {
      * @return The Wrapper that was received in return, or null, if an error occured
      */
     private MetaMessage.Wrapper transceiveWrapper(MetaMessage.Wrapper wrapper) {
-        // prepare a byte[] for the reply
-        byte[] reply;
+        MetaMessage.Wrapper reply;
         try {
-            // Transceive, saving the result into the byte[]
-            reply = mConnection.transceive(wrapper.toByteArray());
+            if (mMultiplexer != null) {
+                reply = awaitReply(mMultiplexer.submit(wrapper));
+            } else {
+                // Transceive, parsing the reply directly from the connection
+                reply = mConnection.transceive(wrapper, MetaMessage.Wrapper.PARSER);
+            }
         } catch (IOException e) {
-            Log.e(TAG, "connect: IOException during communcation: " + e.toString());
+            Log.e(TAG, "transceiveWrapper: IOException during communcation: " + e.toString());
             return null;
         }
-        // Convert byte[] into Wrapper and return it
-        return toWrapperMessage(reply);
+        if (reply == null) Log.e(TAG, "transceiveWrapper: Message was no wrapper message.");
+        return reply;
     }
 
 
     /**
-     * Create a ClientHello message for the current protocol version
+     * Send a number of wrapper messages to the server without waiting for the individual replies,
+     * and receive and parse the wrapper messages sent in return
+     * @param wrappers The List of wrappers to send to the server
+     * @return The List of Wrappers that were received in return, or null, if an error occured.
+     *         Replies that could not be parsed are omitted.
+     */
+    private List<MetaMessage.Wrapper> transceiveWrappers(List<MetaMessage.Wrapper> wrappers) {
+        List<MetaMessage.Wrapper> replies;
+        try {
+            if (mMultiplexer != null) {
+                // Send all requests at once, while the replies are received in the background
+                replies = new ArrayList<>(wrappers.size());
+                for (Future<MetaMessage.Wrapper> reply : mMultiplexer.submitAll(wrappers)) {
+                    replies.add(awaitReply(reply));
+                }
+            } else {
+                // Transceive, parsing the replies directly from the connection
+                replies = mConnection.transceiveMany(wrappers, MetaMessage.Wrapper.PARSER);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "transceiveWrappers: IOException during communcation: " + e.toString());
+            return null;
+        }
+        // Drop the replies that could not be parsed
+        List<MetaMessage.Wrapper> rv = new ArrayList<>(replies.size());
+        for (MetaMessage.Wrapper reply : replies) {
+            if (reply != null) {
+                rv.add(reply);
+            } else {
+                Log.e(TAG, "transceiveWrappers: Message was no wrapper message.");
+            }
+        }
+        return rv;
+    }
+
+
+    /**
+     * Wait for the reply to a request sent using the {@link RequestMultiplexer}. If the reply does
+     * not arrive in time, the server is considered unresponsive and the connection is closed, which
+     * also fails all other pending requests.
+     * @param reply The Future for the reply
+     * @return The reply, or null, if it could not be parsed
+     * @throws IOException If the connection failed, the reply timed out or the thread was
+     *                     interrupted while waiting
+     */
+    private MetaMessage.Wrapper awaitReply(Future<MetaMessage.Wrapper> reply) throws IOException {
+        try {
+            return reply.get(REPLY_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Log.e(TAG, "awaitReply: No reply after " + REPLY_TIMEOUT + "ms, closing connection");
+            reply.cancel(false);
+            try {
+                mConnection.close();
+            } catch (IOException e1) {
+                Log.w(TAG, "awaitReply: IOException while closing connection, ignoring");
+            }
+            throw new SocketTimeoutException("Timed out waiting for reply");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for reply");
+        }
+    }
+
+
+    /**
+     * Send Get requests for a number of keys and receive the replies. If the server supports it,
+     * the requests are packed into GetBatch messages, otherwise one Get message is sent per key.
+     * Either way, all messages are pipelined.
+     * @param keys The keys to retrieve
+     * @return The List of GetReplies sent by the server, or null, if an error occured
+     */
+    private List<C2S.GetReply> transceiveGets(List<byte[]> keys) {
+        List<MetaMessage.Wrapper> requests = new LinkedList<>();
+        if (mBatchSupported) {
+            C2S.GetBatch.Builder batch = C2S.GetBatch.newBuilder();
+            for (byte[] key : keys) {
+                batch.addRequests(C2S.Get.newBuilder().setKey(ByteString.copyFrom(key)));
+                if (batch.getRequestsCount() == BATCH_MAX_REQUESTS) {
+                    requests.add(MetaMessage.Wrapper.newBuilder().setGetBatch(batch).build());
+                    batch = C2S.GetBatch.newBuilder();
+                }
+            }
+            if (batch.getRequestsCount() > 0) {
+                requests.add(MetaMessage.Wrapper.newBuilder().setGetBatch(batch).build());
+            }
+        } else {
+            for (byte[] key : keys) {
+                requests.add(getGetMsg(key));
+            }
+        }
+        List<MetaMessage.Wrapper> replies = transceiveWrappers(requests);
+        if (replies == null) return null;
+        // Unpack the replies
+        List<C2S.GetReply> rv = new LinkedList<>();
+        for (MetaMessage.Wrapper reply : replies) {
+            if (reply.hasGetBatchReply()) {
+                rv.addAll(reply.getGetBatchReply().getRepliesList());
+            } else if (reply.hasGetReply()) {
+                rv.add(reply.getGetReply());
+            } else {
+                Log.e(TAG, "transceiveGets: Wrapper did not contain a GetReply or GetBatchReply, skipping");
+            }
+        }
+        return rv;
+    }
+
+
+    /**
+     * Send Store requests for a number of records and receive the replies. If the server supports
+     * it, the requests are packed into StoreBatch messages, otherwise one Store message is sent per
+     * record. Either way, all messages are pipelined.
+     * @param records The records to store
+     * @return The List of StoreReplies sent by the server, or null, if an error occured
+     */
+    private List<C2S.StoreReply> transceiveStores(List<DataBlock> records) {
+        List<MetaMessage.Wrapper> requests = new LinkedList<>();
+        if (mBatchSupported) {
+            C2S.StoreBatch.Builder batch = C2S.StoreBatch.newBuilder();
+            int batchBytes = 0;
+            for (DataBlock record : records) {
+                byte[] value = record.getCiphertext();
+                // Start a new batch if this value would push the current batch over the size limit
+                if (batch.getRequestsCount() > 0 && batchBytes + value.length > BATCH_MAX_BYTES) {
+                    requests.add(MetaMessage.Wrapper.newBuilder().setStoreBatch(batch).build());
+                    batch = C2S.StoreBatch.newBuilder();
+                    batchBytes = 0;
+                }
+                batch.addRequests(C2S.Store.newBuilder()
+                        .setKey(ByteString.copyFrom(record.getIdentifier()))
+                        .setValue(ByteString.copyFrom(value)));
+                batchBytes += value.length;
+                if (batch.getRequestsCount() == BATCH_MAX_REQUESTS) {
+                    requests.add(MetaMessage.Wrapper.newBuilder().setStoreBatch(batch).build());
+                    batch = C2S.StoreBatch.newBuilder();
+                    batchBytes = 0;
+                }
+            }
+            if (batch.getRequestsCount() > 0) {
+                requests.add(MetaMessage.Wrapper.newBuilder().setStoreBatch(batch).build());
+            }
+        } else {
+            for (DataBlock record : records) {
+                requests.add(getStoreMsg(record.getIdentifier(), record.getCiphertext()));
+            }
+        }
+        List<MetaMessage.Wrapper> replies = transceiveWrappers(requests);
+        if (replies == null) return null;
+        // Unpack the replies
+        List<C2S.StoreReply> rv = new LinkedList<>();
+        for (MetaMessage.Wrapper reply : replies) {
+            if (reply.hasStoreBatchReply()) {
+                rv.addAll(reply.getStoreBatchReply().getRepliesList());
+            } else if (reply.hasStoreReply()) {
+                rv.add(reply.getStoreReply());
+            } else {
+                Log.e(TAG, "transceiveStores: Wrapper did not contain a StoreReply or StoreBatchReply, skipping");
+            }
+        }
+        return rv;
+    }
+
+
+    /**
+     * Send Delete requests for a number of keys and receive the replies. If the server supports
+     * it, the requests are packed into DeleteBatch messages, otherwise one Delete message is sent
+     * per key. Either way, all messages are pipelined.
+     * @param tokens The {@link TokenPair}s containing the keys and authenticators
+     * @return The List of DeleteReplies sent by the server, or null, if an error occured
+     */
+    private List<C2S.DeleteReply> transceiveDeletes(List<TokenPair> tokens) {
+        List<MetaMessage.Wrapper> requests = new LinkedList<>();
+        if (mBatchSupported) {
+            C2S.DeleteBatch.Builder batch = C2S.DeleteBatch.newBuilder();
+            for (TokenPair token : tokens) {
+                batch.addRequests(C2S.Delete.newBuilder()
+                        .setKey(ByteString.copyFrom(token.getIdentifier()))
+                        .setAuth(ByteString.copyFrom(token.getRevocation())));
+                if (batch.getRequestsCount() == BATCH_MAX_REQUESTS) {
+                    requests.add(MetaMessage.Wrapper.newBuilder().setDeleteBatch(batch).build());
+                    batch = C2S.DeleteBatch.newBuilder();
+                }
+            }
+            if (batch.getRequestsCount() > 0) {
+                requests.add(MetaMessage.Wrapper.newBuilder().setDeleteBatch(batch).build());
+            }
+        } else {
+            for (TokenPair token : tokens) {
+                requests.add(getDeleteMessage(token.getIdentifier(), token.getRevocation()));
+            }
+        }
+        List<MetaMessage.Wrapper> replies = transceiveWrappers(requests);
+        if (replies == null) return null;
+        // Unpack the replies
+        List<C2S.DeleteReply> rv = new LinkedList<>();
+        for (MetaMessage.Wrapper reply : replies) {
+            if (reply.hasDeleteBatchReply()) {
+                rv.addAll(reply.getDeleteBatchReply().getRepliesList());
+            } else if (reply.hasDeleteReply()) {
+                rv.add(reply.getDeleteReply());
+            } else {
+                Log.e(TAG, "transceiveDeletes: Wrapper did not contain a DeleteReply or DeleteBatchReply, skipping");
+            }
+        }
+        return rv;
+    }
+
+
+    /**
+     * Remember an item as waiting for the reply to the message for a specific key. Multiple items
+     * may wait for the same key, and will be returned in the order in which they were added.
+     * @param pending The Map of pending items, indexed by key
+     * @param key The key of the message that was sent for the item
+     * @param item The item
+     * @param <T> The type of the item
+     */
+    private static <T> void addPending(Map<ByteBuffer, LinkedList<T>> pending, byte[] key, T item) {
+        ByteBuffer index = ByteBuffer.wrap(key);
+        LinkedList<T> items = pending.get(index);
+        if (items == null) {
+            items = new LinkedList<>();
+            pending.put(index, items);
+        }
+        items.add(item);
+    }
+
+
+    /**
+     * Retrieve and forget the item waiting for the reply for a specific key
+     * @param pending The Map of pending items, indexed by key
+     * @param key The key the reply was sent for
+     * @param <T> The type of the item
+     * @return The item waiting for the reply, or null if no item was waiting for this key
+     */
+    private static <T> T takePending(Map<ByteBuffer, LinkedList<T>> pending, byte[] key) {
+        ByteBuffer index = ByteBuffer.wrap(key);
+        LinkedList<T> items = pending.get(index);
+        if (items == null) return null;
+        T item = items.removeFirst();
+        if (items.size() == 0) pending.remove(index);
+        return item;
+    }
+
+
+    /**
+     * Evaluate the opcode of a GetReply that has already been matched to the requested key
+     * @param getReply The GetReply
+     * @return The value contained in the reply, or one of the GET_* constants if an error occured
+     */
+    private byte[] evaluateGetReply(C2S.GetReply getReply) {
+        if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_FAIL_UNKNOWN_KEY) {
+            // The server does not know about this key
+            Log.w(TAG, "evaluateGetReply: Get failed, server does not hold a value for the key");
+            return GET_FAIL_KEY_NOT_TAKEN;
+        } else if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_FAIL_UNKNOWN) {
+            // The server has encountered an unknown error
+            Log.e(TAG, "evaluateGetReply: Get failed, server error");
+            return GET_FAIL_PROTOCOL_ERROR;
+        } else if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_FAIL_KEY_FMT) {
+            // The server complained about the key format
+            Log.e(TAG, "evaluateGetReply: Get failed, bad key format");
+            return GET_FAIL_KEY_FMT;
+        } else if (getReply.getOpcode() == C2S.GetReply.GetReplyCode.GET_OK) {
+            // The server retrieved the value for us
+            // Check if the Value field is set
+            if (getReply.hasValue()) {
+                // Return the value
+                return getReply.getValue().toByteArray();
+            } else {
+                // The server did not send the value - this should not happen :(
+                Log.e(TAG, "evaluateGetReply: Server reply did not contain data even though it should have");
+                return GET_FAIL_PROTOCOL_ERROR;
+            }
+        } else {
+            // This condition should never occur if the protocol is used correctly
+            Log.e(TAG, "evaluateGetReply: No conditional held, something is wrong");
+            return GET_FAIL_PROTOCOL_ERROR;
+        }
+    }
+
+
+    /**
+     * Evaluate the opcode of a StoreReply that has already been matched to the stored key
+     * @param storeReply The StoreReply
+     * @return One of the PUT_* constants, indicating the result of the operation
+     */
+    private int evaluateStoreReply(C2S.StoreReply storeReply) {
+        if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_FAIL_KEY_TAKEN) {
+            // Server replied that the key was already taken
+            Log.e(TAG, "evaluateStoreReply: Put failed, key was already taken");
+            return PUT_FAIL_KEY_TAKEN;
+        } else if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_FAIL_KEY_FMT) {
+            // Server complained about the key format
+            Log.e(TAG, "evaluateStoreReply: Put failed, bad key format");
+            return PUT_FAIL_KEY_FMT;
+        } else if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_FAIL_UNKNOWN) {
+            // Server experienced unknown error :(
+            Log.e(TAG, "evaluateStoreReply: Server got unknown error");
+            return PUT_FAIL_PROTOCOL_ERROR;
+        } else if (storeReply.getOpcode() == C2S.StoreReply.StoreReplyCode.STORE_OK) {
+            // Success
+            return PUT_OK;
+        }
+        // This statement should be unreachable if nothing went completely wrong
+        return PUT_FAIL_PROTOCOL_ERROR;
+    }
+
+
+    /**
+     * Evaluate the opcode of a DeleteReply that has already been matched to the deleted key
+     * @param deleteReply The DeleteReply
+     * @return One of the DEL_* constants, indicating the result of the operation
+     */
+    private int evaluateDeleteReply(C2S.DeleteReply deleteReply) {
+        if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_OK) {
+            // Success
+            return DEL_OK;
+        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_NOT_FOUND) {
+            // Server replied that no such key is stored on it
+            Log.w(TAG, "evaluateDeleteReply: Deletion failed, no such key");
+            return DEL_FAIL_KEY_NOT_TAKEN;
+        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_KEY_FMT) {
+            // Server complained about the key format
+            Log.e(TAG, "evaluateDeleteReply: Deletion failed, bad key format");
+            return DEL_FAIL_KEY_FMT;
+        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_UNKNOWN) {
+            // Server experienced unknown error :(
+            Log.e(TAG, "evaluateDeleteReply: Server got unknown error");
+            return DEL_FAIL_PROTOCOL_ERROR;
+        } else if (deleteReply.getOpcode() == C2S.DeleteReply.DeleteReplyCode.DELETE_FAIL_AUTH) {
+            // Authentication token was not accepted by the server
+            Log.e(TAG, "evaluateDeleteReply: Authentication failed");
+            return DEL_FAIL_AUTH_INCORRECT;
+        }
+        // This statement should be unreachable if nothing went completely wrong
+        return DEL_FAIL_PROTOCOL_ERROR;
+    }
+
+
+    /**
+     * Create the placeholder DataBlock that is stored under the identifier of a revoked share, so
+     * that the recipient can notice the revocation and continue with the next identifier
+     * @param pair The {@link TokenPair} of the revoked share
+     * @return A DataBlock containing the revocation placeholder
+     */
+    private DataBlock getRevocationPlaceholder(TokenPair pair) {
+        return new DataBlock(new byte[] {0x42}, new byte[] {0x42}, pair.getIdentifier());
+    }
+
+
+    /**
+     * Create a ClientHello message for a protocol version
+     * @param version The protocol version to announce
      * @return A wrapper message containing a ClientHello message
      */
-    private MetaMessage.Wrapper getClientHelloMsg() {
+    private MetaMessage.Wrapper getClientHelloMsg(String version) {
         // Get a ClientHello builder and a wrapper builder
         C2S.ClientHello.Builder clientHello = C2S.ClientHello.newBuilder();
         MetaMessage.Wrapper.Builder wrapper = MetaMessage.Wrapper.newBuilder();
         // Set the client protocol version
-        clientHello.setClientProto("1.0");
+        clientHello.setClientProto(version);
+        // Announce the cached VICBF version, if the protocol version supports updates
+        if (compareProtocolVersions(version, PROTO_VERSION_DELTA) >= 0 && mVICBFCache.isValid()) {
+            clientHello.setVicbfEpoch(mVICBFCache.getEpoch());
+            clientHello.setVicbfVersion(mVICBFCache.getVersion());
+        }
         // Pack the ClientHello into the Wrapper message
         wrapper.setClientHello(clientHello);
         // Build and return the Wrapper
@@ -477,6 +1030,20 @@ public class ProtobufProtocol implements Protocol {
     }
 
 
+    /**
+     * Create a VICBFUpdate message requesting the changes since a specific VICBF version
+     * @param epoch The epoch of the cached VICBF
+     * @param version The version of the cached VICBF
+     * @return A wrapper message containing a VICBFUpdate message
+     */
+    private MetaMessage.Wrapper getVICBFUpdateMsg(long epoch, long version) {
+        C2S.VICBFUpdate.Builder update = C2S.VICBFUpdate.newBuilder();
+        update.setVicbfEpoch(epoch);
+        update.setVicbfVersion(version);
+        return MetaMessage.Wrapper.newBuilder().setVICBFUpdate(update).build();
+    }
+
+
     /**
      * Create a Get message for a specific key
      * @param key The key to get the value for
@@ -614,46 +1181,108 @@ public class ProtobufProtocol implements Protocol {
 
 
     /**
-     * Convert the byte[]-representation of a Wrapper message into a Wrapper message
-     * @param bytes The byte[]-representation of a Wrapper message
-     * @return The Wrapper message, or null, if the bytes did not represent a wrapper message
+     * Replace the local VICBF with a full VICBF or the cached VICBF with changes applied, as sent
+     * by the server, and update the VICBFCache
+     * @param data The compressed serialization of the full VICBF, or null, if it was not sent
+     * @param versioned true if the server sent an epoch and version for the VICBF
+     * @param epoch The epoch of the VICBF, if versioned
+     * @param version The version of the VICBF, if versioned
+     * @param delta The changes since the cached VICBF, or null, if none were sent
+     * @return true if the VICBF was replaced, false if the data was invalid
      */
-    private MetaMessage.Wrapper toWrapperMessage(byte[] bytes) {
+    private boolean loadVICBF(ByteString data, boolean versioned, long epoch, long version, C2S.VICBFDelta delta) {
         try {
-            return MetaMessage.Wrapper.parseFrom(bytes);
-        } catch (InvalidProtocolBufferException e) {
-            Log.e(TAG, "toWrapperMessage: Message was no wrapper message.");
-            return null;
+            if (data != null) {
+                byte[] decompressed = Compression.inflate(data.toByteArray(), MAX_VICBF_SIZE);
+                if (decompressed == null) return false;
+                Log.d(TAG, "loadVICBF: Received full VICBF, " + decompressed.length + " bytes");
+                if (versioned) {
+                    mVICBF = mVICBFCache.putSnapshot(epoch, version, decompressed);
+                } else {
+                    mVICBF = VICBF.deserialize(decompressed);
+                }
+            } else if (delta != null && versioned) {
+                Log.d(TAG, "loadVICBF: Received " + delta.getInsertedCount() + " insertions and " + delta.getRemovedCount() + " removals");
+                mVICBF = mVICBFCache.putDelta(epoch, version, toByteArrays(delta.getInsertedList()), toByteArrays(delta.getRemovedList()));
+            } else {
+                Log.e(TAG, "loadVICBF: Neither VICBF nor changes received");
+                return false;
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "loadVICBF: IOException while loading VICBF: " + e.toString());
+            return false;
         }
+        return true;
     }
 
 
     /**
-     * Uncompress a gzip'ed byte array into an uncompressed byte array
-     * @param compressed The compressed byte array
-     * @return The uncompressed byte array
+     * Bring the local VICBF up to date with the server. If the server supports it, only the
+     * changes since the cached VICBF are requested. Otherwise, the ClientHello is repeated to
+     * receive the full VICBF.
      */
-    private byte[] decompress_data(byte[] compressed) {
-        // Get an Inflater to decompress the zlib-compressed input
-        Inflater decompress = new Inflater();
-        // Add the compressed data
-        decompress.setInput(compressed);
-        // Prepare an output stream and a buffer
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        byte[] buffer = new byte[256];
+    private void refreshVICBF() {
+        if (mDeltaSupported && mVICBFCache.isValid()) {
+            MetaMessage.Wrapper reply = transceiveWrapper(getVICBFUpdateMsg(mVICBFCache.getEpoch(), mVICBFCache.getVersion()));
+            if (reply != null && reply.hasVICBFUpdateReply()) {
+                C2S.VICBFUpdateReply update = reply.getVICBFUpdateReply();
+                if (loadVICBF(update.hasData() ? update.getData() : null, true,
+                        update.getVicbfEpoch(), update.getVicbfVersion(),
+                        update.hasVicbfDelta() ? update.getVicbfDelta() : null)) {
+                    Log.d(TAG, "refreshVICBF: VICBF updated to version " + update.getVicbfVersion());
+                    return;
+                }
+            }
+            Log.w(TAG, "refreshVICBF: Update failed, requesting full VICBF");
+            mVICBFCache.invalidate();
+        }
+        connect(mConnection);
+    }
+
+
+    /**
+     * Convert a List of ByteStrings into a List of byte[]s
+     * @param strings The ByteStrings
+     * @return The byte[]s
+     */
+    private static List<byte[]> toByteArrays(List<ByteString> strings) {
+        List<byte[]> rv = new ArrayList<>(strings.size());
+        for (ByteString string : strings) {
+            rv.add(string.toByteArray());
+        }
+        return rv;
+    }
+
+
+    /**
+     * Compare two protocol version strings of the form "major.minor"
+     * @param a The first version
+     * @param b The second version
+     * @return A negative number, zero or a positive number if a is lower than, equal to or higher
+     *         than b. Unparseable version components are treated as zero.
+     */
+    protected static int compareProtocolVersions(String a, String b) {
+        String[] pa = a.split("\\.");
+        String[] pb = b.split("\\.");
+        for (int i = 0; i < Math.max(pa.length, pb.length); i++) {
+            int va = i < pa.length ? parseVersionComponent(pa[i]) : 0;
+            int vb = i < pb.length ? parseVersionComponent(pb[i]) : 0;
+            if (va != vb) return va - vb;
+        }
+        return 0;
+    }
+
+
+    /**
+     * Parse a single component of a protocol version string
+     * @param component The component
+     * @return The numeric value of the component, or zero if it could not be parsed
+     */
+    private static int parseVersionComponent(String component) {
         try {
-            int n;
-            // Read at most 256 bytes, set n to the number of read bytes. If n is larger than zero...
-            while ((n = decompress.inflate(buffer)) > 0) {
-                // ...write the read bytes into the Output Buffer
-                out.write(buffer, 0, n);
-            }
-            // The data has been decompressed. Return the byte array
-            return out.toByteArray();
-        } catch (DataFormatException e) {
-            Log.e(TAG, "decompress_data: Invalid data format, aborting");
-            e.printStackTrace();
-            return null;
+            return Integer.parseInt(component);
+        } catch (NumberFormatException e) {
+            return 0;
         }
     }
 
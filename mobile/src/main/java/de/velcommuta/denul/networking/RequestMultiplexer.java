@@ -0,0 +1,377 @@
+package de.velcommuta.denul.networking;
+
+import android.util.Log;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import de.velcommuta.denul.networking.protobuf.meta.MetaMessage;
+
+/**
+ * Asynchronous access to a {@link Connection}. Requests are sent on the calling thread and return
+ * immediately, while the replies are read by a background thread and handed out using Futures or
+ * {@link Callback}s. Any number of requests can be in flight at the same time, and sending never
+ * waits for replies to be read. The reader thread only runs while replies are outstanding, so the
+ * synchronous functions of the Connection may be used again once all replies have arrived.
+ *
+ * If the server supports it, every request carries a request ID that is copied into the reply,
+ * so that the server can answer requests out of order. A reply without a request ID is then a
+ * protocol error that fails all pending requests and closes the connection. Otherwise, replies
+ * are assigned to the requests in the order in which the requests were sent.
+ */
+public class RequestMultiplexer {
+    private static final String TAG = "RequestMultiplexer";
+
+    // Threads reading replies, shared by all RequestMultiplexers
+    private static ExecutorService sReaders;
+
+    private final Connection mConnection;
+    private final boolean mUseRequestIds;
+    // Lock serializing the sending of requests, so that the order of the pending requests is the
+    // order in which they were sent
+    private final Object mSendLock = new Object();
+    // Requests waiting for a reply, in the order in which they were sent, keyed by request ID.
+    // Guarded by itself, together with mNextId, mReading and mError.
+    private final Map<Integer, Request> mPending = new LinkedHashMap<>();
+    private int mNextId = 1;
+    // True if a reader thread is running
+    private boolean mReading;
+    // The error that broke the connection, if any
+    private IOException mError;
+
+    /**
+     * Callback for the reply to a request. The callbacks are executed on the reader thread, so
+     * they must neither block nor send further requests.
+     */
+    public interface Callback {
+        /**
+         * Called when the reply to the request has arrived
+         * @param reply The reply, or null, if the reply could not be parsed (only without request
+         *              IDs, as unparseable replies fail the connection otherwise)
+         */
+        void onReply(MetaMessage.Wrapper reply);
+
+        /**
+         * Called if no reply will arrive because the connection failed
+         * @param e The exception that caused the failure
+         */
+        void onError(IOException e);
+    }
+
+    /**
+     * Constructor
+     * @param conn A connection that has completed the handshake with the server
+     * @param useRequestIds true if the server copies request IDs into its replies (protocol
+     *                      version 1.3 and later), false otherwise
+     */
+    public RequestMultiplexer(Connection conn, boolean useRequestIds) {
+        mConnection = conn;
+        mUseRequestIds = useRequestIds;
+    }
+
+
+    /**
+     * Send a request to the server
+     * @param request The request
+     * @return A Future for the reply. Without request IDs, the reply may be null if it could not
+     *         be parsed. If the connection fails, the Future throws an ExecutionException caused
+     *         by an IOException.
+     */
+    public Future<MetaMessage.Wrapper> submit(MetaMessage.Wrapper request) {
+        return submit(request, null);
+    }
+
+
+    /**
+     * Send a request to the server, calling a {@link Callback} once the reply has arrived
+     * @param request The request
+     * @param callback The Callback, or null
+     * @return A Future for the reply, see {@link #submit(MetaMessage.Wrapper)}
+     */
+    public Future<MetaMessage.Wrapper> submit(MetaMessage.Wrapper request, Callback callback) {
+        return send(Collections.singletonList(request), callback).get(0);
+    }
+
+
+    /**
+     * Send a number of requests to the server at once
+     * @param requests The requests
+     * @return A List containing a Future for the reply to each request, in the order of the
+     *         requests, see {@link #submit(MetaMessage.Wrapper)}
+     */
+    public List<Future<MetaMessage.Wrapper>> submitAll(List<MetaMessage.Wrapper> requests) {
+        List<Future<MetaMessage.Wrapper>> rv = new ArrayList<>(requests.size());
+        rv.addAll(send(requests, null));
+        return rv;
+    }
+
+
+    /**
+     * Send requests, registering them as pending and starting the reader thread if necessary
+     * @param requests The requests
+     * @param callback The Callback for every one of the requests, or null
+     * @return The pending requests, in the order of the requests
+     */
+    private List<Request> send(List<MetaMessage.Wrapper> requests, Callback callback) {
+        List<Request> rv = new ArrayList<>(requests.size());
+        List<MetaMessage.Wrapper> messages = new ArrayList<>(requests.size());
+        synchronized (mSendLock) {
+            boolean startReader = false;
+            IOException error;
+            synchronized (mPending) {
+                error = mError;
+                if (error == null) {
+                    for (MetaMessage.Wrapper request : requests) {
+                        int id = mNextId++;
+                        Request pending = new Request(callback);
+                        mPending.put(id, pending);
+                        rv.add(pending);
+                        messages.add(mUseRequestIds ? request.toBuilder().setRequestId(id).build() : request);
+                    }
+                    if (!mReading && !rv.isEmpty()) {
+                        mReading = true;
+                        startReader = true;
+                    }
+                }
+            }
+            if (error != null) {
+                // The connection has already failed
+                for (int i = 0; i < requests.size(); i++) {
+                    Request pending = new Request(callback);
+                    pending.fail(error);
+                    rv.add(pending);
+                }
+                return rv;
+            }
+            try {
+                mConnection.send(messages);
+            } catch (IOException e) {
+                Log.e(TAG, "send: IOException while sending requests: " + e.toString());
+                fail(e);
+                return rv;
+            }
+            if (startReader) {
+                getReaders().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        read();
+                    }
+                });
+            }
+        }
+        return rv;
+    }
+
+
+    /**
+     * Read replies and hand them to the pending requests until no request is pending any more
+     */
+    private void read() {
+        while (true) {
+            synchronized (mPending) {
+                if (mPending.isEmpty() || mError != null) {
+                    mReading = false;
+                    return;
+                }
+            }
+            MetaMessage.Wrapper reply;
+            try {
+                reply = mConnection.receive(MetaMessage.Wrapper.PARSER);
+            } catch (IOException e) {
+                Log.e(TAG, "read: IOException while receiving replies: " + e.toString());
+                fail(e);
+                return;
+            }
+            if (mUseRequestIds && (reply == null || !reply.hasRequestId())) {
+                // The reply cannot be assigned to its request, so the replies that follow cannot
+                // be trusted either
+                Log.e(TAG, "read: Received reply without request ID, closing connection");
+                fail(new ProtocolException(reply == null ? "Reply could not be parsed" : "Reply without request ID"));
+                return;
+            }
+            Request request;
+            synchronized (mPending) {
+                if (mUseRequestIds) {
+                    request = mPending.remove(reply.getRequestId());
+                } else {
+                    // Without request IDs, the replies arrive in the order of the requests
+                    Iterator<Request> oldest = mPending.values().iterator();
+                    request = oldest.next();
+                    oldest.remove();
+                }
+            }
+            if (request == null) {
+                Log.e(TAG, "read: Received reply for unknown request ID " + reply.getRequestId() + ", ignoring");
+            } else {
+                if (reply == null) Log.e(TAG, "read: Reply could not be parsed");
+                request.complete(reply);
+            }
+        }
+    }
+
+
+    /**
+     * Mark the connection as failed, closing it and failing all pending requests
+     * @param e The exception that caused the failure
+     */
+    private void fail(IOException e) {
+        List<Request> failed;
+        synchronized (mPending) {
+            if (mError == null) mError = e;
+            failed = new ArrayList<>(mPending.values());
+            mPending.clear();
+        }
+        try {
+            mConnection.close();
+        } catch (IOException e1) {
+            Log.w(TAG, "fail: IOException while closing connection, ignoring");
+        }
+        for (Request request : failed) {
+            request.fail(e);
+        }
+    }
+
+
+    /**
+     * Getter for the thread pool running the reader threads, creating it if necessary
+     * @return The thread pool
+     */
+    private static synchronized ExecutorService getReaders() {
+        if (sReaders == null) {
+            sReaders = Executors.newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, TAG);
+                    // Do not keep the process alive just to wait for replies
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        return sReaders;
+    }
+
+
+    /**
+     * A request waiting for its reply. The reply or the error is set by the reader thread.
+     */
+    private static class Request implements Future<MetaMessage.Wrapper> {
+        private final Callback mCallback;
+        // Released once the request is done
+        private final CountDownLatch mDone = new CountDownLatch(1);
+        // The outcome of the request, guarded by this
+        private MetaMessage.Wrapper mReply;
+        private IOException mError;
+        private boolean mCancelled;
+
+        /**
+         * Constructor
+         * @param callback The Callback to call once the request completes, or null
+         */
+        public Request(Callback callback) {
+            mCallback = callback;
+        }
+
+
+        /**
+         * Complete the request with a reply
+         * @param reply The reply
+         */
+        public void complete(MetaMessage.Wrapper reply) {
+            finish(reply, null, false);
+            if (mCallback != null) mCallback.onReply(reply);
+        }
+
+
+        /**
+         * Complete the request with an error
+         * @param e The error
+         */
+        public void fail(IOException e) {
+            finish(null, e, false);
+            if (mCallback != null) mCallback.onError(e);
+        }
+
+
+        /**
+         * Set the outcome of the request, unless it is already done
+         * @param reply The reply
+         * @param error The error, or null
+         * @param cancelled true if the request was cancelled
+         * @return true if the outcome was set, false if the request was already done
+         */
+        private synchronized boolean finish(MetaMessage.Wrapper reply, IOException error, boolean cancelled) {
+            if (mDone.getCount() == 0) return false;
+            mReply = reply;
+            mError = error;
+            mCancelled = cancelled;
+            mDone.countDown();
+            return true;
+        }
+
+
+        /**
+         * Cancel waiting for the reply. The request has already been sent, so the reply is still
+         * read and passed to the Callback, but the Future no longer returns it.
+         * @param mayInterruptIfRunning Ignored, as no thread runs on behalf of the request
+         * @return true if the request was cancelled, false if it was already done
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return finish(null, null, true);
+        }
+
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return mCancelled;
+        }
+
+
+        @Override
+        public boolean isDone() {
+            return mDone.getCount() == 0;
+        }
+
+
+        @Override
+        public MetaMessage.Wrapper get() throws InterruptedException, ExecutionException {
+            mDone.await();
+            return getOutcome();
+        }
+
+
+        @Override
+        public MetaMessage.Wrapper get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if (!mDone.await(timeout, unit)) throw new TimeoutException();
+            return getOutcome();
+        }
+
+
+        /**
+         * Get the outcome of a request that is done
+         * @return The reply
+         * @throws ExecutionException If the request failed
+         */
+        private synchronized MetaMessage.Wrapper getOutcome() throws ExecutionException {
+            if (mCancelled) throw new CancellationException();
+            if (mError != null) throw new ExecutionException(mError);
+            return mReply;
+        }
+    }
+}
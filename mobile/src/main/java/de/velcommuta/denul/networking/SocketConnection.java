@@ -0,0 +1,259 @@
+package de.velcommuta.denul.networking;
+
+import android.util.Log;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A connection exchanging length-prefixed messages over a connected socket, using a
+ * {@link FrameCodec}. If an error occurs while a message is sent or received, the socket is
+ * closed, as the position in the stream is unknown afterwards.
+ */
+public class SocketConnection implements Connection {
+    private static final String TAG = "SocketConnection";
+
+    // Maximum number of messages that may be in flight at the same time in transceiveMany
+    private static final int PIPELINE_WINDOW = 32;
+    // Maximum number of request bytes that may be in flight at the same time in transceiveMany.
+    // This has to be small enough to fit into the socket buffers, as the server stops reading
+    // requests if we do not read its replies while we are still writing. A single message that is
+    // larger than this is still sent on its own.
+    private static final int PIPELINE_MAX_BYTES = 64 * 1024;
+    // Time (in milliseconds) to wait for incoming data when checking if the connection is alive
+    private static final int ALIVE_PROBE_TIMEOUT = 1;
+
+    protected final Socket mSocket;
+    // Codec used to communicate over the socket. It is kept for the lifetime of the connection,
+    // as its buffered input stream may read ahead into the next message.
+    private final FrameCodec mCodec;
+
+    /**
+     * Constructor
+     * @param socket A connected socket
+     * @throws IOException If the streams of the socket could not be opened
+     */
+    public SocketConnection(Socket socket) throws IOException {
+        mSocket = socket;
+        mCodec = new FrameCodec(socket.getInputStream(), socket.getOutputStream());
+    }
+
+    @Override
+    public byte[] transceive(byte[] message) throws IOException {
+        try {
+            // Send the message over the socket
+            mCodec.writeFrame(message);
+            mCodec.flush();
+            // Receive and return the reply
+            return mCodec.readFrame();
+        } catch (IOException e) {
+            // We may have stopped in the middle of a message, so the connection cannot be reused
+            closeQuietly();
+            throw e;
+        }
+    }
+
+
+    @Override
+    public <T> T transceive(MessageLite message, Parser<T> parser) throws IOException {
+        return transceiveMany(Collections.singletonList(message), parser).get(0);
+    }
+
+
+    @Override
+    public List<byte[]> transceiveMany(List<byte[]> messages) throws IOException {
+        return pipeline(messages, new FrameHandler<byte[], byte[]>() {
+            @Override
+            public int size(byte[] message) {
+                return message.length;
+            }
+
+            @Override
+            public void write(byte[] message) throws IOException {
+                mCodec.writeFrame(message);
+            }
+
+            @Override
+            public byte[] read() throws IOException {
+                return mCodec.readFrame();
+            }
+        });
+    }
+
+
+    @Override
+    public <T> List<T> transceiveMany(List<? extends MessageLite> messages, final Parser<T> parser) throws IOException {
+        return pipeline(messages, new FrameHandler<MessageLite, T>() {
+            @Override
+            public int size(MessageLite message) {
+                return message.getSerializedSize();
+            }
+
+            @Override
+            public void write(MessageLite message) throws IOException {
+                mCodec.writeFrame(message);
+            }
+
+            @Override
+            public T read() throws IOException {
+                try {
+                    return mCodec.readFrame(parser);
+                } catch (InvalidProtocolBufferException e) {
+                    // The frame has been consumed completely, so the stream is still in sync
+                    Log.e(TAG, "read: Reply could not be parsed: " + e.toString());
+                    return null;
+                }
+            }
+        });
+    }
+
+
+    @Override
+    public void send(List<? extends MessageLite> messages) throws IOException {
+        try {
+            for (MessageLite message : messages) {
+                mCodec.writeFrame(message);
+            }
+            mCodec.flush();
+        } catch (IOException e) {
+            // We may have stopped in the middle of a message, so the connection cannot be reused
+            closeQuietly();
+            throw e;
+        }
+    }
+
+
+    @Override
+    public <T> T receive(Parser<T> parser) throws IOException {
+        try {
+            return mCodec.readFrame(parser);
+        } catch (InvalidProtocolBufferException e) {
+            // The frame has been consumed completely, so the stream is still in sync
+            Log.e(TAG, "receive: Message could not be parsed: " + e.toString());
+            return null;
+        } catch (IOException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Send a number of messages, keeping at most PIPELINE_WINDOW of them and PIPELINE_MAX_BYTES
+     * in flight, and receive the replies. Closes the socket if an error occurs.
+     * @param messages The messages to send
+     * @param handler The handler writing the messages and reading the replies
+     * @param <I> The type of the messages
+     * @param <O> The type of the replies
+     * @return The replies, in the order in which they were received
+     * @throws IOException If the underlying socket throws it
+     */
+    private <I, O> List<O> pipeline(List<? extends I> messages, FrameHandler<I, O> handler) throws IOException {
+        List<O> replies = new ArrayList<>(messages.size());
+        Iterator<? extends I> outbox = messages.iterator();
+        try {
+            // Sizes of the messages in flight, oldest first
+            LinkedList<Integer> inflight = new LinkedList<>();
+            int inflightBytes = 0;
+            I next = outbox.hasNext() ? outbox.next() : null;
+            while (next != null || !inflight.isEmpty()) {
+                // Top up the pipeline once half of the messages in flight have been answered, so
+                // that the messages are sent in batches instead of flushing every single one.
+                // At most PIPELINE_WINDOW messages and PIPELINE_MAX_BYTES are kept in flight, so
+                // that neither side blocks on a full socket buffer while the other one is also
+                // waiting to send.
+                if (next != null && inflight.size() <= PIPELINE_WINDOW / 2) {
+                    while (next != null && inflight.size() < PIPELINE_WINDOW) {
+                        int size = handler.size(next);
+                        if (!inflight.isEmpty() && inflightBytes + size > PIPELINE_MAX_BYTES) break;
+                        handler.write(next);
+                        inflight.add(size);
+                        inflightBytes += size;
+                        next = outbox.hasNext() ? outbox.next() : null;
+                    }
+                    mCodec.flush();
+                }
+                replies.add(handler.read());
+                inflightBytes -= inflight.removeFirst();
+            }
+        } catch (IOException e) {
+            // We may have stopped in the middle of a message, so the connection cannot be reused
+            closeQuietly();
+            throw e;
+        }
+        return replies;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        if (isOpen()) {
+            Log.d(TAG, "close: Closing open socket");
+            mSocket.close();
+        } else {
+            Log.w(TAG, "close: Trying to close socket that is not open");
+        }
+    }
+
+
+    /**
+     * Close the socket, ignoring any errors
+     */
+    private void closeQuietly() {
+        try {
+            mSocket.close();
+        } catch (IOException e) {
+            Log.w(TAG, "closeQuietly: IOException, ignoring");
+        }
+    }
+
+
+    @Override
+    public boolean isOpen() {
+        return mSocket.isConnected() && !mSocket.isClosed();
+    }
+
+
+    @Override
+    public boolean isAlive() {
+        if (!isOpen()) return false;
+        try {
+            int timeout = mSocket.getSoTimeout();
+            mSocket.setSoTimeout(ALIVE_PROBE_TIMEOUT);
+            // The server never sends anything unprompted, so anything but an idle stream means
+            // that the connection was closed or is out of sync
+            if (mCodec.isIdle()) {
+                mSocket.setSoTimeout(timeout);
+                return true;
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "isAlive: IOException while probing connection: " + e.toString());
+        }
+        Log.d(TAG, "isAlive: Connection is dead, closing");
+        closeQuietly();
+        return false;
+    }
+
+
+    /**
+     * Writes messages of one type to the FrameCodec and reads replies of another type from it
+     * @param <I> The type of the messages
+     * @param <O> The type of the replies
+     */
+    private interface FrameHandler<I, O> {
+        int size(I message);
+
+        void write(I message) throws IOException;
+
+        O read() throws IOException;
+    }
+}
@@ -2,15 +2,15 @@ package de.velcommuta.denul.networking;
 
 import android.util.Log;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.UnknownHostException;
-import java.nio.ByteBuffer;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
 
 import javax.net.SocketFactory;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLHandshakeException;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
@@ -19,10 +19,15 @@ import javax.net.ssl.SSLSocketFactory;
 /**
  * A TCP connection using TLS to communicate with the server.
  */
-public class TLSConnection implements Connection {
+public class TLSConnection extends SocketConnection {
     private static final String TAG = "TLSConnection";
 
-    SSLSocket mSocket;
+    // Number of TLS sessions kept for resumption, and the time (in seconds) after which they expire
+    private static final int SESSION_CACHE_SIZE = 8;
+    private static final int SESSION_TIMEOUT = 60 * 60;
+
+    // Socket factory shared by all connections, so that they can resume each others TLS sessions
+    private static SSLSocketFactory sSocketFactory;
 
     /**
      * Establish a TCP connection protected by TLS.
@@ -33,78 +38,60 @@ public class TLSConnection implements Connection {
      * @throws SSLHandshakeException If the certificate hostname validation fails
      */
     public TLSConnection(String host, int port) throws IOException, UnknownHostException, SSLHandshakeException {
-        Log.d(TAG, "TLSConnection: Establishing connection to " + host + ":" + port);
+        super(openSocket(host, port));
+    }
+
+
+    /**
+     * Open a TLS socket and verify the hostname of the server certificate
+     * @param host Either the IP or the FQDN of the server to connect to
+     * @param port The port number to connect to
+     * @return The connected socket
+     * @throws IOException If the underlying socket throws it
+     * @throws SSLHandshakeException If the certificate hostname validation fails
+     */
+    private static SSLSocket openSocket(String host, int port) throws IOException {
+        Log.d(TAG, "openSocket: Establishing connection to " + host + ":" + port);
         // Get SSL Socket factory
-        SocketFactory factory = SSLSocketFactory.getDefault();
+        SocketFactory factory = getSocketFactory();
         // Create a socket and connect to the host and port, throwing an exception if anything
         // goes wrong
-        mSocket = (SSLSocket) factory.createSocket(host, port);
+        SSLSocket socket = (SSLSocket) factory.createSocket(host, port);
         // We need to verify the certificate hostname explicitly. Get a hostname verifier
         HostnameVerifier hv = HttpsURLConnection.getDefaultHostnameVerifier();
         // Get an SSLSession object
-        SSLSession s = mSocket.getSession();
+        SSLSession s = socket.getSession();
         // Verify the hostname
         if (!hv.verify(host, s)) {
-            Log.e(TAG, "TLSConnection: Hostname verification failed - expected " + host + ", found " + s.getPeerPrincipal());
+            Log.e(TAG, "openSocket: Hostname verification failed - expected " + host + ", found " + s.getPeerPrincipal());
+            socket.close();
             throw new SSLHandshakeException("Expected " + host + ", but found " + s.getPeerPrincipal());
         }
-        Log.d(TAG, "TLSConnection: Connection established using " + s.getProtocol() + " (" +  s.getCipherSuite() + ")");
+        Log.d(TAG, "openSocket: Connection established using " + s.getProtocol() + " (" +  s.getCipherSuite() + ")");
+        return socket;
     }
 
-    @Override
-    public byte[] transceive(byte[] message) throws IOException {
-        // Get an output stream from the socket (to send data over)
-        OutputStream out = mSocket.getOutputStream();
-        // Get an input stream from the socket (to receive data with)
-        BufferedInputStream in = new BufferedInputStream(mSocket.getInputStream());
 
-        // Prepare the byte[] with the length information of the message
-        byte[] len = ByteBuffer.allocate(4).putInt(message.length).array();
-        // Combine length and message into one byte[]
-        byte[] fullmsg = new byte[4 + message.length];
-        System.arraycopy(len, 0, fullmsg, 0, len.length);
-        System.arraycopy(message, 0, fullmsg, len.length, message.length);
-
-        // Send the message over the socket
-        out.write(fullmsg);
-        out.flush();
-        Log.d(TAG, "transceive: Message sent");
-
-        // Receive the reply - Receive the length of the reply
-        byte[] lenbytes = new byte[4];
-        // Read 4 bytes from the wire (in a loop to make sure that we actually get 4 bytes)
-        int rcvlen = 0;
-        do {
-            rcvlen += in.read(lenbytes, rcvlen, 4-rcvlen);
-        } while (rcvlen < 4);
-        // Parse the received bytes into an integer
-        int replylen = ByteBuffer.wrap(lenbytes).getInt();
-        Log.d(TAG, "transceive: Reply has " + replylen + " bytes");
-
-        // Receive the body of the reply (again, in a loop to make sure we get it all)
-        byte[] replyBytes = new byte[replylen];
-        rcvlen = 0;
-        do {
-            rcvlen += in.read(replyBytes, rcvlen, replylen-rcvlen);
-        } while (rcvlen < replylen);
-
-        // Return received bytes
-        Log.d(TAG, "transceive: Reply received, returning");
-        return replyBytes;
-    }
-
-    @Override
-    public void close() throws IOException {
-        if (mSocket.isConnected()) {
-            Log.d(TAG, "close: Closing open socket");
-            mSocket.close();
-        } else {
-            Log.w(TAG, "close: Trying to close socket that is not open");
+    /**
+     * Get the socket factory shared by all TLSConnections. Its client session cache allows later
+     * connections to the same server to resume the TLS session of an earlier one instead of
+     * performing a full handshake.
+     * @return The shared SSLSocketFactory
+     */
+    private static synchronized SSLSocketFactory getSocketFactory() {
+        if (sSocketFactory == null) {
+            try {
+                SSLContext context = SSLContext.getInstance("TLS");
+                // Use the default key and trust managers
+                context.init(null, null, null);
+                context.getClientSessionContext().setSessionCacheSize(SESSION_CACHE_SIZE);
+                context.getClientSessionContext().setSessionTimeout(SESSION_TIMEOUT);
+                sSocketFactory = context.getSocketFactory();
+            } catch (NoSuchAlgorithmException | KeyManagementException e) {
+                Log.e(TAG, "getSocketFactory: Could not create SSLContext, falling back to default factory", e);
+                return (SSLSocketFactory) SSLSocketFactory.getDefault();
+            }
         }
-    }
-
-    @Override
-    public boolean isOpen() {
-        return mSocket.isConnected();
+        return sSocketFactory;
     }
 }
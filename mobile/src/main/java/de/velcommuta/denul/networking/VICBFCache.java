@@ -0,0 +1,305 @@
+package de.velcommuta.denul.networking;
+
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import de.velcommuta.libvicbf.VICBF;
+
+/**
+ * Cache for the VICBF of a server, allowing the client to only request the changes since the
+ * last version it has seen instead of the full VICBF on every connection. The cache holds the
+ * last full snapshot sent by the server, together with all changes received since then, as the
+ * VICBF cannot be serialized on the client. The cache can optionally be persisted to a file.
+ */
+public class VICBFCache {
+    private static final String TAG = "VICBFCache";
+
+    // Maximum number of keys in the accumulated changes. Once this is exceeded, the cache is
+    // invalidated, so that the next connection retrieves a fresh snapshot.
+    private static final int MAX_DELTA_KEYS = 20000;
+    // Version of the file format
+    private static final int FILE_FORMAT = 1;
+
+    // File the cache is persisted to, or null, if it is only kept in memory
+    private final File mFile;
+    private boolean mLoaded;
+
+    // Indicates if the cache contains a valid state
+    private boolean mValid;
+    private long mEpoch;
+    private long mVersion;
+    // Decompressed serialization of the last full VICBF
+    private byte[] mSnapshot;
+    // Keys inserted and removed since the snapshot was taken
+    private List<byte[]> mInserted = new ArrayList<>();
+    private List<byte[]> mRemoved = new ArrayList<>();
+
+    /**
+     * Constructor for a cache that is only kept in memory
+     */
+    public VICBFCache() {
+        this(null);
+    }
+
+
+    /**
+     * Constructor for a cache that is persisted to a file
+     * @param file The file to persist the cache to. It is loaded on first use.
+     */
+    public VICBFCache(File file) {
+        mFile = file;
+        mLoaded = (file == null);
+    }
+
+
+    /**
+     * Check if the cache contains a VICBF that changes can be requested for
+     * @return true if the cache contains a valid VICBF, false otherwise
+     */
+    public synchronized boolean isValid() {
+        load();
+        return mValid;
+    }
+
+
+    /**
+     * Getter for the epoch of the cached VICBF. Only meaningful if {@link #isValid()} is true.
+     * @return The epoch, as issued by the server
+     */
+    public synchronized long getEpoch() {
+        load();
+        return mEpoch;
+    }
+
+
+    /**
+     * Getter for the version of the cached VICBF. Only meaningful if {@link #isValid()} is true.
+     * @return The version, as issued by the server
+     */
+    public synchronized long getVersion() {
+        load();
+        return mVersion;
+    }
+
+
+    /**
+     * Replace the contents of the cache with a full snapshot of the VICBF
+     * @param epoch The epoch of the snapshot, as issued by the server
+     * @param version The version of the snapshot, as issued by the server
+     * @param snapshot The decompressed serialization of the VICBF
+     * @return The deserialized VICBF
+     * @throws IOException If the snapshot could not be deserialized
+     */
+    public synchronized VICBF putSnapshot(long epoch, long version, byte[] snapshot) throws IOException {
+        load();
+        VICBF vicbf = VICBF.deserialize(snapshot);
+        mValid = true;
+        mEpoch = epoch;
+        mVersion = version;
+        mSnapshot = snapshot;
+        mInserted = new ArrayList<>();
+        mRemoved = new ArrayList<>();
+        save();
+        return vicbf;
+    }
+
+
+    /**
+     * Apply changes sent by the server to the cached VICBF
+     * @param epoch The epoch of the new version
+     * @param version The version the changes lead to
+     * @param inserted The keys inserted since the cached version
+     * @param removed The keys removed since the cached version
+     * @return The VICBF with all changes applied
+     * @throws IOException If the cache does not contain a valid VICBF, or the changes are
+     *                     inconsistent with it. The cache is invalidated in the latter case.
+     */
+    public synchronized VICBF putDelta(long epoch, long version, List<byte[]> inserted, List<byte[]> removed) throws IOException {
+        load();
+        if (!mValid) throw new IOException("No cached VICBF to apply changes to");
+        mInserted.addAll(inserted);
+        mRemoved.addAll(removed);
+        mEpoch = epoch;
+        mVersion = version;
+        VICBF vicbf;
+        try {
+            vicbf = rebuild();
+        } catch (IOException e) {
+            invalidate();
+            throw e;
+        }
+        if (mInserted.size() + mRemoved.size() > MAX_DELTA_KEYS) {
+            Log.d(TAG, "putDelta: Too many accumulated changes, requesting a new snapshot next time");
+            mValid = false;
+        }
+        save();
+        return vicbf;
+    }
+
+
+    /**
+     * Discard the cached VICBF
+     */
+    public synchronized void invalidate() {
+        load();
+        mValid = false;
+        mSnapshot = null;
+        mInserted = new ArrayList<>();
+        mRemoved = new ArrayList<>();
+        save();
+    }
+
+
+    /**
+     * Deserialize the snapshot and apply all accumulated changes to it. Insertions are applied
+     * before removals, so that a key that was inserted and removed again does not cause an error.
+     * @return The resulting VICBF
+     * @throws IOException If the snapshot could not be deserialized or a removal failed
+     */
+    private VICBF rebuild() throws IOException {
+        VICBF vicbf = VICBF.deserialize(mSnapshot);
+        for (byte[] key : mInserted) {
+            vicbf.insert(key);
+        }
+        for (byte[] key : mRemoved) {
+            try {
+                vicbf.remove(key);
+            } catch (Exception e) {
+                throw new IOException("Removal of key failed, VICBF is inconsistent", e);
+            }
+        }
+        return vicbf;
+    }
+
+
+    /**
+     * Load the cache from its file, if this has not happened yet
+     */
+    private void load() {
+        if (mLoaded) return;
+        mLoaded = true;
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(mFile)));
+            try {
+                if (in.readInt() != FILE_FORMAT) {
+                    Log.w(TAG, "load: Unknown file format, ignoring cache");
+                    return;
+                }
+                long epoch = in.readLong();
+                long version = in.readLong();
+                byte[] snapshot = readBytes(in);
+                List<byte[]> inserted = readList(in);
+                List<byte[]> removed = readList(in);
+                mEpoch = epoch;
+                mVersion = version;
+                mSnapshot = snapshot;
+                mInserted = inserted;
+                mRemoved = removed;
+                mValid = true;
+                Log.d(TAG, "load: Loaded VICBF version " + mVersion + " with " + (mInserted.size() + mRemoved.size()) + " changes");
+            } finally {
+                in.close();
+            }
+        } catch (FileNotFoundException e) {
+            Log.d(TAG, "load: No cached VICBF");
+        } catch (IOException e) {
+            Log.e(TAG, "load: Could not read cache, ignoring it: " + e.toString());
+        }
+    }
+
+
+    /**
+     * Write the cache to its file, if it has one. The file is replaced atomically, so that a
+     * crash during the write does not leave a corrupted cache behind.
+     */
+    private void save() {
+        if (mFile == null) return;
+        if (!mValid) {
+            if (mFile.exists() && !mFile.delete()) Log.w(TAG, "save: Could not delete cache file");
+            return;
+        }
+        File tmp = new File(mFile.getPath() + ".tmp");
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+            try {
+                out.writeInt(FILE_FORMAT);
+                out.writeLong(mEpoch);
+                out.writeLong(mVersion);
+                writeBytes(out, mSnapshot);
+                writeList(out, mInserted);
+                writeList(out, mRemoved);
+            } finally {
+                out.close();
+            }
+            if (!tmp.renameTo(mFile)) throw new IOException("Could not rename " + tmp + " to " + mFile);
+        } catch (IOException e) {
+            Log.e(TAG, "save: Could not write cache: " + e.toString());
+        }
+    }
+
+
+    /**
+     * Read a length-prefixed byte[] from a stream
+     * @param in The stream
+     * @return The byte[]
+     * @throws IOException If the stream throws it
+     */
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] rv = new byte[in.readInt()];
+        in.readFully(rv);
+        return rv;
+    }
+
+
+    /**
+     * Read a length-prefixed List of length-prefixed byte[]s from a stream
+     * @param in The stream
+     * @return The List
+     * @throws IOException If the stream throws it
+     */
+    private static List<byte[]> readList(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<byte[]> rv = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rv.add(readBytes(in));
+        }
+        return rv;
+    }
+
+
+    /**
+     * Write a length-prefixed byte[] to a stream
+     * @param out The stream
+     * @param bytes The byte[]
+     * @throws IOException If the stream throws it
+     */
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+
+    /**
+     * Write a length-prefixed List of length-prefixed byte[]s to a stream
+     * @param out The stream
+     * @param list The List
+     * @throws IOException If the stream throws it
+     */
+    private static void writeList(DataOutputStream out, List<byte[]> list) throws IOException {
+        out.writeInt(list.size());
+        for (byte[] bytes : list) {
+            writeBytes(out, bytes);
+        }
+    }
+}
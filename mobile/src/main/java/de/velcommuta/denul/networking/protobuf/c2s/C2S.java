@@ -3855,6 +3855,34 @@ public final class C2S {
      * </pre>
      */
     com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>optional uint64 vicbfEpoch = 3;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+     * If set, the server may reply with the changes since that version instead of the full VICBF
+     * </pre>
+     */
+    boolean hasVicbfEpoch();
+    /**
+     * <code>optional uint64 vicbfEpoch = 3;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+     * If set, the server may reply with the changes since that version instead of the full VICBF
+     * </pre>
+     */
+    long getVicbfEpoch();
+
+    /**
+     * <code>optional uint64 vicbfVersion = 4;</code>
+     */
+    boolean hasVicbfVersion();
+    /**
+     * <code>optional uint64 vicbfVersion = 4;</code>
+     */
+    long getVicbfVersion();
   }
   /**
    * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.ClientHello}
@@ -3919,6 +3947,16 @@ public final class C2S {
               data_ = input.readBytes();
               break;
             }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              vicbfEpoch_ = input.readUInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              vicbfVersion_ = input.readUInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4040,9 +4078,51 @@ public final class C2S {
       return data_;
     }
 
+    public static final int VICBFEPOCH_FIELD_NUMBER = 3;
+    private long vicbfEpoch_;
+    /**
+     * <code>optional uint64 vicbfEpoch = 3;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+     * If set, the server may reply with the changes since that version instead of the full VICBF
+     * </pre>
+     */
+    public boolean hasVicbfEpoch() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint64 vicbfEpoch = 3;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+     * If set, the server may reply with the changes since that version instead of the full VICBF
+     * </pre>
+     */
+    public long getVicbfEpoch() {
+      return vicbfEpoch_;
+    }
+
+    public static final int VICBFVERSION_FIELD_NUMBER = 4;
+    private long vicbfVersion_;
+    /**
+     * <code>optional uint64 vicbfVersion = 4;</code>
+     */
+    public boolean hasVicbfVersion() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional uint64 vicbfVersion = 4;</code>
+     */
+    public long getVicbfVersion() {
+      return vicbfVersion_;
+    }
+
     private void initFields() {
       clientProto_ = "";
       data_ = com.google.protobuf.ByteString.EMPTY;
+      vicbfEpoch_ = 0L;
+      vicbfVersion_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4067,6 +4147,12 @@ public final class C2S {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBytes(2, data_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(3, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeUInt64(4, vicbfVersion_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -4084,6 +4170,14 @@ public final class C2S {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, data_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, vicbfVersion_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -4205,6 +4299,10 @@ public final class C2S {
         bitField0_ = (bitField0_ & ~0x00000001);
         data_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
+        vicbfEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        vicbfVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -4241,6 +4339,14 @@ public final class C2S {
           to_bitField0_ |= 0x00000002;
         }
         result.data_ = data_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.vicbfEpoch_ = vicbfEpoch_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.vicbfVersion_ = vicbfVersion_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -4265,6 +4371,12 @@ public final class C2S {
         if (other.hasData()) {
           setData(other.getData());
         }
+        if (other.hasVicbfEpoch()) {
+          setVicbfEpoch(other.getVicbfEpoch());
+        }
+        if (other.hasVicbfVersion()) {
+          setVicbfVersion(other.getVicbfVersion());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -4455,6 +4567,90 @@ public final class C2S {
         return this;
       }
 
+      private long vicbfEpoch_ ;
+      /**
+       * <code>optional uint64 vicbfEpoch = 3;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+       * If set, the server may reply with the changes since that version instead of the full VICBF
+       * </pre>
+       */
+      public boolean hasVicbfEpoch() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint64 vicbfEpoch = 3;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+       * If set, the server may reply with the changes since that version instead of the full VICBF
+       * </pre>
+       */
+      public long getVicbfEpoch() {
+        return vicbfEpoch_;
+      }
+      /**
+       * <code>optional uint64 vicbfEpoch = 3;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+       * If set, the server may reply with the changes since that version instead of the full VICBF
+       * </pre>
+       */
+      public Builder setVicbfEpoch(long value) {
+        bitField0_ |= 0x00000004;
+        vicbfEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 vicbfEpoch = 3;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF cached by the client, if any (protocol version 1.2+)
+       * If set, the server may reply with the changes since that version instead of the full VICBF
+       * </pre>
+       */
+      public Builder clearVicbfEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        vicbfEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long vicbfVersion_ ;
+      /**
+       * <code>optional uint64 vicbfVersion = 4;</code>
+       */
+      public boolean hasVicbfVersion() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint64 vicbfVersion = 4;</code>
+       */
+      public long getVicbfVersion() {
+        return vicbfVersion_;
+      }
+      /**
+       * <code>optional uint64 vicbfVersion = 4;</code>
+       */
+      public Builder setVicbfVersion(long value) {
+        bitField0_ |= 0x00000008;
+        vicbfVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 vicbfVersion = 4;</code>
+       */
+      public Builder clearVicbfVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        vicbfVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.ClientHello)
     }
 
@@ -4514,23 +4710,76 @@ public final class C2S {
         getServerProtoBytes();
 
     /**
-     * <code>required bytes data = 3;</code>
+     * <code>optional bytes data = 3;</code>
      *
      * <pre>
-     * Additional required data, depending on protocol version
+     * Additional data, depending on protocol version
      * For now, this can only be a serialized VICBF, as per the specifications
+     * From protocol version 1.2, it may be omitted if vicbfDelta is set
      * </pre>
      */
     boolean hasData();
     /**
-     * <code>required bytes data = 3;</code>
+     * <code>optional bytes data = 3;</code>
      *
      * <pre>
-     * Additional required data, depending on protocol version
+     * Additional data, depending on protocol version
      * For now, this can only be a serialized VICBF, as per the specifications
+     * From protocol version 1.2, it may be omitted if vicbfDelta is set
      * </pre>
      */
     com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>optional uint64 vicbfEpoch = 4;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+     * </pre>
+     */
+    boolean hasVicbfEpoch();
+    /**
+     * <code>optional uint64 vicbfEpoch = 4;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+     * </pre>
+     */
+    long getVicbfEpoch();
+
+    /**
+     * <code>optional uint64 vicbfVersion = 5;</code>
+     */
+    boolean hasVicbfVersion();
+    /**
+     * <code>optional uint64 vicbfVersion = 5;</code>
+     */
+    long getVicbfVersion();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+     *
+     * <pre>
+     * Changes since the VICBF version announced in the ClientHello (1.2+)
+     * </pre>
+     */
+    boolean hasVicbfDelta();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+     *
+     * <pre>
+     * Changes since the VICBF version announced in the ClientHello (1.2+)
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta getVicbfDelta();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+     *
+     * <pre>
+     * Changes since the VICBF version announced in the ClientHello (1.2+)
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder getVicbfDeltaOrBuilder();
   }
   /**
    * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.ServerHello}
@@ -4606,6 +4855,29 @@ public final class C2S {
               data_ = input.readBytes();
               break;
             }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              vicbfEpoch_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              vicbfVersion_ = input.readUInt64();
+              break;
+            }
+            case 50: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) == 0x00000020)) {
+                subBuilder = vicbfDelta_.toBuilder();
+              }
+              vicbfDelta_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(vicbfDelta_);
+                vicbfDelta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000020;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4808,32 +5080,108 @@ public final class C2S {
     public static final int DATA_FIELD_NUMBER = 3;
     private com.google.protobuf.ByteString data_;
     /**
-     * <code>required bytes data = 3;</code>
+     * <code>optional bytes data = 3;</code>
      *
      * <pre>
-     * Additional required data, depending on protocol version
+     * Additional data, depending on protocol version
      * For now, this can only be a serialized VICBF, as per the specifications
+     * From protocol version 1.2, it may be omitted if vicbfDelta is set
      * </pre>
      */
     public boolean hasData() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required bytes data = 3;</code>
+     * <code>optional bytes data = 3;</code>
      *
      * <pre>
-     * Additional required data, depending on protocol version
+     * Additional data, depending on protocol version
      * For now, this can only be a serialized VICBF, as per the specifications
+     * From protocol version 1.2, it may be omitted if vicbfDelta is set
      * </pre>
      */
     public com.google.protobuf.ByteString getData() {
       return data_;
     }
 
+    public static final int VICBFEPOCH_FIELD_NUMBER = 4;
+    private long vicbfEpoch_;
+    /**
+     * <code>optional uint64 vicbfEpoch = 4;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+     * </pre>
+     */
+    public boolean hasVicbfEpoch() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional uint64 vicbfEpoch = 4;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+     * </pre>
+     */
+    public long getVicbfEpoch() {
+      return vicbfEpoch_;
+    }
+
+    public static final int VICBFVERSION_FIELD_NUMBER = 5;
+    private long vicbfVersion_;
+    /**
+     * <code>optional uint64 vicbfVersion = 5;</code>
+     */
+    public boolean hasVicbfVersion() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional uint64 vicbfVersion = 5;</code>
+     */
+    public long getVicbfVersion() {
+      return vicbfVersion_;
+    }
+
+    public static final int VICBFDELTA_FIELD_NUMBER = 6;
+    private de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta vicbfDelta_;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+     *
+     * <pre>
+     * Changes since the VICBF version announced in the ClientHello (1.2+)
+     * </pre>
+     */
+    public boolean hasVicbfDelta() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+     *
+     * <pre>
+     * Changes since the VICBF version announced in the ClientHello (1.2+)
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta getVicbfDelta() {
+      return vicbfDelta_;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+     *
+     * <pre>
+     * Changes since the VICBF version announced in the ClientHello (1.2+)
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder getVicbfDeltaOrBuilder() {
+      return vicbfDelta_;
+    }
+
     private void initFields() {
       opcode_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.ServerHello.ClientHelloReplyCode.CLIENT_HELLO_OK;
       serverProto_ = "";
       data_ = com.google.protobuf.ByteString.EMPTY;
+      vicbfEpoch_ = 0L;
+      vicbfVersion_ = 0L;
+      vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4849,10 +5197,6 @@ public final class C2S {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasData()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -4869,6 +5213,15 @@ public final class C2S {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBytes(3, data_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeUInt64(4, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeUInt64(5, vicbfVersion_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(6, vicbfDelta_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -4890,6 +5243,18 @@ public final class C2S {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, data_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, vicbfVersion_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, vicbfDelta_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -4999,6 +5364,7 @@ public final class C2S {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getVicbfDeltaFieldBuilder();
         }
       }
       private static Builder create() {
@@ -5013,6 +5379,16 @@ public final class C2S {
         bitField0_ = (bitField0_ & ~0x00000002);
         data_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000004);
+        vicbfEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        vicbfVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+        } else {
+          vicbfDeltaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -5053,6 +5429,22 @@ public final class C2S {
           to_bitField0_ |= 0x00000004;
         }
         result.data_ = data_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.vicbfEpoch_ = vicbfEpoch_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.vicbfVersion_ = vicbfVersion_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (vicbfDeltaBuilder_ == null) {
+          result.vicbfDelta_ = vicbfDelta_;
+        } else {
+          result.vicbfDelta_ = vicbfDeltaBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -5080,6 +5472,15 @@ public final class C2S {
         if (other.hasData()) {
           setData(other.getData());
         }
+        if (other.hasVicbfEpoch()) {
+          setVicbfEpoch(other.getVicbfEpoch());
+        }
+        if (other.hasVicbfVersion()) {
+          setVicbfVersion(other.getVicbfVersion());
+        }
+        if (other.hasVicbfDelta()) {
+          mergeVicbfDelta(other.getVicbfDelta());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -5093,10 +5494,6 @@ public final class C2S {
           
           return false;
         }
-        if (!hasData()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -5272,33 +5669,36 @@ public final class C2S {
 
       private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>required bytes data = 3;</code>
+       * <code>optional bytes data = 3;</code>
        *
        * <pre>
-       * Additional required data, depending on protocol version
+       * Additional data, depending on protocol version
        * For now, this can only be a serialized VICBF, as per the specifications
+       * From protocol version 1.2, it may be omitted if vicbfDelta is set
        * </pre>
        */
       public boolean hasData() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required bytes data = 3;</code>
+       * <code>optional bytes data = 3;</code>
        *
        * <pre>
-       * Additional required data, depending on protocol version
+       * Additional data, depending on protocol version
        * For now, this can only be a serialized VICBF, as per the specifications
+       * From protocol version 1.2, it may be omitted if vicbfDelta is set
        * </pre>
        */
       public com.google.protobuf.ByteString getData() {
         return data_;
       }
       /**
-       * <code>required bytes data = 3;</code>
+       * <code>optional bytes data = 3;</code>
        *
        * <pre>
-       * Additional required data, depending on protocol version
+       * Additional data, depending on protocol version
        * For now, this can only be a serialized VICBF, as per the specifications
+       * From protocol version 1.2, it may be omitted if vicbfDelta is set
        * </pre>
        */
       public Builder setData(com.google.protobuf.ByteString value) {
@@ -5311,11 +5711,12 @@ public final class C2S {
         return this;
       }
       /**
-       * <code>required bytes data = 3;</code>
+       * <code>optional bytes data = 3;</code>
        *
        * <pre>
-       * Additional required data, depending on protocol version
+       * Additional data, depending on protocol version
        * For now, this can only be a serialized VICBF, as per the specifications
+       * From protocol version 1.2, it may be omitted if vicbfDelta is set
        * </pre>
        */
       public Builder clearData() {
@@ -5325,18 +5726,7222 @@ public final class C2S {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.ServerHello)
-    }
-
-    static {
-      defaultInstance = new ServerHello(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.ServerHello)
-  }
+      private long vicbfEpoch_ ;
+      /**
+       * <code>optional uint64 vicbfEpoch = 4;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+       * </pre>
+       */
+      public boolean hasVicbfEpoch() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint64 vicbfEpoch = 4;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+       * </pre>
+       */
+      public long getVicbfEpoch() {
+        return vicbfEpoch_;
+      }
+      /**
+       * <code>optional uint64 vicbfEpoch = 4;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+       * </pre>
+       */
+      public Builder setVicbfEpoch(long value) {
+        bitField0_ |= 0x00000008;
+        vicbfEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 vicbfEpoch = 4;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message (1.2+)
+       * </pre>
+       */
+      public Builder clearVicbfEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        vicbfEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
+      private long vicbfVersion_ ;
+      /**
+       * <code>optional uint64 vicbfVersion = 5;</code>
+       */
+      public boolean hasVicbfVersion() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional uint64 vicbfVersion = 5;</code>
+       */
+      public long getVicbfVersion() {
+        return vicbfVersion_;
+      }
+      /**
+       * <code>optional uint64 vicbfVersion = 5;</code>
+       */
+      public Builder setVicbfVersion(long value) {
+        bitField0_ |= 0x00000010;
+        vicbfVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 vicbfVersion = 5;</code>
+       */
+      public Builder clearVicbfVersion() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        vicbfVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder> vicbfDeltaBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public boolean hasVicbfDelta() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta getVicbfDelta() {
+        if (vicbfDeltaBuilder_ == null) {
+          return vicbfDelta_;
+        } else {
+          return vicbfDeltaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public Builder setVicbfDelta(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta value) {
+        if (vicbfDeltaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          vicbfDelta_ = value;
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public Builder setVicbfDelta(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder builderForValue) {
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDelta_ = builderForValue.build();
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public Builder mergeVicbfDelta(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta value) {
+        if (vicbfDeltaBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              vicbfDelta_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance()) {
+            vicbfDelta_ =
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.newBuilder(vicbfDelta_).mergeFrom(value).buildPartial();
+          } else {
+            vicbfDelta_ = value;
+          }
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public Builder clearVicbfDelta() {
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder getVicbfDeltaBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getVicbfDeltaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder getVicbfDeltaOrBuilder() {
+        if (vicbfDeltaBuilder_ != null) {
+          return vicbfDeltaBuilder_.getMessageOrBuilder();
+        } else {
+          return vicbfDelta_;
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 6;</code>
+       *
+       * <pre>
+       * Changes since the VICBF version announced in the ClientHello (1.2+)
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder> 
+          getVicbfDeltaFieldBuilder() {
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDeltaBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder>(
+                  getVicbfDelta(),
+                  getParentForChildren(),
+                  isClean());
+          vicbfDelta_ = null;
+        }
+        return vicbfDeltaBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.ServerHello)
+    }
+
+    static {
+      defaultInstance = new ServerHello(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.ServerHello)
+  }
+
+  public interface StoreBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.StoreBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store> 
+        getRequestsList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.Store getRequests(int index);
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    int getRequestsCount();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder> 
+        getRequestsOrBuilderList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder getRequestsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.StoreBatch}
+   *
+   * <pre>
+   * Store a number of key-value-pairs in one message (protocol version 1.1 and later)
+   * </pre>
+   */
+  public static final class StoreBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.StoreBatch)
+      StoreBatchOrBuilder {
+    // Use StoreBatch.newBuilder() to construct.
+    private StoreBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private StoreBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final StoreBatch defaultInstance;
+    public static StoreBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public StoreBatch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StoreBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                requests_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              requests_.add(input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<StoreBatch> PARSER =
+        new com.google.protobuf.AbstractParser<StoreBatch>() {
+      public StoreBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StoreBatch(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StoreBatch> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int REQUESTS_FIELD_NUMBER = 1;
+    private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store> requests_;
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store> getRequestsList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    public int getRequestsCount() {
+      return requests_.size();
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.Store getRequests(int index) {
+      return requests_.get(index);
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+     *
+     * <pre>
+     * The individual Store requests
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
+    }
+
+    private void initFields() {
+      requests_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getRequestsCount(); i++) {
+        if (!getRequests(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(1, requests_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < requests_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, requests_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.StoreBatch}
+     *
+     * <pre>
+     * Store a number of key-value-pairs in one message (protocol version 1.1 and later)
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.StoreBatch)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRequestsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance()) return this;
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getRequestsCount(); i++) {
+          if (!getRequests(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store>(requests_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Store, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder> requestsBuilder_;
+
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
+        } else {
+          return requestsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Store getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder setRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder setRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder addRequests(de.velcommuta.denul.networking.protobuf.c2s.C2S.Store value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder addRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder addRequests(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder addRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.Store> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
+        } else {
+          requestsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
+        } else {
+          requestsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(requests_);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Store requests = 1;</code>
+       *
+       * <pre>
+       * The individual Store requests
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Store, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.Store, de.velcommuta.denul.networking.protobuf.c2s.C2S.Store.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.StoreBatch)
+    }
+
+    static {
+      defaultInstance = new StoreBatch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.StoreBatch)
+  }
+
+  public interface StoreBatchReplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply> 
+        getRepliesList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply getReplies(int index);
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    int getRepliesCount();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder> 
+        getRepliesOrBuilderList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder getRepliesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply}
+   *
+   * <pre>
+   * Replies to a StoreBatch message
+   * </pre>
+   */
+  public static final class StoreBatchReply extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply)
+      StoreBatchReplyOrBuilder {
+    // Use StoreBatchReply.newBuilder() to construct.
+    private StoreBatchReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private StoreBatchReply(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final StoreBatchReply defaultInstance;
+    public static StoreBatchReply getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public StoreBatchReply getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StoreBatchReply(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                replies_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              replies_.add(input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          replies_ = java.util.Collections.unmodifiableList(replies_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<StoreBatchReply> PARSER =
+        new com.google.protobuf.AbstractParser<StoreBatchReply>() {
+      public StoreBatchReply parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StoreBatchReply(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StoreBatchReply> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int REPLIES_FIELD_NUMBER = 1;
+    private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply> replies_;
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply> getRepliesList() {
+      return replies_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder> 
+        getRepliesOrBuilderList() {
+      return replies_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    public int getRepliesCount() {
+      return replies_.size();
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply getReplies(int index) {
+      return replies_.get(index);
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+     *
+     * <pre>
+     * One StoreReply for each Store request in the StoreBatch
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder getRepliesOrBuilder(
+        int index) {
+      return replies_.get(index);
+    }
+
+    private void initFields() {
+      replies_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getRepliesCount(); i++) {
+        if (!getReplies(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < replies_.size(); i++) {
+        output.writeMessage(1, replies_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < replies_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, replies_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply}
+     *
+     * <pre>
+     * Replies to a StoreBatch message
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReplyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRepliesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (repliesBuilder_ == null) {
+          replies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          repliesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply(this);
+        int from_bitField0_ = bitField0_;
+        if (repliesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            replies_ = java.util.Collections.unmodifiableList(replies_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.replies_ = replies_;
+        } else {
+          result.replies_ = repliesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance()) return this;
+        if (repliesBuilder_ == null) {
+          if (!other.replies_.isEmpty()) {
+            if (replies_.isEmpty()) {
+              replies_ = other.replies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRepliesIsMutable();
+              replies_.addAll(other.replies_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.replies_.isEmpty()) {
+            if (repliesBuilder_.isEmpty()) {
+              repliesBuilder_.dispose();
+              repliesBuilder_ = null;
+              replies_ = other.replies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              repliesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRepliesFieldBuilder() : null;
+            } else {
+              repliesBuilder_.addAllMessages(other.replies_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getRepliesCount(); i++) {
+          if (!getReplies(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply> replies_ =
+        java.util.Collections.emptyList();
+      private void ensureRepliesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          replies_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply>(replies_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder> repliesBuilder_;
+
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply> getRepliesList() {
+        if (repliesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(replies_);
+        } else {
+          return repliesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public int getRepliesCount() {
+        if (repliesBuilder_ == null) {
+          return replies_.size();
+        } else {
+          return repliesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply getReplies(int index) {
+        if (repliesBuilder_ == null) {
+          return replies_.get(index);
+        } else {
+          return repliesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder setReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.set(index, value);
+          onChanged();
+        } else {
+          repliesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder setReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder addReplies(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.add(value);
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.add(index, value);
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.add(builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder addAllReplies(
+          java.lang.Iterable<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply> values) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, replies_);
+          onChanged();
+        } else {
+          repliesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder clearReplies() {
+        if (repliesBuilder_ == null) {
+          replies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          repliesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public Builder removeReplies(int index) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.remove(index);
+          onChanged();
+        } else {
+          repliesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder getRepliesBuilder(
+          int index) {
+        return getRepliesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder getRepliesOrBuilder(
+          int index) {
+        if (repliesBuilder_ == null) {
+          return replies_.get(index);  } else {
+          return repliesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder> 
+           getRepliesOrBuilderList() {
+        if (repliesBuilder_ != null) {
+          return repliesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(replies_);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder addRepliesBuilder() {
+        return getRepliesFieldBuilder().addBuilder(
+            de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder addRepliesBuilder(
+          int index) {
+        return getRepliesFieldBuilder().addBuilder(
+            index, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.StoreReply replies = 1;</code>
+       *
+       * <pre>
+       * One StoreReply for each Store request in the StoreBatch
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder> 
+           getRepliesBuilderList() {
+        return getRepliesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder> 
+          getRepliesFieldBuilder() {
+        if (repliesBuilder_ == null) {
+          repliesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReplyOrBuilder>(
+                  replies_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          replies_ = null;
+        }
+        return repliesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply)
+    }
+
+    static {
+      defaultInstance = new StoreBatchReply(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply)
+  }
+
+  public interface GetBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.GetBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get> 
+        getRequestsList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.Get getRequests(int index);
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    int getRequestsCount();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder> 
+        getRequestsOrBuilderList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder getRequestsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.GetBatch}
+   *
+   * <pre>
+   * Retrieve the values for a number of keys in one message (protocol version 1.1 and later)
+   * </pre>
+   */
+  public static final class GetBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.GetBatch)
+      GetBatchOrBuilder {
+    // Use GetBatch.newBuilder() to construct.
+    private GetBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GetBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GetBatch defaultInstance;
+    public static GetBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GetBatch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                requests_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              requests_.add(input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<GetBatch> PARSER =
+        new com.google.protobuf.AbstractParser<GetBatch>() {
+      public GetBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetBatch(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetBatch> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int REQUESTS_FIELD_NUMBER = 1;
+    private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get> requests_;
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get> getRequestsList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    public int getRequestsCount() {
+      return requests_.size();
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.Get getRequests(int index) {
+      return requests_.get(index);
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+     *
+     * <pre>
+     * The individual Get requests
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
+    }
+
+    private void initFields() {
+      requests_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getRequestsCount(); i++) {
+        if (!getRequests(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(1, requests_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < requests_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, requests_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.GetBatch}
+     *
+     * <pre>
+     * Retrieve the values for a number of keys in one message (protocol version 1.1 and later)
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.GetBatch)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRequestsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance()) return this;
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getRequestsCount(); i++) {
+          if (!getRequests(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get>(requests_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Get, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder> requestsBuilder_;
+
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
+        } else {
+          return requestsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Get getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder setRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder setRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder addRequests(de.velcommuta.denul.networking.protobuf.c2s.C2S.Get value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder addRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder addRequests(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder addRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.Get> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
+        } else {
+          requestsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
+        } else {
+          requestsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(requests_);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Get requests = 1;</code>
+       *
+       * <pre>
+       * The individual Get requests
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Get, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.Get, de.velcommuta.denul.networking.protobuf.c2s.C2S.Get.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.GetBatch)
+    }
+
+    static {
+      defaultInstance = new GetBatch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.GetBatch)
+  }
+
+  public interface GetBatchReplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply> 
+        getRepliesList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply getReplies(int index);
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    int getRepliesCount();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder> 
+        getRepliesOrBuilderList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder getRepliesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply}
+   *
+   * <pre>
+   * Replies to a GetBatch message
+   * </pre>
+   */
+  public static final class GetBatchReply extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply)
+      GetBatchReplyOrBuilder {
+    // Use GetBatchReply.newBuilder() to construct.
+    private GetBatchReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GetBatchReply(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GetBatchReply defaultInstance;
+    public static GetBatchReply getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GetBatchReply getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetBatchReply(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                replies_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              replies_.add(input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          replies_ = java.util.Collections.unmodifiableList(replies_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<GetBatchReply> PARSER =
+        new com.google.protobuf.AbstractParser<GetBatchReply>() {
+      public GetBatchReply parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetBatchReply(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetBatchReply> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int REPLIES_FIELD_NUMBER = 1;
+    private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply> replies_;
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply> getRepliesList() {
+      return replies_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder> 
+        getRepliesOrBuilderList() {
+      return replies_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    public int getRepliesCount() {
+      return replies_.size();
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply getReplies(int index) {
+      return replies_.get(index);
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+     *
+     * <pre>
+     * One GetReply for each Get request in the GetBatch
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder getRepliesOrBuilder(
+        int index) {
+      return replies_.get(index);
+    }
+
+    private void initFields() {
+      replies_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getRepliesCount(); i++) {
+        if (!getReplies(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < replies_.size(); i++) {
+        output.writeMessage(1, replies_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < replies_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, replies_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply}
+     *
+     * <pre>
+     * Replies to a GetBatch message
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReplyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRepliesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (repliesBuilder_ == null) {
+          replies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          repliesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply(this);
+        int from_bitField0_ = bitField0_;
+        if (repliesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            replies_ = java.util.Collections.unmodifiableList(replies_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.replies_ = replies_;
+        } else {
+          result.replies_ = repliesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance()) return this;
+        if (repliesBuilder_ == null) {
+          if (!other.replies_.isEmpty()) {
+            if (replies_.isEmpty()) {
+              replies_ = other.replies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRepliesIsMutable();
+              replies_.addAll(other.replies_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.replies_.isEmpty()) {
+            if (repliesBuilder_.isEmpty()) {
+              repliesBuilder_.dispose();
+              repliesBuilder_ = null;
+              replies_ = other.replies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              repliesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRepliesFieldBuilder() : null;
+            } else {
+              repliesBuilder_.addAllMessages(other.replies_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getRepliesCount(); i++) {
+          if (!getReplies(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply> replies_ =
+        java.util.Collections.emptyList();
+      private void ensureRepliesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          replies_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply>(replies_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder> repliesBuilder_;
+
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply> getRepliesList() {
+        if (repliesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(replies_);
+        } else {
+          return repliesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public int getRepliesCount() {
+        if (repliesBuilder_ == null) {
+          return replies_.size();
+        } else {
+          return repliesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply getReplies(int index) {
+        if (repliesBuilder_ == null) {
+          return replies_.get(index);
+        } else {
+          return repliesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder setReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.set(index, value);
+          onChanged();
+        } else {
+          repliesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder setReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder addReplies(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.add(value);
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.add(index, value);
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.add(builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder addAllReplies(
+          java.lang.Iterable<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply> values) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, replies_);
+          onChanged();
+        } else {
+          repliesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder clearReplies() {
+        if (repliesBuilder_ == null) {
+          replies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          repliesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public Builder removeReplies(int index) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.remove(index);
+          onChanged();
+        } else {
+          repliesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder getRepliesBuilder(
+          int index) {
+        return getRepliesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder getRepliesOrBuilder(
+          int index) {
+        if (repliesBuilder_ == null) {
+          return replies_.get(index);  } else {
+          return repliesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder> 
+           getRepliesOrBuilderList() {
+        if (repliesBuilder_ != null) {
+          return repliesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(replies_);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder addRepliesBuilder() {
+        return getRepliesFieldBuilder().addBuilder(
+            de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder addRepliesBuilder(
+          int index) {
+        return getRepliesFieldBuilder().addBuilder(
+            index, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.GetReply replies = 1;</code>
+       *
+       * <pre>
+       * One GetReply for each Get request in the GetBatch
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder> 
+           getRepliesBuilderList() {
+        return getRepliesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder> 
+          getRepliesFieldBuilder() {
+        if (repliesBuilder_ == null) {
+          repliesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReplyOrBuilder>(
+                  replies_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          replies_ = null;
+        }
+        return repliesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply)
+    }
+
+    static {
+      defaultInstance = new GetBatchReply(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply)
+  }
+
+  public interface DeleteBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete> 
+        getRequestsList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete getRequests(int index);
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    int getRequestsCount();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder> 
+        getRequestsOrBuilderList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder getRequestsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch}
+   *
+   * <pre>
+   * Delete a number of keys in one message (protocol version 1.1 and later)
+   * </pre>
+   */
+  public static final class DeleteBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch)
+      DeleteBatchOrBuilder {
+    // Use DeleteBatch.newBuilder() to construct.
+    private DeleteBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DeleteBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DeleteBatch defaultInstance;
+    public static DeleteBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DeleteBatch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                requests_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              requests_.add(input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = java.util.Collections.unmodifiableList(requests_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DeleteBatch> PARSER =
+        new com.google.protobuf.AbstractParser<DeleteBatch>() {
+      public DeleteBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DeleteBatch(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteBatch> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int REQUESTS_FIELD_NUMBER = 1;
+    private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete> requests_;
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete> getRequestsList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder> 
+        getRequestsOrBuilderList() {
+      return requests_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    public int getRequestsCount() {
+      return requests_.size();
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete getRequests(int index) {
+      return requests_.get(index);
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+     *
+     * <pre>
+     * The individual Delete requests
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder getRequestsOrBuilder(
+        int index) {
+      return requests_.get(index);
+    }
+
+    private void initFields() {
+      requests_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getRequestsCount(); i++) {
+        if (!getRequests(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < requests_.size(); i++) {
+        output.writeMessage(1, requests_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < requests_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, requests_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch}
+     *
+     * <pre>
+     * Delete a number of keys in one message (protocol version 1.1 and later)
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRequestsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (requestsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            requests_ = java.util.Collections.unmodifiableList(requests_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.requests_ = requests_;
+        } else {
+          result.requests_ = requestsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance()) return this;
+        if (requestsBuilder_ == null) {
+          if (!other.requests_.isEmpty()) {
+            if (requests_.isEmpty()) {
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRequestsIsMutable();
+              requests_.addAll(other.requests_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.requests_.isEmpty()) {
+            if (requestsBuilder_.isEmpty()) {
+              requestsBuilder_.dispose();
+              requestsBuilder_ = null;
+              requests_ = other.requests_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              requestsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRequestsFieldBuilder() : null;
+            } else {
+              requestsBuilder_.addAllMessages(other.requests_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getRequestsCount(); i++) {
+          if (!getRequests(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete> requests_ =
+        java.util.Collections.emptyList();
+      private void ensureRequestsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          requests_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete>(requests_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder> requestsBuilder_;
+
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete> getRequestsList() {
+        if (requestsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(requests_);
+        } else {
+          return requestsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public int getRequestsCount() {
+        if (requestsBuilder_ == null) {
+          return requests_.size();
+        } else {
+          return requestsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete getRequests(int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);
+        } else {
+          return requestsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder setRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.set(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder setRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder addRequests(de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder addRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete value) {
+        if (requestsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRequestsIsMutable();
+          requests_.add(index, value);
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder addRequests(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder addRequests(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder builderForValue) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          requestsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder addAllRequests(
+          java.lang.Iterable<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete> values) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, requests_);
+          onChanged();
+        } else {
+          requestsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder clearRequests() {
+        if (requestsBuilder_ == null) {
+          requests_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          requestsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public Builder removeRequests(int index) {
+        if (requestsBuilder_ == null) {
+          ensureRequestsIsMutable();
+          requests_.remove(index);
+          onChanged();
+        } else {
+          requestsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder getRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder getRequestsOrBuilder(
+          int index) {
+        if (requestsBuilder_ == null) {
+          return requests_.get(index);  } else {
+          return requestsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder> 
+           getRequestsOrBuilderList() {
+        if (requestsBuilder_ != null) {
+          return requestsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(requests_);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder addRequestsBuilder() {
+        return getRequestsFieldBuilder().addBuilder(
+            de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder addRequestsBuilder(
+          int index) {
+        return getRequestsFieldBuilder().addBuilder(
+            index, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.Delete requests = 1;</code>
+       *
+       * <pre>
+       * The individual Delete requests
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder> 
+           getRequestsBuilderList() {
+        return getRequestsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder> 
+          getRequestsFieldBuilder() {
+        if (requestsBuilder_ == null) {
+          requestsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete, de.velcommuta.denul.networking.protobuf.c2s.C2S.Delete.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteOrBuilder>(
+                  requests_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          requests_ = null;
+        }
+        return requestsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch)
+    }
+
+    static {
+      defaultInstance = new DeleteBatch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch)
+  }
+
+  public interface DeleteBatchReplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply> 
+        getRepliesList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply getReplies(int index);
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    int getRepliesCount();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder> 
+        getRepliesOrBuilderList();
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder getRepliesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply}
+   *
+   * <pre>
+   * Replies to a DeleteBatch message
+   * </pre>
+   */
+  public static final class DeleteBatchReply extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply)
+      DeleteBatchReplyOrBuilder {
+    // Use DeleteBatchReply.newBuilder() to construct.
+    private DeleteBatchReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private DeleteBatchReply(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final DeleteBatchReply defaultInstance;
+    public static DeleteBatchReply getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public DeleteBatchReply getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteBatchReply(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                replies_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              replies_.add(input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          replies_ = java.util.Collections.unmodifiableList(replies_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<DeleteBatchReply> PARSER =
+        new com.google.protobuf.AbstractParser<DeleteBatchReply>() {
+      public DeleteBatchReply parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DeleteBatchReply(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteBatchReply> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int REPLIES_FIELD_NUMBER = 1;
+    private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply> replies_;
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply> getRepliesList() {
+      return replies_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder> 
+        getRepliesOrBuilderList() {
+      return replies_;
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    public int getRepliesCount() {
+      return replies_.size();
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply getReplies(int index) {
+      return replies_.get(index);
+    }
+    /**
+     * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+     *
+     * <pre>
+     * One DeleteReply for each Delete request in the DeleteBatch
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder getRepliesOrBuilder(
+        int index) {
+      return replies_.get(index);
+    }
+
+    private void initFields() {
+      replies_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getRepliesCount(); i++) {
+        if (!getReplies(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < replies_.size(); i++) {
+        output.writeMessage(1, replies_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < replies_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, replies_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply}
+     *
+     * <pre>
+     * Replies to a DeleteBatch message
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReplyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRepliesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (repliesBuilder_ == null) {
+          replies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          repliesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply(this);
+        int from_bitField0_ = bitField0_;
+        if (repliesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            replies_ = java.util.Collections.unmodifiableList(replies_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.replies_ = replies_;
+        } else {
+          result.replies_ = repliesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance()) return this;
+        if (repliesBuilder_ == null) {
+          if (!other.replies_.isEmpty()) {
+            if (replies_.isEmpty()) {
+              replies_ = other.replies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRepliesIsMutable();
+              replies_.addAll(other.replies_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.replies_.isEmpty()) {
+            if (repliesBuilder_.isEmpty()) {
+              repliesBuilder_.dispose();
+              repliesBuilder_ = null;
+              replies_ = other.replies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              repliesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRepliesFieldBuilder() : null;
+            } else {
+              repliesBuilder_.addAllMessages(other.replies_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getRepliesCount(); i++) {
+          if (!getReplies(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply> replies_ =
+        java.util.Collections.emptyList();
+      private void ensureRepliesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          replies_ = new java.util.ArrayList<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply>(replies_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder> repliesBuilder_;
+
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply> getRepliesList() {
+        if (repliesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(replies_);
+        } else {
+          return repliesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public int getRepliesCount() {
+        if (repliesBuilder_ == null) {
+          return replies_.size();
+        } else {
+          return repliesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply getReplies(int index) {
+        if (repliesBuilder_ == null) {
+          return replies_.get(index);
+        } else {
+          return repliesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder setReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.set(index, value);
+          onChanged();
+        } else {
+          repliesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder setReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder addReplies(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.add(value);
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply value) {
+        if (repliesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRepliesIsMutable();
+          replies_.add(index, value);
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.add(builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder addReplies(
+          int index, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder builderForValue) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          repliesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder addAllReplies(
+          java.lang.Iterable<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply> values) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, replies_);
+          onChanged();
+        } else {
+          repliesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder clearReplies() {
+        if (repliesBuilder_ == null) {
+          replies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          repliesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public Builder removeReplies(int index) {
+        if (repliesBuilder_ == null) {
+          ensureRepliesIsMutable();
+          replies_.remove(index);
+          onChanged();
+        } else {
+          repliesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder getRepliesBuilder(
+          int index) {
+        return getRepliesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder getRepliesOrBuilder(
+          int index) {
+        if (repliesBuilder_ == null) {
+          return replies_.get(index);  } else {
+          return repliesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public java.util.List<? extends de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder> 
+           getRepliesOrBuilderList() {
+        if (repliesBuilder_ != null) {
+          return repliesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(replies_);
+        }
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder addRepliesBuilder() {
+        return getRepliesFieldBuilder().addBuilder(
+            de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder addRepliesBuilder(
+          int index) {
+        return getRepliesFieldBuilder().addBuilder(
+            index, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .de.velcommuta.denul.networking.protobuf.c2s.DeleteReply replies = 1;</code>
+       *
+       * <pre>
+       * One DeleteReply for each Delete request in the DeleteBatch
+       * </pre>
+       */
+      public java.util.List<de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder> 
+           getRepliesBuilderList() {
+        return getRepliesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder> 
+          getRepliesFieldBuilder() {
+        if (repliesBuilder_ == null) {
+          repliesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteReplyOrBuilder>(
+                  replies_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          replies_ = null;
+        }
+        return repliesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply)
+    }
+
+    static {
+      defaultInstance = new DeleteBatchReply(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply)
+  }
+
+  public interface VICBFDeltaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated bytes inserted = 1;</code>
+     *
+     * <pre>
+     * Keys inserted into the VICBF since the version known to the client
+     * </pre>
+     */
+    java.util.List<com.google.protobuf.ByteString> getInsertedList();
+    /**
+     * <code>repeated bytes inserted = 1;</code>
+     *
+     * <pre>
+     * Keys inserted into the VICBF since the version known to the client
+     * </pre>
+     */
+    int getInsertedCount();
+    /**
+     * <code>repeated bytes inserted = 1;</code>
+     *
+     * <pre>
+     * Keys inserted into the VICBF since the version known to the client
+     * </pre>
+     */
+    com.google.protobuf.ByteString getInserted(int index);
+
+    /**
+     * <code>repeated bytes removed = 2;</code>
+     *
+     * <pre>
+     * Keys removed from the VICBF since the version known to the client
+     * </pre>
+     */
+    java.util.List<com.google.protobuf.ByteString> getRemovedList();
+    /**
+     * <code>repeated bytes removed = 2;</code>
+     *
+     * <pre>
+     * Keys removed from the VICBF since the version known to the client
+     * </pre>
+     */
+    int getRemovedCount();
+    /**
+     * <code>repeated bytes removed = 2;</code>
+     *
+     * <pre>
+     * Keys removed from the VICBF since the version known to the client
+     * </pre>
+     */
+    com.google.protobuf.ByteString getRemoved(int index);
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta}
+   */
+  public static final class VICBFDelta extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta)
+      VICBFDeltaOrBuilder {
+    // Use VICBFDelta.newBuilder() to construct.
+    private VICBFDelta(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private VICBFDelta(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final VICBFDelta defaultInstance;
+    public static VICBFDelta getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public VICBFDelta getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VICBFDelta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                inserted_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              inserted_.add(input.readBytes());
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                removed_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              removed_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          inserted_ = java.util.Collections.unmodifiableList(inserted_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          removed_ = java.util.Collections.unmodifiableList(removed_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<VICBFDelta> PARSER =
+        new com.google.protobuf.AbstractParser<VICBFDelta>() {
+      public VICBFDelta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VICBFDelta(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VICBFDelta> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int INSERTED_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> inserted_;
+    /**
+     * <code>repeated bytes inserted = 1;</code>
+     *
+     * <pre>
+     * Keys inserted into the VICBF since the version known to the client
+     * </pre>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getInsertedList() {
+      return inserted_;
+    }
+    /**
+     * <code>repeated bytes inserted = 1;</code>
+     *
+     * <pre>
+     * Keys inserted into the VICBF since the version known to the client
+     * </pre>
+     */
+    public int getInsertedCount() {
+      return inserted_.size();
+    }
+    /**
+     * <code>repeated bytes inserted = 1;</code>
+     *
+     * <pre>
+     * Keys inserted into the VICBF since the version known to the client
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getInserted(int index) {
+      return inserted_.get(index);
+    }
+
+    public static final int REMOVED_FIELD_NUMBER = 2;
+    private java.util.List<com.google.protobuf.ByteString> removed_;
+    /**
+     * <code>repeated bytes removed = 2;</code>
+     *
+     * <pre>
+     * Keys removed from the VICBF since the version known to the client
+     * </pre>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getRemovedList() {
+      return removed_;
+    }
+    /**
+     * <code>repeated bytes removed = 2;</code>
+     *
+     * <pre>
+     * Keys removed from the VICBF since the version known to the client
+     * </pre>
+     */
+    public int getRemovedCount() {
+      return removed_.size();
+    }
+    /**
+     * <code>repeated bytes removed = 2;</code>
+     *
+     * <pre>
+     * Keys removed from the VICBF since the version known to the client
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getRemoved(int index) {
+      return removed_.get(index);
+    }
+
+    private void initFields() {
+      inserted_ = java.util.Collections.emptyList();
+      removed_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < inserted_.size(); i++) {
+        output.writeBytes(1, inserted_.get(i));
+      }
+      for (int i = 0; i < removed_.size(); i++) {
+        output.writeBytes(2, removed_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < inserted_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(inserted_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getInsertedList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removed_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(removed_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        inserted_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        removed_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          inserted_ = java.util.Collections.unmodifiableList(inserted_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.inserted_ = inserted_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          removed_ = java.util.Collections.unmodifiableList(removed_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.removed_ = removed_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance()) return this;
+        if (!other.inserted_.isEmpty()) {
+          if (inserted_.isEmpty()) {
+            inserted_ = other.inserted_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureInsertedIsMutable();
+            inserted_.addAll(other.inserted_);
+          }
+          onChanged();
+        }
+        if (!other.removed_.isEmpty()) {
+          if (removed_.isEmpty()) {
+            removed_ = other.removed_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedIsMutable();
+            removed_.addAll(other.removed_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.google.protobuf.ByteString> inserted_ = java.util.Collections.emptyList();
+      private void ensureInsertedIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          inserted_ = new java.util.ArrayList<com.google.protobuf.ByteString>(inserted_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated bytes inserted = 1;</code>
+       *
+       * <pre>
+       * Keys inserted into the VICBF since the version known to the client
+       * </pre>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getInsertedList() {
+        return java.util.Collections.unmodifiableList(inserted_);
+      }
+      /**
+       * <code>repeated bytes inserted = 1;</code>
+       *
+       * <pre>
+       * Keys inserted into the VICBF since the version known to the client
+       * </pre>
+       */
+      public int getInsertedCount() {
+        return inserted_.size();
+      }
+      /**
+       * <code>repeated bytes inserted = 1;</code>
+       *
+       * <pre>
+       * Keys inserted into the VICBF since the version known to the client
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getInserted(int index) {
+        return inserted_.get(index);
+      }
+      /**
+       * <code>repeated bytes inserted = 1;</code>
+       *
+       * <pre>
+       * Keys inserted into the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder setInserted(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureInsertedIsMutable();
+        inserted_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes inserted = 1;</code>
+       *
+       * <pre>
+       * Keys inserted into the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder addInserted(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureInsertedIsMutable();
+        inserted_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes inserted = 1;</code>
+       *
+       * <pre>
+       * Keys inserted into the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder addAllInserted(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureInsertedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, inserted_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes inserted = 1;</code>
+       *
+       * <pre>
+       * Keys inserted into the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder clearInserted() {
+        inserted_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> removed_ = java.util.Collections.emptyList();
+      private void ensureRemovedIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          removed_ = new java.util.ArrayList<com.google.protobuf.ByteString>(removed_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated bytes removed = 2;</code>
+       *
+       * <pre>
+       * Keys removed from the VICBF since the version known to the client
+       * </pre>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getRemovedList() {
+        return java.util.Collections.unmodifiableList(removed_);
+      }
+      /**
+       * <code>repeated bytes removed = 2;</code>
+       *
+       * <pre>
+       * Keys removed from the VICBF since the version known to the client
+       * </pre>
+       */
+      public int getRemovedCount() {
+        return removed_.size();
+      }
+      /**
+       * <code>repeated bytes removed = 2;</code>
+       *
+       * <pre>
+       * Keys removed from the VICBF since the version known to the client
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getRemoved(int index) {
+        return removed_.get(index);
+      }
+      /**
+       * <code>repeated bytes removed = 2;</code>
+       *
+       * <pre>
+       * Keys removed from the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder setRemoved(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedIsMutable();
+        removed_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed = 2;</code>
+       *
+       * <pre>
+       * Keys removed from the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder addRemoved(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedIsMutable();
+        removed_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed = 2;</code>
+       *
+       * <pre>
+       * Keys removed from the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder addAllRemoved(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureRemovedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removed_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes removed = 2;</code>
+       *
+       * <pre>
+       * Keys removed from the VICBF since the version known to the client
+       * </pre>
+       */
+      public Builder clearRemoved() {
+        removed_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta)
+    }
+
+    static {
+      defaultInstance = new VICBFDelta(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta)
+  }
+
+  public interface VICBFUpdateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required uint64 vicbfEpoch = 1;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF known to the client
+     * </pre>
+     */
+    boolean hasVicbfEpoch();
+    /**
+     * <code>required uint64 vicbfEpoch = 1;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF known to the client
+     * </pre>
+     */
+    long getVicbfEpoch();
+
+    /**
+     * <code>required uint64 vicbfVersion = 2;</code>
+     */
+    boolean hasVicbfVersion();
+    /**
+     * <code>required uint64 vicbfVersion = 2;</code>
+     */
+    long getVicbfVersion();
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate}
+   */
+  public static final class VICBFUpdate extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate)
+      VICBFUpdateOrBuilder {
+    // Use VICBFUpdate.newBuilder() to construct.
+    private VICBFUpdate(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private VICBFUpdate(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final VICBFUpdate defaultInstance;
+    public static VICBFUpdate getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public VICBFUpdate getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VICBFUpdate(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              vicbfEpoch_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              vicbfVersion_ = input.readUInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<VICBFUpdate> PARSER =
+        new com.google.protobuf.AbstractParser<VICBFUpdate>() {
+      public VICBFUpdate parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VICBFUpdate(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VICBFUpdate> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int VICBFEPOCH_FIELD_NUMBER = 1;
+    private long vicbfEpoch_;
+    /**
+     * <code>required uint64 vicbfEpoch = 1;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF known to the client
+     * </pre>
+     */
+    public boolean hasVicbfEpoch() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint64 vicbfEpoch = 1;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF known to the client
+     * </pre>
+     */
+    public long getVicbfEpoch() {
+      return vicbfEpoch_;
+    }
+
+    public static final int VICBFVERSION_FIELD_NUMBER = 2;
+    private long vicbfVersion_;
+    /**
+     * <code>required uint64 vicbfVersion = 2;</code>
+     */
+    public boolean hasVicbfVersion() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint64 vicbfVersion = 2;</code>
+     */
+    public long getVicbfVersion() {
+      return vicbfVersion_;
+    }
+
+    private void initFields() {
+      vicbfEpoch_ = 0L;
+      vicbfVersion_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasVicbfEpoch()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasVicbfVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, vicbfVersion_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, vicbfVersion_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        vicbfEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        vicbfVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.vicbfEpoch_ = vicbfEpoch_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.vicbfVersion_ = vicbfVersion_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance()) return this;
+        if (other.hasVicbfEpoch()) {
+          setVicbfEpoch(other.getVicbfEpoch());
+        }
+        if (other.hasVicbfVersion()) {
+          setVicbfVersion(other.getVicbfVersion());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVicbfEpoch()) {
+          
+          return false;
+        }
+        if (!hasVicbfVersion()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long vicbfEpoch_ ;
+      /**
+       * <code>required uint64 vicbfEpoch = 1;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF known to the client
+       * </pre>
+       */
+      public boolean hasVicbfEpoch() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint64 vicbfEpoch = 1;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF known to the client
+       * </pre>
+       */
+      public long getVicbfEpoch() {
+        return vicbfEpoch_;
+      }
+      /**
+       * <code>required uint64 vicbfEpoch = 1;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF known to the client
+       * </pre>
+       */
+      public Builder setVicbfEpoch(long value) {
+        bitField0_ |= 0x00000001;
+        vicbfEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 vicbfEpoch = 1;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF known to the client
+       * </pre>
+       */
+      public Builder clearVicbfEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        vicbfEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long vicbfVersion_ ;
+      /**
+       * <code>required uint64 vicbfVersion = 2;</code>
+       */
+      public boolean hasVicbfVersion() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint64 vicbfVersion = 2;</code>
+       */
+      public long getVicbfVersion() {
+        return vicbfVersion_;
+      }
+      /**
+       * <code>required uint64 vicbfVersion = 2;</code>
+       */
+      public Builder setVicbfVersion(long value) {
+        bitField0_ |= 0x00000002;
+        vicbfVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 vicbfVersion = 2;</code>
+       */
+      public Builder clearVicbfVersion() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        vicbfVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate)
+    }
+
+    static {
+      defaultInstance = new VICBFUpdate(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate)
+  }
+
+  public interface VICBFUpdateReplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bytes data = 1;</code>
+     *
+     * <pre>
+     * Full serialized VICBF, if the changes since the version of the client are not available
+     * </pre>
+     */
+    boolean hasData();
+    /**
+     * <code>optional bytes data = 1;</code>
+     *
+     * <pre>
+     * Full serialized VICBF, if the changes since the version of the client are not available
+     * </pre>
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>required uint64 vicbfEpoch = 2;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message
+     * </pre>
+     */
+    boolean hasVicbfEpoch();
+    /**
+     * <code>required uint64 vicbfEpoch = 2;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message
+     * </pre>
+     */
+    long getVicbfEpoch();
+
+    /**
+     * <code>required uint64 vicbfVersion = 3;</code>
+     */
+    boolean hasVicbfVersion();
+    /**
+     * <code>required uint64 vicbfVersion = 3;</code>
+     */
+    long getVicbfVersion();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+     *
+     * <pre>
+     * Changes since the version announced in the VICBFUpdate
+     * </pre>
+     */
+    boolean hasVicbfDelta();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+     *
+     * <pre>
+     * Changes since the version announced in the VICBFUpdate
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta getVicbfDelta();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+     *
+     * <pre>
+     * Changes since the version announced in the VICBFUpdate
+     * </pre>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder getVicbfDeltaOrBuilder();
+  }
+  /**
+   * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply}
+   */
+  public static final class VICBFUpdateReply extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply)
+      VICBFUpdateReplyOrBuilder {
+    // Use VICBFUpdateReply.newBuilder() to construct.
+    private VICBFUpdateReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private VICBFUpdateReply(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final VICBFUpdateReply defaultInstance;
+    public static VICBFUpdateReply getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public VICBFUpdateReply getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private VICBFUpdateReply(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              data_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              vicbfEpoch_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              vicbfVersion_ = input.readUInt64();
+              break;
+            }
+            case 34: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = vicbfDelta_.toBuilder();
+              }
+              vicbfDelta_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(vicbfDelta_);
+                vicbfDelta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<VICBFUpdateReply> PARSER =
+        new com.google.protobuf.AbstractParser<VICBFUpdateReply>() {
+      public VICBFUpdateReply parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new VICBFUpdateReply(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<VICBFUpdateReply> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int DATA_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <code>optional bytes data = 1;</code>
+     *
+     * <pre>
+     * Full serialized VICBF, if the changes since the version of the client are not available
+     * </pre>
+     */
+    public boolean hasData() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bytes data = 1;</code>
+     *
+     * <pre>
+     * Full serialized VICBF, if the changes since the version of the client are not available
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int VICBFEPOCH_FIELD_NUMBER = 2;
+    private long vicbfEpoch_;
+    /**
+     * <code>required uint64 vicbfEpoch = 2;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message
+     * </pre>
+     */
+    public boolean hasVicbfEpoch() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint64 vicbfEpoch = 2;</code>
+     *
+     * <pre>
+     * Epoch and version of the VICBF state the client has after processing this message
+     * </pre>
+     */
+    public long getVicbfEpoch() {
+      return vicbfEpoch_;
+    }
+
+    public static final int VICBFVERSION_FIELD_NUMBER = 3;
+    private long vicbfVersion_;
+    /**
+     * <code>required uint64 vicbfVersion = 3;</code>
+     */
+    public boolean hasVicbfVersion() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required uint64 vicbfVersion = 3;</code>
+     */
+    public long getVicbfVersion() {
+      return vicbfVersion_;
+    }
+
+    public static final int VICBFDELTA_FIELD_NUMBER = 4;
+    private de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta vicbfDelta_;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+     *
+     * <pre>
+     * Changes since the version announced in the VICBFUpdate
+     * </pre>
+     */
+    public boolean hasVicbfDelta() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+     *
+     * <pre>
+     * Changes since the version announced in the VICBFUpdate
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta getVicbfDelta() {
+      return vicbfDelta_;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+     *
+     * <pre>
+     * Changes since the version announced in the VICBFUpdate
+     * </pre>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder getVicbfDeltaOrBuilder() {
+      return vicbfDelta_;
+    }
+
+    private void initFields() {
+      data_ = com.google.protobuf.ByteString.EMPTY;
+      vicbfEpoch_ = 0L;
+      vicbfVersion_ = 0L;
+      vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasVicbfEpoch()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasVicbfVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, data_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(3, vicbfVersion_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, vicbfDelta_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, data_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, vicbfEpoch_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, vicbfVersion_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, vicbfDelta_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply)
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReplyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.class, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder.class);
+      }
+
+      // Construct using de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getVicbfDeltaFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        vicbfEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        vicbfVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+        } else {
+          vicbfDeltaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_descriptor;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply getDefaultInstanceForType() {
+        return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance();
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply build() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply buildPartial() {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply result = new de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.data_ = data_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.vicbfEpoch_ = vicbfEpoch_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.vicbfVersion_ = vicbfVersion_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (vicbfDeltaBuilder_ == null) {
+          result.vicbfDelta_ = vicbfDelta_;
+        } else {
+          result.vicbfDelta_ = vicbfDeltaBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) {
+          return mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply other) {
+        if (other == de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance()) return this;
+        if (other.hasData()) {
+          setData(other.getData());
+        }
+        if (other.hasVicbfEpoch()) {
+          setVicbfEpoch(other.getVicbfEpoch());
+        }
+        if (other.hasVicbfVersion()) {
+          setVicbfVersion(other.getVicbfVersion());
+        }
+        if (other.hasVicbfDelta()) {
+          mergeVicbfDelta(other.getVicbfDelta());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVicbfEpoch()) {
+          
+          return false;
+        }
+        if (!hasVicbfVersion()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes data = 1;</code>
+       *
+       * <pre>
+       * Full serialized VICBF, if the changes since the version of the client are not available
+       * </pre>
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bytes data = 1;</code>
+       *
+       * <pre>
+       * Full serialized VICBF, if the changes since the version of the client are not available
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>optional bytes data = 1;</code>
+       *
+       * <pre>
+       * Full serialized VICBF, if the changes since the version of the client are not available
+       * </pre>
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes data = 1;</code>
+       *
+       * <pre>
+       * Full serialized VICBF, if the changes since the version of the client are not available
+       * </pre>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private long vicbfEpoch_ ;
+      /**
+       * <code>required uint64 vicbfEpoch = 2;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message
+       * </pre>
+       */
+      public boolean hasVicbfEpoch() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint64 vicbfEpoch = 2;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message
+       * </pre>
+       */
+      public long getVicbfEpoch() {
+        return vicbfEpoch_;
+      }
+      /**
+       * <code>required uint64 vicbfEpoch = 2;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message
+       * </pre>
+       */
+      public Builder setVicbfEpoch(long value) {
+        bitField0_ |= 0x00000002;
+        vicbfEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 vicbfEpoch = 2;</code>
+       *
+       * <pre>
+       * Epoch and version of the VICBF state the client has after processing this message
+       * </pre>
+       */
+      public Builder clearVicbfEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        vicbfEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long vicbfVersion_ ;
+      /**
+       * <code>required uint64 vicbfVersion = 3;</code>
+       */
+      public boolean hasVicbfVersion() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required uint64 vicbfVersion = 3;</code>
+       */
+      public long getVicbfVersion() {
+        return vicbfVersion_;
+      }
+      /**
+       * <code>required uint64 vicbfVersion = 3;</code>
+       */
+      public Builder setVicbfVersion(long value) {
+        bitField0_ |= 0x00000004;
+        vicbfVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint64 vicbfVersion = 3;</code>
+       */
+      public Builder clearVicbfVersion() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        vicbfVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder> vicbfDeltaBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public boolean hasVicbfDelta() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta getVicbfDelta() {
+        if (vicbfDeltaBuilder_ == null) {
+          return vicbfDelta_;
+        } else {
+          return vicbfDeltaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public Builder setVicbfDelta(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta value) {
+        if (vicbfDeltaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          vicbfDelta_ = value;
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public Builder setVicbfDelta(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder builderForValue) {
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDelta_ = builderForValue.build();
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public Builder mergeVicbfDelta(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta value) {
+        if (vicbfDeltaBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              vicbfDelta_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance()) {
+            vicbfDelta_ =
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.newBuilder(vicbfDelta_).mergeFrom(value).buildPartial();
+          } else {
+            vicbfDelta_ = value;
+          }
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public Builder clearVicbfDelta() {
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDelta_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.getDefaultInstance();
+          onChanged();
+        } else {
+          vicbfDeltaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder getVicbfDeltaBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getVicbfDeltaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder getVicbfDeltaOrBuilder() {
+        if (vicbfDeltaBuilder_ != null) {
+          return vicbfDeltaBuilder_.getMessageOrBuilder();
+        } else {
+          return vicbfDelta_;
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFDelta vicbfDelta = 4;</code>
+       *
+       * <pre>
+       * Changes since the version announced in the VICBFUpdate
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder> 
+          getVicbfDeltaFieldBuilder() {
+        if (vicbfDeltaBuilder_ == null) {
+          vicbfDeltaBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDelta.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFDeltaOrBuilder>(
+                  getVicbfDelta(),
+                  getParentForChildren(),
+                  isClean());
+          vicbfDelta_ = null;
+        }
+        return vicbfDeltaBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply)
+    }
+
+    static {
+      defaultInstance = new VICBFUpdateReply(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply)
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_de_velcommuta_denul_networking_protobuf_c2s_Store_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
@@ -5376,6 +12981,51 @@ public final class C2S {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_de_velcommuta_denul_networking_protobuf_c2s_ServerHello_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -5406,14 +13056,37 @@ public final class C2S {
       "eleteReplyCode\022\r\n\tDELETE_OK\020\000\022\024\n\020DELETE_" +
       "FAIL_AUTH\020\001\022\031\n\025DELETE_FAIL_NOT_FOUND\020\002\022\027",
       "\n\023DELETE_FAIL_KEY_FMT\020\003\022\027\n\023DELETE_FAIL_U" +
-      "NKNOWN\020\004\"0\n\013ClientHello\022\023\n\013clientProto\030\001" +
-      " \002(\t\022\014\n\004data\030\002 \001(\014\"\342\001\n\013ServerHello\022]\n\006op" +
-      "code\030\001 \002(\0162M.de.velcommuta.denul.network" +
-      "ing.protobuf.c2s.ServerHello.ClientHello" +
-      "ReplyCode\022\023\n\013serverProto\030\002 \002(\t\022\014\n\004data\030\003" +
-      " \002(\014\"Q\n\024ClientHelloReplyCode\022\023\n\017CLIENT_H" +
-      "ELLO_OK\020\000\022$\n CLIENT_HELLO_PROTO_NOT_SUPP" +
-      "ORTED\020\001"
+      "NKNOWN\020\004\"Z\n\013ClientHello\022\023\n\013clientProto\030\001" +
+      " \002(\t\022\014\n\004data\030\002 \001(\014\022\022\n\nvicbfEpoch\030\003 \001(\004\022\024" +
+      "\n\014vicbfVersion\030\004 \001(\004\"\331\002\n\013ServerHello\022]\n\006" +
+      "opcode\030\001 \002(\0162M.de.velcommuta.denul.netwo" +
+      "rking.protobuf.c2s.ServerHello.ClientHel" +
+      "loReplyCode\022\023\n\013serverProto\030\002 \002(\t\022\014\n\004data" +
+      "\030\003 \001(\014\022\022\n\nvicbfEpoch\030\004 \001(\004\022\024\n\014vicbfVersi" +
+      "on\030\005 \001(\004\022K\n\nvicbfDelta\030\006 \001(\01327.de.velcom" +
+      "muta.denul.networking.protobuf.c2s.VICBF",
+      "Delta\"Q\n\024ClientHelloReplyCode\022\023\n\017CLIENT_" +
+      "HELLO_OK\020\000\022$\n CLIENT_HELLO_PROTO_NOT_SUP" +
+      "PORTED\020\001\"R\n\nStoreBatch\022D\n\010requests\030\001 \003(\013" +
+      "22.de.velcommuta.denul.networking.protob" +
+      "uf.c2s.Store\"[\n\017StoreBatchReply\022H\n\007repli" +
+      "es\030\001 \003(\01327.de.velcommuta.denul.networkin" +
+      "g.protobuf.c2s.StoreReply\"N\n\010GetBatch\022B\n" +
+      "\010requests\030\001 \003(\01320.de.velcommuta.denul.ne" +
+      "tworking.protobuf.c2s.Get\"W\n\rGetBatchRep" +
+      "ly\022F\n\007replies\030\001 \003(\01325.de.velcommuta.denu",
+      "l.networking.protobuf.c2s.GetReply\"T\n\013De" +
+      "leteBatch\022E\n\010requests\030\001 \003(\01323.de.velcomm" +
+      "uta.denul.networking.protobuf.c2s.Delete" +
+      "\"]\n\020DeleteBatchReply\022I\n\007replies\030\001 \003(\01328." +
+      "de.velcommuta.denul.networking.protobuf." +
+      "c2s.DeleteReply\"/\n\nVICBFDelta\022\020\n\010inserte" +
+      "d\030\001 \003(\014\022\017\n\007removed\030\002 \003(\014\"7\n\013VICBFUpdate\022" +
+      "\022\n\nvicbfEpoch\030\001 \002(\004\022\024\n\014vicbfVersion\030\002 \002(" +
+      "\004\"\227\001\n\020VICBFUpdateReply\022\014\n\004data\030\001 \001(\014\022\022\n\n" +
+      "vicbfEpoch\030\002 \002(\004\022\024\n\014vicbfVersion\030\003 \002(\004\022K",
+      "\n\nvicbfDelta\030\004 \001(\01327.de.velcommuta.denul" +
+      ".networking.protobuf.c2s.VICBFDelta"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -5468,13 +13141,67 @@ public final class C2S {
     internal_static_de_velcommuta_denul_networking_protobuf_c2s_ClientHello_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_de_velcommuta_denul_networking_protobuf_c2s_ClientHello_descriptor,
-        new java.lang.String[] { "ClientProto", "Data", });
+        new java.lang.String[] { "ClientProto", "Data", "VicbfEpoch", "VicbfVersion", });
     internal_static_de_velcommuta_denul_networking_protobuf_c2s_ServerHello_descriptor =
       getDescriptor().getMessageTypes().get(7);
     internal_static_de_velcommuta_denul_networking_protobuf_c2s_ServerHello_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_de_velcommuta_denul_networking_protobuf_c2s_ServerHello_descriptor,
-        new java.lang.String[] { "Opcode", "ServerProto", "Data", });
+        new java.lang.String[] { "Opcode", "ServerProto", "Data", "VicbfEpoch", "VicbfVersion", "VicbfDelta", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatch_descriptor,
+        new java.lang.String[] { "Requests", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_StoreBatchReply_descriptor,
+        new java.lang.String[] { "Replies", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatch_descriptor,
+        new java.lang.String[] { "Requests", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_GetBatchReply_descriptor,
+        new java.lang.String[] { "Replies", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatch_descriptor,
+        new java.lang.String[] { "Requests", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_DeleteBatchReply_descriptor,
+        new java.lang.String[] { "Replies", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFDelta_descriptor,
+        new java.lang.String[] { "Inserted", "Removed", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdate_descriptor,
+        new java.lang.String[] { "VicbfEpoch", "VicbfVersion", });
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_de_velcommuta_denul_networking_protobuf_c2s_VICBFUpdateReply_descriptor,
+        new java.lang.String[] { "Data", "VicbfEpoch", "VicbfVersion", "VicbfDelta", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
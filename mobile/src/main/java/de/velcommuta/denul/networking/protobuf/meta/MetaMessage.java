@@ -193,6 +193,129 @@ public final class MetaMessage {
      * <code>optional .de.velcommuta.denul.networking.protobuf.study.StudyListReply StudyListReply = 16;</code>
      */
     de.velcommuta.denul.networking.protobuf.study.StudyMessage.StudyListReplyOrBuilder getStudyListReplyOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+     */
+    boolean hasStoreBatch();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch getStoreBatch();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchOrBuilder getStoreBatchOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+     */
+    boolean hasStoreBatchReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply getStoreBatchReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReplyOrBuilder getStoreBatchReplyOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+     */
+    boolean hasGetBatch();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch getGetBatch();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchOrBuilder getGetBatchOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+     */
+    boolean hasGetBatchReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply getGetBatchReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReplyOrBuilder getGetBatchReplyOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+     */
+    boolean hasDeleteBatch();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch getDeleteBatch();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchOrBuilder getDeleteBatchOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+     */
+    boolean hasDeleteBatchReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply getDeleteBatchReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReplyOrBuilder getDeleteBatchReplyOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+     */
+    boolean hasVICBFUpdate();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate getVICBFUpdate();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateOrBuilder getVICBFUpdateOrBuilder();
+
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+     */
+    boolean hasVICBFUpdateReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply getVICBFUpdateReply();
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+     */
+    de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReplyOrBuilder getVICBFUpdateReplyOrBuilder();
+
+    /**
+     * <code>optional uint32 requestId = 25;</code>
+     *
+     * <pre>
+     * ID of the request, chosen by the client and copied into the reply by the server. This allows
+     * the server to answer requests out of order (protocol version 1.3 and later).
+     * </pre>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>optional uint32 requestId = 25;</code>
+     *
+     * <pre>
+     * ID of the request, chosen by the client and copied into the reply by the server. This allows
+     * the server to answer requests out of order (protocol version 1.3 and later).
+     * </pre>
+     */
+    int getRequestId();
   }
   /**
    * Protobuf type {@code de.velcommuta.denul.networking.protobuf.meta.Wrapper}
@@ -435,6 +558,115 @@ public final class MetaMessage {
               messageCase_ = 16;
               break;
             }
+            case 138: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder subBuilder = null;
+              if (messageCase_ == 17) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 17;
+              break;
+            }
+            case 146: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder subBuilder = null;
+              if (messageCase_ == 18) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 18;
+              break;
+            }
+            case 154: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder subBuilder = null;
+              if (messageCase_ == 19) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 19;
+              break;
+            }
+            case 162: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder subBuilder = null;
+              if (messageCase_ == 20) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 20;
+              break;
+            }
+            case 170: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder subBuilder = null;
+              if (messageCase_ == 21) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 21;
+              break;
+            }
+            case 178: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder subBuilder = null;
+              if (messageCase_ == 22) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 22;
+              break;
+            }
+            case 186: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder subBuilder = null;
+              if (messageCase_ == 23) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 23;
+              break;
+            }
+            case 194: {
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder subBuilder = null;
+              if (messageCase_ == 24) {
+                subBuilder = ((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_).toBuilder();
+              }
+              message_ = input.readMessage(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_);
+                message_ = subBuilder.buildPartial();
+              }
+              messageCase_ = 24;
+              break;
+            }
+            case 200: {
+              bitField0_ |= 0x00400000;
+              requestId_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -493,6 +725,14 @@ public final class MetaMessage {
       STUDYDELETEREPLY(14),
       STUDYLISTQUERY(15),
       STUDYLISTREPLY(16),
+      STOREBATCH(17),
+      STOREBATCHREPLY(18),
+      GETBATCH(19),
+      GETBATCHREPLY(20),
+      DELETEBATCH(21),
+      DELETEBATCHREPLY(22),
+      VICBFUPDATE(23),
+      VICBFUPDATEREPLY(24),
       MESSAGE_NOT_SET(0);
       private int value = 0;
       private MessageCase(int value) {
@@ -514,6 +754,14 @@ public final class MetaMessage {
           case 14: return STUDYDELETEREPLY;
           case 15: return STUDYLISTQUERY;
           case 16: return STUDYLISTREPLY;
+          case 17: return STOREBATCH;
+          case 18: return STOREBATCHREPLY;
+          case 19: return GETBATCH;
+          case 20: return GETBATCHREPLY;
+          case 21: return DELETEBATCH;
+          case 22: return DELETEBATCHREPLY;
+          case 23: return VICBFUPDATE;
+          case 24: return VICBFUPDATEREPLY;
           case 0: return MESSAGE_NOT_SET;
           default: throw new java.lang.IllegalArgumentException(
             "Value is undefined for this oneof enum.");
@@ -894,7 +1142,241 @@ public final class MetaMessage {
       return de.velcommuta.denul.networking.protobuf.study.StudyMessage.StudyListReply.getDefaultInstance();
     }
 
+    public static final int STOREBATCH_FIELD_NUMBER = 17;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+     */
+    public boolean hasStoreBatch() {
+      return messageCase_ == 17;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch getStoreBatch() {
+      if (messageCase_ == 17) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchOrBuilder getStoreBatchOrBuilder() {
+      if (messageCase_ == 17) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance();
+    }
+
+    public static final int STOREBATCHREPLY_FIELD_NUMBER = 18;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+     */
+    public boolean hasStoreBatchReply() {
+      return messageCase_ == 18;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply getStoreBatchReply() {
+      if (messageCase_ == 18) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReplyOrBuilder getStoreBatchReplyOrBuilder() {
+      if (messageCase_ == 18) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance();
+    }
+
+    public static final int GETBATCH_FIELD_NUMBER = 19;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+     */
+    public boolean hasGetBatch() {
+      return messageCase_ == 19;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch getGetBatch() {
+      if (messageCase_ == 19) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchOrBuilder getGetBatchOrBuilder() {
+      if (messageCase_ == 19) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance();
+    }
+
+    public static final int GETBATCHREPLY_FIELD_NUMBER = 20;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+     */
+    public boolean hasGetBatchReply() {
+      return messageCase_ == 20;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply getGetBatchReply() {
+      if (messageCase_ == 20) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReplyOrBuilder getGetBatchReplyOrBuilder() {
+      if (messageCase_ == 20) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance();
+    }
+
+    public static final int DELETEBATCH_FIELD_NUMBER = 21;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+     */
+    public boolean hasDeleteBatch() {
+      return messageCase_ == 21;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch getDeleteBatch() {
+      if (messageCase_ == 21) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchOrBuilder getDeleteBatchOrBuilder() {
+      if (messageCase_ == 21) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance();
+    }
+
+    public static final int DELETEBATCHREPLY_FIELD_NUMBER = 22;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+     */
+    public boolean hasDeleteBatchReply() {
+      return messageCase_ == 22;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply getDeleteBatchReply() {
+      if (messageCase_ == 22) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReplyOrBuilder getDeleteBatchReplyOrBuilder() {
+      if (messageCase_ == 22) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance();
+    }
+
+    public static final int VICBFUPDATE_FIELD_NUMBER = 23;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+     */
+    public boolean hasVICBFUpdate() {
+      return messageCase_ == 23;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate getVICBFUpdate() {
+      if (messageCase_ == 23) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateOrBuilder getVICBFUpdateOrBuilder() {
+      if (messageCase_ == 23) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance();
+    }
+
+    public static final int VICBFUPDATEREPLY_FIELD_NUMBER = 24;
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+     */
+    public boolean hasVICBFUpdateReply() {
+      return messageCase_ == 24;
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply getVICBFUpdateReply() {
+      if (messageCase_ == 24) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance();
+    }
+    /**
+     * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+     */
+    public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReplyOrBuilder getVICBFUpdateReplyOrBuilder() {
+      if (messageCase_ == 24) {
+         return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_;
+      }
+      return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance();
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 25;
+    private int requestId_;
+    /**
+     * <code>optional uint32 requestId = 25;</code>
+     *
+     * <pre>
+     * ID of the request, chosen by the client and copied into the reply by the server. This allows
+     * the server to answer requests out of order (protocol version 1.3 and later).
+     * </pre>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00400000) == 0x00400000);
+    }
+    /**
+     * <code>optional uint32 requestId = 25;</code>
+     *
+     * <pre>
+     * ID of the request, chosen by the client and copied into the reply by the server. This allows
+     * the server to answer requests out of order (protocol version 1.3 and later).
+     * </pre>
+     */
+    public int getRequestId() {
+      return requestId_;
+    }
+
     private void initFields() {
+      requestId_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -980,27 +1462,75 @@ public final class MetaMessage {
           return false;
         }
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (messageCase_ == 1) {
-        output.writeMessage(1, (de.velcommuta.denul.networking.protobuf.c2s.C2S.ClientHello) message_);
-      }
-      if (messageCase_ == 2) {
-        output.writeMessage(2, (de.velcommuta.denul.networking.protobuf.c2s.C2S.ServerHello) message_);
+      if (hasStoreBatch()) {
+        if (!getStoreBatch().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
-      if (messageCase_ == 3) {
-        output.writeMessage(3, (de.velcommuta.denul.networking.protobuf.c2s.C2S.Store) message_);
+      if (hasStoreBatchReply()) {
+        if (!getStoreBatchReply().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
-      if (messageCase_ == 4) {
-        output.writeMessage(4, (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply) message_);
+      if (hasGetBatch()) {
+        if (!getGetBatch().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
-      if (messageCase_ == 5) {
-        output.writeMessage(5, (de.velcommuta.denul.networking.protobuf.c2s.C2S.Get) message_);
+      if (hasGetBatchReply()) {
+        if (!getGetBatchReply().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasDeleteBatch()) {
+        if (!getDeleteBatch().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasDeleteBatchReply()) {
+        if (!getDeleteBatchReply().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasVICBFUpdate()) {
+        if (!getVICBFUpdate().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasVICBFUpdateReply()) {
+        if (!getVICBFUpdateReply().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (messageCase_ == 1) {
+        output.writeMessage(1, (de.velcommuta.denul.networking.protobuf.c2s.C2S.ClientHello) message_);
+      }
+      if (messageCase_ == 2) {
+        output.writeMessage(2, (de.velcommuta.denul.networking.protobuf.c2s.C2S.ServerHello) message_);
+      }
+      if (messageCase_ == 3) {
+        output.writeMessage(3, (de.velcommuta.denul.networking.protobuf.c2s.C2S.Store) message_);
+      }
+      if (messageCase_ == 4) {
+        output.writeMessage(4, (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreReply) message_);
+      }
+      if (messageCase_ == 5) {
+        output.writeMessage(5, (de.velcommuta.denul.networking.protobuf.c2s.C2S.Get) message_);
       }
       if (messageCase_ == 6) {
         output.writeMessage(6, (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetReply) message_);
@@ -1029,6 +1559,33 @@ public final class MetaMessage {
       if (messageCase_ == 16) {
         output.writeMessage(16, (de.velcommuta.denul.networking.protobuf.study.StudyMessage.StudyListReply) message_);
       }
+      if (messageCase_ == 17) {
+        output.writeMessage(17, (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_);
+      }
+      if (messageCase_ == 18) {
+        output.writeMessage(18, (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_);
+      }
+      if (messageCase_ == 19) {
+        output.writeMessage(19, (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_);
+      }
+      if (messageCase_ == 20) {
+        output.writeMessage(20, (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_);
+      }
+      if (messageCase_ == 21) {
+        output.writeMessage(21, (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_);
+      }
+      if (messageCase_ == 22) {
+        output.writeMessage(22, (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_);
+      }
+      if (messageCase_ == 23) {
+        output.writeMessage(23, (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_);
+      }
+      if (messageCase_ == 24) {
+        output.writeMessage(24, (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_);
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        output.writeUInt32(25, requestId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1094,6 +1651,42 @@ public final class MetaMessage {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(16, (de.velcommuta.denul.networking.protobuf.study.StudyMessage.StudyListReply) message_);
       }
+      if (messageCase_ == 17) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_);
+      }
+      if (messageCase_ == 18) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(18, (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_);
+      }
+      if (messageCase_ == 19) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_);
+      }
+      if (messageCase_ == 20) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(20, (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_);
+      }
+      if (messageCase_ == 21) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(21, (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_);
+      }
+      if (messageCase_ == 22) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(22, (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_);
+      }
+      if (messageCase_ == 23) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(23, (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_);
+      }
+      if (messageCase_ == 24) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(24, (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_);
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(25, requestId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1218,6 +1811,8 @@ public final class MetaMessage {
 
       public Builder clear() {
         super.clear();
+        requestId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00400000);
         messageCase_ = 0;
         message_ = null;
         return this;
@@ -1346,6 +1941,66 @@ public final class MetaMessage {
             result.message_ = studyListReplyBuilder_.build();
           }
         }
+        if (messageCase_ == 17) {
+          if (storeBatchBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = storeBatchBuilder_.build();
+          }
+        }
+        if (messageCase_ == 18) {
+          if (storeBatchReplyBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = storeBatchReplyBuilder_.build();
+          }
+        }
+        if (messageCase_ == 19) {
+          if (getBatchBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = getBatchBuilder_.build();
+          }
+        }
+        if (messageCase_ == 20) {
+          if (getBatchReplyBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = getBatchReplyBuilder_.build();
+          }
+        }
+        if (messageCase_ == 21) {
+          if (deleteBatchBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = deleteBatchBuilder_.build();
+          }
+        }
+        if (messageCase_ == 22) {
+          if (deleteBatchReplyBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = deleteBatchReplyBuilder_.build();
+          }
+        }
+        if (messageCase_ == 23) {
+          if (vICBFUpdateBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = vICBFUpdateBuilder_.build();
+          }
+        }
+        if (messageCase_ == 24) {
+          if (vICBFUpdateReplyBuilder_ == null) {
+            result.message_ = message_;
+          } else {
+            result.message_ = vICBFUpdateReplyBuilder_.build();
+          }
+        }
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00400000;
+        }
+        result.requestId_ = requestId_;
         result.bitField0_ = to_bitField0_;
         result.messageCase_ = messageCase_;
         onBuilt();
@@ -1363,6 +2018,9 @@ public final class MetaMessage {
 
       public Builder mergeFrom(de.velcommuta.denul.networking.protobuf.meta.MetaMessage.Wrapper other) {
         if (other == de.velcommuta.denul.networking.protobuf.meta.MetaMessage.Wrapper.getDefaultInstance()) return this;
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
         switch (other.getMessageCase()) {
           case CLIENTHELLO: {
             mergeClientHello(other.getClientHello());
@@ -1420,6 +2078,38 @@ public final class MetaMessage {
             mergeStudyListReply(other.getStudyListReply());
             break;
           }
+          case STOREBATCH: {
+            mergeStoreBatch(other.getStoreBatch());
+            break;
+          }
+          case STOREBATCHREPLY: {
+            mergeStoreBatchReply(other.getStoreBatchReply());
+            break;
+          }
+          case GETBATCH: {
+            mergeGetBatch(other.getGetBatch());
+            break;
+          }
+          case GETBATCHREPLY: {
+            mergeGetBatchReply(other.getGetBatchReply());
+            break;
+          }
+          case DELETEBATCH: {
+            mergeDeleteBatch(other.getDeleteBatch());
+            break;
+          }
+          case DELETEBATCHREPLY: {
+            mergeDeleteBatchReply(other.getDeleteBatchReply());
+            break;
+          }
+          case VICBFUPDATE: {
+            mergeVICBFUpdate(other.getVICBFUpdate());
+            break;
+          }
+          case VICBFUPDATEREPLY: {
+            mergeVICBFUpdateReply(other.getVICBFUpdateReply());
+            break;
+          }
           case MESSAGE_NOT_SET: {
             break;
           }
@@ -1507,6 +2197,54 @@ public final class MetaMessage {
             return false;
           }
         }
+        if (hasStoreBatch()) {
+          if (!getStoreBatch().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasStoreBatchReply()) {
+          if (!getStoreBatchReply().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasGetBatch()) {
+          if (!getGetBatch().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasGetBatchReply()) {
+          if (!getGetBatchReply().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasDeleteBatch()) {
+          if (!getDeleteBatch().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasDeleteBatchReply()) {
+          if (!getDeleteBatchReply().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasVICBFUpdate()) {
+          if (!getVICBFUpdate().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasVICBFUpdateReply()) {
+          if (!getVICBFUpdateReply().isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -3434,6 +4172,1138 @@ public final class MetaMessage {
         return studyListReplyBuilder_;
       }
 
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchOrBuilder> storeBatchBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public boolean hasStoreBatch() {
+        return messageCase_ == 17;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch getStoreBatch() {
+        if (storeBatchBuilder_ == null) {
+          if (messageCase_ == 17) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance();
+        } else {
+          if (messageCase_ == 17) {
+            return storeBatchBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public Builder setStoreBatch(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch value) {
+        if (storeBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          storeBatchBuilder_.setMessage(value);
+        }
+        messageCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public Builder setStoreBatch(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder builderForValue) {
+        if (storeBatchBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          storeBatchBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public Builder mergeStoreBatch(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch value) {
+        if (storeBatchBuilder_ == null) {
+          if (messageCase_ == 17 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 17) {
+            storeBatchBuilder_.mergeFrom(value);
+          }
+          storeBatchBuilder_.setMessage(value);
+        }
+        messageCase_ = 17;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public Builder clearStoreBatch() {
+        if (storeBatchBuilder_ == null) {
+          if (messageCase_ == 17) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 17) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          storeBatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder getStoreBatchBuilder() {
+        return getStoreBatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchOrBuilder getStoreBatchOrBuilder() {
+        if ((messageCase_ == 17) && (storeBatchBuilder_ != null)) {
+          return storeBatchBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 17) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatch StoreBatch = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchOrBuilder> 
+          getStoreBatchFieldBuilder() {
+        if (storeBatchBuilder_ == null) {
+          if (!(messageCase_ == 17)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.getDefaultInstance();
+          }
+          storeBatchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatch) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 17;
+        return storeBatchBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReplyOrBuilder> storeBatchReplyBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public boolean hasStoreBatchReply() {
+        return messageCase_ == 18;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply getStoreBatchReply() {
+        if (storeBatchReplyBuilder_ == null) {
+          if (messageCase_ == 18) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance();
+        } else {
+          if (messageCase_ == 18) {
+            return storeBatchReplyBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public Builder setStoreBatchReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply value) {
+        if (storeBatchReplyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          storeBatchReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public Builder setStoreBatchReply(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder builderForValue) {
+        if (storeBatchReplyBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          storeBatchReplyBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public Builder mergeStoreBatchReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply value) {
+        if (storeBatchReplyBuilder_ == null) {
+          if (messageCase_ == 18 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 18) {
+            storeBatchReplyBuilder_.mergeFrom(value);
+          }
+          storeBatchReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 18;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public Builder clearStoreBatchReply() {
+        if (storeBatchReplyBuilder_ == null) {
+          if (messageCase_ == 18) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 18) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          storeBatchReplyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder getStoreBatchReplyBuilder() {
+        return getStoreBatchReplyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReplyOrBuilder getStoreBatchReplyOrBuilder() {
+        if ((messageCase_ == 18) && (storeBatchReplyBuilder_ != null)) {
+          return storeBatchReplyBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 18) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.StoreBatchReply StoreBatchReply = 18;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReplyOrBuilder> 
+          getStoreBatchReplyFieldBuilder() {
+        if (storeBatchReplyBuilder_ == null) {
+          if (!(messageCase_ == 18)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.getDefaultInstance();
+          }
+          storeBatchReplyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReplyOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.StoreBatchReply) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 18;
+        return storeBatchReplyBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchOrBuilder> getBatchBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public boolean hasGetBatch() {
+        return messageCase_ == 19;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch getGetBatch() {
+        if (getBatchBuilder_ == null) {
+          if (messageCase_ == 19) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance();
+        } else {
+          if (messageCase_ == 19) {
+            return getBatchBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public Builder setGetBatch(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch value) {
+        if (getBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          getBatchBuilder_.setMessage(value);
+        }
+        messageCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public Builder setGetBatch(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder builderForValue) {
+        if (getBatchBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          getBatchBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public Builder mergeGetBatch(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch value) {
+        if (getBatchBuilder_ == null) {
+          if (messageCase_ == 19 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 19) {
+            getBatchBuilder_.mergeFrom(value);
+          }
+          getBatchBuilder_.setMessage(value);
+        }
+        messageCase_ = 19;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public Builder clearGetBatch() {
+        if (getBatchBuilder_ == null) {
+          if (messageCase_ == 19) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 19) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          getBatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder getGetBatchBuilder() {
+        return getGetBatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchOrBuilder getGetBatchOrBuilder() {
+        if ((messageCase_ == 19) && (getBatchBuilder_ != null)) {
+          return getBatchBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 19) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatch GetBatch = 19;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchOrBuilder> 
+          getGetBatchFieldBuilder() {
+        if (getBatchBuilder_ == null) {
+          if (!(messageCase_ == 19)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.getDefaultInstance();
+          }
+          getBatchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatch) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 19;
+        return getBatchBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReplyOrBuilder> getBatchReplyBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public boolean hasGetBatchReply() {
+        return messageCase_ == 20;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply getGetBatchReply() {
+        if (getBatchReplyBuilder_ == null) {
+          if (messageCase_ == 20) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance();
+        } else {
+          if (messageCase_ == 20) {
+            return getBatchReplyBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public Builder setGetBatchReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply value) {
+        if (getBatchReplyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          getBatchReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 20;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public Builder setGetBatchReply(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder builderForValue) {
+        if (getBatchReplyBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          getBatchReplyBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 20;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public Builder mergeGetBatchReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply value) {
+        if (getBatchReplyBuilder_ == null) {
+          if (messageCase_ == 20 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 20) {
+            getBatchReplyBuilder_.mergeFrom(value);
+          }
+          getBatchReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 20;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public Builder clearGetBatchReply() {
+        if (getBatchReplyBuilder_ == null) {
+          if (messageCase_ == 20) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 20) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          getBatchReplyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder getGetBatchReplyBuilder() {
+        return getGetBatchReplyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReplyOrBuilder getGetBatchReplyOrBuilder() {
+        if ((messageCase_ == 20) && (getBatchReplyBuilder_ != null)) {
+          return getBatchReplyBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 20) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.GetBatchReply GetBatchReply = 20;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReplyOrBuilder> 
+          getGetBatchReplyFieldBuilder() {
+        if (getBatchReplyBuilder_ == null) {
+          if (!(messageCase_ == 20)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.getDefaultInstance();
+          }
+          getBatchReplyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReplyOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.GetBatchReply) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 20;
+        return getBatchReplyBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchOrBuilder> deleteBatchBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public boolean hasDeleteBatch() {
+        return messageCase_ == 21;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch getDeleteBatch() {
+        if (deleteBatchBuilder_ == null) {
+          if (messageCase_ == 21) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance();
+        } else {
+          if (messageCase_ == 21) {
+            return deleteBatchBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public Builder setDeleteBatch(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch value) {
+        if (deleteBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          deleteBatchBuilder_.setMessage(value);
+        }
+        messageCase_ = 21;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public Builder setDeleteBatch(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder builderForValue) {
+        if (deleteBatchBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          deleteBatchBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 21;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public Builder mergeDeleteBatch(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch value) {
+        if (deleteBatchBuilder_ == null) {
+          if (messageCase_ == 21 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 21) {
+            deleteBatchBuilder_.mergeFrom(value);
+          }
+          deleteBatchBuilder_.setMessage(value);
+        }
+        messageCase_ = 21;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public Builder clearDeleteBatch() {
+        if (deleteBatchBuilder_ == null) {
+          if (messageCase_ == 21) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 21) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          deleteBatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder getDeleteBatchBuilder() {
+        return getDeleteBatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchOrBuilder getDeleteBatchOrBuilder() {
+        if ((messageCase_ == 21) && (deleteBatchBuilder_ != null)) {
+          return deleteBatchBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 21) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatch DeleteBatch = 21;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchOrBuilder> 
+          getDeleteBatchFieldBuilder() {
+        if (deleteBatchBuilder_ == null) {
+          if (!(messageCase_ == 21)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.getDefaultInstance();
+          }
+          deleteBatchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatch) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 21;
+        return deleteBatchBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReplyOrBuilder> deleteBatchReplyBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public boolean hasDeleteBatchReply() {
+        return messageCase_ == 22;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply getDeleteBatchReply() {
+        if (deleteBatchReplyBuilder_ == null) {
+          if (messageCase_ == 22) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance();
+        } else {
+          if (messageCase_ == 22) {
+            return deleteBatchReplyBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public Builder setDeleteBatchReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply value) {
+        if (deleteBatchReplyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          deleteBatchReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public Builder setDeleteBatchReply(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder builderForValue) {
+        if (deleteBatchReplyBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          deleteBatchReplyBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public Builder mergeDeleteBatchReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply value) {
+        if (deleteBatchReplyBuilder_ == null) {
+          if (messageCase_ == 22 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 22) {
+            deleteBatchReplyBuilder_.mergeFrom(value);
+          }
+          deleteBatchReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 22;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public Builder clearDeleteBatchReply() {
+        if (deleteBatchReplyBuilder_ == null) {
+          if (messageCase_ == 22) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 22) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          deleteBatchReplyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder getDeleteBatchReplyBuilder() {
+        return getDeleteBatchReplyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReplyOrBuilder getDeleteBatchReplyOrBuilder() {
+        if ((messageCase_ == 22) && (deleteBatchReplyBuilder_ != null)) {
+          return deleteBatchReplyBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 22) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.DeleteBatchReply DeleteBatchReply = 22;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReplyOrBuilder> 
+          getDeleteBatchReplyFieldBuilder() {
+        if (deleteBatchReplyBuilder_ == null) {
+          if (!(messageCase_ == 22)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.getDefaultInstance();
+          }
+          deleteBatchReplyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReplyOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.DeleteBatchReply) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 22;
+        return deleteBatchReplyBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateOrBuilder> vICBFUpdateBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public boolean hasVICBFUpdate() {
+        return messageCase_ == 23;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate getVICBFUpdate() {
+        if (vICBFUpdateBuilder_ == null) {
+          if (messageCase_ == 23) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance();
+        } else {
+          if (messageCase_ == 23) {
+            return vICBFUpdateBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public Builder setVICBFUpdate(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate value) {
+        if (vICBFUpdateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          vICBFUpdateBuilder_.setMessage(value);
+        }
+        messageCase_ = 23;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public Builder setVICBFUpdate(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder builderForValue) {
+        if (vICBFUpdateBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          vICBFUpdateBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 23;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public Builder mergeVICBFUpdate(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate value) {
+        if (vICBFUpdateBuilder_ == null) {
+          if (messageCase_ == 23 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 23) {
+            vICBFUpdateBuilder_.mergeFrom(value);
+          }
+          vICBFUpdateBuilder_.setMessage(value);
+        }
+        messageCase_ = 23;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public Builder clearVICBFUpdate() {
+        if (vICBFUpdateBuilder_ == null) {
+          if (messageCase_ == 23) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 23) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          vICBFUpdateBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder getVICBFUpdateBuilder() {
+        return getVICBFUpdateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateOrBuilder getVICBFUpdateOrBuilder() {
+        if ((messageCase_ == 23) && (vICBFUpdateBuilder_ != null)) {
+          return vICBFUpdateBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 23) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdate VICBFUpdate = 23;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateOrBuilder> 
+          getVICBFUpdateFieldBuilder() {
+        if (vICBFUpdateBuilder_ == null) {
+          if (!(messageCase_ == 23)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.getDefaultInstance();
+          }
+          vICBFUpdateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdate) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 23;
+        return vICBFUpdateBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReplyOrBuilder> vICBFUpdateReplyBuilder_;
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public boolean hasVICBFUpdateReply() {
+        return messageCase_ == 24;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply getVICBFUpdateReply() {
+        if (vICBFUpdateReplyBuilder_ == null) {
+          if (messageCase_ == 24) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance();
+        } else {
+          if (messageCase_ == 24) {
+            return vICBFUpdateReplyBuilder_.getMessage();
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public Builder setVICBFUpdateReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply value) {
+        if (vICBFUpdateReplyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          message_ = value;
+          onChanged();
+        } else {
+          vICBFUpdateReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 24;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public Builder setVICBFUpdateReply(
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder builderForValue) {
+        if (vICBFUpdateReplyBuilder_ == null) {
+          message_ = builderForValue.build();
+          onChanged();
+        } else {
+          vICBFUpdateReplyBuilder_.setMessage(builderForValue.build());
+        }
+        messageCase_ = 24;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public Builder mergeVICBFUpdateReply(de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply value) {
+        if (vICBFUpdateReplyBuilder_ == null) {
+          if (messageCase_ == 24 &&
+              message_ != de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance()) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.newBuilder((de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            message_ = value;
+          }
+          onChanged();
+        } else {
+          if (messageCase_ == 24) {
+            vICBFUpdateReplyBuilder_.mergeFrom(value);
+          }
+          vICBFUpdateReplyBuilder_.setMessage(value);
+        }
+        messageCase_ = 24;
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public Builder clearVICBFUpdateReply() {
+        if (vICBFUpdateReplyBuilder_ == null) {
+          if (messageCase_ == 24) {
+            messageCase_ = 0;
+            message_ = null;
+            onChanged();
+          }
+        } else {
+          if (messageCase_ == 24) {
+            messageCase_ = 0;
+            message_ = null;
+          }
+          vICBFUpdateReplyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder getVICBFUpdateReplyBuilder() {
+        return getVICBFUpdateReplyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      public de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReplyOrBuilder getVICBFUpdateReplyOrBuilder() {
+        if ((messageCase_ == 24) && (vICBFUpdateReplyBuilder_ != null)) {
+          return vICBFUpdateReplyBuilder_.getMessageOrBuilder();
+        } else {
+          if (messageCase_ == 24) {
+            return (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_;
+          }
+          return de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .de.velcommuta.denul.networking.protobuf.c2s.VICBFUpdateReply VICBFUpdateReply = 24;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReplyOrBuilder> 
+          getVICBFUpdateReplyFieldBuilder() {
+        if (vICBFUpdateReplyBuilder_ == null) {
+          if (!(messageCase_ == 24)) {
+            message_ = de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.getDefaultInstance();
+          }
+          vICBFUpdateReplyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply.Builder, de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReplyOrBuilder>(
+                  (de.velcommuta.denul.networking.protobuf.c2s.C2S.VICBFUpdateReply) message_,
+                  getParentForChildren(),
+                  isClean());
+          message_ = null;
+        }
+        messageCase_ = 24;
+        return vICBFUpdateReplyBuilder_;
+      }
+
+      private int requestId_ ;
+      /**
+       * <code>optional uint32 requestId = 25;</code>
+       *
+       * <pre>
+       * ID of the request, chosen by the client and copied into the reply by the server. This allows
+       * the server to answer requests out of order (protocol version 1.3 and later).
+       * </pre>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
+      }
+      /**
+       * <code>optional uint32 requestId = 25;</code>
+       *
+       * <pre>
+       * ID of the request, chosen by the client and copied into the reply by the server. This allows
+       * the server to answer requests out of order (protocol version 1.3 and later).
+       * </pre>
+       */
+      public int getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>optional uint32 requestId = 25;</code>
+       *
+       * <pre>
+       * ID of the request, chosen by the client and copied into the reply by the server. This allows
+       * the server to answer requests out of order (protocol version 1.3 and later).
+       * </pre>
+       */
+      public Builder setRequestId(int value) {
+        bitField0_ |= 0x00400000;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 requestId = 25;</code>
+       *
+       * <pre>
+       * ID of the request, chosen by the client and copied into the reply by the server. This allows
+       * the server to answer requests out of order (protocol version 1.3 and later).
+       * </pre>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        requestId_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:de.velcommuta.denul.networking.protobuf.meta.Wrapper)
     }
 
@@ -3461,7 +5331,7 @@ public final class MetaMessage {
     java.lang.String[] descriptorData = {
       "\n\021metaMessage.proto\022,de.velcommuta.denul" +
       ".networking.protobuf.meta\032\tc2s.proto\032\022st" +
-      "udyMessage.proto\"\222\t\n\007Wrapper\022O\n\013ClientHe" +
+      "udyMessage.proto\"\305\016\n\007Wrapper\022O\n\013ClientHe" +
       "llo\030\001 \001(\01328.de.velcommuta.denul.networki" +
       "ng.protobuf.c2s.ClientHelloH\000\022O\n\013ServerH" +
       "ello\030\002 \001(\01328.de.velcommuta.denul.network" +
@@ -3490,7 +5360,24 @@ public final class MetaMessage {
       ".denul.networking.protobuf.study.StudyLi" +
       "stQueryH\000\022W\n\016StudyListReply\030\020 \001(\0132=.de.v",
       "elcommuta.denul.networking.protobuf.stud" +
-      "y.StudyListReplyH\000B\t\n\007message"
+      "y.StudyListReplyH\000\022M\n\nStoreBatch\030\021 \001(\01327" +
+      ".de.velcommuta.denul.networking.protobuf" +
+      ".c2s.StoreBatchH\000\022W\n\017StoreBatchReply\030\022 \001" +
+      "(\0132<.de.velcommuta.denul.networking.prot" +
+      "obuf.c2s.StoreBatchReplyH\000\022I\n\010GetBatch\030\023" +
+      " \001(\01325.de.velcommuta.denul.networking.pr" +
+      "otobuf.c2s.GetBatchH\000\022S\n\rGetBatchReply\030\024" +
+      " \001(\0132:.de.velcommuta.denul.networking.pr" +
+      "otobuf.c2s.GetBatchReplyH\000\022O\n\013DeleteBatc",
+      "h\030\025 \001(\01328.de.velcommuta.denul.networking" +
+      ".protobuf.c2s.DeleteBatchH\000\022Y\n\020DeleteBat" +
+      "chReply\030\026 \001(\0132=.de.velcommuta.denul.netw" +
+      "orking.protobuf.c2s.DeleteBatchReplyH\000\022O" +
+      "\n\013VICBFUpdate\030\027 \001(\01328.de.velcommuta.denu" +
+      "l.networking.protobuf.c2s.VICBFUpdateH\000\022" +
+      "Y\n\020VICBFUpdateReply\030\030 \001(\0132=.de.velcommut" +
+      "a.denul.networking.protobuf.c2s.VICBFUpd" +
+      "ateReplyH\000\022\021\n\trequestId\030\031 \001(\rB\t\n\007message"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3511,7 +5398,7 @@ public final class MetaMessage {
     internal_static_de_velcommuta_denul_networking_protobuf_meta_Wrapper_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_de_velcommuta_denul_networking_protobuf_meta_Wrapper_descriptor,
-        new java.lang.String[] { "ClientHello", "ServerHello", "Store", "StoreReply", "Get", "GetReply", "Delete", "DeleteReply", "StudyWrapper", "StudyCreateReply", "StudyJoinQueryReply", "StudyDeleteReply", "StudyListQuery", "StudyListReply", "Message", });
+        new java.lang.String[] { "ClientHello", "ServerHello", "Store", "StoreReply", "Get", "GetReply", "Delete", "DeleteReply", "StudyWrapper", "StudyCreateReply", "StudyJoinQueryReply", "StudyDeleteReply", "StudyListQuery", "StudyListReply", "StoreBatch", "StoreBatchReply", "GetBatch", "GetBatchReply", "DeleteBatch", "DeleteBatchReply", "VICBFUpdate", "VICBFUpdateReply", "RequestId", "Message", });
     de.velcommuta.denul.networking.protobuf.c2s.C2S.getDescriptor();
     de.velcommuta.denul.networking.protobuf.study.StudyMessage.getDescriptor();
   }
@@ -8,7 +8,6 @@ import android.app.Service;
 import android.content.ContentValues;
 import android.content.Context;
 import android.content.Intent;
-import android.location.Location;
 import android.os.Binder;
 import android.os.IBinder;
 import android.os.SystemClock;
@@ -17,17 +16,31 @@ import android.util.Log;
 import net.sqlcipher.Cursor;
 import net.sqlcipher.database.SQLiteDatabase;
 import net.sqlcipher.database.SQLiteException;
+import net.sqlcipher.database.SQLiteStatement;
 
 import org.joda.time.DateTime;
-import org.joda.time.format.DateTimeFormat;
+import org.joda.time.LocalDate;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.crypto.KexStub;
+import de.velcommuta.denul.crypto.KeySlot;
 import de.velcommuta.denul.crypto.RSA;
 import de.velcommuta.denul.data.DataBlock;
 import de.velcommuta.denul.data.GPSTrack;
@@ -35,16 +48,22 @@ import de.velcommuta.denul.data.KeySet;
 import de.velcommuta.denul.data.Shareable;
 import de.velcommuta.denul.data.StudyRequest;
 import de.velcommuta.denul.data.TokenPair;
+import de.velcommuta.denul.data.TrackPoints;
+import de.velcommuta.denul.data.TrackSummary;
 import de.velcommuta.denul.db.FriendContract;
 import de.velcommuta.denul.db.LocationLoggingContract;
+import de.velcommuta.denul.db.ReadConnectionPool;
 import de.velcommuta.denul.db.SecureDbHelper;
 import de.velcommuta.denul.db.SharingContract;
 import de.velcommuta.denul.db.StepLoggingContract;
 import de.velcommuta.denul.db.StudyContract;
+import de.velcommuta.denul.db.UnlockPolicy;
 import de.velcommuta.denul.db.VaultContract;
 import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.data.Friend;
 import de.velcommuta.denul.util.FormatHelper;
+import de.velcommuta.denul.util.HourEpoch;
+import de.velcommuta.denul.util.Tracer;
 
 /**
  * Database service to hold a handle on the protected database and close it after a certain time of
@@ -54,17 +73,47 @@ public class DatabaseService extends Service {
     // Logging tag
     private static final String TAG = "DatabaseService";
 
+    // Number of track points written by one INSERT statement. Every point binds four variables,
+    // and SQLite allows at most 999 variables per statement.
+    private static final int TRACK_POINT_CHUNK = 200;
+    // Number of hours written by one step count upsert. Every hour binds two variables, and a
+    // compound SELECT may have at most 500 terms.
+    private static final int STEP_COUNT_CHUNK = 200;
+    // Number of sessions whose points are loaded with one query
+    private static final int TRACK_ID_CHUNK = 500;
+
+    // Key of the database, kept across restarts of the service for the key timeout of the
+    // UnlockPolicy. It is only used when the passphrase matches the one it was derived from.
+    private static final KeySlot sKeySlot = new KeySlot();
+
+    // Number of seconds a transaction waits for the transaction of another thread to finish
+    private static final int TRANSACTION_TIMEOUT = 30;
+
     // Instance variables
-    private SQLiteDatabase mSQLiteHandler;
+    private volatile SQLiteDatabase mSQLiteHandler;
+    private volatile ReadConnectionPool mReadPool;
+    private final ReentrantLock mTransactionLock = new ReentrantLock();
     private MyBinder mBinder = new MyBinder();
 
+    // Executor running the key derivation of the database, and the pending open
+    private ExecutorService mOpenExecutor;
+    private volatile Future<Void> mOpenFuture;
+    private boolean mDestroyed = false;
+
     // Alarm manager
     private AlarmManager mManager;
     private PendingIntent mIntent;
 
-    // Formatting constants
-    private String FORMAT_DATE = "dd/MM/yyyy";
-    private String FORMAT_TIME = "HH:mm";
+    // Selection of the step counts of the user in a range of hours
+    private static final String SELECT_STEPCOUNT_RANGE = StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH + " >= ? AND " +
+            StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH + " < ? AND " +
+            StepLoggingContract.StepCountLog.COLUMN_OWNER + " = -1";
+
+    // First day of the day or (Monday-based) week containing an hour, in the local time zone
+    private static final String SQL_DAY_OF_HOUR = "date(" + StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH +
+            " * 3600, 'unixepoch', 'localtime')";
+    private static final String SQL_WEEK_OF_HOUR = "date(" + StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH +
+            " * 3600, 'unixepoch', 'localtime', 'weekday 0', '-6 days')";
 
     ///// Lifecycle Management
     /**
@@ -115,14 +164,22 @@ public class DatabaseService extends Service {
 
     @Override
     public void onDestroy() {
+        // Cancel a pending open. If the key derivation is already running, the open closes the
+        // database again once it is done.
+        if (mOpenFuture != null) mOpenFuture.cancel(true);
+        if (mOpenExecutor != null) mOpenExecutor.shutdown();
         // Close SQLite handler
         Log.d(TAG, "onDestroy: Closing database");
-
-        if (mSQLiteHandler != null) {
-            mSQLiteHandler.close();
-            EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.CLOSED));
+        synchronized (this) {
+            mDestroyed = true;
+            if (mReadPool != null) mReadPool.close();
+            mReadPool = null;
+            if (mSQLiteHandler != null) {
+                mSQLiteHandler.close();
+                EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.CLOSED));
+            }
+            mSQLiteHandler = null;
         }
-        mSQLiteHandler = null;
         EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.STOPPED));
     }
 
@@ -144,7 +201,7 @@ public class DatabaseService extends Service {
         mIntent = PendingIntent.getService(this, 0, database, 0);
 
         mManager.set(AlarmManager.ELAPSED_REALTIME_WAKEUP,
-                SystemClock.elapsedRealtime() + 15 * 60 * 1000, // TODO Let the user choose this time somewhere
+                SystemClock.elapsedRealtime() + new UnlockPolicy(this).getIdleTimeout(),
                 mIntent);
         return true;
     }
@@ -164,6 +221,24 @@ public class DatabaseService extends Service {
     }
 
 
+    /**
+     * Getter for the executor running the key derivation of the database, creating it if
+     * necessary
+     * @return The executor
+     */
+    private synchronized ExecutorService getOpenExecutor() {
+        if (mOpenExecutor == null) {
+            mOpenExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, TAG);
+                }
+            });
+        }
+        return mOpenExecutor;
+    }
+
+
     /**
      * Returns the context of this service (used in binder)
      * @return this context
@@ -179,24 +254,85 @@ public class DatabaseService extends Service {
     private class MyBinder extends Binder implements DatabaseServiceBinder {
         ///// Database Management
         /**
-         * Open an existing database with the provided password
+         * Open an existing database with the provided password, waiting for the open to finish
          * @param password The password to decrypt the database
          */
         @Override
         public void openDatabase(String password) throws SecurityException {
-            // TODO Port to AsyncTask
+            try {
+                openDatabaseAsync(password).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLiteException("Interrupted while opening the database");
+            } catch (CancellationException e) {
+                throw new SQLiteException("Opening the database was cancelled");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new SQLiteException("Could not open the database: " + e.getCause());
+            }
+        }
+
+
+        /**
+         * Open an existing database with the provided password on the open executor
+         * @param password The password to decrypt the database
+         * @return A Future that completes once the database is open
+         */
+        @Override
+        public synchronized Future<Void> openDatabaseAsync(final String password) {
+            if (mOpenFuture != null && !mOpenFuture.isDone()) {
+                Log.d(TAG, "openDatabaseAsync: Open already in progress");
+                return mOpenFuture;
+            }
+            mOpenFuture = getOpenExecutor().submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    openDatabaseInternal(password);
+                    return null;
+                }
+            });
+            return mOpenFuture;
+        }
+
+
+        /**
+         * Open the database. Runs on the open executor.
+         * @param password The password to decrypt the database
+         * @throws SecurityException If the database could not be opened
+         */
+        private void openDatabaseInternal(String password) throws SecurityException {
             if (mSQLiteHandler != null) {
-                Log.w(TAG, "openDatabase: Attempted to open database even though it's already open. Ignoring.");
+                Log.w(TAG, "openDatabaseInternal: Attempted to open database even though it's already open. Ignoring.");
                 return;
             }
-            Log.d(TAG, "openDatabase: Attempting to open the database");
+            Log.d(TAG, "openDatabaseInternal: Attempting to open the database");
+            EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.OPENING));
             SecureDbHelper dbh = new SecureDbHelper(getServiceContext());
-            mSQLiteHandler = dbh.getWritableDatabase(password);
-            if (mSQLiteHandler == null || !mSQLiteHandler.isOpen()) {
+            SQLiteDatabase db;
+            try {
+                db = dbh.unlock(password, new UnlockPolicy(getServiceContext()), sKeySlot);
+            } catch (RuntimeException e) {
+                EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.OPEN_FAILED));
+                throw e;
+            }
+            if (db == null || !db.isOpen()) {
+                EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.OPEN_FAILED));
                 throw new SecurityException("Something went wrong while opening the database - wrong key?");
-            } else {
-                Log.d(TAG, "openDatabase: Database opened");
             }
+            // The key derivation cannot be interrupted, so a cancelled open is undone afterwards
+            synchronized (DatabaseService.this) {
+                if (Thread.interrupted() || mDestroyed) {
+                    Log.d(TAG, "openDatabaseInternal: Open was cancelled, closing database");
+                    dbh.close();
+                    EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.CLOSED));
+                    return;
+                }
+                mReadPool = dbh.getReadPool();
+                mSQLiteHandler = db;
+            }
+            Log.d(TAG, "openDatabaseInternal: Database opened");
             EventBus.getDefault().postSticky(new DatabaseAvailabilityEvent(DatabaseAvailabilityEvent.OPENED));
         }
 
@@ -213,17 +349,60 @@ public class DatabaseService extends Service {
 
         ///// Transaction Management
         /**
-         * Begin a database transaction
-         * @throws SQLiteException Thrown in case the database is not open or already in a transaction
+         * Begin a database transaction. If another thread is in a transaction, wait for it to finish
+         * first. Transactions of the same thread are nested. Every transaction has to be followed
+         * by a finally block calling {@link #endTransaction(int)}:
+         * <pre>
+         * int transaction = beginTransaction();
+         * try {
+         *     ...
+         *     commit();
+         * } finally {
+         *     endTransaction(transaction);
+         * }
+         * </pre>
+         * @return The nesting depth of the transaction, to be passed to {@link #endTransaction(int)}
+         * @throws SQLiteException Thrown in case the database is not open or the transaction of
+         *                         another thread did not finish in time
          */
-        private void beginTransaction() throws SQLiteException {
+        private int beginTransaction() throws SQLiteException {
             assertOpen();
-            if (mSQLiteHandler.inTransaction()) {
-                Log.e(TAG, "beginTransaction: Already in transaction, aborting");
-                throw new SQLiteException("Already in a transaction");
+            boolean locked;
+            try {
+                locked = mTransactionLock.tryLock(TRANSACTION_TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLiteException("Interrupted while waiting for a transaction");
+            }
+            if (!locked) {
+                Log.e(TAG, "beginTransaction: Timed out waiting for the transaction of another thread");
+                throw new SQLiteException("Timed out waiting for a transaction");
+            }
+            Tracer.trace(TAG, "beginTransaction: Beginning database transaction");
+            try {
+                mSQLiteHandler.beginTransaction();
+            } catch (RuntimeException e) {
+                mTransactionLock.unlock();
+                throw e;
+            }
+            return mTransactionLock.getHoldCount();
+        }
+
+
+        /**
+         * Revert a transaction that was neither committed nor reverted, because an exception was
+         * thrown or the caller returned early, so that neither the lock nor the SQLite transaction
+         * stay held. Does nothing if the transaction was finished.
+         * @param depth The nesting depth returned by {@link #beginTransaction()}
+         */
+        private void endTransaction(int depth) {
+            if (mTransactionLock.getHoldCount() < depth) return;
+            Log.e(TAG, "endTransaction: Transaction was not finished, reverting");
+            try {
+                if (mSQLiteHandler != null) mSQLiteHandler.endTransaction();
+            } finally {
+                mTransactionLock.unlock();
             }
-            Log.d(TAG, "beginTransaction: Beginning database transaction");
-            mSQLiteHandler.beginTransaction();
         }
 
 
@@ -233,13 +412,17 @@ public class DatabaseService extends Service {
          */
         private void commit() throws SQLiteException{
             assertOpen();
-            if (!mSQLiteHandler.inTransaction()) {
+            if (!mTransactionLock.isHeldByCurrentThread()) {
                 Log.e(TAG, "commit: Not in transaction");
                 throw new SQLiteException("Not in a transaction, aborting");
             }
-            Log.d(TAG, "commit: Committing database transaction");
-            mSQLiteHandler.setTransactionSuccessful();
-            mSQLiteHandler.endTransaction();
+            Tracer.trace(TAG, "commit: Committing database transaction");
+            try {
+                mSQLiteHandler.setTransactionSuccessful();
+                mSQLiteHandler.endTransaction();
+            } finally {
+                mTransactionLock.unlock();
+            }
         }
 
 
@@ -249,12 +432,28 @@ public class DatabaseService extends Service {
          */
         private void revert() throws SQLiteException {
             assertOpen();
-            if (!mSQLiteHandler.inTransaction()) {
+            if (!mTransactionLock.isHeldByCurrentThread()) {
                 Log.e(TAG, "revert: Not in transaction, aborting");
                 throw new SQLiteException("Not in a transaction");
             }
-            Log.d(TAG, "revert: Reverting database transaction");
-            mSQLiteHandler.endTransaction();
+            Tracer.trace(TAG, "revert: Reverting database transaction");
+            try {
+                mSQLiteHandler.endTransaction();
+            } finally {
+                mTransactionLock.unlock();
+            }
+        }
+
+
+        /**
+         * Get the connection to run a read on. Reads run on the read-only connections, unless the
+         * calling thread is in a transaction and has to see its own uncommitted writes.
+         * @return The connection
+         */
+        private SQLiteDatabase getReader() {
+            ReadConnectionPool pool = mReadPool;
+            if (pool == null || mTransactionLock.isHeldByCurrentThread()) return mSQLiteHandler;
+            return pool.get();
         }
 
 
@@ -269,7 +468,7 @@ public class DatabaseService extends Service {
          */
         private long insert(String table, String nullable, ContentValues values) throws SQLiteException {
             assertOpen();
-            Log.d(TAG, "insert: Running insert");
+            Tracer.trace(TAG, "insert: Running insert");
             return mSQLiteHandler.insertOrThrow(table, nullable, values);
         }
 
@@ -289,7 +488,25 @@ public class DatabaseService extends Service {
          */
         private Cursor query(String table, String[] columns, String selection, String[] selectionArgs, String groupBy, String having, String orderBy) throws SQLiteException {
             assertOpen();
-            return mSQLiteHandler.query(table, columns, selection, selectionArgs, groupBy, having, orderBy);
+            return getReader().query(table, columns, selection, selectionArgs, groupBy, having, orderBy);
+        }
+
+        /**
+         * A query method for the database, returning a limited number of rows
+         * @param table The table to query
+         * @param columns The columns to return
+         * @param selection Filter to query which rows should be displayed
+         * @param selectionArgs Arguments to selection (for "?" wildcards)
+         * @param groupBy Grouping clause (excluding the GROUP BY statement)
+         * @param having Filtering clause (excluding the HAVING)
+         * @param orderBy Ordering clause (excluding the ORDER BY)
+         * @param limit Limiting clause (excluding the LIMIT), or null
+         * @return A cursor object that allows interaction with the data
+         * @throws SQLiteException if the underlying query function throws it
+         */
+        private Cursor query(String table, String[] columns, String selection, String[] selectionArgs, String groupBy, String having, String orderBy, String limit) throws SQLiteException {
+            assertOpen();
+            return getReader().query(table, columns, selection, selectionArgs, groupBy, having, orderBy, limit);
         }
 
         /**
@@ -302,7 +519,7 @@ public class DatabaseService extends Service {
          */
         private int update(String table, ContentValues values, String selection, String[] selectionArgs) {
             assertOpen();
-            Log.d(TAG, "update: Running update");
+            Tracer.trace(TAG, "update: Running update");
             return mSQLiteHandler.update(table, values, selection, selectionArgs);
         }
 
@@ -316,11 +533,15 @@ public class DatabaseService extends Service {
          */
         private int delete(String table, String whereClause, String[] whereArgs) {
             assertOpen();
-            Log.d(TAG, "delete: Running delete");
-            beginTransaction();
-            int rv = mSQLiteHandler.delete(table, whereClause, whereArgs);
-            commit();
-            return rv;
+            Tracer.trace(TAG, "delete: Running delete");
+            int transaction = beginTransaction();
+            try {
+                int rv = mSQLiteHandler.delete(table, whereClause, whereArgs);
+                commit();
+                return rv;
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
@@ -351,7 +572,7 @@ public class DatabaseService extends Service {
             String[] whereArgs = {"" + id};
             Cursor c = query(FriendContract.FriendList.TABLE_NAME,
                     null,
-                    FriendContract.FriendList._ID + " LIKE ?",
+                    FriendContract.FriendList._ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -372,7 +593,7 @@ public class DatabaseService extends Service {
             String[] whereArgs = {"" + friend.getID()};
             Cursor c = query(FriendContract.FriendKeys.TABLE_NAME,
                     null,
-                    FriendContract.FriendKeys.COLUMN_NAME_FRIEND_ID + " LIKE ?",
+                    FriendContract.FriendKeys.COLUMN_NAME_FRIEND_ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -401,12 +622,16 @@ public class DatabaseService extends Service {
             key_entry.put(FriendContract.FriendKeys.COLUMN_NAME_CTR_OUT, keyset.getOutboundCtr());
             String[] whereArgs = {"" + keyset.getID() };
             // Perform the update
-            beginTransaction();
-            update(FriendContract.FriendKeys.TABLE_NAME,
-                    key_entry,
-                    FriendContract.FriendKeys._ID + " LIKE ?",
-                    whereArgs);
-            commit();
+            int transaction = beginTransaction();
+            try {
+                update(FriendContract.FriendKeys.TABLE_NAME,
+                        key_entry,
+                        FriendContract.FriendKeys._ID + " = ?",
+                        whereArgs);
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
@@ -422,34 +647,38 @@ public class DatabaseService extends Service {
             if (c.getCount() > 0) throw new SQLiteException("Name already taken");
             c.close();
             // Begin a transaction
-            beginTransaction();
-            // Prepare ContentValues
-            ContentValues friend_entry = new ContentValues();
-            friend_entry.put(FriendContract.FriendList.COLUMN_NAME_FRIEND, friend.getName());
-            friend_entry.put(FriendContract.FriendList.COLUMN_NAME_VERIFIED, friend.getVerified());
-            // Run insert
-            long rv = insert(FriendContract.FriendList.TABLE_NAME, null, friend_entry);
-            // Make sure insert worked
-            if (rv == -1) throw new IllegalArgumentException("Insert of friend failed");
-            // Query for the ID of the inserted entry
-            c = query(FriendContract.FriendList.TABLE_NAME, columns, query, queryArgs, null, null, null);
-            c.moveToFirst();
-            int id = c.getInt(c.getColumnIndexOrThrow(FriendContract.FriendList._ID));
-            c.close();
-            // Prepare ContentValues for the key entry
-            ContentValues keys_entry = new ContentValues();
-            keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_FRIEND_ID, id);
-            keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_KEY_IN, keys.getInboundKey());
-            keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_KEY_OUT, keys.getOutboundKey());
-            keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_CTR_IN, keys.getInboundCtr());
-            keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_CTR_OUT, keys.getOutboundCtr());
-            keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_INITIATED, keys.hasInitiated() ? 1 : 0);
-            // Run the insert
-            rv = insert(FriendContract.FriendKeys.TABLE_NAME, null, keys_entry);
-            // Make sure everything worked
-            if (rv == -1) throw new IllegalArgumentException("Insert of keys failed");
-            // Commit transaction
-            commit();
+            int transaction = beginTransaction();
+            try {
+                // Prepare ContentValues
+                ContentValues friend_entry = new ContentValues();
+                friend_entry.put(FriendContract.FriendList.COLUMN_NAME_FRIEND, friend.getName());
+                friend_entry.put(FriendContract.FriendList.COLUMN_NAME_VERIFIED, friend.getVerified());
+                // Run insert
+                long rv = insert(FriendContract.FriendList.TABLE_NAME, null, friend_entry);
+                // Make sure insert worked
+                if (rv == -1) throw new IllegalArgumentException("Insert of friend failed");
+                // Query for the ID of the inserted entry
+                c = query(FriendContract.FriendList.TABLE_NAME, columns, query, queryArgs, null, null, null);
+                c.moveToFirst();
+                int id = c.getInt(c.getColumnIndexOrThrow(FriendContract.FriendList._ID));
+                c.close();
+                // Prepare ContentValues for the key entry
+                ContentValues keys_entry = new ContentValues();
+                keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_FRIEND_ID, id);
+                keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_KEY_IN, keys.getInboundKey());
+                keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_KEY_OUT, keys.getOutboundKey());
+                keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_CTR_IN, keys.getInboundCtr());
+                keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_CTR_OUT, keys.getOutboundCtr());
+                keys_entry.put(FriendContract.FriendKeys.COLUMN_NAME_INITIATED, keys.hasInitiated() ? 1 : 0);
+                // Run the insert
+                rv = insert(FriendContract.FriendKeys.TABLE_NAME, null, keys_entry);
+                // Make sure everything worked
+                if (rv == -1) throw new IllegalArgumentException("Insert of keys failed");
+                // Commit transaction
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
         @Override
@@ -458,7 +687,7 @@ public class DatabaseService extends Service {
             if (friend == null) throw new SQLiteException("Friend cannot be null");
             String[] whereArgs = { "" + friend.getID(), friend.getName() };
             int deleted = delete(FriendContract.FriendList.TABLE_NAME,
-                                 FriendContract.FriendList._ID +  " LIKE ? AND " + FriendContract.FriendList.COLUMN_NAME_FRIEND + " LIKE ?",
+                                 FriendContract.FriendList._ID +  " = ? AND " + FriendContract.FriendList.COLUMN_NAME_FRIEND + " LIKE ?",
                                  whereArgs);
             if (deleted != 1) {
                 throw new SQLiteException("Wanted to delete 1 row, but deleted " + deleted);
@@ -475,12 +704,16 @@ public class DatabaseService extends Service {
             friend_entry.put(FriendContract.FriendList.COLUMN_NAME_VERIFIED, friend.getVerified());
             String[] whereArgs = {"" + friend.getID()};
             // Perform the update
-            beginTransaction();
-            update(FriendContract.FriendList.TABLE_NAME,
-                    friend_entry,
-                    FriendContract.FriendList._ID + " LIKE ?",
-                    whereArgs);
-            commit();
+            int transaction = beginTransaction();
+            try {
+                update(FriendContract.FriendList.TABLE_NAME,
+                        friend_entry,
+                        FriendContract.FriendList._ID + " = ?",
+                        whereArgs);
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
         @Override
@@ -518,61 +751,114 @@ public class DatabaseService extends Service {
          *                device owner)
          */
         private void addGPSTrack(GPSTrack track, int ownerid) {
+            long span = Tracer.begin();
             // Start a transaction to get an all-or-nothing write to the database
-            beginTransaction();
-            // Write new database entry with metadata for the track
-            ContentValues metadata = new ContentValues();
-
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START, track.getTimestamp());
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_END, track.getTimestampEnd());
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_NAME, track.getSessionName());
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_MODE, track.getModeOfTransportation());
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_TIMEZONE, track.getTimezone());
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_DESCRIPTION, track.getDescription());
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_DISTANCE, track.getDistance());
-            metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER, ownerid);
-
-            long rowid = insert(LocationLoggingContract.LocationSessions.TABLE_NAME, null, metadata);
-
-            // Write the individual steps in the track
-            for (Location cLoc : track.getPosition()) {
-                // Prepare ContentValues object
-                ContentValues entry = new ContentValues();
-                // Set values for ContentValues
-                entry.put(LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION, rowid);
-                entry.put(LocationLoggingContract.LocationLog.COLUMN_NAME_LAT, cLoc.getLatitude());
-                entry.put(LocationLoggingContract.LocationLog.COLUMN_NAME_LONG, cLoc.getLongitude());
-                entry.put(LocationLoggingContract.LocationLog.COLUMN_NAME_TIMESTAMP, cLoc.getTime());
-                // Save ContentValues into Database
-                insert(LocationLoggingContract.LocationLog.TABLE_NAME, null, entry);
-            }
-            // Finish transaction
-            commit();
+            int transaction = beginTransaction();
+            try {
+                // Write new database entry with metadata for the track
+                ContentValues metadata = new ContentValues();
+
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START, track.getTimestamp());
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_END, track.getTimestampEnd());
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_NAME, track.getSessionName());
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_MODE, track.getModeOfTransportation());
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_TIMEZONE, track.getTimezone());
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_DESCRIPTION, track.getDescription());
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_DISTANCE, track.getDistance());
+                metadata.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER, ownerid);
+
+                long rowid = insert(LocationLoggingContract.LocationSessions.TABLE_NAME, null, metadata);
+
+                // Write the individual steps in the track
+                insertTrackPoints(rowid, track.getPoints());
+                // Finish transaction
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
+            Tracer.end(TAG, "addGPSTrack", span);
         }
 
 
-        @Override
-        public List<GPSTrack> getGPSTracks() {
+        /**
+         * Private helper function to bulk-insert the points of a track. The points are written in
+         * chunks of {@link #TRACK_POINT_CHUNK} rows, using a prepared statement that is compiled
+         * once and re-bound for every chunk. Must be called inside a transaction.
+         * @param session The row ID of the session the points belong to
+         * @param points The points
+         * @throws SQLiteException If the database is not open or the insert failed
+         */
+        private void insertTrackPoints(long session, TrackPoints points) throws SQLiteException {
             assertOpen();
-            List<GPSTrack> trackList = new LinkedList<>();
-            String[] columns = {LocationLoggingContract.LocationSessions._ID};
-            // Retrieve session IDs
-            Cursor session = query(LocationLoggingContract.LocationSessions.TABLE_NAME,
-                    columns,
-                    null,
-                    null,
-                    null,
-                    null,
-                    LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START + " DESC");
-            while (session.moveToNext()) {
-                // For each session ID, load the track from the database
-                GPSTrack track = getGPSTrackById(session.getInt(session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions._ID)));
-                trackList.add(track);
+            int chunks = points.size() / TRACK_POINT_CHUNK;
+            int remainder = points.size() % TRACK_POINT_CHUNK;
+            if (chunks > 0) {
+                SQLiteStatement stmt = mSQLiteHandler.compileStatement(getTrackPointInsert(TRACK_POINT_CHUNK));
+                try {
+                    for (int i = 0; i < chunks; i++) {
+                        bindTrackPoints(stmt, session, points, i * TRACK_POINT_CHUNK, TRACK_POINT_CHUNK);
+                        stmt.executeInsert();
+                    }
+                } finally {
+                    stmt.close();
+                }
+            }
+            if (remainder > 0) {
+                SQLiteStatement stmt = mSQLiteHandler.compileStatement(getTrackPointInsert(remainder));
+                try {
+                    bindTrackPoints(stmt, session, points, chunks * TRACK_POINT_CHUNK, remainder);
+                    stmt.executeInsert();
+                } finally {
+                    stmt.close();
+                }
             }
-            // Close the session cursor
-            session.close();
-            // Return
-            return trackList;
+        }
+
+
+        /**
+         * Private helper function to build an INSERT statement for a number of track points
+         * @param count The number of points
+         * @return The SQL statement, with four variables per point
+         */
+        private String getTrackPointInsert(int count) {
+            StringBuilder sql = new StringBuilder("INSERT INTO ")
+                    .append(LocationLoggingContract.LocationLog.TABLE_NAME).append(" (")
+                    .append(LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION).append(", ")
+                    .append(LocationLoggingContract.LocationLog.COLUMN_NAME_LAT).append(", ")
+                    .append(LocationLoggingContract.LocationLog.COLUMN_NAME_LONG).append(", ")
+                    .append(LocationLoggingContract.LocationLog.COLUMN_NAME_TIMESTAMP).append(") VALUES ");
+            for (int i = 0; i < count; i++) {
+                if (i > 0) sql.append(", ");
+                sql.append("(?, ?, ?, ?)");
+            }
+            return sql.toString();
+        }
+
+
+        /**
+         * Private helper function to bind a range of track points to a statement built by
+         * {@link #getTrackPointInsert(int)}
+         * @param stmt The statement
+         * @param session The row ID of the session the points belong to
+         * @param points The points
+         * @param offset The index of the first point to bind
+         * @param count The number of points to bind
+         */
+        private void bindTrackPoints(SQLiteStatement stmt, long session, TrackPoints points, int offset, int count) {
+            for (int i = 0; i < count; i++) {
+                // Bind indices start at 1
+                int base = 4 * i + 1;
+                stmt.bindLong(base, session);
+                stmt.bindDouble(base + 1, points.getLatitude(offset + i));
+                stmt.bindDouble(base + 2, points.getLongitude(offset + i));
+                stmt.bindLong(base + 3, points.getTime(offset + i));
+            }
+        }
+
+
+        @Override
+        public List<GPSTrack> getGPSTracks() {
+            return loadGPSTracks(null, null);
         }
 
         @Override
@@ -588,85 +874,214 @@ public class DatabaseService extends Service {
          * @return A List of GPSTracks owned by the user with that ID, or an empty List.
          */
         private List<GPSTrack> getGPSTracksForOwnerID(int id) {
+            String[] whereArgs = { "" + id };
+            return loadGPSTracks(LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER + " = ?", whereArgs);
+        }
+
+
+        @Override
+        public List<GPSTrack> getGPSTrackByFriend(Friend friend) {
+            if (friend == null || friend.getID() == -1) throw new IllegalArgumentException("Bad friend object");
+            return getGPSTracksForOwnerID(friend.getID());
+        }
+
+
+        @Override
+        public GPSTrack getGPSTrackById(int id) {
+            String[] whereArgs = { "" + id };
+            List<GPSTrack> tracks = loadGPSTracks(LocationLoggingContract.LocationSessions._ID + " = ?", whereArgs);
+            return tracks.isEmpty() ? null : tracks.get(0);
+        }
+
+
+        /**
+         * Private helper function to load a set of GPS tracks using two queries, independent of the
+         * number of tracks: one for the sessions, and one for the points of these sessions,
+         * ordered by session. The sessions are loaded first, so that a track committed in between
+         * is not returned without its points, as tracks are written in a single transaction.
+         * @param selection Filter on the {@link LocationLoggingContract.LocationSessions} table
+         *                  selecting the tracks to load, or null to load all tracks
+         * @param selectionArgs Arguments to selection (for "?" wildcards)
+         * @return A List of the GPSTracks, most recent first, or an empty List
+         */
+        private List<GPSTrack> loadGPSTracks(String selection, String[] selectionArgs) {
             assertOpen();
+            List<TrackSummary> summaries = loadTrackSummaries(selection, selectionArgs, null, 0);
+            // Load the points of the loaded sessions
+            HashMap<Long, TrackPoints> pointsBySession = new HashMap<>();
+            for (int start = 0; start < summaries.size(); start += TRACK_ID_CHUNK) {
+                loadTrackPoints(summaries.subList(start, Math.min(summaries.size(), start + TRACK_ID_CHUNK)), pointsBySession);
+            }
+            // Combine the sessions with their points
             List<GPSTrack> trackList = new LinkedList<>();
-            String[] columns = {LocationLoggingContract.LocationSessions._ID};
-            String[] whereArgs = { ""+id };
-            // Retrieve session IDs
-            Cursor session = query(LocationLoggingContract.LocationSessions.TABLE_NAME,
-                    columns,
-                    LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER + " LIKE ?",
-                    whereArgs,
-                    null,
-                    null,
-                    LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START + " DESC");
-            while (session.moveToNext()) {
-                // For each session ID, load the track from the database
-                GPSTrack track = getGPSTrackById(session.getInt(session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions._ID)));
+            for (TrackSummary summary : summaries) {
+                TrackPoints points = pointsBySession.get((long) summary.getID());
+                GPSTrack track = new GPSTrack(points != null ? points : new TrackPoints(0),
+                        summary.getSessionName(),
+                        summary.getModeOfTransportation(),
+                        summary.getTimestamp(),
+                        summary.getTimestampEnd(),
+                        summary.getTimezone(),
+                        summary.getOwner(),
+                        summary.getDistance());
+                track.setID(summary.getID());
+                track.setDescription(summary.getDescription());
                 trackList.add(track);
             }
-            // Close the session cursor
-            session.close();
-            // Return
             return trackList;
         }
 
 
+        /**
+         * Private helper function to load the points of a set of sessions with a single query
+         * @param sessions The sessions, at most {@link #TRACK_ID_CHUNK}
+         * @param pointsBySession Map to put the points of each session with points into, keyed by
+         *                        session ID
+         */
+        private void loadTrackPoints(List<TrackSummary> sessions, Map<Long, TrackPoints> pointsBySession) {
+            // The IDs are integers read from the database, so they can be inlined
+            StringBuilder locSelection = new StringBuilder(LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION).append(" IN (");
+            boolean first = true;
+            for (TrackSummary session : sessions) {
+                if (!first) locSelection.append(',');
+                locSelection.append(session.getID());
+                first = false;
+            }
+            locSelection.append(')');
+            String[] locColumns = {LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_TIMESTAMP,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_LAT,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_LONG};
+            Cursor locs = query(LocationLoggingContract.LocationLog.TABLE_NAME,
+                    locColumns,
+                    locSelection.toString(),
+                    null,
+                    null,
+                    null,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION + ", " + LocationLoggingContract.LocationLog._ID);
+            TrackPoints points = null;
+            long currentSession = -1;
+            while (locs.moveToNext()) {
+                long session = locs.getLong(0);
+                if (points == null || session != currentSession) {
+                    points = new TrackPoints();
+                    pointsBySession.put(session, points);
+                    currentSession = session;
+                }
+                // The coordinates are stored as doubles, reading them as floats would cost
+                // several meters of precision
+                points.add(locs.getLong(1), locs.getDouble(2), locs.getDouble(3));
+            }
+            locs.close();
+        }
+
+
         @Override
-        public List<GPSTrack> getGPSTrackByFriend(Friend friend) {
-            if (friend == null || friend.getID() == -1) throw new IllegalArgumentException("Bad friend object");
-            return getGPSTracksForOwnerID(friend.getID());
+        public List<TrackSummary> getGPSTrackSummaries(TrackSummary after, int limit) {
+            return loadTrackSummaries(null, null, after, limit);
         }
 
 
         @Override
-        public GPSTrack getGPSTrackById(int id) {
+        public List<TrackSummary> getOwnerGPSTrackSummaries(TrackSummary after, int limit) {
+            String[] whereArgs = { "-1" };
+            return loadTrackSummaries(LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER + " = ?", whereArgs, after, limit);
+        }
+
+
+        /**
+         * Private helper function to load the metadata of a set of GPS tracks, most recent first.
+         * Paging uses the start timestamp and ID of the last track of the previous page as the
+         * key, so the cost of loading a page does not depend on the number of preceding pages.
+         * @param selection Filter on the {@link LocationLoggingContract.LocationSessions} table
+         *                  selecting the tracks to load, or null to load all tracks
+         * @param selectionArgs Arguments to selection (for "?" wildcards)
+         * @param after The last summary of the previous page, or null to start with the most
+         *              recent track
+         * @param limit The maximum number of summaries to load, or 0 to load all of them
+         * @return A List of TrackSummaries, or an empty List
+         */
+        private List<TrackSummary> loadTrackSummaries(String selection, String[] selectionArgs, TrackSummary after, int limit) {
             assertOpen();
-            GPSTrack track = null;
-            String[] selectionArgs = { "" + id };
+            long span = Tracer.begin();
+            if (after != null) {
+                String keyset = "(" + LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START + " < ? OR ("
+                        + LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START + " = ? AND "
+                        + LocationLoggingContract.LocationSessions._ID + " < ?))";
+                String[] keysetArgs = { "" + after.getTimestamp(), "" + after.getTimestamp(), "" + after.getID() };
+                if (selection == null) {
+                    selection = keyset;
+                    selectionArgs = keysetArgs;
+                } else {
+                    selection = "(" + selection + ") AND " + keyset;
+                    String[] args = new String[selectionArgs.length + keysetArgs.length];
+                    System.arraycopy(selectionArgs, 0, args, 0, selectionArgs.length);
+                    System.arraycopy(keysetArgs, 0, args, selectionArgs.length, keysetArgs.length);
+                    selectionArgs = args;
+                }
+            }
+            String[] columns = {LocationLoggingContract.LocationSessions._ID,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_NAME,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_MODE,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_END,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_TIMEZONE,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_DISTANCE,
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_DESCRIPTION,
+                    // Number of friends the track has been shared with
+                    "(SELECT COUNT(*) FROM " + SharingContract.FriendShareLog.TABLE_NAME + " WHERE "
+                            + SharingContract.FriendShareLog.COLUMN_DATASHARE_ID + " = "
+                            + LocationLoggingContract.LocationSessions.TABLE_NAME + "."
+                            + LocationLoggingContract.LocationSessions.COLUMN_NAME_SHARE_ID + ")"};
             Cursor session = query(LocationLoggingContract.LocationSessions.TABLE_NAME,
-                    null,
-                    LocationLoggingContract.LocationSessions._ID + " LIKE ?",
+                    columns,
+                    selection,
                     selectionArgs,
                     null,
                     null,
-                    null);
-            if (session.moveToFirst()) {
-                // Prepare output list
-                List<Location> locList = new LinkedList<>();
-                // Query for the Locations in the session
-                String[] whereArgs = {"" + id};
-                Cursor locs = query(LocationLoggingContract.LocationLog.TABLE_NAME,
-                        null,
-                        LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION + " LIKE ?",
-                        whereArgs,
-                        null,
-                        null,
-                        null);
-                while (locs.moveToNext()) {
-                    // For each location, construct a Location object
-                    Location loc = new Location("");
-                    loc.setLongitude(locs.getFloat(locs.getColumnIndexOrThrow(LocationLoggingContract.LocationLog.COLUMN_NAME_LONG)));
-                    loc.setLatitude(locs.getFloat(locs.getColumnIndexOrThrow(LocationLoggingContract.LocationLog.COLUMN_NAME_LAT)));
-                    loc.setTime(locs.getLong(locs.getColumnIndexOrThrow(LocationLoggingContract.LocationLog.COLUMN_NAME_TIMESTAMP)));
-                    locList.add(loc);
-                }
-                // Close the location cursor
-                locs.close();
-                // Create the GPSTrack object
-                track = new GPSTrack(locList,
-                        session.getString (session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_NAME)),
-                        session.getInt    (session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_MODE)),
-                        session.getLong   (session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START)),
-                        session.getLong   (session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_END)),
-                        session.getString (session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_TIMEZONE)),
-                        session.getInt    (session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_OWNER)),
-                        session.getFloat  (session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_DISTANCE)));
-                track.setID(session.getInt(session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions._ID)));
-                track.setDescription(session.getString(session.getColumnIndexOrThrow(LocationLoggingContract.LocationSessions.COLUMN_NAME_DESCRIPTION)));
+                    LocationLoggingContract.LocationSessions.COLUMN_NAME_SESSION_START + " DESC, "
+                            + LocationLoggingContract.LocationSessions._ID + " DESC",
+                    limit > 0 ? String.valueOf(limit) : null);
+            List<TrackSummary> rv = new ArrayList<>(session.getCount());
+            while (session.moveToNext()) {
+                rv.add(new TrackSummary(session.getInt(0),
+                        session.getString(1),
+                        session.getInt(2),
+                        session.getLong(3),
+                        session.getLong(4),
+                        session.getString(5),
+                        session.getInt(6),
+                        session.getFloat(7),
+                        session.getString(8),
+                        session.getInt(9)));
             }
             session.close();
-            return track;
+            Tracer.end(TAG, "loadTrackSummaries", span);
+            return rv;
+        }
+
+
+        @Override
+        public TrackPoints getGPSTrackPoints(int id) {
+            assertOpen();
+            String[] columns = {LocationLoggingContract.LocationLog.COLUMN_NAME_TIMESTAMP,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_LAT,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_LONG};
+            String[] whereArgs = { "" + id };
+            Cursor locs = query(LocationLoggingContract.LocationLog.TABLE_NAME,
+                    columns,
+                    LocationLoggingContract.LocationLog.COLUMN_NAME_SESSION + " = ?",
+                    whereArgs,
+                    null,
+                    null,
+                    LocationLoggingContract.LocationLog._ID);
+            TrackPoints points = new TrackPoints(locs.getCount());
+            while (locs.moveToNext()) {
+                points.add(locs.getLong(0), locs.getDouble(1), locs.getDouble(2));
+            }
+            locs.close();
+            return points;
         }
 
 
@@ -682,7 +1097,7 @@ public class DatabaseService extends Service {
             // the foreign key ON DELETE CASCADE statement
             String[] whereArgs = { "" + track.getID() };
             int deleted = delete(LocationLoggingContract.LocationSessions.TABLE_NAME,
-                    LocationLoggingContract.LocationSessions._ID + " LIKE ?",
+                    LocationLoggingContract.LocationSessions._ID + " = ?",
                     whereArgs);
             // Ensure the correct number of items was deleted
             if (deleted != 1) {
@@ -703,52 +1118,125 @@ public class DatabaseService extends Service {
             track_entry.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_NAME, name);
             String[] whereArgs = {"" + track.getID()};
             // Perform the update
-            beginTransaction();
-            update(LocationLoggingContract.LocationSessions.TABLE_NAME,
-                    track_entry,
-                    LocationLoggingContract.LocationSessions._ID + " LIKE ?",
-                    whereArgs);
-            commit();
+            int transaction = beginTransaction();
+            try {
+                update(LocationLoggingContract.LocationSessions.TABLE_NAME,
+                        track_entry,
+                        LocationLoggingContract.LocationSessions._ID + " = ?",
+                        whereArgs);
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
         @Override
         public void integratePedometerCache(Hashtable<DateTime, Long> cache) {
             assertOpen();
-            beginTransaction();
-            for (DateTime ts : cache.keySet()) {
-                int c = getStepCountForTimestamp(ts);
-                if (c != -1) {
-                    if (c < cache.get(ts)) {
-                        ContentValues update = new ContentValues();
-                        update.put(StepLoggingContract.StepCountLog.COLUMN_VALUE, cache.get(ts));
-                        String selection = StepLoggingContract.StepCountLog.COLUMN_DATE + " LIKE ? AND "
-                                + StepLoggingContract.StepCountLog.COLUMN_TIME + " LIKE ?";
-                        String[] selectionArgs = {formatDate(ts), formatTime(ts)};
-                        update(StepLoggingContract.StepCountLog.TABLE_NAME, update, selection, selectionArgs);
+            long span = Tracer.begin();
+            long[] hours;
+            long[] values;
+            // Lock the cache, so that it cannot change while it is copied
+            synchronized (cache) {
+                hours = new long[cache.size()];
+                values = new long[cache.size()];
+                int i = 0;
+                for (Map.Entry<DateTime, Long> entry : cache.entrySet()) {
+                    hours[i] = HourEpoch.fromDateTime(entry.getKey());
+                    values[i] = entry.getValue();
+                    i++;
+                }
+            }
+            int transaction = beginTransaction();
+            try {
+                int chunks = hours.length / STEP_COUNT_CHUNK;
+                int remainder = hours.length % STEP_COUNT_CHUNK;
+                if (chunks > 0) {
+                    SQLiteStatement stmt = mSQLiteHandler.compileStatement(getStepCountUpsert(STEP_COUNT_CHUNK));
+                    try {
+                        for (int i = 0; i < chunks; i++) {
+                            bindStepCounts(stmt, hours, values, i * STEP_COUNT_CHUNK, STEP_COUNT_CHUNK);
+                            stmt.execute();
+                        }
+                    } finally {
+                        stmt.close();
                     }
-                } else {
-                    Log.d(TAG, "saveToDatabase: Inserting value");
-                    ContentValues entry = new ContentValues();
-                    entry.put(StepLoggingContract.StepCountLog.COLUMN_DATE, formatDate(ts));
-                    entry.put(StepLoggingContract.StepCountLog.COLUMN_TIME, formatTime(ts));
-                    entry.put(StepLoggingContract.StepCountLog.COLUMN_VALUE, cache.get(ts));
-                    insert(StepLoggingContract.StepCountLog.TABLE_NAME, null, entry);
                 }
+                if (remainder > 0) {
+                    SQLiteStatement stmt = mSQLiteHandler.compileStatement(getStepCountUpsert(remainder));
+                    try {
+                        bindStepCounts(stmt, hours, values, chunks * STEP_COUNT_CHUNK, remainder);
+                        stmt.execute();
+                    } finally {
+                        stmt.close();
+                    }
+                }
+                Tracer.trace(TAG, "integratePedometerCache: All values saved, committing");
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
+            Tracer.end(TAG, "integratePedometerCache", span);
+        }
+
+
+        /**
+         * Private helper function to build a statement that upserts the step counts of a number of
+         * hours. Each hour is inserted if it is not in the database yet, and otherwise keeps the
+         * larger of the stored and the new count. The row ID and share ID of an existing hour are
+         * carried over into the replacing row.
+         * @param count The number of hours
+         * @return The SQL statement, with two variables (hour and count) per hour
+         */
+        private String getStepCountUpsert(int count) {
+            StringBuilder sql = new StringBuilder("INSERT OR REPLACE INTO ")
+                    .append(StepLoggingContract.StepCountLog.TABLE_NAME).append(" (")
+                    .append(StepLoggingContract.StepCountLog._ID).append(", ")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_OWNER).append(", ")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH).append(", ")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_VALUE).append(", ")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_SHARE_ID).append(") SELECT s.")
+                    .append(StepLoggingContract.StepCountLog._ID).append(", -1, v.hour, MAX(v.steps, IFNULL(s.")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_VALUE).append(", 0)), s.")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_SHARE_ID).append(" FROM (");
+            for (int i = 0; i < count; i++) {
+                sql.append(i == 0 ? "SELECT ? AS hour, ? AS steps" : " UNION ALL SELECT ?, ?");
             }
-            Log.d(TAG, "saveToDatabase: All values saved, committing");
-            commit();
+            sql.append(") v LEFT JOIN ").append(StepLoggingContract.StepCountLog.TABLE_NAME).append(" s ON s.")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH).append(" = v.hour AND s.")
+                    .append(StepLoggingContract.StepCountLog.COLUMN_OWNER).append(" = -1");
+            return sql.toString();
         }
 
+
+        /**
+         * Private helper function to bind a range of step counts to a statement built by
+         * {@link #getStepCountUpsert(int)}
+         * @param stmt The statement
+         * @param hours The epoch-hour keys of the step counts
+         * @param values The step counts
+         * @param offset The index of the first step count to bind
+         * @param count The number of step counts to bind
+         */
+        private void bindStepCounts(SQLiteStatement stmt, long[] hours, long[] values, int offset, int count) {
+            for (int i = 0; i < count; i++) {
+                // Bind indices start at 1
+                stmt.bindLong(2 * i + 1, hours[offset + i]);
+                stmt.bindLong(2 * i + 2, values[offset + i]);
+            }
+        }
+
+
         @Override
         public int getStepCountForTimestamp(DateTime dt) {
             assertOpen();
             int rv = -1;
             Cursor c = query(StepLoggingContract.StepCountLog.TABLE_NAME,
                     new String[]{StepLoggingContract.StepCountLog.COLUMN_VALUE},
-                    StepLoggingContract.StepCountLog.COLUMN_DATE + " = '" + formatDate(dt) + "' AND " +
-                            StepLoggingContract.StepCountLog.COLUMN_TIME + " = '" + formatTime(dt) + "'",
-                    null,
+                    StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH + " = ? AND " +
+                            StepLoggingContract.StepCountLog.COLUMN_OWNER + " = -1",
+                    new String[] {String.valueOf(HourEpoch.fromDateTime(dt))},
                     null,
                     null,
                     null);
@@ -789,60 +1277,118 @@ public class DatabaseService extends Service {
         public void storePedometerKeypair(String pubkey, String privkey) {
             assertOpen();
             // Begin a database transaction
-            beginTransaction();
-            // Prepare database entry for the private key
-            ContentValues keyEntry = new ContentValues();
-            // Set type to private RSA key
-            keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_TYPE, VaultContract.KeyStore.TYPE_RSA_PRIV);
-            // Set the key descriptor to Pedometer key
-            keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_NAME, VaultContract.KeyStore.NAME_PEDOMETER_PRIVATE);
-            // Add the actual key to the insert
-            keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_BYTES, privkey);
-            // Insert the values into the database
-            insert(VaultContract.KeyStore.TABLE_NAME, null, keyEntry);
-
-            // Perform the same steps for the public key (as a backup)
-            keyEntry = new ContentValues();
-            keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_TYPE, VaultContract.KeyStore.TYPE_RSA_PUB);
-            keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_NAME, VaultContract.KeyStore.NAME_PEDOMETER_PUBLIC);
-            keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_BYTES, pubkey);
-            // insert the values
-            insert(VaultContract.KeyStore.TABLE_NAME, null, keyEntry);
-            // Finish the transaction
-            commit();
+            int transaction = beginTransaction();
+            try {
+                // Prepare database entry for the private key
+                ContentValues keyEntry = new ContentValues();
+                // Set type to private RSA key
+                keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_TYPE, VaultContract.KeyStore.TYPE_RSA_PRIV);
+                // Set the key descriptor to Pedometer key
+                keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_NAME, VaultContract.KeyStore.NAME_PEDOMETER_PRIVATE);
+                // Add the actual key to the insert
+                keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_BYTES, privkey);
+                // Insert the values into the database
+                insert(VaultContract.KeyStore.TABLE_NAME, null, keyEntry);
+
+                // Perform the same steps for the public key (as a backup)
+                keyEntry = new ContentValues();
+                keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_TYPE, VaultContract.KeyStore.TYPE_RSA_PUB);
+                keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_NAME, VaultContract.KeyStore.NAME_PEDOMETER_PUBLIC);
+                keyEntry.put(VaultContract.KeyStore.COLUMN_KEY_BYTES, pubkey);
+                // insert the values
+                insert(VaultContract.KeyStore.TABLE_NAME, null, keyEntry);
+                // Finish the transaction
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
         @Override
         public Hashtable<DateTime, Long> getStepCountForDay(DateTime dt) {
+            DateTime start = dt.withTimeAtStartOfDay();
+            Hashtable<DateTime, Long> rv = new Hashtable<>(getStepCounts(start, start.plusDays(1)));
+            if (rv.isEmpty()) {
+                Log.d(TAG, "getStepCountForDay: Nothing in the database for specified day");
+            }
+            return rv;
+        }
+
+
+        @Override
+        public Map<DateTime, Long> getStepCounts(DateTime from, DateTime to) {
             assertOpen();
-            String date = formatDate(dt);
-            Hashtable<DateTime, Long> rv = new Hashtable<>();
+            long span = Tracer.begin();
+            Map<DateTime, Long> rv = new LinkedHashMap<>();
             Cursor c = query(StepLoggingContract.StepCountLog.TABLE_NAME,
-                    new String[]{StepLoggingContract.StepCountLog.COLUMN_TIME, StepLoggingContract.StepCountLog.COLUMN_VALUE},
-                    StepLoggingContract.StepCountLog.COLUMN_DATE + " LIKE ?",
-                    new String[]{date},
-                    null, // groupby
-                    null, // having
-                    null); // orderby
-            if (c.getCount() > 0) {
-                while (c.moveToNext()) {
-                    // retrieve values
-                    long value = c.getInt(c.getColumnIndexOrThrow(StepLoggingContract.StepCountLog.COLUMN_VALUE));
-                    String time = c.getString(c.getColumnIndexOrThrow(StepLoggingContract.StepCountLog.COLUMN_TIME));
-                    // Convert to DateTime
-                    DateTime timestamp = DateTime.parse(date + " " + time, DateTimeFormat.forPattern(FORMAT_DATE + " " + FORMAT_TIME));
-                    rv.put(timestamp, value);
-                }
-                Log.d(TAG, "getStepCountForDay: Got a result");
-            } else {
-                Log.d(TAG, "getStepCountForDay: Nothing in the database for specified day");
+                    new String[] {StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH, StepLoggingContract.StepCountLog.COLUMN_VALUE},
+                    SELECT_STEPCOUNT_RANGE,
+                    getStepCountRangeArgs(from, to),
+                    null,
+                    null,
+                    StepLoggingContract.StepCountLog.COLUMN_HOUR_EPOCH);
+            while (c.moveToNext()) {
+                rv.put(HourEpoch.toDateTime(c.getLong(0)), c.getLong(1));
             }
             c.close();
+            Tracer.end(TAG, "getStepCounts", span);
             return rv;
         }
 
 
+        @Override
+        public Map<DateTime, Long> getDailyStepCounts(DateTime from, DateTime to) {
+            return getStepCountRollup(SQL_DAY_OF_HOUR, from, to);
+        }
+
+
+        @Override
+        public Map<DateTime, Long> getWeeklyStepCounts(DateTime from, DateTime to) {
+            return getStepCountRollup(SQL_WEEK_OF_HOUR, from, to);
+        }
+
+
+        /**
+         * Private helper function to sum up the step counts of a range of hours by day or week
+         * @param period SQL expression computing the first day of the period containing an hour,
+         *               as a yyyy-MM-dd string
+         * @param from The start of the range (inclusive)
+         * @param to The end of the range (exclusive)
+         * @return The sums, keyed by the start of the first day of their period, ordered by time
+         */
+        private Map<DateTime, Long> getStepCountRollup(String period, DateTime from, DateTime to) {
+            assertOpen();
+            long span = Tracer.begin();
+            Map<DateTime, Long> rv = new LinkedHashMap<>();
+            Cursor c = query(StepLoggingContract.StepCountLog.TABLE_NAME,
+                    new String[] {period, "SUM(" + StepLoggingContract.StepCountLog.COLUMN_VALUE + ")"},
+                    SELECT_STEPCOUNT_RANGE,
+                    getStepCountRangeArgs(from, to),
+                    "1",
+                    null,
+                    "1");
+            while (c.moveToNext()) {
+                rv.put(LocalDate.parse(c.getString(0)).toDateTimeAtStartOfDay(), c.getLong(1));
+            }
+            c.close();
+            Tracer.end(TAG, "getStepCountRollup", span);
+            return rv;
+        }
+
+
+        /**
+         * Private helper function to build the arguments of the selection of a range of step counts
+         * @param from The start of the range (inclusive)
+         * @param to The end of the range (exclusive)
+         * @return The arguments
+         */
+        private String[] getStepCountRangeArgs(DateTime from, DateTime to) {
+            return new String[] {String.valueOf(HourEpoch.fromDateTime(from)),
+                    String.valueOf(HourEpoch.fromDateTime(to))};
+        }
+
+
         @Override
         public int getMaxStepCounterSequenceNumber() {
             assertOpen();
@@ -902,7 +1448,7 @@ public class DatabaseService extends Service {
                 Log.e(TAG, "isShared: Unknown shareable type");
                 return false;
             }
-            String query = getIDColumnForShareable(sh) + " LIKE ? AND " + getShareIDColumnForShareable(sh) + " IS NOT NULL";
+            String query = getIDColumnForShareable(sh) + " = ? AND " + getShareIDColumnForShareable(sh) + " IS NOT NULL";
             // Perform the query
             Cursor c = query(table,
                     columns,
@@ -934,7 +1480,7 @@ public class DatabaseService extends Service {
                 return -1;
             }
             String[] columns = { getShareIDColumnForShareable(sh)};
-            String query = getIDColumnForShareable(sh) + " LIKE ?";
+            String query = getIDColumnForShareable(sh) + " = ?";
             // Perform query
             Cursor c = query(table,
                     columns,
@@ -964,7 +1510,7 @@ public class DatabaseService extends Service {
             String[] columns = {SharingContract.DataShareLog.COLUMN_GRANULARITY};
             Cursor c = query(SharingContract.DataShareLog.TABLE_NAME,
                     columns,
-                    SharingContract.DataShareLog._ID + " LIKE ?",
+                    SharingContract.DataShareLog._ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -988,34 +1534,38 @@ public class DatabaseService extends Service {
             if (sh.getID() == -1) return -1;
             if (isShared(sh)) return -1;
             // Begin a database transaction
-            beginTransaction();
-            // Prepare entry in DataShareLog
-            ContentValues data = new ContentValues();
-            data.put(SharingContract.DataShareLog.COLUMN_KEY, block.getKey());
-            data.put(SharingContract.DataShareLog.COLUMN_IDENTIFIER, pair.getIdentifier());
-            data.put(SharingContract.DataShareLog.COLUMN_REVOCATION_TOKEN, pair.getRevocation());
-            data.put(SharingContract.DataShareLog.COLUMN_GRANULARITY, block.getGranularity());
-            // Insert
-            int dataid = (int) insert(SharingContract.DataShareLog.TABLE_NAME, null, data);
-
-            // Prepare insert into regular database to link the Shareable with the DataShareLog
-            ContentValues link = new ContentValues();
-            link.put(getShareIDColumnForShareable(sh), dataid);
-            // Prepare table information
-            String table = getTableForShareable(sh);
-            String selection = getIDColumnForShareable(sh) + " LIKE ?";
-            String[] selectArgs = { "" + sh.getID() };
-            // Perform update
-            int updated = update(table, link, selection, selectArgs);
-            // Ensure the update took place
-            if (updated == 0) {
-                Log.e(TAG, "addShare: Update of Shareable database failed, rolling back");
-                revert();
-                return -1;
-            } else {
-                commit();
+            int transaction = beginTransaction();
+            try {
+                // Prepare entry in DataShareLog
+                ContentValues data = new ContentValues();
+                data.put(SharingContract.DataShareLog.COLUMN_KEY, block.getKey());
+                data.put(SharingContract.DataShareLog.COLUMN_IDENTIFIER, pair.getIdentifier());
+                data.put(SharingContract.DataShareLog.COLUMN_REVOCATION_TOKEN, pair.getRevocation());
+                data.put(SharingContract.DataShareLog.COLUMN_GRANULARITY, block.getGranularity());
+                // Insert
+                int dataid = (int) insert(SharingContract.DataShareLog.TABLE_NAME, null, data);
+
+                // Prepare insert into regular database to link the Shareable with the DataShareLog
+                ContentValues link = new ContentValues();
+                link.put(getShareIDColumnForShareable(sh), dataid);
+                // Prepare table information
+                String table = getTableForShareable(sh);
+                String selection = getIDColumnForShareable(sh) + " = ?";
+                String[] selectArgs = { "" + sh.getID() };
+                // Perform update
+                int updated = update(table, link, selection, selectArgs);
+                // Ensure the update took place
+                if (updated == 0) {
+                    Log.e(TAG, "addShare: Update of Shareable database failed, rolling back");
+                    revert();
+                    return -1;
+                } else {
+                    commit();
+                }
+                return dataid;
+            } finally {
+                endTransaction(transaction);
             }
-            return dataid;
         }
 
 
@@ -1034,9 +1584,13 @@ public class DatabaseService extends Service {
             share.put(SharingContract.FriendShareLog.COLUMN_IDENTIFIER, pair.getIdentifier());
             share.put(SharingContract.FriendShareLog.COLUMN_REVOCATION_TOKEN, pair.getRevocation());
             // Perform insert
-            beginTransaction();
-            insert(SharingContract.FriendShareLog.TABLE_NAME, null, share);
-            commit();
+            int transaction = beginTransaction();
+            try {
+                insert(SharingContract.FriendShareLog.TABLE_NAME, null, share);
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
@@ -1051,7 +1605,7 @@ public class DatabaseService extends Service {
             String[] columns = { FriendContract.FriendList._ID };
             Cursor c = query(SharingContract.FriendShareLog.TABLE_NAME,
                     columns,
-                    SharingContract.FriendShareLog.COLUMN_DATASHARE_ID + " LIKE ?",
+                    SharingContract.FriendShareLog.COLUMN_DATASHARE_ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1075,7 +1629,7 @@ public class DatabaseService extends Service {
             String[] columns = {SharingContract.DataShareLog.COLUMN_IDENTIFIER, SharingContract.DataShareLog.COLUMN_KEY};
             Cursor c = query(SharingContract.DataShareLog.TABLE_NAME,
                     columns,
-                    SharingContract.DataShareLog._ID + " LIKE ?",
+                    SharingContract.DataShareLog._ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1097,13 +1651,13 @@ public class DatabaseService extends Service {
         public boolean deleteShareByToken(TokenPair tokenPair) {
             assertOpen();
             int deleted = delete(SharingContract.FriendShareLog.TABLE_NAME,
-                    SharingContract.FriendShareLog.COLUMN_REVOCATION_TOKEN + " LIKE x'" + FormatHelper.bytesToHex(tokenPair.getRevocation()) +
-                            "' AND " + SharingContract.FriendShareLog.COLUMN_IDENTIFIER + " LIKE x'" + FormatHelper.bytesToHex(tokenPair.getIdentifier()) + "'",
+                    SharingContract.FriendShareLog.COLUMN_REVOCATION_TOKEN + " = x'" + FormatHelper.bytesToHex(tokenPair.getRevocation()) +
+                            "' AND " + SharingContract.FriendShareLog.COLUMN_IDENTIFIER + " = x'" + FormatHelper.bytesToHex(tokenPair.getIdentifier()) + "'",
                     null);
             if (deleted == 0) {
                 deleted = delete(SharingContract.DataShareLog.TABLE_NAME,
-                        SharingContract.DataShareLog.COLUMN_IDENTIFIER + " LIKE x'" + FormatHelper.bytesToHex(tokenPair.getIdentifier()) +
-                                "' AND " + SharingContract.DataShareLog.COLUMN_REVOCATION_TOKEN + " LIKE x'" + FormatHelper.bytesToHex(tokenPair.getRevocation()) + "'",
+                        SharingContract.DataShareLog.COLUMN_IDENTIFIER + " = x'" + FormatHelper.bytesToHex(tokenPair.getIdentifier()) +
+                                "' AND " + SharingContract.DataShareLog.COLUMN_REVOCATION_TOKEN + " = x'" + FormatHelper.bytesToHex(tokenPair.getRevocation()) + "'",
                         null);
                 if (deleted == 0) {
                     return false;
@@ -1156,7 +1710,7 @@ public class DatabaseService extends Service {
             String[] columns = {SharingContract.FriendShareLog.COLUMN_IDENTIFIER, SharingContract.FriendShareLog.COLUMN_REVOCATION_TOKEN};
             Cursor c = query(SharingContract.FriendShareLog.TABLE_NAME,
                     columns,
-                    SharingContract.FriendShareLog.COLUMN_FRIEND_ID + " LIKE ?",
+                    SharingContract.FriendShareLog.COLUMN_FRIEND_ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1182,7 +1736,7 @@ public class DatabaseService extends Service {
             String[] columns = {SharingContract.FriendShareLog.COLUMN_IDENTIFIER, SharingContract.FriendShareLog.COLUMN_REVOCATION_TOKEN};
             Cursor c = query(SharingContract.FriendShareLog.TABLE_NAME,
                     columns,
-                    SharingContract.FriendShareLog.COLUMN_DATASHARE_ID + " LIKE ? AND " + SharingContract.FriendShareLog.COLUMN_FRIEND_ID + " LIKE ?",
+                    SharingContract.FriendShareLog.COLUMN_DATASHARE_ID + " = ? AND " + SharingContract.FriendShareLog.COLUMN_FRIEND_ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1210,7 +1764,7 @@ public class DatabaseService extends Service {
             String[] columns = {SharingContract.DataShareLog.COLUMN_IDENTIFIER, SharingContract.DataShareLog.COLUMN_REVOCATION_TOKEN};
             Cursor c = query(SharingContract.DataShareLog.TABLE_NAME,
                     columns,
-                    SharingContract.DataShareLog._ID + " LIKE ?",
+                    SharingContract.DataShareLog._ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1241,7 +1795,7 @@ public class DatabaseService extends Service {
             String[] columns = {SharingContract.FriendShareLog.COLUMN_IDENTIFIER, SharingContract.FriendShareLog.COLUMN_REVOCATION_TOKEN};
             Cursor c = query(SharingContract.FriendShareLog.TABLE_NAME,
                     columns,
-                    SharingContract.FriendShareLog.COLUMN_DATASHARE_ID + " LIKE ?",
+                    SharingContract.FriendShareLog.COLUMN_DATASHARE_ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1333,30 +1887,34 @@ public class DatabaseService extends Service {
             study.put(StudyContract.Studies.COLUMN_KEXALGO, 1);
             study.put(StudyContract.Studies.COLUMN_QUEUE, req.queue);
             // Perform insert
-            beginTransaction();
-            long rv = insert(StudyContract.Studies.TABLE_NAME, null, study);
-            // Insert Investigators
-            for (StudyRequest.Investigator inv : req.investigators) {
-                ContentValues investigator = new ContentValues();
-                investigator.put(StudyContract.Investigators.COLUMN_NAME, inv.name);
-                investigator.put(StudyContract.Investigators.COLUMN_GROUP, inv.group);
-                investigator.put(StudyContract.Investigators.COLUMN_INSTITUTION, inv.institution);
-                investigator.put(StudyContract.Investigators.COLUMN_POSITION, inv.position);
-                investigator.put(StudyContract.Investigators.COLUMN_STUDY, rv);
-                insert(StudyContract.Investigators.TABLE_NAME, null, investigator);
-            }
-            // Insert DataRequests
-            for (StudyRequest.DataRequest dreq : req.requests) {
-                ContentValues requests = new ContentValues();
-                requests.put(StudyContract.DataRequests.COLUMN_DATATYPE, dreq.type);
-                requests.put(StudyContract.DataRequests.COLUMN_FREQUENCY, dreq.frequency);
-                requests.put(StudyContract.DataRequests.COLUMN_GRANULARITY, dreq.granularity);
-                requests.put(StudyContract.DataRequests.COLUMN_STUDY, rv);
-                insert(StudyContract.DataRequests.TABLE_NAME, null, requests);
-            }
-            // Commit transaction
-            commit();
-            return rv;
+            int transaction = beginTransaction();
+            try {
+                long rv = insert(StudyContract.Studies.TABLE_NAME, null, study);
+                // Insert Investigators
+                for (StudyRequest.Investigator inv : req.investigators) {
+                    ContentValues investigator = new ContentValues();
+                    investigator.put(StudyContract.Investigators.COLUMN_NAME, inv.name);
+                    investigator.put(StudyContract.Investigators.COLUMN_GROUP, inv.group);
+                    investigator.put(StudyContract.Investigators.COLUMN_INSTITUTION, inv.institution);
+                    investigator.put(StudyContract.Investigators.COLUMN_POSITION, inv.position);
+                    investigator.put(StudyContract.Investigators.COLUMN_STUDY, rv);
+                    insert(StudyContract.Investigators.TABLE_NAME, null, investigator);
+                }
+                // Insert DataRequests
+                for (StudyRequest.DataRequest dreq : req.requests) {
+                    ContentValues requests = new ContentValues();
+                    requests.put(StudyContract.DataRequests.COLUMN_DATATYPE, dreq.type);
+                    requests.put(StudyContract.DataRequests.COLUMN_FREQUENCY, dreq.frequency);
+                    requests.put(StudyContract.DataRequests.COLUMN_GRANULARITY, dreq.granularity);
+                    requests.put(StudyContract.DataRequests.COLUMN_STUDY, rv);
+                    insert(StudyContract.DataRequests.TABLE_NAME, null, requests);
+                }
+                // Commit transaction
+                commit();
+                return rv;
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
@@ -1366,7 +1924,7 @@ public class DatabaseService extends Service {
             if (req == null) throw new SQLiteException("Friend cannot be null");
             String[] whereArgs = { "" + req.id};
             int deleted = delete(StudyContract.Studies.TABLE_NAME,
-                    StudyContract.Studies._ID + " LIKE ?",
+                    StudyContract.Studies._ID + " = ?",
                     whereArgs);
             if (deleted != 1) {
                 throw new SQLiteException("Wanted to delete 1 row, but deleted " + deleted);
@@ -1384,7 +1942,7 @@ public class DatabaseService extends Service {
             String[] whereArgs = { "" + id };
             Cursor c = query(StudyContract.Studies.TABLE_NAME,
                     null,
-                    StudyContract.Studies._ID + " LIKE ?",
+                    StudyContract.Studies._ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1434,12 +1992,16 @@ public class DatabaseService extends Service {
 
             // Prepare and perform update
             String[] whereArgs = {String.valueOf(req.id)};
-            beginTransaction();
-            update(StudyContract.Studies.TABLE_NAME,
-                    update,
-                    StudyContract.Studies._ID + " LIKE ?",
-                    whereArgs);
-            commit();
+            int transaction = beginTransaction();
+            try {
+                update(StudyContract.Studies.TABLE_NAME,
+                        update,
+                        StudyContract.Studies._ID + " = ?",
+                        whereArgs);
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
@@ -1456,7 +2018,7 @@ public class DatabaseService extends Service {
                     " AND " + StudyContract.Studies.TABLE_NAME + "." + StudyContract.Studies.COLUMN_PARTICIPATING +
                     " = 1;";
             // Perform query
-            Cursor c = mSQLiteHandler.rawQuery(query, null);
+            Cursor c = getReader().rawQuery(query, null);
             while (c.moveToNext()) {
                 rv.add(dataRequestFromCursor(c));
             }
@@ -1545,7 +2107,7 @@ public class DatabaseService extends Service {
             String[] whereArgs = { "" + req.id };
             Cursor c = query(StudyContract.DataRequests.TABLE_NAME,
                     new String[] {StudyContract.DataRequests.COLUMN_STUDY},
-                    StudyContract.DataRequests._ID + " LIKE ?",
+                    StudyContract.DataRequests._ID + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1574,12 +2136,16 @@ public class DatabaseService extends Service {
             description.put(LocationLoggingContract.LocationSessions.COLUMN_NAME_DESCRIPTION, track.getDescription());
             // Prepare and perform update
             String[] whereArgs = {String.valueOf(track.getID())};
-            beginTransaction();
-            update(LocationLoggingContract.LocationSessions.TABLE_NAME,
-                    description,
-                    LocationLoggingContract.LocationSessions._ID + " LIKE ?",
-                    whereArgs);
-            commit();
+            int transaction = beginTransaction();
+            try {
+                update(LocationLoggingContract.LocationSessions.TABLE_NAME,
+                        description,
+                        LocationLoggingContract.LocationSessions._ID + " = ?",
+                        whereArgs);
+                commit();
+            } finally {
+                endTransaction(transaction);
+            }
         }
 
 
@@ -1589,6 +2155,17 @@ public class DatabaseService extends Service {
          * @throws SQLiteException Thrown if the database is not open
          */
         private void assertOpen() throws SQLiteException {
+            Future<Void> opening = mOpenFuture;
+            if (mSQLiteHandler == null && opening != null && !opening.isDone()) {
+                // Wait for the database to be opened instead of failing the call
+                try {
+                    opening.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (CancellationException | ExecutionException e) {
+                    // The database stays closed, which is reported below
+                }
+            }
             if (!(mSQLiteHandler != null && mSQLiteHandler.isOpen()))
                 throw new SQLiteException("Database is not open");
         }
@@ -1652,7 +2229,7 @@ public class DatabaseService extends Service {
             String[] whereArgs = { "" + studyid };
             Cursor c = query(StudyContract.Investigators.TABLE_NAME,
                     null,
-                    StudyContract.Investigators.COLUMN_STUDY + " LIKE ?",
+                    StudyContract.Investigators.COLUMN_STUDY + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1699,7 +2276,7 @@ public class DatabaseService extends Service {
             String[] whereArgs = { "" + studyid };
             Cursor c = query(StudyContract.DataRequests.TABLE_NAME,
                     null,
-                    StudyContract.DataRequests.COLUMN_STUDY + " LIKE ?",
+                    StudyContract.DataRequests.COLUMN_STUDY + " = ?",
                     whereArgs,
                     null,
                     null,
@@ -1781,27 +2358,6 @@ public class DatabaseService extends Service {
                     return null;
             }
         }
-
-        // Formatting helper
-
-        /**
-         * Format a given DateTime for the date column of the database
-         * @param dt The DateTime object
-         * @return The String representation of the day
-         */
-        private String formatDate(DateTime dt) {
-            return dt.toString(DateTimeFormat.forPattern(FORMAT_DATE));
-        }
-
-
-        /**
-         * Format a given DateTime for the time column of the database
-         * @param dt The DateTime Object
-         * @return The String representation of the time
-         */
-        private String formatTime(DateTime dt) {
-            return dt.toString(DateTimeFormat.forPattern(FORMAT_TIME));
-        }
     }
 
     /**
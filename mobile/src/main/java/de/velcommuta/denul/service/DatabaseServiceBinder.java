@@ -4,6 +4,8 @@ import org.joda.time.DateTime;
 
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 import de.velcommuta.denul.data.DataBlock;
 import de.velcommuta.denul.data.GPSTrack;
@@ -12,17 +14,33 @@ import de.velcommuta.denul.data.Friend;
 import de.velcommuta.denul.data.Shareable;
 import de.velcommuta.denul.data.StudyRequest;
 import de.velcommuta.denul.data.TokenPair;
+import de.velcommuta.denul.data.TrackPoints;
+import de.velcommuta.denul.data.TrackSummary;
 
 /**
  * Interface for the DatabaseService class, for use with an IBinder implementation
  */
 public interface DatabaseServiceBinder {
     /**
-     * Open the secure database with the specified password
+     * Open the secure database with the specified password. Blocks until the key derivation is
+     * finished, so it should not be called from the UI thread.
      * @param password The password to decrypt the database
      */
     void openDatabase(String password);
 
+    /**
+     * Open the secure database with the specified password on a background thread. The progress
+     * is posted as sticky {@link de.velcommuta.denul.event.DatabaseAvailabilityEvent}s: OPENING,
+     * followed by OPENED or OPEN_FAILED. Calls to the other methods of the binder made while the
+     * database is opening wait for the open to finish. If an open is already in progress, its
+     * Future is returned.
+     * @param password The password to decrypt the database
+     * @return A Future that completes once the database is open. Its get() method throws an
+     *         ExecutionException if the database could not be opened. Cancelling it closes the
+     *         database again if the open has already started.
+     */
+    Future<Void> openDatabaseAsync(String password);
+
     /**
      * Method to check if the database is currently open
      * @return true if yes, false if not
@@ -121,6 +139,32 @@ public interface DatabaseServiceBinder {
      */
     GPSTrack getGPSTrackById(int id);
 
+    /**
+     * Retrieve a page of summaries of all GPS tracks from the database, most recent first. The
+     * summaries only contain the metadata of the tracks, not their points.
+     * @param after The last summary of the previous page, or null to retrieve the first page
+     * @param limit The maximum number of summaries to return
+     * @return A List of TrackSummaries, or an empty List if there are no further tracks
+     */
+    List<TrackSummary> getGPSTrackSummaries(TrackSummary after, int limit);
+
+    /**
+     * Retrieve a page of summaries of the GPS tracks owned by the user, most recent first. The
+     * summaries only contain the metadata of the tracks, not their points.
+     * @param after The last summary of the previous page, or null to retrieve the first page
+     * @param limit The maximum number of summaries to return
+     * @return A List of TrackSummaries, or an empty List if there are no further tracks
+     */
+    List<TrackSummary> getOwnerGPSTrackSummaries(TrackSummary after, int limit);
+
+    /**
+     * Retrieve the points of a specific GPS track from the database
+     * @param id The ID of the GPS track
+     * @return The points, or an empty TrackPoints object if the track has no points or does not
+     *         exist
+     */
+    TrackPoints getGPSTrackPoints(int id);
+
     /**
      * Delete a {@link GPSTrack} from the database. The track MUST have the ID property set (i.e.
      * {@link GPSTrack#getID()} must not return -1).
@@ -171,6 +215,34 @@ public interface DatabaseServiceBinder {
      */
     Hashtable<DateTime, Long> getStepCountForDay(DateTime date);
 
+    /**
+     * Retrieve the hourly step counts for a range of time from the database
+     * @param from The start of the range (inclusive), rounded down to the hour
+     * @param to The end of the range (exclusive), rounded down to the hour
+     * @return The step counts, keyed by the start of their hour and ordered by time. Hours
+     *         without data are left out.
+     */
+    Map<DateTime, Long> getStepCounts(DateTime from, DateTime to);
+
+    /**
+     * Retrieve the daily sums of the step counts for a range of time from the database
+     * @param from The start of the range (inclusive), rounded down to the hour
+     * @param to The end of the range (exclusive), rounded down to the hour
+     * @return The sums, keyed by the start of their day in the local time zone and ordered by
+     *         time. Days without data are left out.
+     */
+    Map<DateTime, Long> getDailyStepCounts(DateTime from, DateTime to);
+
+    /**
+     * Retrieve the weekly sums of the step counts for a range of time from the database. Weeks
+     * start on Monday.
+     * @param from The start of the range (inclusive), rounded down to the hour
+     * @param to The end of the range (exclusive), rounded down to the hour
+     * @return The sums, keyed by the start of the Monday of their week in the local time zone and
+     *         ordered by time. Weeks without data are left out.
+     */
+    Map<DateTime, Long> getWeeklyStepCounts(DateTime from, DateTime to);
+
     /**
      * Getter for the largest used step counter sequence number (used during encryption of the cache)
      * @return The sequence number, or -1 if none was found
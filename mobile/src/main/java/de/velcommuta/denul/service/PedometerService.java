@@ -17,33 +17,41 @@ import android.hardware.SensorEventListener;
 import android.hardware.SensorManager;
 import android.os.AsyncTask;
 import android.os.Binder;
+import android.os.Handler;
 import android.os.IBinder;
+import android.os.Looper;
 import android.os.SystemClock;
 import android.util.Log;
 
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInput;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutput;
-import java.io.ObjectOutputStream;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.util.Arrays;
-import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.IllegalBlockSizeException;
@@ -51,9 +59,16 @@ import javax.crypto.IllegalBlockSizeException;
 import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
+import de.velcommuta.denul.crypto.EncryptedJournal;
 import de.velcommuta.denul.crypto.FileOperation;
 import de.velcommuta.denul.crypto.Hybrid;
 import de.velcommuta.denul.crypto.RSA;
+import de.velcommuta.denul.util.HourEpoch;
+import de.velcommuta.denul.util.HourlyStepCounts;
+import de.velcommuta.denul.util.SaveCoalescer;
+import de.velcommuta.denul.util.StepCountCodec;
+import de.velcommuta.denul.util.StepRingBuffer;
+import de.velcommuta.denul.util.Tracer;
 
 /**
  * Pedometer service for step counting using the built-in pedometer, if available
@@ -61,6 +76,28 @@ import de.velcommuta.denul.crypto.RSA;
 public class PedometerService extends Service implements SensorEventListener, ServiceConnection {
     public static final String TAG = "PedometerService";
 
+    // Journal of the step counts of the running session, and the journal of a crashed session
+    private static final String SESSION_JOURNAL = "pedometer-session.journal";
+    private static final String CRASH_JOURNAL = "pedometer-session-crash.journal";
+    // Session cache of a crashed session, written by versions before the session journal
+    private static final String CRASH_SESSION_CACHE = "pedometer-session-crash.cache";
+    // Persistent cache files, pedometer.cache followed by pedometer-N.cache
+    private static final Pattern CACHE_FILE = Pattern.compile("pedometer(?:-(\\d{1,9}))?\\.cache");
+    // Suffix of processed cache files waiting for their secure deletion
+    private static final String DISCARD_SUFFIX = ".discard";
+    // Maximum number of threads decrypting cache files during cache reintegration
+    private static final int MAX_REINTEGRATION_THREADS = 4;
+    // Number of records after which the session journal is compacted into a single snapshot
+    private static final int JOURNAL_COMPACT_RECORDS = 256;
+    // Minimum number of milliseconds between two saves of the session journal
+    private static final long SAVE_INTERVAL = 5000;
+    // Minimum number of milliseconds between two notifications of the update listeners
+    private static final long NOTIFY_INTERVAL = 1000;
+    // Maximum number of milliseconds onDestroy waits for the state to be saved
+    private static final long SHUTDOWN_TIMEOUT = 10000;
+    // Number of hours of step counts kept in memory
+    private static final int STEP_BUFFER_HOURS = 31 * 24;
+
     private SensorManager mSensorManager;
     private PublicKey mPubkey;
     private int mSeqNr;
@@ -70,13 +107,34 @@ public class PedometerService extends Service implements SensorEventListener, Se
     private boolean mDatabaseAvailable = false;
     private DatabaseServiceBinder mDatabaseBinder = null;
 
-    private Hashtable<DateTime, Long> mCache;
-    private Hashtable<DateTime, Long> mToday;
-    private DateTime mLastTick;
-    // TODO Think about replacing this with a Hashtable<DateTime, Int>
-
-    // Daily sum of steps
-    private int mTodaySum = 0;
+    // Hourly step counts, and the epoch-hour key of the hour of the last step
+    private StepRingBuffer mSteps;
+    private long mLastHour;
+
+    // Session journal, and the step counts as of its last record. Only used on the persistence
+    // executor.
+    private EncryptedJournal mJournal;
+    private Map<DateTime, Long> mJournaled = new HashMap<>();
+
+    // Executor running all writes of the session journal and the persistent cache, and the
+    // coalescer of the saves of the session journal
+    private ScheduledExecutorService mPersistenceExecutor;
+    private SaveCoalescer<Map<DateTime, Long>> mSaveCoalescer;
+    // Executor securely deleting processed cache files in the background
+    private ExecutorService mDeletionExecutor;
+
+    // Batching of the notifications of the update listeners on the main thread
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private boolean mNotifyPending = false;
+    private long mLastNotify = 0;
+    private final Runnable mNotifyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mNotifyPending = false;
+            mLastNotify = SystemClock.uptimeMillis();
+            notifyListeners();
+        }
+    };
 
     private long mStartTimeWall = System.currentTimeMillis();
     private long mStartTimeSystem = SystemClock.elapsedRealtime();
@@ -107,7 +165,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
             File oldSessionCache = new File(getFilesDir(), "pedometer-session.cache");
             if (oldSessionCache.exists()) {
                 Log.i(TAG, "onStartCommand: Found orphaned session cache");
-                File crashedSessionCache = new File(getFilesDir(), "pedometer-session-crash.cache");
+                File crashedSessionCache = new File(getFilesDir(), CRASH_SESSION_CACHE);
                 if (!crashedSessionCache.exists()) {
                     oldSessionCache.renameTo(crashedSessionCache);
                 } else {
@@ -116,6 +174,17 @@ public class PedometerService extends Service implements SensorEventListener, Se
                     oldSessionCache.renameTo(crashedSessionCache);
                 }
             }
+            File oldJournal = new File(getFilesDir(), SESSION_JOURNAL);
+            EncryptedJournal.recover(oldJournal);
+            if (oldJournal.exists()) {
+                Log.i(TAG, "onStartCommand: Found orphaned session journal");
+                File crashedJournal = new File(getFilesDir(), CRASH_JOURNAL);
+                if (crashedJournal.exists()) {
+                    Log.w(TAG, "onStartCommand: Loosing old session journal");
+                    FileOperation.secureDelete(crashedJournal);
+                }
+                oldJournal.renameTo(crashedJournal);
+            }
 
             // Register with EventBus
             mEventBus = EventBus.getDefault();
@@ -150,9 +219,8 @@ public class PedometerService extends Service implements SensorEventListener, Se
             }
 
             // initialize data structure
-            mCache = new Hashtable<>();
-            mToday = new Hashtable<>();
-            mLastTick = getTimestamp();
+            mSteps = new StepRingBuffer(STEP_BUFFER_HOURS, DateTimeZone.getDefault());
+            mLastHour = getCurrentHour();
             mListeners = new LinkedList<>();
 
             // Set up the pedometer
@@ -172,7 +240,10 @@ public class PedometerService extends Service implements SensorEventListener, Se
     public void onDestroy() {
         if (mSensorManager != null) {
             mSensorManager.unregisterListener(this);
-            saveState();
+            mHandler.removeCallbacks(mNotifyRunnable);
+            shutdownPersistence();
+            // Pending deletions finish in the background, or are repeated on the next start
+            getDeletionExecutor().shutdown();
             unregisterReceiver(mShutdownReceiver);
         }
         if (mEventBus != null) {
@@ -199,7 +270,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
             // Save stuff to the database
             requestDatabaseBinder();
         }
-        saveCache();
+        requestSave();
         return mBinder;
     }
 
@@ -210,7 +281,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
             // Save stuff to the database
             requestDatabaseBinder();
         }
-        saveCache();
+        requestSave();
     }
 
 
@@ -220,7 +291,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
             // Save stuff to the database
             requestDatabaseBinder();
         }
-        saveCache();
+        requestSave();
         return true;
     }
 
@@ -228,39 +299,25 @@ public class PedometerService extends Service implements SensorEventListener, Se
     ///// Sensor Callbacks
     @Override
     public void onSensorChanged(SensorEvent event) {
-        DateTime timestamp = getTimestamp();
+        long hour = getCurrentHour();
         // We are saving step counts per hour. Thus, the exact value of the event is not interesting
         // to us. Instead, we use the fact that we will get one event per step, and can thus simply
         // increment the step counter, disregarding the actual value of the event
-        Long cvalue = mCache.get(timestamp);
-        if (cvalue != null) {
-            mCache.put(timestamp, cvalue + (long) 1);
-            mToday.put(timestamp, cvalue + (long) 1);
-            if (cvalue % 100 == 0) {
-                // Save the current step count every 100 steps
-                saveCache();
-            }
-        } else {
-            if (timestamp.getDayOfMonth() != mLastTick.getDayOfMonth()) {
-                // We have rolled over to a new day, reset the "today" cache
-                mToday.clear();
-                mTodaySum = 0;
-            }
-            // Update the last seen timestamp
-            mLastTick = timestamp;
+        mSteps.increment(hour);
+        if (hour != mLastHour) {
             // We have just rolled over to a new hour
-            mCache.put(timestamp, (long) 1);
-            mToday.put(timestamp, (long) 1);
+            mLastHour = hour;
             if (DatabaseService.isRunning(this)) {
                 // If the database is currently available, this is a good time to save our state to it
                 // Request a database binder, which will kick off the process of saving to the database
                 requestDatabaseBinder();
             }
-            saveCache();
+            requestSave();
+        } else if (mSteps.get(hour) % 100 == 0) {
+            // Save the current step count every 100 steps
+            requestSave();
         }
-        // Update daily sum
-        mTodaySum += 1;
-        notifyListeners();
+        requestNotify();
     }
 
 
@@ -271,26 +328,28 @@ public class PedometerService extends Service implements SensorEventListener, Se
 
 
     /**
-     * Callback for EventBus to deliver DatabaseAvailabilityEvents
+     * Callback for EventBus to deliver DatabaseAvailabilityEvents. The events are posted from the
+     * executor opening the database, so they are delivered on the main thread, which starts the
+     * cache reintegration and owns the database binder.
      * @param ev the Event
      */
-    public void onEvent(DatabaseAvailabilityEvent ev) {
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
         if (ev.getStatus() == DatabaseAvailabilityEvent.STARTED) {
-            Log.d(TAG, "onEvent(DatabaseAvailabilityEvent): Service STARTED");
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Service STARTED");
             requestDatabaseBinder();
         } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED) {
-            Log.d(TAG, "onEvent(DatabaseAvailabilityEvent): DB OPENED");
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): DB OPENED");
             if (mDatabaseBinder == null) {
-                Log.w(TAG, "onEvent(DatabaseAvailabilityEvent): DB binder not yet received. Defer processing");
+                Log.w(TAG, "onEventMainThread(DatabaseAvailabilityEvent): DB binder not yet received. Defer processing");
                 return;
             }
             loadSavedState();
             mDatabaseAvailable = true;
         } else if (ev.getStatus() == DatabaseAvailabilityEvent.CLOSED) {
-            Log.d(TAG, "onEvent(DatabaseAvailabilityEvent): DB CLOSED");
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): DB CLOSED");
             mDatabaseAvailable = false;
         } else if (ev.getStatus() == DatabaseAvailabilityEvent.STOPPED) {
-            Log.d(TAG, "onEvent(DatabaseAvailabilityEvent): Service STOPPED");
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Service STOPPED");
             mDatabaseAvailable = false;
             mDatabaseBinder = null;
         }
@@ -329,7 +388,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
         // Check if the database has been opened in the meantime, and if yes, notify the EventHandler
         DatabaseAvailabilityEvent ev = EventBus.getDefault().getStickyEvent(DatabaseAvailabilityEvent.class);
         if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED) {
-            onEvent(ev);
+            onEventMainThread(ev);
         }
     }
 
@@ -353,16 +412,11 @@ public class PedometerService extends Service implements SensorEventListener, Se
 
 
     /**
-     * Recalculate todays sum total of steps
+     * Get the epoch-hour key of the current hour, without allocating
+     * @return The key of the current hour
      */
-    private void updateTodaySum() {
-        Log.d(TAG, "updateTodaySum: called");
-        // Update the cache for todays events
-        mTodaySum = 0;
-        // Get the current day as a string format for later comparison
-        for (DateTime dt : mToday.keySet()) {
-            mTodaySum += mToday.get(dt);
-        }
+    private long getCurrentHour() {
+        return HourEpoch.fromMillis(System.currentTimeMillis(), DateTimeZone.getDefault());
     }
 
 
@@ -372,7 +426,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
      */
     private byte[] prepareCipheredState() {
         // Serialize the state
-        byte[] state = serializeToByteArray(mCache);
+        byte[] state = serializeToByteArray(mSteps.getUnsaved());
         if (state == null) {
             Log.e(TAG, "prepareCipheredState: Something went wrong during serialization, aborting");
             return null;
@@ -427,37 +481,107 @@ public class PedometerService extends Service implements SensorEventListener, Se
             Log.e(TAG, "writeToPersistentCache: Encountered IOException during write, aborting.", e);
             return false;
         }
-        Log.d(TAG, "writeToPersistentCache: Successfully wrote state to file");
+        Tracer.trace(TAG, "writeToPersistentCache: Successfully wrote state to file");
         return true;
     }
 
 
     /**
-     * Write the provided encrypted state to the session cache file (pedometer-session,cache)
-     * @param cipheredState The state
-     * @return True if successful, false otherwise
+     * Get the executor running the writes of the session journal and the persistent cache
+     * @return The executor
      */
-    private boolean writeToSessionCache(byte[] cipheredState) {
-        File file = new File(getFilesDir(), "pedometer-session.cache");
-        if (file.exists()) {
-            FileOperation.secureDelete(file);
+    private synchronized ScheduledExecutorService getPersistenceExecutor() {
+        if (mPersistenceExecutor == null) {
+            mPersistenceExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, TAG);
+                }
+            });
         }
-        // Write to file
+        return mPersistenceExecutor;
+    }
+
+
+    /**
+     * Get the executor securely deleting processed cache files
+     * @return The executor
+     */
+    private synchronized ExecutorService getDeletionExecutor() {
+        if (mDeletionExecutor == null) {
+            mDeletionExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, TAG);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+            });
+        }
+        return mDeletionExecutor;
+    }
+
+
+    /**
+     * Get the coalescer of the saves of the session journal, which runs them on the persistence
+     * executor at least {@link #SAVE_INTERVAL} apart
+     * @return The coalescer
+     */
+    private synchronized SaveCoalescer<Map<DateTime, Long>> getSaveCoalescer() {
+        if (mSaveCoalescer == null) {
+            mSaveCoalescer = new SaveCoalescer<>(getPersistenceExecutor(), new SaveCoalescer.Clock() {
+                @Override
+                public long now() {
+                    return SystemClock.elapsedRealtime();
+                }
+            }, SAVE_INTERVAL, new SaveCoalescer.Saver<Map<DateTime, Long>>() {
+                @Override
+                public void save(Map<DateTime, Long> snapshot) {
+                    saveCache(snapshot);
+                }
+            });
+        }
+        return mSaveCoalescer;
+    }
+
+
+    /**
+     * Request a save of the current step counts to the session journal. Requests made while a
+     * save is pending are coalesced into it, so only the latest step counts are written.
+     */
+    private void requestSave() {
+        getSaveCoalescer().request(mSteps.getUnsaved());
+    }
+
+
+    /**
+     * Save the state of the service on the persistence executor, replacing a pending save of the
+     * session journal, and wait for all writes to finish
+     */
+    private void shutdownPersistence() {
+        ScheduledExecutorService executor = getPersistenceExecutor();
+        // A save that is already running finishes before the state is saved
+        getSaveCoalescer().shutdown();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                saveState();
+            }
+        });
+        executor.shutdown();
         try {
-            FileOutputStream fos = new FileOutputStream(file);
-            fos.write(cipheredState);
-            fos.close();
-        } catch (IOException e) {
-            Log.e(TAG, "writeToSessionCache: Encountered IOException during write, aborting.", e);
-            return false;
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                Log.e(TAG, "shutdownPersistence: Timed out waiting for the state to be saved");
+            }
+        } catch (InterruptedException e) {
+            Log.e(TAG, "shutdownPersistence: Interrupted while waiting for the state to be saved");
+            Thread.currentThread().interrupt();
         }
-        Log.d(TAG, "writeToSessionCache: Successfully wrote state to file");
-        return true;
     }
 
 
     /**
-     * Save the state of the service into an encrypted file
+     * Save the state of the service into an encrypted file. Must run on the persistence executor.
      */
     private void saveState() {
         byte[] cipheredState = prepareCipheredState();
@@ -472,32 +596,61 @@ public class PedometerService extends Service implements SensorEventListener, Se
             SharedPreferences.Editor edit = getSharedPreferences(getString(R.string.preferences_keystore), Context.MODE_PRIVATE).edit();
             edit.putInt(getString(R.string.preferences_keystore_seqnr), mSeqNr + 1);
             edit.apply();
-            Log.d(TAG, "saveState: Incremented Sequence number");
+            Tracer.trace(TAG, "saveState: Incremented Sequence number");
         } else {
             Log.e(TAG, "saveState: Saving to file failed, aborting");
         }
-        File file = new File(getFilesDir(), "pedometer-session.cache");
+        // The state is saved, so the session journal is no longer needed
+        if (mJournal != null) {
+            mJournal.close();
+            mJournal = null;
+        }
+        File file = new File(getFilesDir(), SESSION_JOURNAL);
         if (file.exists()) {
             FileOperation.secureDelete(file);
-            Log.d(TAG, "saveState: Deleted Session Cache");
+            Tracer.trace(TAG, "saveState: Deleted session journal");
         }
     }
 
 
     /**
-     * Save the state of the service into a temporary encrypted file
+     * Append the step counts that changed since the last call to the session journal, which
+     * preserves them if the service dies before it can save its state. The journal is created on
+     * the first call, and compacted into a snapshot of the cache every
+     * {@link #JOURNAL_COMPACT_RECORDS} calls. Must run on the persistence executor.
+     * @param snapshot The unsaved step counts to preserve
      */
-    private void saveCache() {
-        byte[] cipheredState = prepareCipheredState();
-        if (cipheredState == null) {
-            Log.e(TAG, "saveCache: prepareCipheredState failed, aborting");
-            return;
-        }
-        if (writeToSessionCache(cipheredState)) {
-            Log.d(TAG, "saveCache: Success");
-        } else {
-            Log.e(TAG, "saveCache: An error occured while saving to disk");
+    private void saveCache(Map<DateTime, Long> snapshot) {
+        long span = Tracer.begin();
+        try {
+            if (mJournal == null) {
+                mJournal = EncryptedJournal.create(new File(getFilesDir(), SESSION_JOURNAL), mPubkey, mSeqNr);
+                mJournaled.clear();
+            }
+            if (mJournal.getRecordCount() >= JOURNAL_COMPACT_RECORDS) {
+                mJournal.compact(StepCountCodec.encode(snapshot));
+                mJournaled = snapshot;
+                Tracer.trace(TAG, "saveCache: Compacted session journal");
+            } else {
+                Map<DateTime, Long> changed = new HashMap<>();
+                for (Map.Entry<DateTime, Long> entry : snapshot.entrySet()) {
+                    if (!entry.getValue().equals(mJournaled.get(entry.getKey()))) {
+                        changed.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                if (!changed.isEmpty()) {
+                    mJournal.append(StepCountCodec.encode(changed));
+                    mJournaled.putAll(changed);
+                }
+                Tracer.trace(TAG, "saveCache: Success");
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "saveCache: An error occured while saving to disk", e);
+            // Start over with a new journal on the next call
+            if (mJournal != null) mJournal.close();
+            mJournal = null;
         }
+        Tracer.end(TAG, "saveCache", span);
     }
 
 
@@ -514,8 +667,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
 
 
     /**
-     * Save the current data into the database and, if successful, remove it from the memory of the
-     * service
+     * Save the unsaved step counts into the database and mark them as saved
      */
     private void saveToDatabase() {
         // TODO Compartmentalize into functions
@@ -523,16 +675,10 @@ public class PedometerService extends Service implements SensorEventListener, Se
             Log.e(TAG, "saveToDatabase: Database unavailable");
             return;
         }
-        DateTime currentTimestamp = getTimestamp();
-        mDatabaseBinder.integratePedometerCache(mCache);
-        Log.d(TAG, "saveToDatabase: Removing saved values");
-        Enumeration<DateTime> keys = mCache.keys();
-        while (keys.hasMoreElements()) {
-            DateTime ts = keys.nextElement();
-            if (!ts.equals(currentTimestamp)) {
-                mCache.remove(ts);
-            }
-        }
+        Hashtable<DateTime, Long> unsaved = mSteps.getUnsaved();
+        mDatabaseBinder.integratePedometerCache(unsaved);
+        Tracer.trace(TAG, "saveToDatabase: Marking saved values");
+        mSteps.markSaved(unsaved, getCurrentHour());
 
         // Load todays sum
         loadHistoryToday();
@@ -541,6 +687,19 @@ public class PedometerService extends Service implements SensorEventListener, Se
     }
 
 
+    /**
+     * Request a notification of the update listeners. Requests made while a notification is
+     * pending are batched into it, and notifications are at least {@link #NOTIFY_INTERVAL} apart.
+     * Must be called on the main thread.
+     */
+    private void requestNotify() {
+        if (mNotifyPending) return;
+        mNotifyPending = true;
+        long delay = Math.max(0, mLastNotify + NOTIFY_INTERVAL - SystemClock.uptimeMillis());
+        mHandler.postDelayed(mNotifyRunnable, delay);
+    }
+
+
     /**
      * Notify all registered listeners that new data is available
      */
@@ -616,12 +775,9 @@ public class PedometerService extends Service implements SensorEventListener, Se
             return;
         }
         Hashtable<DateTime, Long> dbvalues = mDatabaseBinder.getStepCountForDay(getTimestamp());
-        for (DateTime t : dbvalues.keySet()) {
-            if (!mToday.contains(t) || mToday.get(t) < dbvalues.get(t)) {
-                mToday.put(t, dbvalues.get(t));
-            }
+        for (Map.Entry<DateTime, Long> entry : dbvalues.entrySet()) {
+            mSteps.setSaved(HourEpoch.fromDateTime(entry.getKey()), entry.getValue());
         }
-        updateTodaySum();
         notifyListeners();
     }
 
@@ -638,221 +794,346 @@ public class PedometerService extends Service implements SensorEventListener, Se
 
 
     /**
-     * Serialize the hashtable into a byte[]
+     * Serialize the hashtable into a byte[], see {@link StepCountCodec}
      * @param ht The hashtable
-     * @return The serialized hashtable, or null if serialization failed
+     * @return The serialized hashtable
      */
-    private byte[] serializeToByteArray(Hashtable ht) {
-        // Get ourselves set up for serialization
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-             ObjectOutput out = new ObjectOutputStream(bos)) {
-            // Pass the object into the serialization pipeline
-            out.writeObject(ht);
-            // Return the result
-            return bos.toByteArray();
-        } catch (IOException e) {
-            Log.e(TAG, "serializeToByteArray: An IOException occured, aborting");
-            return null;
+    private byte[] serializeToByteArray(Hashtable<DateTime, Long> ht) {
+        // Lock the hashtable, so that it cannot change while it is encoded
+        synchronized (ht) {
+            return StepCountCodec.encode(ht);
         }
     }
 
 
     /**
-     * Deserialize an object from a byte[]
-     * @param serialized The serialized object as a byte[]
-     * @return The deserialized Hashtable<DateTime, Long>, or null if an error occured
+     * AsyncTask to load data from the encrypted cache in the background. The files directory is
+     * scanned once, all caches are decrypted and decoded in parallel on a bounded pool, and their
+     * step counts are summed up in a single k-way merge. The processed files are moved aside and
+     * securely deleted on the deletion executor, so that the deletion does not delay saving the
+     * recovered steps to the database.
      */
-    @SuppressWarnings("unchecked")
-    private Hashtable<DateTime, Long> deserializeFromByteArray(byte[] serialized) {
-        // Set up deserialization chain
-        try (ByteArrayInputStream bis = new ByteArrayInputStream(serialized);
-             ObjectInput in = new ObjectInputStream(bis)) {
-            // Deserialize the object and return it
-            return (Hashtable<DateTime, Long>) in.readObject();
-        } catch (IOException e) {
-            Log.e(TAG, "deserializeFromByteArray: Encountered IOException, aborting");
-            return null;
-        } catch (ClassNotFoundException e) {
-            Log.e(TAG, "deserializeFromByteArray: Encountered ClassNotFoundException, aborting");
-            return null;
-        }
-    }
-
-
-    /**
-     * AsyncTask to load data from the encrypted cache in the background
-     */
-    private class CacheReintegrationTask extends AsyncTask<Void, Void, Hashtable<DateTime, Long>> {
+    private class CacheReintegrationTask extends AsyncTask<Void, Void, HourlyStepCounts> {
         private static final String TAG = "CacheReintegrationTask";
 
         @Override
-        protected Hashtable<DateTime, Long> doInBackground(Void... v) {
-            // Create a copy of the current hashtable to perform work on
-            Hashtable<DateTime, Long> result = null;
+        protected HourlyStepCounts doInBackground(Void... v) {
             // Load private key
-            PrivateKey pk = loadPrivateKey();
+            final PrivateKey pk = loadPrivateKey();
             if (pk == null) {
                 Log.e(TAG, "doInBackground: Private key retrieval failed, aborting");
                 return null;
             }
 
-            // Create variable to save number of files into
-            int highestSeenFile;
-            // Detect if session cache exists
-            File file = new File(getFilesDir(), "pedometer-session-crash.cache");
-            if (file.exists()) {
-                // Read in the file
-                byte[] filebytes = readFileRaw(file);
-                if (filebytes == null) {
-                    // Something went wrong while reading the file, abort
-                    Log.e(TAG, "doInBackground: Error reading session cache, skipping");
-                } else {
-                    // File read successfully
-                    try {
-                        // Decrypt data from file
-                        byte[] plaintext = Hybrid.decryptHybrid(filebytes, pk, mSeqNr);
-                        if (plaintext != null && plaintext.length >= 32) {
-                            // Plaintext seems sane, deserialize data
-                            Hashtable<DateTime, Long> oldHashtable = deserializeFromByteArray(Arrays.copyOfRange(plaintext, 32, plaintext.length));
-                            // Merge into result
-                            result = new Hashtable<>(mCache);
-                            result = merge(result, oldHashtable);
-                            Log.i(TAG, "doInBackground: Successfully loaded Session cache file");
-                        } else {
-                            // Plaintext has a weird format, ignore it
-                            Log.e(TAG, "doInBackground: Decryption produced nonsense, skipping session file");
-                        }
-                    } catch (BadPaddingException e) {
-                        // Something went wrong during decryption, ignore
-                        Log.e(TAG, "doInBackground: Bad Padding Exception, skipping session cache file");
-                    }
+            // Scan the files directory once for cache files, the session cache of an older
+            // version, the journal of a crashed session and files left over by an interrupted deletion
+            SortedMap<Integer, File> caches = new TreeMap<>();
+            List<File> processed = new LinkedList<>();
+            List<File> discarded = new LinkedList<>();
+            File sessionCache = null;
+            File crashJournal = null;
+            File[] files = getFilesDir().listFiles();
+            for (File file : files == null ? new File[0] : files) {
+                String name = file.getName();
+                Matcher matcher = CACHE_FILE.matcher(name);
+                if (matcher.matches()) {
+                    caches.put(matcher.group(1) == null ? 0 : Integer.parseInt(matcher.group(1)), file);
+                } else if (name.equals(CRASH_SESSION_CACHE)) {
+                    sessionCache = file;
+                } else if (name.equals(CRASH_JOURNAL)) {
+                    crashJournal = file;
+                } else if (name.endsWith(DISCARD_SUFFIX)) {
+                    discarded.add(file);
                 }
-                // Delete file
-                FileOperation.secureDelete(file);
+            }
+            if (caches.isEmpty() && sessionCache == null && crashJournal == null) {
+                Log.i(TAG, "doInBackground: No cache files found");
+                discard(processed, discarded);
+                return null;
             }
 
-            // Detect if cache files exist
-            file = new File(getFilesDir(), "pedometer.cache");
-            int i = 0;
-            if (file.exists()) {
-                Log.d(TAG, "doInBackground: got pk");
-                // Load the highest seen sequence number
-                int seqnr = getMaxSequenceNumber();
+            // Load the highest seen sequence number
+            int seqnr = -1;
+            if (!caches.isEmpty()) {
+                seqnr = getMaxSequenceNumber();
                 if (seqnr == -1) {
                     Log.w(TAG, "doInBackground: No sequence number found in database. Accepting all sequence numbers (saw " + seqnr + ")");
                 }
-                // Determine which files exist
-                while (file.exists()) {
-                    i += 1;
-                    file = new java.io.File(getFilesDir(), "pedometer-" + i + ".cache");
-                }
-                Log.d(TAG, "doInBackground: Found " + i + " cache files");
-                // Set some variables for later
-                highestSeenFile = i-1;
-                if (seqnr + (i-1) != (mSeqNr - 1)) {
+                int highestSeenFile = caches.lastKey();
+                Log.d(TAG, "doInBackground: Found " + caches.size() + " cache files");
+                if (caches.size() != highestSeenFile + 1 || seqnr + highestSeenFile != (mSeqNr - 1)) {
                     Log.w(TAG, "doInBackground: Something's fishy, sequence numbers aren't adding up. Continuing for now (snr " + seqnr + ", mSnr: " + mSeqNr + ")");
                 }
-                // Get the current time (for reboot detection)
-                long currentSystemWallTime = mStartTimeWall;
-                // As the files are created in order, the oldest file is pedometer.cache, followed by pedometer-1.cache, and so on
-                // We will be working backwards in time
-                for (i -= 1; i >= 0; i--) {
-                    Log.i(TAG, "doInBackground: Processing file " + i);
-
-                    // Get file pointer
-                    if (i > 0) {
-                        file = new File(getFilesDir(), "pedometer-" + i + ".cache");
-                    } else {
-                        file = new File(getFilesDir(), "pedometer.cache");
-                    }
-                    byte[] filebytes = readFileRaw(file);
-                    if (filebytes == null) {
-                        Log.e(TAG, "doInBackground: Loading of file failed, skipping");
-                        continue;
-                    }
+            }
 
-                    // filebytes now contains the bytes saved in the file. Let's decrypt them.
-                    byte[] plaintext;
-                    try {
-                        if (seqnr != -1) {
-                            plaintext = Hybrid.decryptHybrid(filebytes, pk, seqnr + i);
-                        } else {
-                            // No known good sequence number available, skip sequence number verification
-                            plaintext = Hybrid.decryptHybrid(filebytes, pk, -1);
+            List<HourlyStepCounts> results = new LinkedList<>();
+            ExecutorService pool = Executors.newFixedThreadPool(getReintegrationThreads(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, TAG);
+                }
+            });
+            try {
+                // Submit all files at once. Every file is only read when a thread picks it up, and
+                // only its step counts are kept, so at most one file per thread is in memory.
+                Future<HourlyStepCounts> session = null;
+                if (sessionCache != null) {
+                    final File file = sessionCache;
+                    session = pool.submit(new Callable<HourlyStepCounts>() {
+                        @Override
+                        public HourlyStepCounts call() {
+                            return decodeSessionCache(file, pk);
                         }
-                    } catch (BadPaddingException e) {
-                        Log.e(TAG, "doInBackground: BadPaddingException - Skipping file", e);
-                        continue;
-                    }
-                    // Check if the decryption worked - result should have at least 32 bytes due to our header
-                    if (plaintext == null || plaintext.length < 32) {
-                        Log.e(TAG, "doInBackground: Decryption failed, skipping file");
-                        continue;
-                    }
+                    });
+                    processed.add(file);
+                }
+                Future<HourlyStepCounts> journal = null;
+                if (crashJournal != null) {
+                    final File file = crashJournal;
+                    journal = pool.submit(new Callable<HourlyStepCounts>() {
+                        @Override
+                        public HourlyStepCounts call() {
+                            return replayJournal(file, pk);
+                        }
+                    });
+                    processed.add(file);
+                }
+                List<Future<DecodedCache>> decoded = new LinkedList<>();
+                for (Map.Entry<Integer, File> entry : caches.entrySet()) {
+                    final File file = entry.getValue();
+                    // No known good sequence number available, skip sequence number verification
+                    final int fileSeqNr = seqnr == -1 ? -1 : seqnr + entry.getKey();
+                    decoded.add(pool.submit(new Callable<DecodedCache>() {
+                        @Override
+                        public DecodedCache call() {
+                            return decodeCacheFile(file, pk, fileSeqNr);
+                        }
+                    }));
+                    processed.add(file);
+                }
 
-                    // Load the headers
-                    ByteBuffer buf = ByteBuffer.wrap(Arrays.copyOfRange(plaintext, 0, 32));
-                    long startTimeSystem = buf.getLong();
-                    long startTimeWall   = buf.getLong();
-                    long stopTimeSystem  = buf.getLong();
-                    long stopTimeWall    = buf.getLong();
+                addResult(results, await(session));
+                addResult(results, await(journal));
+                // Get the current time (for reboot detection)
+                long currentSystemWallTime = mStartTimeWall;
+                // As the files are created in order, the oldest file is pedometer.cache, followed by
+                // pedometer-1.cache, and so on. We will be working backwards in time, in the order
+                // the files were submitted in, so that the newest ones are usually done first.
+                for (int i = decoded.size() - 1; i >= 0; i--) {
+                    DecodedCache cache = await(decoded.get(i));
+                    if (cache == null) continue;
                     // See if times check out
-                    if (!timeDifferencesSane(startTimeSystem, startTimeWall, stopTimeSystem, stopTimeWall, currentSystemWallTime)) {
+                    if (!timeDifferencesSane(cache.startTimeSystem, cache.startTimeWall, cache.stopTimeSystem, cache.stopTimeWall, currentSystemWallTime)) {
                         Log.e(TAG, "doInBackground: Time differences are not sane, skipping file");
                         continue;
                     }
-
-                    // De-Serialize saved Hashtable
-                    Hashtable<DateTime, Long> oldHashtable = deserializeFromByteArray(Arrays.copyOfRange(plaintext, 32, plaintext.length));
-                    if (oldHashtable == null ) {
-                        Log.e(TAG, "doInBackground: loaded hashtable is null, skipping");
-                        currentSystemWallTime = startTimeWall;
-                        continue;
-                    }
-
-                    // Merge the two Hashtables
-                    if (result == null) {
-                        result = new Hashtable<>(mCache);
-                    }
-                    result = merge(result, oldHashtable);
-                    Log.i(TAG, "doInBackground: merge complete");
-
-                    // At this point, we have successfully merged the two Hashtables into one
-                    // Let's continue with the next one. For that, we need to update the current timestamp
+                    addResult(results, cache.steps);
+                    // Continue with the next file. For that, we need to update the current timestamp
                     // to the timestamp at the beginning of the older service start
-                    currentSystemWallTime = startTimeWall;
-                }
-                // Delete all cache files
-                for (i=highestSeenFile; i >= 0; i--) {
-                    if (i==0) {
-                        java.io.File f = new java.io.File(getFilesDir(), "pedometer.cache");
-                        FileOperation.secureDelete(f);
-                    } else {
-                        java.io.File f = new java.io.File(getFilesDir(), "pedometer-" + i + ".cache");
-                        FileOperation.secureDelete(f);
-                    }
+                    currentSystemWallTime = cache.startTimeWall;
                 }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            discard(processed, discarded);
+            if (!caches.isEmpty()) {
                 storeSequenceNumber(mSeqNr);
-            } else {
-                // If this statement is reached, no cache files have been detected. Return null
-                Log.i(TAG, "doInBackground: No cache files found");
             }
-            Log.i(TAG, "doInBackground: Finished, returning result");
+            if (results.isEmpty()) {
+                Log.i(TAG, "doInBackground: No steps recovered");
+                return null;
+            }
+            HourlyStepCounts result = HourlyStepCounts.sum(results);
+            Log.i(TAG, "doInBackground: Finished, recovered " + result.size() + " hours from " + results.size() + " files");
             return result;
         }
 
         @Override
-        protected void onPostExecute(Hashtable<DateTime, Long> ht) {
-            if (ht == null) {
-                Log.i(TAG, "onPostExecute: ht == null");
+        protected void onPostExecute(HourlyStepCounts steps) {
+            if (steps == null) {
+                Log.i(TAG, "onPostExecute: steps == null");
             } else {
-                // Replace the cache Hashtable with our merged one
-                mCache = ht;
-                Log.d(TAG, "onPostExecute: Hashtable replaced");
+                // Add the recovered steps to the steps counted since the service started
+                for (int i = 0; i < steps.size(); i++) {
+                    mSteps.add(steps.getHour(i), steps.getSteps(i));
+                }
+                Log.d(TAG, "onPostExecute: Recovered steps added");
             }
             saveToDatabase();
         }
 
+        /**
+         * Get the number of threads decrypting cache files
+         * @return The number of threads, between 1 and {@link #MAX_REINTEGRATION_THREADS}
+         */
+        private int getReintegrationThreads() {
+            return Math.max(1, Math.min(MAX_REINTEGRATION_THREADS, Runtime.getRuntime().availableProcessors()));
+        }
+
+        /**
+         * Read, decrypt and decode a persistent cache file. Called on the decryption pool.
+         * @param file The cache file
+         * @param pk The private key of the pedometer
+         * @param seqnr The sequence number the file should have been encrypted with, or -1 to
+         *              skip the verification of the sequence number
+         * @return The decoded cache, or null if it could not be read or decrypted
+         */
+        private DecodedCache decodeCacheFile(File file, PrivateKey pk, int seqnr) {
+            Log.i(TAG, "decodeCacheFile: Processing " + file.getName());
+            byte[] plaintext = readAndDecrypt(file, pk, seqnr);
+            if (plaintext == null) return null;
+            // Load the headers
+            ByteBuffer buf = ByteBuffer.wrap(plaintext, 0, 32);
+            DecodedCache cache = new DecodedCache();
+            cache.startTimeSystem = buf.getLong();
+            cache.startTimeWall   = buf.getLong();
+            cache.stopTimeSystem  = buf.getLong();
+            cache.stopTimeWall    = buf.getLong();
+            cache.steps = decodeSteps(plaintext);
+            return cache;
+        }
+
+        /**
+         * Read, decrypt and decode the session cache written by an older version. Called on the
+         * decryption pool.
+         * @param file The session cache file
+         * @param pk The private key of the pedometer
+         * @return The step counts, or null if they could not be recovered
+         */
+        private HourlyStepCounts decodeSessionCache(File file, PrivateKey pk) {
+            byte[] plaintext = readAndDecrypt(file, pk, mSeqNr);
+            if (plaintext == null) return null;
+            HourlyStepCounts steps = decodeSteps(plaintext);
+            if (steps != null) Log.i(TAG, "decodeSessionCache: Successfully loaded Session cache file");
+            return steps;
+        }
+
+        /**
+         * Replay the journal of a crashed session. Called on the decryption pool.
+         * @param file The journal file
+         * @param pk The private key of the pedometer
+         * @return The step counts, or null if they could not be recovered
+         */
+        private HourlyStepCounts replayJournal(File file, PrivateKey pk) {
+            try {
+                // Every record holds the latest counts of the hours it contains
+                Hashtable<DateTime, Long> steps = new Hashtable<>();
+                for (byte[] record : EncryptedJournal.replay(file, pk, mSeqNr)) {
+                    steps.putAll(StepCountCodec.decode(record));
+                }
+                Log.i(TAG, "replayJournal: Successfully replayed session journal");
+                return HourlyStepCounts.fromMap(steps);
+            } catch (IOException | BadPaddingException e) {
+                Log.e(TAG, "replayJournal: Could not replay session journal, skipping", e);
+                return null;
+            }
+        }
+
+        /**
+         * Read and decrypt a cache file
+         * @param file The file
+         * @param pk The private key of the pedometer
+         * @param seqnr The expected sequence number, or -1 to skip its verification
+         * @return The plaintext, at least 32 bytes long, or null if an error occured
+         */
+        private byte[] readAndDecrypt(File file, PrivateKey pk, int seqnr) {
+            byte[] filebytes = readFileRaw(file);
+            if (filebytes == null) {
+                Log.e(TAG, "readAndDecrypt: Loading of file failed, skipping");
+                return null;
+            }
+            byte[] plaintext;
+            try {
+                plaintext = Hybrid.decryptHybrid(filebytes, pk, seqnr);
+            } catch (BadPaddingException e) {
+                Log.e(TAG, "readAndDecrypt: BadPaddingException - Skipping file", e);
+                return null;
+            }
+            // Check if the decryption worked - result should have at least 32 bytes due to our header
+            if (plaintext == null || plaintext.length < 32) {
+                Log.e(TAG, "readAndDecrypt: Decryption failed, skipping file");
+                return null;
+            }
+            return plaintext;
+        }
+
+        /**
+         * Decode the step counts following the 32 byte header of a decrypted cache
+         * @param plaintext The decrypted cache
+         * @return The step counts, or null if they could not be decoded
+         */
+        private HourlyStepCounts decodeSteps(byte[] plaintext) {
+            try {
+                return StepCountCodec.decodeSorted(Arrays.copyOfRange(plaintext, 32, plaintext.length));
+            } catch (IOException e) {
+                Log.e(TAG, "decodeSteps: Encountered IOException, skipping", e);
+                return null;
+            }
+        }
+
+        /**
+         * Wait for the result of a file submitted to the decryption pool
+         * @param future The future of the file, or null
+         * @param <T> The type of the result
+         * @return The result, or null if the future is null or failed
+         */
+        private <T> T await(Future<T> future) {
+            if (future == null) return null;
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Log.e(TAG, "await: Processing of file failed, skipping", e.getCause());
+            } catch (InterruptedException e) {
+                Log.e(TAG, "await: Interrupted, skipping file");
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+
+        /**
+         * Add recovered step counts to the results
+         * @param results The results
+         * @param steps The recovered step counts, or null if nothing was recovered
+         */
+        private void addResult(List<HourlyStepCounts> results, HourlyStepCounts steps) {
+            if (steps != null && steps.size() > 0) results.add(steps);
+        }
+
+        /**
+         * Move processed files aside and securely delete them, and the files left over by an
+         * interrupted deletion, in the background. Moving them aside first ensures that a new
+         * persistent cache can be written under the old names while they are being deleted.
+         * @param processed The processed files
+         * @param discarded The files left over by an interrupted deletion
+         */
+        private void discard(List<File> processed, List<File> discarded) {
+            final List<File> batch = new LinkedList<>(discarded);
+            for (File file : processed) {
+                File target = new File(file.getPath() + DISCARD_SUFFIX);
+                if (file.renameTo(target)) {
+                    batch.add(target);
+                } else {
+                    Log.w(TAG, "discard: Could not move " + file.getName() + " aside, deleting in place");
+                    batch.add(file);
+                }
+            }
+            if (batch.isEmpty()) return;
+            try {
+                getDeletionExecutor().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (File file : batch) {
+                            FileOperation.secureDelete(file);
+                        }
+                        Log.d(TAG, "discard: Deleted " + batch.size() + " files");
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                Log.w(TAG, "discard: Deletion executor is shut down, deleting on the next start");
+            }
+        }
+
         /**
          * Check if the time differences are sane
          * @param startTimeSystem Start time of the service in the cache file, as ms since boot
@@ -890,7 +1171,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
             try {
                 RandomAccessFile fobj = new RandomAccessFile(file, "r");
                 filebytes = new byte[(int) fobj.length()];
-                fobj.read(filebytes);
+                fobj.readFully(filebytes);
                 fobj.close();
             }
             catch (IOException e) {
@@ -898,38 +1179,19 @@ public class PedometerService extends Service implements SensorEventListener, Se
             }
             return filebytes;
         }
+    }
 
 
-        /**
-         * Merge two hashtables
-         * @param base The base hashtable
-         * @param newvalues The new hashtable
-         * @return The merged hashtable
-         */
-        private Hashtable<DateTime, Long> merge(Hashtable<DateTime,Long> base, Hashtable<DateTime, Long> newvalues) {
-            // Take the intersection of both sets
-            Set<DateTime> intersect = new HashSet<>(base.keySet());
-            Hashtable<DateTime, Long> result = new Hashtable<>();
-            intersect.retainAll(newvalues.keySet());
-            if (intersect.isEmpty()) {
-                // If the intersection is empty, we can just add all elements from the old hashtable to the current one,
-                // without fear of overwriting important data
-                result.putAll(newvalues);
-            } else {
-                for (DateTime t : newvalues.keySet()) {
-                    if (base.containsKey(t)) {
-                        // There is already a value under this key, Add the step counts
-                        long oldval = base.get(t);
-                        oldval += newvalues.get(t);
-                        result.put(t, oldval);
-                    } else {
-                        // No collision, transfer value
-                        result.put(t, newvalues.get(t));
-                    }
-                }
-            }
-            return result;
-        }
+    /**
+     * Contents of a decrypted persistent cache file
+     */
+    private static class DecodedCache {
+        long startTimeSystem;
+        long startTimeWall;
+        long stopTimeSystem;
+        long stopTimeWall;
+        // The step counts, or null if they could not be decoded
+        HourlyStepCounts steps;
     }
 
 
@@ -957,7 +1219,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
          */
         @Override
         public int getSumToday() {
-            return mTodaySum;
+            return (int) mSteps.getSumToday(getCurrentHour());
         }
 
 
@@ -967,7 +1229,7 @@ public class PedometerService extends Service implements SensorEventListener, Se
          */
         @Override
         public Hashtable<DateTime, Long> getToday() {
-            return mToday;
+            return mSteps.getDay(getCurrentHour());
         }
 
 
@@ -18,14 +18,18 @@ import android.widget.Toast;
 
 import java.util.List;
 
+import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.data.GPSTrack;
+import de.velcommuta.denul.data.TrackSummary;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.ui.adapter.ExerciseListAdapter;
 import de.velcommuta.denul.ui.dialog.DeleteDialog;
 import de.velcommuta.denul.ui.dialog.ShareDialog;
 import de.velcommuta.denul.ui.view.EmptyRecyclerView;
+import de.velcommuta.denul.ui.view.PagingScrollListener;
 
 
 /**
@@ -36,6 +40,9 @@ public class ExerciseHistoryFragment extends Fragment implements ServiceConnecti
                                                                  DeleteDialog.OnDeleteCallback{
     private static final String TAG = "ExercHist";
 
+    // Number of tracks loaded at once
+    private static final int PAGE_SIZE = 30;
+
     private EmptyRecyclerView mRecyclerView;
     private DatabaseServiceBinder mDbBinder;
     private ExerciseListAdapter mAdapter;
@@ -97,18 +104,25 @@ public class ExerciseHistoryFragment extends Fragment implements ServiceConnecti
     @Override
     public void onResume() {
         super.onResume();
+        EventBus.getDefault().register(this);
         bindDbService();
     }
 
     @Override
     public boolean onContextItemSelected(MenuItem item) {
         int position = mAdapter.getPosition();
+        // The list only holds the metadata of the tracks, load the selected track
+        GPSTrack track;
         switch (item.getItemId()) {
             case R.id.exercise_remove:
-                DeleteDialog.showDeleteDialog(getActivity(), mDbBinder, mAdapter.getTrackAt(position), this);
+                track = mDbBinder.getGPSTrackById(mAdapter.getTrackAt(position).getID());
+                if (track == null) return true;
+                DeleteDialog.showDeleteDialog(getActivity(), mDbBinder, track, this);
                 return true;
             case R.id.exercise_share:
-                ShareDialog.showShareDialog(getActivity(), mDbBinder, mAdapter.getTrackAt(position));
+                track = mDbBinder.getGPSTrackById(mAdapter.getTrackAt(position).getID());
+                if (track == null) return true;
+                ShareDialog.showShareDialog(getActivity(), mDbBinder, track);
                 return true;
         }
         return false;
@@ -116,21 +130,35 @@ public class ExerciseHistoryFragment extends Fragment implements ServiceConnecti
 
 
     /**
-     * Populate the RecyclerView
+     * Populate the RecyclerView with the first page of tracks. Further pages are loaded while
+     * scrolling.
      */
     private void populateExerciseHistory() {
-        // Load the list of friends from the database
-        List<GPSTrack> list = mDbBinder.getOwnerGPSTracks();
-        // Initialize FriendListCursorAdapter with the cursor
+        // Load the first page of tracks from the database
+        List<TrackSummary> list = mDbBinder.getOwnerGPSTrackSummaries(null, PAGE_SIZE);
+        // Initialize ExerciseListAdapter with the tracks
         mAdapter = new ExerciseListAdapter(getActivity(), this, list);
         // Set the adapter for the RecyclerView
         mRecyclerView.setAdapter(mAdapter);
+        mRecyclerView.clearOnScrollListeners();
+        if (list.size() < PAGE_SIZE) return;
+        mRecyclerView.addOnScrollListener(new PagingScrollListener() {
+            @Override
+            public boolean onLoadMore() {
+                if (mDbBinder == null) return true;
+                TrackSummary last = mAdapter.getTrackAt(mAdapter.getItemCount() - 1);
+                List<TrackSummary> page = mDbBinder.getOwnerGPSTrackSummaries(last, PAGE_SIZE);
+                mAdapter.addTracks(page);
+                return page.size() == PAGE_SIZE;
+            }
+        });
     }
 
 
     @Override
     public void onPause() {
         super.onPause();
+        EventBus.getDefault().unregister(this);
         getActivity().unbindService(this);
     }
 
@@ -141,10 +169,26 @@ public class ExerciseHistoryFragment extends Fragment implements ServiceConnecti
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // The exercise history is loaded once the database is open
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
+        } else {
+            populateExerciseHistory();
+        }
+    }
+
+
+    /**
+     * Callback called by EventBus if there is a new DatabaseAvailabilityEvent
+     * @param ev The event
+     */
+    @SuppressWarnings("unused")
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
+        if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED && mDbBinder != null) {
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Database opened, loading exercise history");
+            populateExerciseHistory();
+        } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPEN_FAILED) {
+            Toast.makeText(getActivity(), "Could not open database", Toast.LENGTH_SHORT).show();
         }
-        // Populate the track list
-        populateExerciseHistory();
     }
 
 
@@ -6,7 +6,6 @@ import android.content.DialogInterface;
 import android.content.Intent;
 import android.content.ServiceConnection;
 import android.graphics.Bitmap;
-import android.location.Location;
 import android.os.Bundle;
 import android.os.IBinder;
 import android.support.v7.app.ActionBar;
@@ -46,9 +45,12 @@ import org.joda.time.format.DateTimeFormat;
 import java.util.LinkedList;
 import java.util.List;
 
+import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.data.Friend;
 import de.velcommuta.denul.data.GPSTrack;
+import de.velcommuta.denul.data.TrackPoints;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.ui.dialog.DeleteDialog;
@@ -87,6 +89,7 @@ public class ExerciseViewActivity extends AppCompatActivity implements ServiceCo
         ActionBar ab = getSupportActionBar();
         ab.setDisplayHomeAsUpEnabled(true);
 
+        EventBus.getDefault().register(this);
         requestDatabaseBinder();
         Bundle b = getIntent().getExtras();
         if (b != null) {
@@ -184,6 +187,7 @@ public class ExerciseViewActivity extends AppCompatActivity implements ServiceCo
     @Override
     protected void onDestroy() {
         super.onDestroy();
+        EventBus.getDefault().unregister(this);
         unbindService(this);
     }
 
@@ -209,7 +213,7 @@ public class ExerciseViewActivity extends AppCompatActivity implements ServiceCo
     private void loadTrackInformation() {
         // Load track
         mTrack = mDbBinder.getGPSTrackById(mTrackId);
-        if (mTrack.getPosition().size() != 0) {
+        if (mTrack.getPoints().size() != 0) {
             // Get a reference to the Map fragment and perform an async. initialization
             MapFragment mapFragment = (MapFragment) getFragmentManager().findFragmentById(R.id.exc_view_gmap);
             mapFragment.getMapAsync(this);
@@ -250,9 +254,26 @@ public class ExerciseViewActivity extends AppCompatActivity implements ServiceCo
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // The track information is loaded once the database is open
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
+        } else {
+            loadTrackInformation();
+        }
+    }
+
+
+    /**
+     * Callback called by EventBus if there is a new DatabaseAvailabilityEvent
+     * @param ev The event
+     */
+    @SuppressWarnings("unused")
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
+        if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED && mDbBinder != null) {
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Database opened, loading track information");
+            loadTrackInformation();
+        } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPEN_FAILED) {
+            Toast.makeText(this, "Could not open database", Toast.LENGTH_SHORT).show();
         }
-        loadTrackInformation();
     }
 
 
@@ -276,36 +297,37 @@ public class ExerciseViewActivity extends AppCompatActivity implements ServiceCo
      * Draw the path in the {@link GPSTrack} object
      */
     private void drawPath() {
+        TrackPoints points = mTrack.getPoints();
         // if the map has already been drawn to, just return
-        if ((mStartMarker != null && mEndMarker != null && mPolyline != null) || mTrack.getPosition().size() == 0) return;
+        if ((mStartMarker != null && mEndMarker != null && mPolyline != null) || points.size() == 0) return;
         // Draw start marker
-        Location start = mTrack.getPosition().get(0);
+        LatLng start = points.getLatLng(0);
         // Set icon for start of route
         IconGenerator ig = new IconGenerator(this);
         ig.setStyle(IconGenerator.STYLE_GREEN);
         Bitmap startPoint = ig.makeIcon("Start");
         mStartMarker = mMap.addMarker(new MarkerOptions()
                 .icon(BitmapDescriptorFactory.fromBitmap(startPoint))
-                .position(new LatLng(start.getLatitude(), start.getLongitude())));
+                .position(start));
 
         // Draw polyline and prepare LatLngBounds object for later camera zoom
         PolylineOptions poptions = new PolylineOptions();
         LatLngBounds.Builder latlngbounds = new LatLngBounds.Builder();
-        for (Location l : mTrack.getPosition()) {
-            poptions.add(new LatLng(l.getLatitude(), l.getLongitude()));
-            latlngbounds.include(new LatLng(l.getLatitude(), l.getLongitude()));
+        for (LatLng l : points.asLatLngs()) {
+            poptions.add(l);
+            latlngbounds.include(l);
         }
         mPolyline = mMap.addPolyline(poptions);
 
         // Get final position
-        Location finalPos = mTrack.getPosition().get(mTrack.getPosition().size()-1);
+        LatLng finalPos = points.getLatLng(points.size() - 1);
         // Set up style
         ig.setStyle(IconGenerator.STYLE_RED);
         Bitmap endPoint = ig.makeIcon("Finish");
         // Create marker
         mEndMarker = mMap.addMarker(new MarkerOptions()
                 .icon(BitmapDescriptorFactory.fromBitmap(endPoint))
-                .position(new LatLng(finalPos.getLatitude(), finalPos.getLongitude())));
+                .position(finalPos));
 
         // Move the camera to show the whole path
         // Code credit: http://stackoverflow.com/a/14828739/1232833
@@ -324,7 +324,7 @@ public class FriendAddActivity extends AppCompatActivity implements
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
         }
     }
 
@@ -20,10 +20,12 @@ import android.widget.Toast;
 
 import java.util.List;
 
+import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.data.Friend;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.ui.adapter.FriendListAdapter;
 import de.velcommuta.denul.ui.view.EmptyRecyclerView;
 import de.velcommuta.denul.util.FriendManager;
@@ -110,12 +112,14 @@ public class FriendListFragment extends Fragment implements ServiceConnection,
     @Override
     public void onResume() {
         super.onResume();
+        EventBus.getDefault().register(this);
         // Get a database binder (once it is connected, the UI will be filled)
         bindDbService();
     }
 
     public void onPause() {
         super.onPause();
+        EventBus.getDefault().unregister(this);
         // Disconnect from the database service
         getActivity().unbindService(this);
     }
@@ -152,10 +156,26 @@ public class FriendListFragment extends Fragment implements ServiceConnection,
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // The friend list is loaded once the database is open
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
+        } else {
+            populateFriendList();
+        }
+    }
+
+
+    /**
+     * Callback called by EventBus if there is a new DatabaseAvailabilityEvent
+     * @param ev The event
+     */
+    @SuppressWarnings("unused")
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
+        if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED && mDbBinder != null) {
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Database opened, loading friend list");
+            populateFriendList();
+        } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPEN_FAILED) {
+            Toast.makeText(getActivity(), "Could not open database", Toast.LENGTH_SHORT).show();
         }
-        // Populate the list of friends
-        populateFriendList();
     }
 
 
@@ -29,8 +29,10 @@ import com.google.zxing.integration.android.IntentIntegrator;
 import com.google.zxing.integration.android.IntentResult;
 import com.google.zxing.qrcode.QRCodeWriter;
 
+import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.data.KeySet;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.data.Friend;
@@ -66,6 +68,7 @@ public class FriendViewActivity extends AppCompatActivity implements ServiceConn
             ab.setDisplayHomeAsUpEnabled(true);
         }
 
+        EventBus.getDefault().register(this);
         requestDatabaseBinder();
         Bundle b = getIntent().getExtras();
         if (b != null) {
@@ -145,6 +148,7 @@ public class FriendViewActivity extends AppCompatActivity implements ServiceConn
     @Override
     protected void onDestroy() {
         super.onDestroy();
+        EventBus.getDefault().unregister(this);
         unbindService(this);
     }
 
@@ -170,9 +174,26 @@ public class FriendViewActivity extends AppCompatActivity implements ServiceConn
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // The friend information is loaded once the database is open
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
+        } else {
+            loadFriendInformation();
+        }
+    }
+
+
+    /**
+     * Callback called by EventBus if there is a new DatabaseAvailabilityEvent
+     * @param ev The event
+     */
+    @SuppressWarnings("unused")
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
+        if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED && mDbBinder != null) {
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Database opened, loading friend information");
+            loadFriendInformation();
+        } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPEN_FAILED) {
+            Toast.makeText(this, "Could not open database", Toast.LENGTH_SHORT).show();
         }
-        loadFriendInformation();
     }
 
 
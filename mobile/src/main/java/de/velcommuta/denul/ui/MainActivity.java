@@ -29,6 +29,7 @@ import java.security.KeyPair;
 import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
+import de.velcommuta.denul.networking.ConnectionManager;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.service.PedometerService;
@@ -62,6 +63,8 @@ public class MainActivity extends AppCompatActivity
             //        .sendNoSubscriberEvent(false)
             //        .installDefaultEventBus();
         }
+        // Persist the VICBF of the server, so that only changes need to be retrieved after a restart
+        ConnectionManager.setCacheDirectory(getCacheDir());
         // Launch pedometer service if it is not running
         if (!PedometerService.isRunning(this)) {
             String pubkey = getSharedPreferences(getString(R.string.preferences_keystore), Context.MODE_PRIVATE).getString(getString(R.string.preferences_keystore_rsapub), null);
@@ -325,7 +328,8 @@ public class MainActivity extends AppCompatActivity
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // Run the key derivation in the background, the fragments are notified when it is done
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
         }
     }
 
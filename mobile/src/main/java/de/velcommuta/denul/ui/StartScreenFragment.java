@@ -5,6 +5,7 @@ import android.content.ComponentName;
 import android.content.Intent;
 import android.content.ServiceConnection;
 import android.net.Uri;
+import android.os.AsyncTask;
 import android.os.Bundle;
 import android.app.Fragment;
 import android.os.IBinder;
@@ -19,16 +20,17 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Toast;
 
-import java.util.LinkedList;
 import java.util.List;
 
+import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
-import de.velcommuta.denul.data.GPSTrack;
-import de.velcommuta.denul.data.Shareable;
+import de.velcommuta.denul.data.TrackSummary;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.ui.adapter.SocialStreamAdapter;
 import de.velcommuta.denul.ui.view.EmptyRecyclerView;
+import de.velcommuta.denul.ui.view.PagingScrollListener;
 import de.velcommuta.denul.util.ShareManager;
 
 
@@ -40,9 +42,14 @@ public class StartScreenFragment extends Fragment implements ServiceConnection,
         ShareManager.ShareManagerCallback {
     private static final String TAG = "StartScreenFragment";
 
+    // Number of tracks loaded at once
+    private static final int PAGE_SIZE = 20;
+
     private DatabaseServiceBinder mBinder;
     private EmptyRecyclerView mRecycler;
     private SocialStreamAdapter mAdapter;
+    // Task loading the next page of tracks, or null if no page is being loaded
+    private LoadPageTask mPageTask;
 
     /**
      * Use this factory method to create a new instance of
@@ -100,11 +107,14 @@ public class StartScreenFragment extends Fragment implements ServiceConnection,
 
     public void onPause() {
         super.onPause();
+        cancelPageTask();
+        EventBus.getDefault().unregister(this);
         getActivity().unbindService(this);
     }
 
     public void onResume() {
         super.onResume();
+        EventBus.getDefault().register(this);
         bindDbService();
     }
 
@@ -129,15 +139,38 @@ public class StartScreenFragment extends Fragment implements ServiceConnection,
 
 
     /**
-     * Populate the social stream
+     * Populate the social stream with the first page of tracks. Further pages are loaded while
+     * scrolling.
      */
     private void populateSocialStream() {
-        List<Shareable> tracks = new LinkedList<>();
-        for (GPSTrack track : mBinder.getGPSTracks()) {
-            tracks.add(track);
-        }
+        cancelPageTask();
+        List<TrackSummary> tracks = mBinder.getGPSTrackSummaries(null, PAGE_SIZE);
         mAdapter = new SocialStreamAdapter(getActivity(), this, tracks, mBinder);
         mRecycler.setAdapter(mAdapter);
+        mRecycler.clearOnScrollListeners();
+        if (tracks.size() < PAGE_SIZE) return;
+        mRecycler.addOnScrollListener(new PagingScrollListener() {
+            @Override
+            public boolean onLoadMore() {
+                if (mBinder == null || mPageTask != null) return true;
+                TrackSummary last = mAdapter.getTrackAt(mAdapter.getItemCount() - 1);
+                mPageTask = new LoadPageTask(mBinder, mAdapter);
+                mPageTask.execute(last);
+                // Whether further pages exist is only known once the page has been loaded
+                return true;
+            }
+        });
+    }
+
+
+    /**
+     * Cancel loading the next page of tracks, if a page is being loaded
+     */
+    private void cancelPageTask() {
+        if (mPageTask != null) {
+            mPageTask.cancel(false);
+            mPageTask = null;
+        }
     }
 
     @Override
@@ -146,10 +179,26 @@ public class StartScreenFragment extends Fragment implements ServiceConnection,
         mBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mBinder.isDatabaseOpen()) {
-            mBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // The social stream is populated once the database is open
+            mBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
+        } else {
+            populateSocialStream();
+        }
+    }
+
+
+    /**
+     * Callback called by EventBus if there is a new DatabaseAvailabilityEvent
+     * @param ev The event
+     */
+    @SuppressWarnings("unused")
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
+        if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED && mBinder != null) {
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Database opened, populating social stream");
+            populateSocialStream();
+        } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPEN_FAILED) {
+            Toast.makeText(getActivity(), "Could not open database", Toast.LENGTH_SHORT).show();
         }
-        // Populate the list of friends
-        populateSocialStream();
     }
 
 
@@ -164,7 +213,7 @@ public class StartScreenFragment extends Fragment implements ServiceConnection,
     public void onItemClicked(int position) {
         Intent i = new Intent(getActivity(), ExerciseViewActivity.class);
         // TODO This will probably explode once other data types are added to the social stream
-        i.putExtra("track-id", mAdapter.getShareableAt(position).getID());
+        i.putExtra("track-id", mAdapter.getTrackAt(position).getID());
         startActivity(i);
     }
 
@@ -183,4 +232,41 @@ public class StartScreenFragment extends Fragment implements ServiceConnection,
         }
         else Toast.makeText(getActivity(), "Refresh failed", Toast.LENGTH_SHORT).show();
     }
+
+    ///// AsyncTasks
+    /**
+     * AsyncTask to load the page of tracks following a track in the background and append it to
+     * the social stream
+     */
+    private class LoadPageTask extends AsyncTask<TrackSummary, Void, List<TrackSummary>> {
+        private final DatabaseServiceBinder mTaskBinder;
+        private final SocialStreamAdapter mTaskAdapter;
+
+        /**
+         * Constructor
+         * @param binder The binder to load the tracks with
+         * @param adapter The adapter to append the tracks to
+         */
+        public LoadPageTask(DatabaseServiceBinder binder, SocialStreamAdapter adapter) {
+            mTaskBinder = binder;
+            mTaskAdapter = adapter;
+        }
+
+        @Override
+        protected List<TrackSummary> doInBackground(TrackSummary... last) {
+            return mTaskBinder.getGPSTrackSummaries(last[0], PAGE_SIZE);
+        }
+
+        @Override
+        protected void onPostExecute(List<TrackSummary> page) {
+            mPageTask = null;
+            // The social stream may have been repopulated in the meantime
+            if (mTaskAdapter != mAdapter) return;
+            mAdapter.addTracks(page);
+            if (page.size() < PAGE_SIZE) {
+                // This was the last page
+                mRecycler.clearOnScrollListeners();
+            }
+        }
+    }
 }
@@ -16,11 +16,14 @@ import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.LinearLayout;
+import android.widget.Toast;
 
 import java.util.List;
 
+import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.data.StudyRequest;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.ui.adapter.StudyListAdapter;
@@ -116,6 +119,7 @@ public class StudyListFragment extends Fragment implements ServiceConnection,
     @Override
     public void onResume() {
         super.onResume();
+        EventBus.getDefault().register(this);
         bindDbService();
     }
 
@@ -136,6 +140,7 @@ public class StudyListFragment extends Fragment implements ServiceConnection,
     @Override
     public void onPause() {
         super.onPause();
+        EventBus.getDefault().unregister(this);
         getActivity().unbindService(this);
     }
 
@@ -146,10 +151,26 @@ public class StudyListFragment extends Fragment implements ServiceConnection,
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // The study list is loaded once the database is open
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
+        } else {
+            populateStudyList();
+        }
+    }
+
+
+    /**
+     * Callback called by EventBus if there is a new DatabaseAvailabilityEvent
+     * @param ev The event
+     */
+    @SuppressWarnings("unused")
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
+        if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED && mDbBinder != null) {
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Database opened, loading study list");
+            populateStudyList();
+        } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPEN_FAILED) {
+            Toast.makeText(getActivity(), "Could not open database", Toast.LENGTH_SHORT).show();
         }
-        // Populate the track list
-        populateStudyList();
     }
 
 
@@ -18,8 +18,10 @@ import android.view.MenuItem;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import de.greenrobot.event.EventBus;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.data.StudyRequest;
+import de.velcommuta.denul.event.DatabaseAvailabilityEvent;
 import de.velcommuta.denul.service.DatabaseService;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 import de.velcommuta.denul.ui.dialog.StudyDialog;
@@ -62,6 +64,7 @@ public class StudyViewActivity extends AppCompatActivity implements ServiceConne
             ab.setDisplayHomeAsUpEnabled(true);
         }
 
+        EventBus.getDefault().register(this);
         requestDatabaseBinder();
         Bundle b = getIntent().getExtras();
         if (b != null) {
@@ -227,6 +230,7 @@ public class StudyViewActivity extends AppCompatActivity implements ServiceConne
     protected void onDestroy() {
         super.onDestroy();
         Log.d(TAG, "onDestroy: Called");
+        EventBus.getDefault().unregister(this);
         unbindService(this);
     }
 
@@ -252,9 +256,26 @@ public class StudyViewActivity extends AppCompatActivity implements ServiceConne
         mDbBinder = (DatabaseServiceBinder) iBinder;
         // TODO Debugging code, move to passphrase activity once it is added
         if (!mDbBinder.isDatabaseOpen()) {
-            mDbBinder.openDatabase("VerySecureHardcodedPasswordOlolol123");
+            // The study information is loaded once the database is open
+            mDbBinder.openDatabaseAsync("VerySecureHardcodedPasswordOlolol123");
+        } else {
+            loadStudyInformation();
+        }
+    }
+
+
+    /**
+     * Callback called by EventBus if there is a new DatabaseAvailabilityEvent
+     * @param ev The event
+     */
+    @SuppressWarnings("unused")
+    public void onEventMainThread(DatabaseAvailabilityEvent ev) {
+        if (ev.getStatus() == DatabaseAvailabilityEvent.OPENED && mDbBinder != null) {
+            Log.d(TAG, "onEventMainThread(DatabaseAvailabilityEvent): Database opened, loading study information");
+            loadStudyInformation();
+        } else if (ev.getStatus() == DatabaseAvailabilityEvent.OPEN_FAILED) {
+            Toast.makeText(this, "Could not open database", Toast.LENGTH_SHORT).show();
         }
-        loadStudyInformation();
     }
 
 
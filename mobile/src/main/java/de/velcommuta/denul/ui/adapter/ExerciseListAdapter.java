@@ -21,6 +21,7 @@ import java.util.List;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.data.Friend;
 import de.velcommuta.denul.data.GPSTrack;
+import de.velcommuta.denul.data.TrackSummary;
 
 /**
  * RecyclerView adapter for the exercise list
@@ -31,7 +32,7 @@ import de.velcommuta.denul.data.GPSTrack;
  * http://stackoverflow.com/a/27886458/1232833
  */
 public class ExerciseListAdapter extends RecyclerView.Adapter<ExerciseListAdapter.ViewHolder> {
-    private List<GPSTrack> mTracks;
+    private List<TrackSummary> mTracks;
     protected Context mContext;
     private Fragment mFragment;
     private int mPosition;
@@ -66,9 +67,9 @@ public class ExerciseListAdapter extends RecyclerView.Adapter<ExerciseListAdapte
 
         /**
          * Display a Friend in the held view
-         * @param track The {@link GPSTrack} to display
+         * @param track The {@link TrackSummary} to display
          */
-        public void display(GPSTrack track) {
+        public void display(TrackSummary track) {
             mEntryTitle.setText(track.getSessionName());
             // Display date of entry
             mEntrySubtitle.setText(DateTimeFormat.shortDateTime().print(new LocalDateTime(track.getTimestamp(), DateTimeZone.forID(track.getTimezone()))));
@@ -99,17 +100,28 @@ public class ExerciseListAdapter extends RecyclerView.Adapter<ExerciseListAdapte
 
     /**
      * Constructor, being passed the dataset to be displayed
-     * @param tracks A List of {@link GPSTrack} objects to display
+     * @param tracks A List of {@link TrackSummary} objects to display
      * @param frag The fragment embedding this List
      * @param ctx A Context
      */
-    public ExerciseListAdapter(Context ctx, Fragment frag, List<GPSTrack> tracks) {
+    public ExerciseListAdapter(Context ctx, Fragment frag, List<TrackSummary> tracks) {
         mTracks = tracks;
         mFragment = frag;
         mContext = ctx;
     }
 
 
+    /**
+     * Append further tracks to the displayed list
+     * @param tracks The tracks
+     */
+    public void addTracks(List<TrackSummary> tracks) {
+        int start = mTracks.size();
+        mTracks.addAll(tracks);
+        notifyItemRangeInserted(start, tracks.size());
+    }
+
+
     @Override
     public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
         View v = LayoutInflater.from(parent.getContext())
@@ -152,11 +164,11 @@ public class ExerciseListAdapter extends RecyclerView.Adapter<ExerciseListAdapte
 
 
     /**
-     * Get the Friend at the specified position in the List
+     * Get the track at the specified position in the List
      * @param position The position
-     * @return The friend at that position
+     * @return The track at that position
      */
-    public GPSTrack getTrackAt(int position) {
+    public TrackSummary getTrackAt(int position) {
         return mTracks.get(position);
     }
 
@@ -3,9 +3,10 @@ package de.velcommuta.denul.ui.adapter;
 import android.app.Fragment;
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.location.Location;
+import android.os.AsyncTask;
 import android.support.v7.widget.RecyclerView;
 import android.util.Log;
+import android.util.LruCache;
 import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -38,7 +39,8 @@ import java.util.List;
 import de.velcommuta.denul.R;
 import de.velcommuta.denul.data.Friend;
 import de.velcommuta.denul.data.GPSTrack;
-import de.velcommuta.denul.data.Shareable;
+import de.velcommuta.denul.data.TrackPoints;
+import de.velcommuta.denul.data.TrackSummary;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 
 /**
@@ -48,9 +50,17 @@ import de.velcommuta.denul.service.DatabaseServiceBinder;
  * http://stackoverflow.com/a/27945635/1232833
  * Context menu implementation adapted from
  * http://stackoverflow.com/a/27886458/1232833
+ *
+ * The adapter only holds the metadata of the tracks. The points of a track are loaded in the
+ * background when its path is about to be drawn, and the points of recently displayed tracks are
+ * cached.
  */
 public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapter.ViewHolder> {
-    private List<Shareable> mShares;
+    // Maximum number of points kept in the cache
+    private static final int MAX_CACHED_POINTS = 100000;
+
+    private List<TrackSummary> mTracks;
+    private LruCache<Integer, TrackPoints> mPoints;
     protected DatabaseServiceBinder mBinder;
     protected Context mContext;
     private Fragment mFragment;
@@ -77,7 +87,11 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
         private TextView mDescription;
 
         // instance variables for track fragments with map
-        private GPSTrack mTrack;
+        private TrackSummary mTrack;
+        private Friend mFriend;
+        // The points of the track, or null if they have not been loaded yet
+        private TrackPoints mTrackPoints;
+        private LoadPointsTask mLoadTask;
         private GoogleMap mMap;
         private Marker mStartMarker;
         private Marker mEndMarker;
@@ -103,32 +117,34 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
 
 
         /**
-         * Display a shareable in the held view
-         * @param share The shareable to display
-         */
-        public void display(Shareable share) {
-            switch (share.getType()) {
-                case Shareable.SHAREABLE_TRACK:
-                    displayGPSTrack((GPSTrack) share);
-                    break;
-                // TODO Add further stuff here
-            }
-        }
-
-
-        /**
-         * Display the data from a GPSTrack object
+         * Display the data from a TrackSummary object. The points of the track are only taken from
+         * the cache here, and loaded in the background once the map is ready if necessary.
          * @param track The track to display
          */
-        private void displayGPSTrack(GPSTrack track) {
+        public void display(TrackSummary track) {
+            if (mTrack != null && mTrack.getID() != track.getID()) {
+                // The view is recycled for another track, remove the path of the previous one
+                if (mMap != null) {
+                    mMap.clear();
+                    mStartMarker = null;
+                    mEndMarker = null;
+                    mPolyline = null;
+                }
+                if (mLoadTask != null) {
+                    mLoadTask.cancel(false);
+                    mLoadTask = null;
+                }
+            }
             mTrack = track;
+            mTrackPoints = mPoints.get(track.getID());
             Friend friend = null;
             if (track.getOwner() != -1) {
                 friend = mBinder.getFriendById(track.getOwner());
             }
-            if (track.getPosition().size() != 0) {
+            mFriend = friend;
+            if (mTrackPoints == null || mTrackPoints.size() != 0) {
                 if (mMap != null) {
-                    drawPath();
+                    showPath();
                 } else {
                     mIllustration.removeAllViews();
                     // Prepare google map options
@@ -145,19 +161,7 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
                     mapView.setClickable(false);
                 }
             } else {
-                // No location data was shared. Add a notice saying as much
-                mIllustration.removeAllViews();
-                mMap = null;
-                TextView textNotice = new TextView(mContext);
-                if (friend != null) {
-                    textNotice.setText(String.format(mContext.getString(R.string.social_stream_no_location_shared), friend.getName()));
-                } else {
-                    textNotice.setText(mContext.getString(R.string.social_stream_no_location_available));
-                }
-                FrameLayout.LayoutParams lp = new FrameLayout.LayoutParams( FrameLayout.LayoutParams.WRAP_CONTENT, FrameLayout.LayoutParams.WRAP_CONTENT );
-                lp.gravity = Gravity.CENTER;
-                textNotice.setLayoutParams(lp);
-                mIllustration.addView(textNotice);
+                showNoLocationNotice();
             }
             // Set up the title bar
             if (friend != null) {
@@ -196,7 +200,7 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
                 mDescription.setVisibility(View.GONE);
             }
             // Set up the share count
-            int shares = mBinder.getShareRecipientsForShareable(mTrack).size();
+            int shares = track.getShareCount();
             if (shares > 0) {
                 mShareIcon.setVisibility(View.VISIBLE);
                 mShareCount.setVisibility(View.VISIBLE);
@@ -211,43 +215,102 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
         @Override
         public void onMapReady(GoogleMap googleMap) {
             mMap = googleMap;
-            drawPath();
+            showPath();
+        }
+
+
+        /**
+         * Replace the map with a notice that no location data is available for the track
+         */
+        private void showNoLocationNotice() {
+            // No location data was shared. Add a notice saying as much
+            mIllustration.removeAllViews();
+            mMap = null;
+            mStartMarker = null;
+            mEndMarker = null;
+            mPolyline = null;
+            TextView textNotice = new TextView(mContext);
+            if (mFriend != null) {
+                textNotice.setText(String.format(mContext.getString(R.string.social_stream_no_location_shared), mFriend.getName()));
+            } else {
+                textNotice.setText(mContext.getString(R.string.social_stream_no_location_available));
+            }
+            FrameLayout.LayoutParams lp = new FrameLayout.LayoutParams( FrameLayout.LayoutParams.WRAP_CONTENT, FrameLayout.LayoutParams.WRAP_CONTENT );
+            lp.gravity = Gravity.CENTER;
+            textNotice.setLayoutParams(lp);
+            mIllustration.addView(textNotice);
+        }
+
+
+        /**
+         * Draw the path of the displayed track, loading its points in the background first if
+         * they are not cached
+         */
+        private void showPath() {
+            if (mTrackPoints != null) {
+                drawPath();
+            } else if (mLoadTask == null) {
+                mLoadTask = new LoadPointsTask(this, mTrack);
+                mLoadTask.execute();
+            }
+        }
+
+
+        /**
+         * Called once the points of a track have been loaded in the background
+         * @param task The task that loaded the points
+         * @param track The track the points belong to
+         * @param points The points of the track
+         */
+        private void onPointsLoaded(LoadPointsTask task, TrackSummary track, TrackPoints points) {
+            if (task != mLoadTask || mTrack.getID() != track.getID()) {
+                // The view has been recycled for another track in the meantime
+                return;
+            }
+            mLoadTask = null;
+            mTrackPoints = points;
+            if (points.size() == 0) {
+                showNoLocationNotice();
+            } else if (mMap != null) {
+                drawPath();
+            }
         }
 
         /**
-         * Draw the path in the {@link GPSTrack} object
+         * Draw the path of the displayed track
          */
         private void drawPath() {
+            TrackPoints points = mTrackPoints;
             // if the map has already been drawn to, just return
-            if ((mStartMarker != null && mEndMarker != null && mPolyline != null) || mTrack.getPosition().size() == 0) return;
+            if ((mStartMarker != null && mEndMarker != null && mPolyline != null) || points.size() == 0) return;
             // Draw start marker
-            Location start = mTrack.getPosition().get(0);
+            LatLng start = points.getLatLng(0);
             // Set icon for start of route
             IconGenerator ig = new IconGenerator(mContext);
             ig.setStyle(IconGenerator.STYLE_GREEN);
             Bitmap startPoint = ig.makeIcon("Start");
             mStartMarker = mMap.addMarker(new MarkerOptions()
                     .icon(BitmapDescriptorFactory.fromBitmap(startPoint))
-                    .position(new LatLng(start.getLatitude(), start.getLongitude())));
+                    .position(start));
 
             // Draw polyline and prepare LatLngBounds object for later camera zoom
             PolylineOptions poptions = new PolylineOptions();
             LatLngBounds.Builder latlngbounds = new LatLngBounds.Builder();
-            for (Location l : mTrack.getPosition()) {
-                poptions.add(new LatLng(l.getLatitude(), l.getLongitude()));
-                latlngbounds.include(new LatLng(l.getLatitude(), l.getLongitude()));
+            for (LatLng l : points.asLatLngs()) {
+                poptions.add(l);
+                latlngbounds.include(l);
             }
             mPolyline = mMap.addPolyline(poptions);
 
             // Get final position
-            Location finalPos = mTrack.getPosition().get(mTrack.getPosition().size()-1);
+            LatLng finalPos = points.getLatLng(points.size() - 1);
             // Set up style
             ig.setStyle(IconGenerator.STYLE_RED);
             Bitmap endPoint = ig.makeIcon("Finish");
             // Create marker
             mEndMarker = mMap.addMarker(new MarkerOptions()
                     .icon(BitmapDescriptorFactory.fromBitmap(endPoint))
-                    .position(new LatLng(finalPos.getLatitude(), finalPos.getLongitude())));
+                    .position(finalPos));
 
             // Move the camera to show the whole path
             // Code credit: http://stackoverflow.com/a/14828739/1232833
@@ -265,16 +328,63 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
 
     /**
      * Constructor, being passed the dataset to be displayed
-     * @param shares A List of {@link Shareable} objects to display
+     * @param tracks A List of {@link TrackSummary} objects to display
      * @param frag The fragment embedding this List
      * @param ctx A Context
      * @param binder A {@link DatabaseServiceBinder}
      */
-    public SocialStreamAdapter(Context ctx, Fragment frag, List<Shareable> shares, DatabaseServiceBinder binder) {
-        mShares = shares;
+    public SocialStreamAdapter(Context ctx, Fragment frag, List<TrackSummary> tracks, DatabaseServiceBinder binder) {
+        mTracks = tracks;
         mFragment = frag;
         mContext = ctx;
         mBinder = binder;
+        mPoints = new LruCache<Integer, TrackPoints>(MAX_CACHED_POINTS) {
+            @Override
+            protected int sizeOf(Integer key, TrackPoints value) {
+                return Math.max(1, value.size());
+            }
+        };
+    }
+
+
+    /**
+     * Append further tracks to the displayed list
+     * @param tracks The tracks
+     */
+    public void addTracks(List<TrackSummary> tracks) {
+        int start = mTracks.size();
+        mTracks.addAll(tracks);
+        notifyItemRangeInserted(start, tracks.size());
+    }
+
+
+    /**
+     * AsyncTask to load the points of a track from the database in the background and cache them
+     */
+    private class LoadPointsTask extends AsyncTask<Void, Void, TrackPoints> {
+        private final ViewHolder mHolder;
+        private final TrackSummary mTrack;
+
+        /**
+         * Constructor
+         * @param holder The ViewHolder displaying the track
+         * @param track The track to load the points of
+         */
+        public LoadPointsTask(ViewHolder holder, TrackSummary track) {
+            mHolder = holder;
+            mTrack = track;
+        }
+
+        @Override
+        protected TrackPoints doInBackground(Void... v) {
+            return mBinder.getGPSTrackPoints(mTrack.getID());
+        }
+
+        @Override
+        protected void onPostExecute(TrackPoints points) {
+            mPoints.put(mTrack.getID(), points);
+            mHolder.onPointsLoaded(this, mTrack, points);
+        }
     }
 
 
@@ -289,7 +399,7 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
 
     @Override
     public void onBindViewHolder(final ViewHolder holder, final int position) {
-        holder.display(mShares.get(position));
+        holder.display(mTracks.get(position));
         holder.mHeldView.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -315,17 +425,17 @@ public class SocialStreamAdapter extends RecyclerView.Adapter<SocialStreamAdapte
 
     @Override
     public int getItemCount() {
-        return mShares.size();
+        return mTracks.size();
     }
 
 
     /**
-     * Get the Friend at the specified position in the List
+     * Get the track at the specified position in the List
      * @param position The position
-     * @return The friend at that position
+     * @return The track at that position
      */
-    public Shareable getShareableAt(int position) {
-        return mShares.get(position);
+    public TrackSummary getTrackAt(int position) {
+        return mTracks.get(position);
     }
 
 
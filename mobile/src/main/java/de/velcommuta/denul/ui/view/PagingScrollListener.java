@@ -0,0 +1,32 @@
+package de.velcommuta.denul.ui.view;
+
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+
+/**
+ * Scroll listener for a RecyclerView with a {@link LinearLayoutManager} that requests the next page
+ * of data once the user scrolls close to the end of the loaded items.
+ */
+public abstract class PagingScrollListener extends RecyclerView.OnScrollListener {
+    // Number of items below the last visible one at which the next page is requested
+    private static final int THRESHOLD = 5;
+
+    private boolean mExhausted = false;
+
+
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+        if (mExhausted || dy <= 0) return;
+        LinearLayoutManager manager = (LinearLayoutManager) recyclerView.getLayoutManager();
+        if (manager.findLastVisibleItemPosition() + THRESHOLD >= manager.getItemCount()) {
+            mExhausted = !onLoadMore();
+        }
+    }
+
+
+    /**
+     * Called when the next page of data should be loaded and added to the adapter
+     * @return true if further pages may exist, false if the last page has been loaded
+     */
+    public abstract boolean onLoadMore();
+}
@@ -0,0 +1,138 @@
+package de.velcommuta.denul.util;
+
+import android.util.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedList;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * zlib compression helper functions. The Deflater and Inflater instances are pooled, as each of
+ * them allocates a considerable amount of native memory that is only released when they are ended.
+ */
+public class Compression {
+    private static final String TAG = "Compression";
+
+    // Size of the buffer the data is streamed through
+    private static final int BUFFER_SIZE = 8 * 1024;
+    // Maximum number of idle Deflaters and Inflaters kept in the pools
+    private static final int POOL_SIZE = 4;
+
+    private static final LinkedList<Deflater> sDeflaters = new LinkedList<>();
+    private static final LinkedList<Inflater> sInflaters = new LinkedList<>();
+
+    /**
+     * zlib-compress a byte[]
+     * @param data The data to compress
+     * @return The compressed data
+     */
+    public static byte[] deflate(byte[] data) {
+        Deflater deflater = takeDeflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            returnDeflater(deflater);
+        }
+    }
+
+
+    /**
+     * Decompress zlib-compressed data
+     * @param compressed The compressed data
+     * @param maxSize The maximum size of the decompressed data, in bytes
+     * @return The decompressed data, or null, if the data was invalid, truncated or larger than
+     *         maxSize
+     */
+    public static byte[] inflate(byte[] compressed, int maxSize) {
+        Inflater inflater = takeInflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(maxSize, compressed.length * 4));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    Log.e(TAG, "inflate: Compressed data is truncated, aborting");
+                    return null;
+                }
+                if (out.size() + n > maxSize) {
+                    Log.e(TAG, "inflate: Decompressed data exceeds " + maxSize + " bytes, aborting");
+                    return null;
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            Log.e(TAG, "inflate: Invalid data format, aborting");
+            return null;
+        } finally {
+            returnInflater(inflater);
+        }
+    }
+
+
+    /**
+     * Take a Deflater from the pool, or create a new one if the pool is empty
+     * @return The Deflater
+     */
+    private static Deflater takeDeflater() {
+        synchronized (sDeflaters) {
+            if (!sDeflaters.isEmpty()) return sDeflaters.removeFirst();
+        }
+        return new Deflater();
+    }
+
+
+    /**
+     * Reset a Deflater and return it to the pool, or release it if the pool is full
+     * @param deflater The Deflater
+     */
+    private static void returnDeflater(Deflater deflater) {
+        deflater.reset();
+        synchronized (sDeflaters) {
+            if (sDeflaters.size() < POOL_SIZE) {
+                sDeflaters.addFirst(deflater);
+                return;
+            }
+        }
+        deflater.end();
+    }
+
+
+    /**
+     * Take an Inflater from the pool, or create a new one if the pool is empty
+     * @return The Inflater
+     */
+    private static Inflater takeInflater() {
+        synchronized (sInflaters) {
+            if (!sInflaters.isEmpty()) return sInflaters.removeFirst();
+        }
+        return new Inflater();
+    }
+
+
+    /**
+     * Reset an Inflater and return it to the pool, or release it if the pool is full
+     * @param inflater The Inflater
+     */
+    private static void returnInflater(Inflater inflater) {
+        inflater.reset();
+        synchronized (sInflaters) {
+            if (sInflaters.size() < POOL_SIZE) {
+                sInflaters.addFirst(inflater);
+                return;
+            }
+        }
+        inflater.end();
+    }
+}
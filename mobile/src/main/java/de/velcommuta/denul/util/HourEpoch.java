@@ -0,0 +1,69 @@
+package de.velcommuta.denul.util;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Conversion between the local hours used by the pedometer and epoch-hour keys, i.e. integer
+ * numbers of hours since the epoch, as stored in the step count table of the database.
+ */
+public class HourEpoch {
+    /**
+     * Convert the hour containing a timestamp into its epoch-hour key. In time zones whose offset
+     * is not a whole number of hours, a local hour starts in the middle of a UTC hour. The key is
+     * then the first full UTC hour that starts within the local hour, so that every local hour
+     * still maps to exactly one key and {@link #toDateTime(long, DateTimeZone)} can reverse the
+     * conversion.
+     * @param dt The timestamp
+     * @return The epoch-hour key of the local hour containing the timestamp
+     */
+    public static long fromDateTime(DateTime dt) {
+        long start = dt.hourOfDay().roundFloorCopy().getMillis();
+        long hour = start / DateTimeConstants.MILLIS_PER_HOUR;
+        if (hour * DateTimeConstants.MILLIS_PER_HOUR < start) hour++;
+        return hour;
+    }
+
+
+    /**
+     * Convert the hour containing a timestamp into its epoch-hour key, like
+     * {@link #fromDateTime(DateTime)}, but without allocating a DateTime
+     * @param millis The timestamp, in milliseconds since the epoch
+     * @param zone The time zone of the local hour
+     * @return The epoch-hour key of the local hour containing the timestamp
+     */
+    public static long fromMillis(long millis, DateTimeZone zone) {
+        int offset = zone.getOffset(millis);
+        long local = millis + offset;
+        // Floor towards negative infinity, for timestamps before the epoch
+        long localHour = local / DateTimeConstants.MILLIS_PER_HOUR;
+        if (local < 0 && localHour * DateTimeConstants.MILLIS_PER_HOUR != local) localHour--;
+        long start = localHour * DateTimeConstants.MILLIS_PER_HOUR - offset;
+        long hour = start / DateTimeConstants.MILLIS_PER_HOUR;
+        if (hour * DateTimeConstants.MILLIS_PER_HOUR < start) hour++;
+        return hour;
+    }
+
+
+    /**
+     * Convert an epoch-hour key into the start of the local hour it represents in the default
+     * time zone
+     * @param hour The epoch-hour key
+     * @return The start of the local hour
+     */
+    public static DateTime toDateTime(long hour) {
+        return toDateTime(hour, DateTimeZone.getDefault());
+    }
+
+
+    /**
+     * Convert an epoch-hour key into the start of the local hour it represents
+     * @param hour The epoch-hour key
+     * @param zone The time zone of the local hour
+     * @return The start of the local hour
+     */
+    public static DateTime toDateTime(long hour, DateTimeZone zone) {
+        return new DateTime(hour * DateTimeConstants.MILLIS_PER_HOUR, zone).hourOfDay().roundFloorCopy();
+    }
+}
@@ -0,0 +1,164 @@
+package de.velcommuta.denul.util;
+
+import org.joda.time.DateTime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable list of hourly step counts, as parallel arrays of epoch-hour keys (see
+ * {@link HourEpoch}) and step counts, sorted by hour. Each hour occurs at most once. Lists from
+ * several sources can be summed up with a single pass over all of them, see {@link #sum(List)}.
+ */
+public class HourlyStepCounts {
+    private final long[] mHours;
+    private final long[] mSteps;
+
+    /**
+     * Constructor
+     * @param hours The epoch-hour keys, strictly ascending
+     * @param steps The step counts of the hours
+     */
+    public HourlyStepCounts(long[] hours, long[] steps) {
+        if (hours.length != steps.length) throw new IllegalArgumentException("Length mismatch");
+        for (int i = 1; i < hours.length; i++) {
+            if (hours[i] <= hours[i - 1]) throw new IllegalArgumentException("Hours not strictly ascending");
+        }
+        mHours = hours;
+        mSteps = steps;
+    }
+
+
+    /**
+     * Create a list of step counts from a map
+     * @param steps The step counts, keyed by hour
+     * @return The sorted step counts
+     */
+    public static HourlyStepCounts fromMap(Map<DateTime, Long> steps) {
+        long[] hours = new long[steps.size()];
+        long[] values = new long[steps.size()];
+        int i = 0;
+        for (Map.Entry<DateTime, Long> entry : steps.entrySet()) {
+            // Pack hour and index into one long, so that a single sort orders both arrays,
+            // see StepCountCodec
+            hours[i] = HourEpoch.fromDateTime(entry.getKey()) << 32 | i;
+            values[i] = entry.getValue();
+            i++;
+        }
+        Arrays.sort(hours);
+        long[] sortedValues = new long[values.length];
+        for (i = 0; i < hours.length; i++) {
+            sortedValues[i] = values[(int) hours[i]];
+            hours[i] >>>= 32;
+        }
+        return new HourlyStepCounts(hours, sortedValues);
+    }
+
+
+    /**
+     * Sum up lists of step counts with a k-way merge. Every list is read once, and the result is
+     * written into arrays without intermediate maps or boxing.
+     * @param lists The lists of step counts
+     * @return The step counts of all lists, summed up per hour
+     */
+    public static HourlyStepCounts sum(List<HourlyStepCounts> lists) {
+        int k = lists.size();
+        int total = 0;
+        HourlyStepCounts[] sources = lists.toArray(new HourlyStepCounts[k]);
+        for (HourlyStepCounts list : sources) total += list.size();
+        long[] hours = new long[total];
+        long[] steps = new long[total];
+        // Binary min-heap of the indices of the lists that are not exhausted, ordered by the hour
+        // at their cursor
+        int[] heap = new int[k];
+        int[] cursor = new int[k];
+        int heapSize = 0;
+        for (int i = 0; i < k; i++) {
+            if (sources[i].size() > 0) heap[heapSize++] = i;
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) siftDown(heap, heapSize, i, sources, cursor);
+        int n = 0;
+        while (heapSize > 0) {
+            int top = heap[0];
+            long hour = sources[top].mHours[cursor[top]];
+            long value = sources[top].mSteps[cursor[top]];
+            if (n > 0 && hours[n - 1] == hour) {
+                steps[n - 1] += value;
+            } else {
+                hours[n] = hour;
+                steps[n] = value;
+                n++;
+            }
+            cursor[top]++;
+            if (cursor[top] == sources[top].size()) heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, 0, sources, cursor);
+        }
+        return new HourlyStepCounts(Arrays.copyOf(hours, n), Arrays.copyOf(steps, n));
+    }
+
+
+    /**
+     * Restore the heap property below a node of the heap used by {@link #sum(List)}
+     * @param heap The heap of list indices
+     * @param size The size of the heap
+     * @param i The index of the node in the heap
+     * @param sources The lists
+     * @param cursor The cursors into the lists
+     */
+    private static void siftDown(int[] heap, int size, int i, HourlyStepCounts[] sources, int[] cursor) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && headOf(heap[left], sources, cursor) < headOf(heap[smallest], sources, cursor)) smallest = left;
+            if (right < size && headOf(heap[right], sources, cursor) < headOf(heap[smallest], sources, cursor)) smallest = right;
+            if (smallest == i) return;
+            int tmp = heap[i];
+            heap[i] = heap[smallest];
+            heap[smallest] = tmp;
+            i = smallest;
+        }
+    }
+
+
+    /**
+     * Get the hour at the cursor of a list
+     * @param list The index of the list
+     * @param sources The lists
+     * @param cursor The cursors into the lists
+     * @return The epoch-hour key at the cursor
+     */
+    private static long headOf(int list, HourlyStepCounts[] sources, int[] cursor) {
+        return sources[list].mHours[cursor[list]];
+    }
+
+
+    /**
+     * Getter for the number of hours in the list
+     * @return The number of hours
+     */
+    public int size() {
+        return mHours.length;
+    }
+
+
+    /**
+     * Getter for the hour at a position of the list
+     * @param i The position
+     * @return The epoch-hour key
+     */
+    public long getHour(int i) {
+        return mHours[i];
+    }
+
+
+    /**
+     * Getter for the step count at a position of the list
+     * @param i The position
+     * @return The step count
+     */
+    public long getSteps(int i) {
+        return mSteps[i];
+    }
+}
@@ -0,0 +1,150 @@
+package de.velcommuta.denul.util;
+
+import android.util.Log;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalescer for saves of a frequently changing state. Each call to {@link #request(Object)} hands
+ * in a snapshot of the state, and the coalescer makes sure that
+ * <ul>
+ *     <li>at most one save is scheduled or running at any time,</li>
+ *     <li>a save always writes the latest snapshot requested before it started, and snapshots
+ *     requested while a save is running are written by the next one,</li>
+ *     <li>saves start at least the save interval apart, no matter how many requests arrive.</li>
+ * </ul>
+ * The saves run on the given executor, and the interval is measured with the given clock, so both
+ * can be replaced in tests.
+ * @param <T> Type of the snapshots
+ */
+public class SaveCoalescer<T> {
+    private static final String TAG = "SaveCoalescer";
+
+    /**
+     * Monotonic clock measuring the save interval
+     */
+    public interface Clock {
+        /**
+         * Get the current time
+         * @return The current time in milliseconds
+         */
+        long now();
+    }
+
+    /**
+     * Writer of the snapshots
+     * @param <T> Type of the snapshots
+     */
+    public interface Saver<T> {
+        /**
+         * Write a snapshot. Called on the executor, never concurrently with itself.
+         * @param snapshot The latest requested snapshot
+         */
+        void save(T snapshot);
+    }
+
+    private final ScheduledExecutorService mExecutor;
+    private final Clock mClock;
+    private final long mInterval;
+    private final Saver<T> mSaver;
+
+    // All following fields are guarded by this
+    private T mLatest;
+    // True while a save is scheduled or running
+    private boolean mScheduled = false;
+    private boolean mShutdown = false;
+    private boolean mSaved = false;
+    private long mLastSave;
+    private ScheduledFuture<?> mPending;
+
+    private final Runnable mSaveRunnable = new Runnable() {
+        @Override
+        public void run() {
+            T snapshot;
+            synchronized (SaveCoalescer.this) {
+                snapshot = mLatest;
+                mLatest = null;
+                mPending = null;
+                mSaved = true;
+                mLastSave = mClock.now();
+            }
+            try {
+                if (snapshot != null) mSaver.save(snapshot);
+            } finally {
+                synchronized (SaveCoalescer.this) {
+                    mScheduled = false;
+                    // Snapshots requested during the save are written by the next one
+                    if (mLatest != null && !mShutdown) schedule();
+                }
+            }
+        }
+    };
+
+
+    /**
+     * Constructor
+     * @param executor The executor running the saves
+     * @param clock The clock measuring the save interval
+     * @param interval The minimum time between the starts of two saves, in milliseconds
+     * @param saver The writer of the snapshots
+     */
+    public SaveCoalescer(ScheduledExecutorService executor, Clock clock, long interval, Saver<T> saver) {
+        if (interval < 0) throw new IllegalArgumentException("Interval must not be negative");
+        mExecutor = executor;
+        mClock = clock;
+        mInterval = interval;
+        mSaver = saver;
+    }
+
+
+    /**
+     * Request a save of a snapshot. If a save is already scheduled, the snapshot replaces the one
+     * it would have written. Requests after {@link #shutdown()} are ignored.
+     * @param snapshot The snapshot to save
+     */
+    public synchronized void request(T snapshot) {
+        if (snapshot == null) throw new IllegalArgumentException("Snapshot must not be null");
+        if (mShutdown) {
+            Log.w(TAG, "request: Coalescer is shut down, not saving");
+            return;
+        }
+        mLatest = snapshot;
+        if (!mScheduled) schedule();
+    }
+
+
+    /**
+     * Stop accepting requests and cancel the scheduled save, if it has not started yet. A save that
+     * is already running finishes, but no further save is scheduled after it.
+     * @return The snapshot that was not saved because of the shutdown, or null if there is none
+     */
+    public synchronized T shutdown() {
+        mShutdown = true;
+        if (mPending != null) {
+            mPending.cancel(false);
+            mPending = null;
+        }
+        T unsaved = mLatest;
+        mLatest = null;
+        return unsaved;
+    }
+
+
+    /**
+     * Schedule the next save, at least the save interval after the start of the last one. Must be
+     * called while holding the lock.
+     */
+    private void schedule() {
+        long delay = mSaved ? Math.max(0, mLastSave + mInterval - mClock.now()) : 0;
+        try {
+            mPending = mExecutor.schedule(mSaveRunnable, delay, TimeUnit.MILLISECONDS);
+            mScheduled = true;
+        } catch (RejectedExecutionException e) {
+            Log.w(TAG, "schedule: Executor is shut down, not saving");
+            mLatest = null;
+        }
+    }
+}
@@ -19,10 +19,8 @@ import de.velcommuta.denul.data.Friend;
 import de.velcommuta.denul.data.KeySet;
 import de.velcommuta.denul.data.Shareable;
 import de.velcommuta.denul.data.TokenPair;
-import de.velcommuta.denul.networking.Connection;
-import de.velcommuta.denul.networking.ProtobufProtocol;
+import de.velcommuta.denul.networking.ConnectionManager;
 import de.velcommuta.denul.networking.Protocol;
-import de.velcommuta.denul.networking.TLSConnection;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 
 /**
@@ -66,17 +64,31 @@ public class ShareManager {
         protected final Boolean doInBackground(List<Friend>... friendslist) {
             // TODO Add status updates at sensible positions
             // Establish a connection to the server (if this fails, we can avoid spending time encrypting stuff)
-            Connection conn;
+            ConnectionManager connections = ConnectionManager.getInstance(host, port);
+            Protocol proto;
             List<Friend> friends = friendslist[0];
             try {
-                conn = new TLSConnection(host, port);
+                proto = connections.acquire();
             } catch (Exception e) {
                 Log.e(TAG, "doInBackground:", e);
                 return false;
             }
-            // Attach a protocol
-            Protocol proto = new ProtobufProtocol();
-            proto.connect(conn);
+            try {
+                return share(proto, friends);
+            } finally {
+                // Hand the connection back for later use
+                connections.release();
+            }
+        }
+
+
+        /**
+         * Encrypt the Shareables, upload them and share them with a List of friends
+         * @param proto A connected {@link Protocol} object
+         * @param friends The List of {@link Friend}s to share the Shareables with
+         * @return true if the operation finished, false otherwise
+         */
+        private boolean share(Protocol proto, List<Friend> friends) {
             // Notify that connection is working
             publishProgress(1);
             // Prepare instances and variables to hold data
@@ -88,34 +100,48 @@ public class ShareManager {
             List<DataBlock> outbox = new LinkedList<>();
             // Map mapping identifiers to deferred database operations
             Map<DataBlock, DeferDB> defer = new HashMap<>();
-            // Iterate through provided shareables
-            for (Shareable shareable : mShareableList) {
-                DataBlock data;
+            // Encrypt all shareables that have not been shared before, and upload them in one go
+            int[] shareIDs = new int[mShareableList.length];
+            DataBlock[] shareData = new DataBlock[mShareableList.length];
+            TokenPair[] shareIdentifiers = new TokenPair[mShareableList.length];
+            List<DataBlock> uploads = new LinkedList<>();
+            for (int i = 0; i < mShareableList.length; i++) {
                 // Check if the data has already been shared
-                int s_id = mBinder.getShareID(shareable);
-                if (s_id == -1) {
+                shareIDs[i] = mBinder.getShareID(mShareableList[i]);
+                if (shareIDs[i] == -1) {
                     Log.d(TAG, "doInBackground: Shareable not shared before, creating new DataBlock");
                     // Shareable has not been shared before
                     // Generate a random identifier and revocation token
-                    TokenPair data_identifier = deriv.generateRandomIdentifier();
+                    shareIdentifiers[i] = deriv.generateRandomIdentifier();
                     // Encrypt the shareable
-                    data = enc.encryptShareable(shareable, mGranularity, data_identifier);
-                    // Submit to the server
-                    int rv = proto.put(data);
-                    if (rv == Protocol.PUT_OK) {
+                    shareData[i] = enc.encryptShareable(mShareableList[i], mGranularity, shareIdentifiers[i]);
+                    uploads.add(shareData[i]);
+                } else {
+                    Log.d(TAG, "doInBackground: Shareable found under ID " + shareIDs[i]);
+                    // Shareable has already been shared, reuse existing Data block
+                    shareData[i] = mBinder.getShareData(shareIDs[i]);
+                    Log.d(TAG, "doInBackground: Shareable found under ID " + shareIDs[i] + ": " + String.valueOf(shareData[i]));
+                }
+            }
+            // Submit the new DataBlocks to the server
+            Map<DataBlock, Integer> uploaded = new HashMap<>();
+            if (uploads.size() > 0) uploaded = proto.putMany(uploads);
+            // Iterate through provided shareables
+            for (int i = 0; i < mShareableList.length; i++) {
+                Shareable shareable = mShareableList[i];
+                DataBlock data = shareData[i];
+                int s_id = shareIDs[i];
+                if (s_id == -1) {
+                    Integer rv = uploaded.get(data);
+                    if (rv != null && rv == Protocol.PUT_OK) {
                         // Save to database
-                        s_id = mBinder.addShare(shareable, data_identifier, data);
+                        s_id = mBinder.addShare(shareable, shareIdentifiers[i], data);
                     } else {
                         Log.e(TAG, "doInBackground: An error occured during upload of the DataBlock. Skipping it");
                         // Skip this whole DataBlock
                         // TODO Find a better solution
                         continue;
                     }
-                } else {
-                    Log.d(TAG, "doInBackground: Shareable found under ID " + s_id);
-                    // Shareable has already been shared, reuse existing Data block
-                    data = mBinder.getShareData(s_id);
-                    Log.d(TAG, "doInBackground: Shareable found under ID " + s_id + ": " + String.valueOf(data));
                 }
                 // Retrieve list of friends who have already received the share
                 List<Friend> received = mBinder.getShareRecipientsForShareable(shareable);
@@ -173,8 +199,6 @@ public class ShareManager {
                         Log.e(TAG, "doInBackground: Unknown error code for PUT");
                 }
             }
-            // Disconnect from the server
-            proto.disconnect();
             return true;
         }
 
@@ -237,20 +261,21 @@ public class ShareManager {
         protected final Boolean doInBackground(List<Friend>... lists) {
             List<Friend> friends = lists[0];
             // prepare connection and protocol instance
-            Connection conn;
+            ConnectionManager connections = ConnectionManager.getInstance(host, port);
+            Protocol proto;
             try {
-                conn = new TLSConnection(host, port);
+                proto = connections.acquire();
             } catch (IOException e) {
                 e.printStackTrace();
                 return false;
             }
-            Protocol proto = new ProtobufProtocol();
-            proto.connect(conn);
-            // Iterate through friends
-            boolean rv = processFriends(friends, proto);
-            // Disconnect from the server
-            proto.disconnect();
-            return rv;
+            try {
+                // Iterate through friends
+                return processFriends(friends, proto);
+            } finally {
+                // Hand the connection back for later use
+                connections.release();
+            }
         }
 
 
@@ -396,17 +421,22 @@ public class ShareManager {
             // Grab the first sublist, as it is the only one we will ever use
             List<TokenPair> tokens = lists[0];
             // Establish a connection
+            ConnectionManager connections = ConnectionManager.getInstance(host, port);
             Protocol proto;
             try {
-                Connection conn = new TLSConnection(host, port);
-                proto = new ProtobufProtocol();
-                proto.connect(conn);
+                proto = connections.acquire();
             } catch (IOException e) {
                 Log.e(TAG, "doInBackground: Exception during connection establishment: ", e);
                 return false;
             }
             // Iterate through all TokenPairs
-            Map<TokenPair, Integer> result = proto.revokeMany(tokens);
+            Map<TokenPair, Integer> result;
+            try {
+                result = proto.revokeMany(tokens);
+            } finally {
+                // Hand the connection back for later use
+                connections.release();
+            }
             for (TokenPair token : tokens) {
                 int rescode = result.get(token);
                 if (rescode == Protocol.REV_OK) {
@@ -0,0 +1,212 @@
+package de.velcommuta.denul.util;
+
+import org.joda.time.DateTime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.Map;
+
+/**
+ * Binary encoding of the hourly step counts cached by the pedometer. The step counts are sorted
+ * by hour and written as varints:
+ * <pre>
+ * byte version | count | first hour | steps | hour delta | steps | hour delta | steps ...
+ * </pre>
+ * with the hours as epoch-hour keys (see {@link HourEpoch}), and every hour after the first as
+ * the difference to the previous one. A day of step counts takes about 60 bytes.
+ *
+ * Caches written by older versions contain a Java-serialized Hashtable. These are still decoded,
+ * but only classes that such a Hashtable consists of are deserialized.
+ */
+public class StepCountCodec {
+    // Version of the encoding. Java serialization streams start with 0xACED, so the first byte
+    // tells the formats apart.
+    private static final byte VERSION_1 = 0x01;
+    private static final byte JAVA_SERIALIZATION_MAGIC = (byte) 0xAC;
+
+    /**
+     * Encode step counts
+     * @param steps The step counts, keyed by hour
+     * @return The encoded step counts
+     */
+    public static byte[] encode(Map<DateTime, Long> steps) {
+        long[] hours = new long[steps.size()];
+        long[] values = new long[steps.size()];
+        int i = 0;
+        for (Map.Entry<DateTime, Long> entry : steps.entrySet()) {
+            // Pack hour and index into one long, so that a single sort orders both arrays.
+            // Epoch-hour keys fit into 32 bits for the next 490000 years.
+            hours[i] = HourEpoch.fromDateTime(entry.getKey()) << 32 | i;
+            values[i] = entry.getValue();
+            i++;
+        }
+        Arrays.sort(hours);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + hours.length * 4);
+        out.write(VERSION_1);
+        writeVarint(out, hours.length);
+        long previous = 0;
+        for (long packed : hours) {
+            long hour = packed >>> 32;
+            writeVarint(out, hour - previous);
+            writeVarint(out, values[(int) packed]);
+            previous = hour;
+        }
+        return out.toByteArray();
+    }
+
+
+    /**
+     * Decode step counts, in the current or the Java-serialized format
+     * @param data The encoded step counts
+     * @return The step counts, keyed by the start of their hour in the default time zone
+     * @throws IOException If the data is malformed, or contains unexpected classes
+     */
+    public static Hashtable<DateTime, Long> decode(byte[] data) throws IOException {
+        if (data.length == 0) throw new IOException("No data");
+        if (data[0] == JAVA_SERIALIZATION_MAGIC) return decodeSerialized(data);
+        HourlyStepCounts counts = decodeVersion1(data);
+        Hashtable<DateTime, Long> rv = new Hashtable<>(counts.size() * 2);
+        for (int i = 0; i < counts.size(); i++) {
+            rv.put(HourEpoch.toDateTime(counts.getHour(i)), counts.getSteps(i));
+        }
+        return rv;
+    }
+
+
+    /**
+     * Decode step counts, in the current or the Java-serialized format, into a sorted list.
+     * Step counts in the current format are decoded without creating any DateTime objects.
+     * @param data The encoded step counts
+     * @return The step counts, sorted by hour
+     * @throws IOException If the data is malformed, or contains unexpected classes
+     */
+    public static HourlyStepCounts decodeSorted(byte[] data) throws IOException {
+        if (data.length == 0) throw new IOException("No data");
+        if (data[0] == JAVA_SERIALIZATION_MAGIC) return HourlyStepCounts.fromMap(decodeSerialized(data));
+        return decodeVersion1(data);
+    }
+
+
+    /**
+     * Decode step counts in the current format
+     * @param data The encoded step counts
+     * @return The step counts, sorted by hour
+     * @throws IOException If the data is malformed
+     */
+    private static HourlyStepCounts decodeVersion1(byte[] data) throws IOException {
+        if (data[0] != VERSION_1) throw new IOException("Unknown version " + data[0]);
+        int[] pos = {1};
+        long count = readVarint(data, pos);
+        // Every entry takes at least two bytes
+        if (count > (data.length - pos[0]) / 2) throw new IOException("Malformed step count");
+        long[] hours = new long[(int) count];
+        long[] steps = new long[(int) count];
+        long hour = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = readVarint(data, pos);
+            if (i > 0 && delta == 0) throw new IOException("Duplicate hour");
+            hour += delta;
+            hours[i] = hour;
+            steps[i] = readVarint(data, pos);
+        }
+        if (pos[0] != data.length) throw new IOException("Trailing data");
+        return new HourlyStepCounts(hours, steps);
+    }
+
+
+    /**
+     * Decode a Java-serialized Hashtable of step counts
+     * @param data The serialized Hashtable
+     * @return The step counts, keyed by the start of their hour in the default time zone
+     * @throws IOException If the data is malformed, or contains unexpected classes
+     */
+    private static Hashtable<DateTime, Long> decodeSerialized(byte[] data) throws IOException {
+        Object o;
+        try (ObjectInputStream in = new StepCountInputStream(new ByteArrayInputStream(data))) {
+            o = in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown class", e);
+        }
+        if (!(o instanceof Hashtable)) throw new IOException("Not a Hashtable");
+        Hashtable<DateTime, Long> rv = new Hashtable<>();
+        for (Map.Entry<?, ?> entry : ((Hashtable<?, ?>) o).entrySet()) {
+            if (!(entry.getKey() instanceof DateTime) || !(entry.getValue() instanceof Long)) {
+                throw new IOException("Unexpected Hashtable contents");
+            }
+            long hour = HourEpoch.fromDateTime((DateTime) entry.getKey());
+            rv.put(HourEpoch.toDateTime(hour), (Long) entry.getValue());
+        }
+        return rv;
+    }
+
+
+    /**
+     * Write an unsigned varint
+     * @param out The stream to write to
+     * @param value The value, must not be negative
+     */
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        if (value < 0) throw new IllegalArgumentException("Negative value " + value);
+        while (value >= 0x80) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+
+    /**
+     * Read an unsigned varint
+     * @param data The data to read from
+     * @param pos The position to read at, advanced past the varint
+     * @return The value
+     * @throws IOException If the data ends within the varint, or the varint is too long
+     */
+    private static long readVarint(byte[] data, int[] pos) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 63; shift += 7) {
+            if (pos[0] >= data.length) throw new IOException("Truncated varint");
+            byte b = data[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+
+    /**
+     * ObjectInputStream that only resolves the classes a serialized Hashtable of step counts
+     * consists of
+     */
+    private static class StepCountInputStream extends ObjectInputStream {
+        /**
+         * Constructor
+         * @param in The stream to read from
+         * @throws IOException If the stream header could not be read
+         */
+        StepCountInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            // DateTime is serialized with its chronology and time zone, which are Joda classes
+            if (!name.equals("java.util.Hashtable")
+                    && !name.equals("java.lang.Long")
+                    && !name.equals("java.lang.Number")
+                    && !name.startsWith("org.joda.time.")) {
+                throw new InvalidClassException(name, "Unexpected class in step count cache");
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
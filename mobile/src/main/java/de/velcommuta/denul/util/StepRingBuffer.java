@@ -0,0 +1,250 @@
+package de.velcommuta.denul.util;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+
+/**
+ * Hourly step counts of the pedometer, kept in a ring buffer of primitive longs indexed by
+ * epoch-hour keys (see {@link HourEpoch}). For every hour, the buffer holds the steps counted
+ * by the service that are not known to be saved to the database yet, and the step count known to
+ * be saved in the database. The step count of an hour is the larger of the two, as the database
+ * keeps the larger count when steps are saved. Unsaved steps are the complete count of an hour,
+ * not the difference to the saved count, so the unsaved steps of the current hour are kept after
+ * they have been saved, until the hour is over.
+ *
+ * The sum of the steps of the current day is kept up to date with every change, so adding steps
+ * and reading the sum do not allocate and take constant time. Unsaved steps of hours that are
+ * pushed out of the buffer are kept in a map until they are saved.
+ *
+ * All methods are synchronized.
+ */
+public class StepRingBuffer {
+    // Minimum capacity, so that the current day always fits into the buffer
+    public static final int MIN_CAPACITY = 48;
+
+    private final DateTimeZone mZone;
+    private final int mCapacity;
+    private final long[] mUnsaved;
+    private final long[] mSaved;
+    // Key of the newest hour in the buffer, the buffer holds the hours (mNewest - mCapacity, mNewest]
+    private long mNewest = Long.MIN_VALUE;
+    // Unsaved steps of hours pushed out of the buffer
+    private final Map<Long, Long> mOverflow = new HashMap<>();
+
+    // The current day, as the range [mDayStart, mDayEnd) of keys, and the sum of its steps
+    private long mDayStart = 0;
+    private long mDayEnd = 0;
+    private long mDaySum = 0;
+
+    /**
+     * Constructor
+     * @param capacity The number of hours kept in the buffer, at least {@link #MIN_CAPACITY}
+     * @param zone The time zone defining the days
+     */
+    public StepRingBuffer(int capacity, DateTimeZone zone) {
+        if (capacity < MIN_CAPACITY) throw new IllegalArgumentException("Capacity must be at least " + MIN_CAPACITY);
+        mCapacity = capacity;
+        mZone = zone;
+        mUnsaved = new long[capacity];
+        mSaved = new long[capacity];
+    }
+
+
+    /**
+     * Add unsaved steps to an hour
+     * @param hour The epoch-hour key of the hour
+     * @param steps The number of steps
+     */
+    public synchronized void add(long hour, long steps) {
+        if (steps == 0) return;
+        int slot = getSlot(hour);
+        if (slot < 0) {
+            Long overflow = mOverflow.get(hour);
+            mOverflow.put(hour, overflow == null ? steps : overflow + steps);
+            return;
+        }
+        long before = Math.max(mUnsaved[slot], mSaved[slot]);
+        mUnsaved[slot] += steps;
+        updateDaySum(hour, before, Math.max(mUnsaved[slot], mSaved[slot]));
+    }
+
+
+    /**
+     * Add a single unsaved step to an hour
+     * @param hour The epoch-hour key of the hour
+     */
+    public void increment(long hour) {
+        add(hour, 1);
+    }
+
+
+    /**
+     * Record the step count of an hour in the database. Counts lower than a previously recorded
+     * count are ignored.
+     * @param hour The epoch-hour key of the hour
+     * @param steps The step count in the database
+     */
+    public synchronized void setSaved(long hour, long steps) {
+        int slot = getSlot(hour);
+        if (slot < 0 || steps <= mSaved[slot]) return;
+        long before = Math.max(mUnsaved[slot], mSaved[slot]);
+        mSaved[slot] = steps;
+        updateDaySum(hour, before, Math.max(mUnsaved[slot], mSaved[slot]));
+    }
+
+
+    /**
+     * Get the step count of an hour
+     * @param hour The epoch-hour key of the hour
+     * @return The step count, or 0 if the hour is not in the buffer
+     */
+    public synchronized long get(long hour) {
+        if (hour > mNewest || hour <= mNewest - mCapacity) return 0;
+        int slot = (int) mod(hour);
+        return Math.max(mUnsaved[slot], mSaved[slot]);
+    }
+
+
+    /**
+     * Get the sum of the steps of a day
+     * @param hour The epoch-hour key of an hour of the day, usually the current hour
+     * @return The sum of the steps
+     */
+    public synchronized long getSumToday(long hour) {
+        if (hour < mDayStart || hour >= mDayEnd) setDay(hour);
+        return mDaySum;
+    }
+
+
+    /**
+     * Get the step counts of the hours of a day
+     * @param hour The epoch-hour key of an hour of the day, usually the current hour
+     * @return The step counts of the hours with steps, keyed by the start of the hour
+     */
+    public synchronized Hashtable<DateTime, Long> getDay(long hour) {
+        if (hour < mDayStart || hour >= mDayEnd) setDay(hour);
+        Hashtable<DateTime, Long> rv = new Hashtable<>();
+        for (long h = mDayStart; h < mDayEnd; h++) {
+            long steps = get(h);
+            if (steps > 0) rv.put(HourEpoch.toDateTime(h, mZone), steps);
+        }
+        return rv;
+    }
+
+
+    /**
+     * Get the unsaved steps of all hours
+     * @return The unsaved steps of the hours with unsaved steps, keyed by the start of the hour
+     */
+    public synchronized Hashtable<DateTime, Long> getUnsaved() {
+        Hashtable<DateTime, Long> rv = new Hashtable<>();
+        for (Map.Entry<Long, Long> entry : mOverflow.entrySet()) {
+            rv.put(HourEpoch.toDateTime(entry.getKey(), mZone), entry.getValue());
+        }
+        if (mNewest == Long.MIN_VALUE) return rv;
+        for (long h = mNewest - mCapacity + 1; h <= mNewest; h++) {
+            long steps = mUnsaved[(int) mod(h)];
+            if (steps > 0) rv.put(HourEpoch.toDateTime(h, mZone), steps);
+        }
+        return rv;
+    }
+
+
+    /**
+     * Mark unsaved steps as saved to the database, after they were passed to it. The unsaved
+     * steps of the current hour, and of hours that received further steps in the meantime, are
+     * kept, so that they are saved again with the further steps.
+     * @param saved The unsaved steps that were saved, as returned by {@link #getUnsaved()}
+     * @param current The epoch-hour key of the current hour
+     */
+    public synchronized void markSaved(Map<DateTime, Long> saved, long current) {
+        for (Map.Entry<DateTime, Long> entry : saved.entrySet()) {
+            long hour = HourEpoch.fromDateTime(entry.getKey());
+            long steps = entry.getValue();
+            Long overflow = mOverflow.get(hour);
+            if (overflow != null && overflow == steps) mOverflow.remove(hour);
+            if (hour > mNewest || hour <= mNewest - mCapacity) continue;
+            int slot = (int) mod(hour);
+            long before = Math.max(mUnsaved[slot], mSaved[slot]);
+            mSaved[slot] = Math.max(mSaved[slot], steps);
+            if (hour != current && mUnsaved[slot] == steps) mUnsaved[slot] = 0;
+            updateDaySum(hour, before, Math.max(mUnsaved[slot], mSaved[slot]));
+        }
+    }
+
+
+    /**
+     * Get the slot of an hour, moving the buffer forward if the hour is newer than the buffer
+     * @param hour The epoch-hour key of the hour
+     * @return The index of the slot, or -1 if the hour is older than the buffer
+     */
+    private int getSlot(long hour) {
+        if (mNewest == Long.MIN_VALUE) {
+            mNewest = hour;
+        } else if (hour > mNewest) {
+            // Clear the slots of the new hours, keeping the unsaved steps of the hours they held
+            long first = Math.max(mNewest + 1, hour - mCapacity + 1);
+            for (long h = first; h <= hour; h++) {
+                int slot = (int) mod(h);
+                if (mUnsaved[slot] > 0) {
+                    // The hour of the old buffer sharing the slot
+                    long evicted = mNewest - mod(mNewest - h);
+                    Long overflow = mOverflow.get(evicted);
+                    mOverflow.put(evicted, overflow == null ? mUnsaved[slot] : overflow + mUnsaved[slot]);
+                }
+                mUnsaved[slot] = 0;
+                mSaved[slot] = 0;
+            }
+            mNewest = hour;
+        } else if (hour <= mNewest - mCapacity) {
+            return -1;
+        }
+        return (int) mod(hour);
+    }
+
+
+    /**
+     * Update the sum of the current day after the step count of an hour changed
+     * @param hour The epoch-hour key of the hour
+     * @param before The step count before the change
+     * @param after The step count after the change
+     */
+    private void updateDaySum(long hour, long before, long after) {
+        if (hour >= mDayStart && hour < mDayEnd) {
+            mDaySum += after - before;
+        } else if (hour >= mDayEnd) {
+            // Steps of a new day
+            setDay(hour);
+        }
+    }
+
+
+    /**
+     * Set the current day and recompute its sum of steps
+     * @param hour The epoch-hour key of an hour of the day
+     */
+    private void setDay(long hour) {
+        DateTime start = HourEpoch.toDateTime(hour, mZone).withTimeAtStartOfDay();
+        mDayStart = HourEpoch.fromDateTime(start);
+        mDayEnd = HourEpoch.fromDateTime(start.plusDays(1));
+        mDaySum = 0;
+        for (long h = mDayStart; h < mDayEnd; h++) {
+            mDaySum += get(h);
+        }
+    }
+
+
+    /**
+     * Compute the index of the slot of an hour
+     * @param hour The epoch-hour key of the hour
+     * @return The index, in [0, capacity)
+     */
+    private long mod(long hour) {
+        long rv = hour % mCapacity;
+        return rv < 0 ? rv + mCapacity : rv;
+    }
+}
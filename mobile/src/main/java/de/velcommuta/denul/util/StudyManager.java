@@ -23,12 +23,10 @@ import de.velcommuta.denul.data.KeySet;
 import de.velcommuta.denul.data.Shareable;
 import de.velcommuta.denul.data.StudyRequest;
 import de.velcommuta.denul.data.TokenPair;
-import de.velcommuta.denul.networking.Connection;
+import de.velcommuta.denul.networking.ConnectionManager;
 import de.velcommuta.denul.networking.DNSVerifier;
 import de.velcommuta.denul.networking.HttpsVerifier;
-import de.velcommuta.denul.networking.ProtobufProtocol;
 import de.velcommuta.denul.networking.Protocol;
-import de.velcommuta.denul.networking.TLSConnection;
 import de.velcommuta.denul.service.DatabaseServiceBinder;
 
 /**
@@ -70,15 +68,20 @@ public class StudyManager {
 
         @Override
         protected Void doInBackground(Void... voids) {
+            ConnectionManager connections = ConnectionManager.getInstance(host, port);
             try {
                 // Connnect to server and attach Protocol
-                Connection conn = new TLSConnection(host, port);
-                Protocol p = new ProtobufProtocol();
-                p.connect(conn);
+                Protocol p = connections.acquire();
 
                 // Retrieve Studies from the server
                 Log.d(TAG, "doInBackground: Retrieving studies from server");
-                List<StudyRequest> reqs = p.listRegisteredStudies();
+                List<StudyRequest> reqs;
+                try {
+                    reqs = p.listRegisteredStudies();
+                } finally {
+                    // Hand the connection back for later use
+                    connections.release();
+                }
                 // Retrieve locally cached studies
                 List<StudyRequest> local = mBinder.getStudyRequests();
                 // Add new studies
@@ -138,49 +141,62 @@ public class StudyManager {
 
         @Override
         protected Void doInBackground(StudyRequest... studyRequests) {
-            for (StudyRequest req : studyRequests) {
-                // Check if we are already participating in this study
-                if (req.participating) {
-                    Log.w(TAG, "doInBackground: Already participating in study - skipping");
-                    continue;
-                }
-                // Perform key exchange
-                // TODO Add switch for KEX algo
-                KeyExchange kex = new ECDHKeyExchange();
-                kex.putPartnerKexData(req.exchange.getPublicKexData());
-                KeyExpansion kexp = new HKDFKeyExpansion(kex.getAgreedKey());
-                // Expand keys
-                KeySet studykeys = kexp.expand(false);
-                // Set values on studyRequest
-                req.key_in = studykeys.getInboundKey();
-                req.ctr_in = studykeys.getInboundCtr();
-                req.key_out = studykeys.getOutboundKey();
-                req.ctr_out = studykeys.getOutboundCtr();
-                req.participating = true;
-                // Send join message
-                try {
-                    // Establish connection
-                    Connection conn = new TLSConnection(host, port);
-                    // Attach protocol
-                    Protocol p = new ProtobufProtocol();
-                    // Connect
-                    p.connect(conn);
-                    // Send join
-                    int rv = p.joinStudy(req, kex);
-                    // Check return
-                    if (rv != Protocol.JOIN_OK) {
-                        Log.e(TAG, "Join failed - Code " + rv);
-                        continue;
-                    }
-                    mBinder.updateStudy(req);
-                } catch (IOException e) {
-                    e.printStackTrace();
+            // Use one connection for all studies
+            ConnectionManager connections = ConnectionManager.getInstance(host, port);
+            Protocol p;
+            try {
+                p = connections.acquire();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+            try {
+                for (StudyRequest req : studyRequests) {
+                    joinStudy(p, req);
                 }
+            } finally {
+                // Hand the connection back for later use
+                connections.release();
             }
             return null;
         }
 
 
+        /**
+         * Join a single study
+         * @param p A connected {@link Protocol} object
+         * @param req The study to join
+         */
+        private void joinStudy(Protocol p, StudyRequest req) {
+            // Check if we are already participating in this study
+            if (req.participating) {
+                Log.w(TAG, "joinStudy: Already participating in study - skipping");
+                return;
+            }
+            // Perform key exchange
+            // TODO Add switch for KEX algo
+            KeyExchange kex = new ECDHKeyExchange();
+            kex.putPartnerKexData(req.exchange.getPublicKexData());
+            KeyExpansion kexp = new HKDFKeyExpansion(kex.getAgreedKey());
+            // Expand keys
+            KeySet studykeys = kexp.expand(false);
+            // Set values on studyRequest
+            req.key_in = studykeys.getInboundKey();
+            req.ctr_in = studykeys.getInboundCtr();
+            req.key_out = studykeys.getOutboundKey();
+            req.ctr_out = studykeys.getOutboundCtr();
+            req.participating = true;
+            // Send join
+            int rv = p.joinStudy(req, kex);
+            // Check return
+            if (rv != Protocol.JOIN_OK) {
+                Log.e(TAG, "Join failed - Code " + rv);
+                return;
+            }
+            mBinder.updateStudy(req);
+        }
+
+
         @Override
         protected void onPostExecute(Void v) {
             if (mCallback != null) mCallback.onUpdateFinished();
@@ -277,71 +293,77 @@ public class StudyManager {
          */
         private void uploadStudyData(HashMap<Shareable, List<StudyRequest.DataRequest>> upload) {
             // Establish connection to server
+            ConnectionManager connections = ConnectionManager.getInstance(host, port);
             Protocol proto;
             try {
-                Connection conn = new TLSConnection(host, port);
-                proto = new ProtobufProtocol();
-                proto.connect(conn);
+                proto = connections.acquire();
             } catch (IOException e) {
                 e.printStackTrace();
                 Log.e(TAG, "uploadStudyData: Connection failed");
                 return;
             }
-            // Prepare List of DataBlocks to upload
-            List<DataBlock> toUpload = new LinkedList<>();
-            for (Shareable shr : upload.keySet()) {
-                DataBlock data_granularity_very_coarse = mBinder.getStudyShareForShareable(shr, Shareable.GRANULARITY_VERY_COARSE); // TODO Remember to set Database ID
-                DataBlock data_granularity_coarse = mBinder.getStudyShareForShareable(shr, Shareable.GRANULARITY_COARSE);
-                DataBlock data_granularity_fine = mBinder.getStudyShareForShareable(shr, Shareable.GRANULARITY_FINE);
+            try {
+                uploadStudyData(proto, upload);
+            } finally {
+                // Hand the connection back for later use
+                connections.release();
+            }
+        }
+
+
+        /**
+         * Upload data for matched studies over an established connection
+         * @param proto A connected {@link Protocol} object
+         * @param upload A Hashmap mapping Shareables to a List of DataRequests matching them
+         */
+        private void uploadStudyData(Protocol proto, HashMap<Shareable, List<StudyRequest.DataRequest>> upload) {
+            // Retrieve the existing DataBlocks for all requested granularities, or prepare new ones
+            List<Shareable> shareables = new LinkedList<>(upload.keySet());
+            // Indexed by position in shareables and by granularity
+            DataBlock[][] data = new DataBlock[shareables.size()][Shareable.GRANULARITY_VERY_COARSE + 1];
+            List<DataBlock> newData = new LinkedList<>();
+            int i = 0;
+            for (Shareable shr : shareables) {
                 for (StudyRequest.DataRequest req : upload.get(shr)) {
-                    long share_id;
-                    if (req.granularity == Shareable.GRANULARITY_VERY_COARSE) {
-                        if (data_granularity_very_coarse == null) {
-                            data_granularity_very_coarse = prepareShareable(shr, req.granularity);
-                            int rv = proto.put(data_granularity_very_coarse);
-                            if (rv == Protocol.PUT_OK) {
-                                share_id = mBinder.addStudyShare(shr, data_granularity_very_coarse, req.granularity);
-                                data_granularity_very_coarse.setDatabaseID(share_id);
-                            } else {
-                                Log.e(TAG, "uploadStudyData: Upload failed!");
-                                // TODO Find a better solution
-                                continue;
-                            }
-                        }
-                        DataBlock keyblock = keyBlockForRequest(req, data_granularity_very_coarse);
-                        toUpload.add(keyblock);
-                    } else if (req.granularity == Shareable.GRANULARITY_COARSE) {
-                        if (data_granularity_coarse == null) {
-                            data_granularity_coarse = prepareShareable(shr, req.granularity);
-                            int rv = proto.put(data_granularity_coarse);
-                            if (rv == Protocol.PUT_OK) {
-                                share_id = mBinder.addStudyShare(shr, data_granularity_coarse, req.granularity);
-                                data_granularity_coarse.setDatabaseID(share_id);
-                            } else {
-                                Log.e(TAG, "uploadStudyData: Upload failed!");
-                                // TODO Find a better solution
-                                continue;
-                            }
-                        }
-                        DataBlock keyblock = keyBlockForRequest(req, data_granularity_coarse);
-                        toUpload.add(keyblock);
-                    } else if (req.granularity == Shareable.GRANULARITY_FINE) {
-                        if (data_granularity_fine == null) {
-                            data_granularity_fine = prepareShareable(shr, req.granularity);
-                            int rv = proto.put(data_granularity_fine);
-                            if (rv == Protocol.PUT_OK) {
-                                share_id = mBinder.addStudyShare(shr, data_granularity_fine, req.granularity);
-                                data_granularity_fine.setDatabaseID(share_id);
-                            } else {
-                                Log.e(TAG, "uploadStudyData: Upload failed!");
-                                // TODO Find a better solution
-                                continue;
-                            }
+                    if (!isValidGranularity(req.granularity) || data[i][req.granularity] != null) continue;
+                    data[i][req.granularity] = mBinder.getStudyShareForShareable(shr, req.granularity);
+                    if (data[i][req.granularity] == null) {
+                        data[i][req.granularity] = prepareShareable(shr, req.granularity);
+                        newData.add(data[i][req.granularity]);
+                    }
+                }
+                i++;
+            }
+            // Upload all new DataBlocks in one go and save the successful ones to the database
+            if (newData.size() > 0) {
+                Map<DataBlock, Integer> uploaded = proto.putMany(newData);
+                i = 0;
+                for (Shareable shr : shareables) {
+                    for (int granularity = 0; granularity < data[i].length; granularity++) {
+                        DataBlock block = data[i][granularity];
+                        if (block == null || !uploaded.containsKey(block)) continue;
+                        if (uploaded.get(block) == Protocol.PUT_OK) {
+                            long share_id = mBinder.addStudyShare(shr, block, granularity);
+                            block.setDatabaseID(share_id);
+                        } else {
+                            Log.e(TAG, "uploadStudyData: Upload failed!");
+                            // TODO Find a better solution
+                            data[i][granularity] = null;
                         }
-                        DataBlock keyblock = keyBlockForRequest(req, data_granularity_fine);
-                        toUpload.add(keyblock);
                     }
+                    i++;
+                }
+            }
+            // Prepare List of key DataBlocks to upload
+            List<DataBlock> toUpload = new LinkedList<>();
+            i = 0;
+            for (Shareable shr : shareables) {
+                for (StudyRequest.DataRequest req : upload.get(shr)) {
+                    if (!isValidGranularity(req.granularity) || data[i][req.granularity] == null) continue;
+                    DataBlock keyblock = keyBlockForRequest(req, data[i][req.granularity]);
+                    toUpload.add(keyblock);
                 }
+                i++;
             }
             Map<DataBlock, Integer> rv = proto.putMany(toUpload);
             for (DataBlock block : rv.keySet()) {
@@ -368,6 +390,18 @@ public class StudyManager {
         }
 
 
+        /**
+         * Check if a granularity is one of the GRANULARITY_* constants defined in {@link Shareable}
+         * @param granularity The granularity
+         * @return true if it is valid, false otherwise
+         */
+        private boolean isValidGranularity(int granularity) {
+            return granularity == Shareable.GRANULARITY_FINE
+                    || granularity == Shareable.GRANULARITY_COARSE
+                    || granularity == Shareable.GRANULARITY_VERY_COARSE;
+        }
+
+
         /**
          * Prepare a DataBlock representing a Shareable with a certain Granularity
          * @param shr The Shareable
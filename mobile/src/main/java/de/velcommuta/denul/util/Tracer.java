@@ -0,0 +1,119 @@
+package de.velcommuta.denul.util;
+
+import android.util.Log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gated tracing for the hot paths of the services. Tracing is off by default and can be switched
+ * on at runtime with "adb shell setprop log.tag.DenulTrace DEBUG" before the app starts, or with
+ * {@link #setEnabled(boolean)}. While it is off, every call returns after reading a single flag,
+ * without allocating. Call sites should only pass constant strings, so that no message is built
+ * while tracing is off.
+ *
+ * Timing spans are sampled: only one in {@link #getSampleRate()} calls to {@link #begin()} starts
+ * a span, the others return 0, which {@link #end(String, String, long)} ignores.
+ * <pre>
+ * long span = Tracer.begin();
+ * try {
+ *     ...
+ * } finally {
+ *     Tracer.end(TAG, "method", span);
+ * }
+ * </pre>
+ */
+public class Tracer {
+    public static final String TAG = "DenulTrace";
+
+    // Default number of calls to begin() per timed span
+    private static final int DEFAULT_SAMPLE_RATE = 16;
+
+    private static volatile boolean sEnabled = Log.isLoggable(TAG, Log.DEBUG);
+    private static volatile int sSampleRate = DEFAULT_SAMPLE_RATE;
+    private static final AtomicInteger sSpanCounter = new AtomicInteger();
+
+    /**
+     * Check if tracing is enabled
+     * @return true if trace messages and spans are logged, false otherwise
+     */
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+
+    /**
+     * Enable or disable tracing
+     * @param enabled true to log trace messages and spans, false to drop them
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+
+    /**
+     * Getter for the sample rate of the timing spans
+     * @return The number of calls to {@link #begin()} per timed span
+     */
+    public static int getSampleRate() {
+        return sSampleRate;
+    }
+
+
+    /**
+     * Setter for the sample rate of the timing spans
+     * @param rate The number of calls to {@link #begin()} per timed span, 1 to time every span
+     */
+    public static void setSampleRate(int rate) {
+        if (rate < 1) throw new IllegalArgumentException("Sample rate must be positive");
+        sSampleRate = rate;
+    }
+
+
+    /**
+     * Log a trace message, if tracing is enabled
+     * @param tag The tag of the calling class
+     * @param message The message, in the "method: message" format of the log messages
+     */
+    public static void trace(String tag, String message) {
+        if (!sEnabled) return;
+        Log.d(tag, message);
+    }
+
+
+    /**
+     * Log a trace message with a numeric value, if tracing is enabled. The message is only built
+     * if it is logged.
+     * @param tag The tag of the calling class
+     * @param message The message, in the "method: message" format of the log messages
+     * @param value The value appended to the message
+     */
+    public static void trace(String tag, String message, long value) {
+        if (!sEnabled) return;
+        Log.d(tag, message + value);
+    }
+
+
+    /**
+     * Begin a timing span, if tracing is enabled and the span is sampled
+     * @return The start time of the span in nanoseconds, or 0 if the span is not timed
+     */
+    public static long begin() {
+        if (!sEnabled) return 0;
+        if ((sSpanCounter.incrementAndGet() & Integer.MAX_VALUE) % sSampleRate != 0) return 0;
+        long now = System.nanoTime();
+        // 0 marks a span that is not timed
+        return now == 0 ? 1 : now;
+    }
+
+
+    /**
+     * End a timing span and log its duration, if it was timed
+     * @param tag The tag of the calling class
+     * @param method The name of the traced method
+     * @param start The value returned by {@link #begin()}
+     */
+    public static void end(String tag, String method, long start) {
+        if (start == 0) return;
+        Log.d(tag, method + ": took " + (System.nanoTime() - start) / 1000 + "us");
+    }
+}